@@ -1,22 +1,29 @@
 package com.example.APIServer.Aop;
 
 import com.example.APIServer.Dto.ApiLogDto;
-import com.example.APIServer.Service.ApiLogService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.APIServer.Service.ApiLogRecorder;
+import com.example.APIServer.Service.ApiRouteMetadata;
+import com.example.APIServer.Service.ApiRouteRegistry;
+import com.example.APIServer.Service.HttpPayloadCapture;
+import com.example.APIServer.Service.TraceContext;
+import com.example.APIServer.Service.UpstreamUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 
 /**
  * Spring AOP를 사용하여 Controller 계층의 모든 API 호출에 대한 로그를 자동으로 기록하는 클래스입니다.
@@ -31,8 +38,8 @@ import java.util.UUID;
 public class LogAspect {
 
     // final 필드들은 @RequiredArgsConstructor에 의해 생성자에서 자동으로 주입됩니다.
-    private final ApiLogService apiLogService; // 로그를 DB에 저장하는 서비스
-    private final ObjectMapper objectMapper;   // Java 객체를 JSON 문자열로 변환하기 위한 도구
+    private final ApiLogRecorder apiLogRecorder; // 완성된 로그를 통계/색인/tail/writer 에 전달
+    private final ApiRouteRegistry apiRouteRegistry; // 컨트롤러 메소드별로 미리 계산된 서비스 이름/템플릿/본문 정책
 
     /**
      * 로그를 적용할 대상을 지정하는 Pointcut입니다.
@@ -54,88 +61,80 @@ public class LogAspect {
     @Around("controllerMethods()")
     public Object apiLog(ProceedingJoinPoint joinPoint) throws Throwable {
 
-        // 현재 HTTP 요청 정보를 가져옵니다.
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        // 현재 HTTP 요청/응답 정보를 가져옵니다.
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
 
-        // 만약 요청 주소가 로그를 조회하는 API('/api/logs')라면, 무한 루프를 방지하기 위해 로깅을 건너뜁니다.
-        if (request.getRequestURI().startsWith("/api/logs")) {
+        // 호출된 컨트롤러 메소드의 메타데이터(서비스 이름, URI 템플릿, 본문 정책, 기록 여부)를 한 번에 조회합니다.
+        // 레지스트리는 기동 시 핸들러 매핑으로부터 만들어지므로, 요청마다 경로 문자열을 검사하지 않습니다.
+        ApiRouteMetadata route = apiRouteRegistry.lookup(((MethodSignature) joinPoint.getSignature()).getMethod());
+        if (route == null) {
+            route = apiRouteRegistry.resolve(request.getRequestURI());
+        }
+
+        // 로그 API('/api/logs') 등 기록하지 않는 라우트라면, 무한 루프를 방지하기 위해 로깅을 건너뜁니다.
+        if (!route.isLogged()) {
             return joinPoint.proceed(); // 원본 메소드를 그대로 실행하고 즉시 반환합니다.
         }
 
         // 요청 처리 시작 시간을 기록합니다.
         long startTime = System.currentTimeMillis();
-        // 각 요청을 고유하게 식별하기 위한 추적 ID를 생성합니다.
-        String traceId = UUID.randomUUID().toString();
+        // 호출한 쪽이 보낸 추적 헤더(traceparent, X-Trace-Id)를 이어받거나, 없으면 새 추적 ID를 만듭니다.
+        // 이 요청 안에서 공용 RestTemplate 으로 보내는 업스트림 호출에는 같은 추적 ID가 전달됩니다.
+        TraceContext trace = TraceContext.start(
+                request.getHeader(TraceContext.TRACEPARENT_HEADER), request.getHeader(TraceContext.TRACE_ID_HEADER));
+        String traceId = trace.getTraceId();
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null) {
+            response.setHeader(TraceContext.TRACE_ID_HEADER, traceId);
+        }
 
-        // 요청 URI를 기반으로 서비스 이름을 결정하는 로직
-        String serviceName = "APIServer"; // 기본값
         String uri = request.getRequestURI();
 
-        if (uri.contains("/proxy/drone-images")) {
-            serviceName = "Drone Server";
-        } else if (uri.contains("/proxy/employees") || uri.contains("/proxy/sales_orders")
-                || uri.contains("/proxy/project_plans") || uri.contains("/api/proxy/sales-orders")
-                || uri .contains("/api/proxy/positions") || uri.contains("/api/proxy/inventory")) {
-            serviceName = "ERP Server";
-        } else if (uri.contains("/proxy/shipments") ) {
-            serviceName = "MES Server";
+        // URI 템플릿(e.g., /api/proxy/employees/{employeeId})은 집계 키로 사용됩니다.
+        // 메소드에 경로가 여러 개인 경우에만 실제로 매칭된 패턴을 요청 속성에서 가져옵니다.
+        String endpointTemplate = route.getEndpointTemplate();
+        if (endpointTemplate == null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            endpointTemplate = pattern != null ? pattern.toString() : uri;
         }
 
         ApiLogDto logDto = ApiLogDto.builder()
-                .serviceName(serviceName) // "APIServer" 대신 serviceName 변수 사용
-                .apiEndpoint(request.getRequestURI())
+                .serviceName(route.getServiceName())
+                .apiEndpoint(uri)
+                .endpointTemplate(endpointTemplate)
                 .httpMethod(request.getMethod())
                 .clientIp(request.getRemoteAddr())
                 .traceId(traceId)
+                .createdAt(LocalDateTime.now()) // 요청 시각 (색인과 DB 저장에 같은 값을 사용)
+                .spanId(trace.getSpanId())
+                .parentSpanId(trace.getParentSpanId())
                 .build();
 
-        // Controller 메소드로 전달된 파라미터(Request Body 등)를 로깅합니다.
+        // Controller 메소드로 전달된 파라미터가 파일(MultipartFile)이면 파일 바이트 대신 요약 정보만 기록합니다.
+        // 그 밖의 요청/응답 본문은 PayloadCaptureFilter 가 주고받은 바이트 그대로, 라우트의 본문 기록 정책에 맞게 기록합니다.
         Object[] args = joinPoint.getArgs();
-        // 파라미터가 존재하고 null이 아닐 경우
-        if (args.length > 0 && args[0] != null) {
-            // 파라미터가 MultipartFile 타입인지 먼저 확인합니다.
-            if (args[0] instanceof MultipartFile) {
-                MultipartFile file = (MultipartFile) args[0];
-                // 파일인 경우, 파일의 요약 정보만 기록합니다.
-                String payloadSummary = "{ \"fileName\": \"" + file.getOriginalFilename() + "\", \"size\": " + file.getSize() + " }";
-                logDto.setRequestPayload(payloadSummary);
-            } else {  // 파일이 아닌 다른 모든 데이터는 기존처럼 JSON으로 변환합니다.
-
-                try {
-                    // 첫 번째 파라미터를 JSON 문자열로 변환하여 저장합니다.
-                    logDto.setRequestPayload(objectMapper.writeValueAsString(args[0]));
-                } catch (Exception e) {
-                    logDto.setRequestPayload("Request payload logging error: " + e.getMessage());
-                }
-            }
+        if (args.length > 0 && args[0] instanceof MultipartFile file) {
+            logDto.setRequestPayload("{ \"fileName\": \"" + file.getOriginalFilename() + "\", \"size\": " + file.getSize() + " }");
         }
 
-        Object result = null;
+        HttpPayloadCapture capture = HttpPayloadCapture.of(request);
         try {
             // === 여기서 실제 Controller 메소드가 실행됩니다. ===
-            result = joinPoint.proceed();
+            Object result = joinPoint.proceed();
             // =================================================
 
-            // Controller 메소드 실행 후, 응답(result)을 로깅합니다.
-            if (result instanceof ResponseEntity) {
-                ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
-                logDto.setResponseStatus(responseEntity.getStatusCode().value());
-
-                // 응답 본문이 byte 배열(이미지 데이터)인지 확인합니다.
-                if (responseEntity.getBody() instanceof byte[]) {
-                    byte[] responseBytes = (byte[]) responseEntity.getBody();
-                    // 이미지 데이터인 경우, DB에 저장하기에는 너무 크므로 요약 정보만 기록합니다.
-                    logDto.setResponsePayload("Image byte data (size: " + responseBytes.length + " bytes)");
-                } else if (responseEntity.getBody() != null) {
-                    // 다른 타입(JSON 등)의 응답은 전체 내용을 JSON 문자열로 기록합니다.
-                    logDto.setResponsePayload(objectMapper.writeValueAsString(responseEntity.getBody()));
-                }
-            } else { // Controller가 ResponseEntity가 아닌 일반 객체를 반환한 경우
-                logDto.setResponseStatus(200); // 성공(200 OK)으로 간주합니다.
-                if (result != null) {
-                    logDto.setResponsePayload(objectMapper.writeValueAsString(result));
-                }
-            }
+            // 응답 쓰기가 끝나면 필터가 실제 상태 코드로 바꿉니다. (필터를 거치지 않은 요청은 이 값이 기록됩니다)
+            logDto.setResponseStatus(result instanceof ResponseEntity<?> responseEntity ? responseEntity.getStatusCode().value() : 200);
+
+            // Controller가 반환한 원래 결과를 클라이언트에게 그대로 반환합니다.
+            return result;
+        } catch (UpstreamUnavailableException e) {
+            // 업스트림 격리 장치가 호출을 거절한 경우 UpstreamExceptionHandler 가 503 으로 응답합니다.
+            log.warn("API Upstream Unavailable: {} ({})", e.getMessage(), e.getReason());
+            logDto.setResponseStatus(503);
+            logDto.setResponsePayload("{\"error\": \"" + e.getMessage() + "\"}");
+            throw e;
         } catch (Throwable e) {
             // Controller 메소드 실행 중 예외가 발생한 경우
             log.error("API Logging Error: {}", e.getMessage(), e);
@@ -145,15 +144,19 @@ public class LogAspect {
         } finally {
             // 메소드가 성공적으로 끝나든, 예외가 발생하든 항상 실행되는 블록입니다.
 
-            // 완성된 로그 DTO를 DB에 저장합니다.
-            apiLogService.createLog(logDto);
+            // 요청 처리 종료 시간을 기록하고, 총 소요 시간을 로그에 함께 저장합니다.
+            logDto.setDurationMs(System.currentTimeMillis() - startTime);
 
-            // 요청 처리 종료 시간을 기록하고, 총 소요 시간을 계산하여 콘솔에 로그를 출력합니다.
-            long endTime = System.currentTimeMillis();
-            log.info("[{}] {} {} - {}ms", traceId, request.getMethod(), request.getRequestURI(), endTime - startTime);
-        }
+            // 요청 처리 중 기록된 업스트림 호출(자식 span)을 로그에 옮기고, 스레드의 추적 정보를 정리합니다.
+            logDto.setSpans(trace.drainSpans());
+            TraceContext.clear();
 
-        // Controller가 반환한 원래 결과를 클라이언트에게 그대로 반환합니다.
-        return result;
+            if (capture != null) {
+                // 응답 본문은 이 메소드가 반환된 뒤에 쓰이므로, 쓰기가 끝난 뒤 필터가 본문을 채워 기록합니다.
+                capture.setPendingLog(logDto);
+            } else {
+                apiLogRecorder.record(logDto);
+            }
+        }
     }
 }
\ No newline at end of file
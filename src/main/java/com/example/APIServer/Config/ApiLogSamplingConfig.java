@@ -0,0 +1,20 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Dto.ApiLogSamplingConfigDto;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시 적용할 API 로그 샘플링 설정을 'apilog.sampling.*' 값으로 바인딩하는 설정 클래스입니다.
+ * 운영 중 변경은 ApiLogSampler 가 별도로 관리하므로 이 빈은 초기값으로만 사용됩니다.
+ */
+@Configuration
+public class ApiLogSamplingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "apilog.sampling")
+    public ApiLogSamplingConfigDto initialSamplingConfig() {
+        return new ApiLogSamplingConfigDto();
+    }
+}
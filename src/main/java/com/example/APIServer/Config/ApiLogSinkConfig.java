@@ -0,0 +1,55 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.ApiLogJournal;
+import com.example.APIServer.Service.ApiLogSink;
+import com.example.APIServer.Service.JdbcApiLogSink;
+import com.example.APIServer.Service.JournalingApiLogSink;
+import com.example.APIServer.Service.JpaApiLogSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * ApiLogWriter 가 사용할 로그 저장소(sink)를 설정에 따라 조립하는 설정 클래스입니다.
+ *
+ * apilog.sink.type: 최종 저장소 (jdbc | jpa)
+ * apilog.sink.journal.enabled: true이면 최종 저장소 앞에 로컬 저널을 둡니다. (저널 -> DB)
+ */
+@Configuration
+public class ApiLogSinkConfig {
+
+    /**
+     * 설정값에 맞게 조합된 sink 를 기본(@Primary) ApiLogSink 빈으로 등록합니다.
+     */
+    @Bean
+    @Primary
+    public ApiLogSink apiLogSink(JdbcApiLogSink jdbcApiLogSink,
+                                 JpaApiLogSink jpaApiLogSink,
+                                 ObjectMapper objectMapper,
+                                 @Value("${apilog.sink.type:jdbc}") String type,
+                                 @Value("${apilog.sink.journal.enabled:false}") boolean journalEnabled,
+                                 @Value("${apilog.journal.path:./logs/api-log.journal}") String journalPath,
+                                 @Value("${apilog.journal.capacity-mb:64}") int capacityMb,
+                                 @Value("${apilog.journal.async-delegate:false}") boolean asyncDelegate,
+                                 @Value("${apilog.journal.force-on-write:false}") boolean forceOnWrite,
+                                 @Value("${apilog.journal.replay-batch-size:500}") int replayBatchSize) throws IOException {
+
+        ApiLogSink terminal = "jpa".equalsIgnoreCase(type) ? jpaApiLogSink : jdbcApiLogSink;
+        if (!journalEnabled) {
+            return terminal;
+        }
+
+        // 저널은 파일 하나를 한 번에 메모리에 매핑하므로 2GB(Integer.MAX_VALUE 바이트) 미만이어야 합니다.
+        long capacityBytes = (long) capacityMb * 1024 * 1024;
+        if (capacityMb <= 0 || capacityBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("apilog.journal.capacity-mb 는 1 이상 2047 이하여야 합니다: " + capacityMb);
+        }
+        ApiLogJournal journal = ApiLogJournal.open(Path.of(journalPath), (int) capacityBytes);
+        return new JournalingApiLogSink(journal, terminal, objectMapper, asyncDelegate, forceOnWrite, replayBatchSize);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.APIServer.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.properties 의 'apilog.routes.*' 설정을 바인딩하는 클래스입니다.
+ * 기동 시 ApiRouteRegistry 가 컨트롤러 메소드마다 한 번씩 이 규칙을 적용하며, 요청마다 다시 평가하지 않습니다.
+ *
+ * 예) apilog.routes.services[0].name=ERP Server
+ *     apilog.routes.services[0].patterns=/api/proxy/employees/**,/api/proxy/positions/**
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "apilog.routes")
+public class ApiRouteProperties {
+
+    /**
+     * 어떤 서비스 규칙에도 해당하지 않는 라우트의 서비스 이름
+     */
+    private String defaultService = "APIServer";
+
+    /**
+     * 로그를 남기지 않을 라우트의 Ant 패턴 목록 (로그 API 자신을 기록하면 무한 루프가 되므로 기본으로 제외)
+     */
+    private List<String> excluded = new ArrayList<>(List.of("/api/logs/**"));
+
+    /**
+     * 업스트림 서비스별 라우트 패턴 목록. 먼저 선언된 서비스가 우선합니다.
+     */
+    private List<Service> services = new ArrayList<>();
+
+    @Data
+    public static class Service {
+        private String name;                            // 서비스 이름 (e.g., "ERP Server")
+        private List<String> patterns = new ArrayList<>(); // URI 템플릿에 대한 Ant 패턴 목록
+    }
+}
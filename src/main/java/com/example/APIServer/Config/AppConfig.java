@@ -1,7 +1,10 @@
 package com.example.APIServer.Config;
 
+import com.example.APIServer.Service.UpstreamIsolation;
+import com.example.APIServer.Service.UpstreamRequestCoalescer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -18,11 +21,25 @@ public class AppConfig {
      * Spring이 직접 관리하는 부품(Bean)으로 등록하라는 의미입니다.
      * 이렇게 등록된 Bean은 다른 컴포넌트(Service, Controller 등)에서
      * 생성자 주입 등을 통해 편리하게 가져다 쓸 수 있습니다.
+     * 요청은 UpstreamHttpConfig 의 연결 풀(업스트림별 최대 연결 수, 연결/응답 제한 시간)을 통해 보냅니다.
+     * 업스트림마다 동시 호출 수 한도와 서킷 브레이커(UpstreamIsolation)가 적용되고,
+     * 동시에 진행 중인 같은 GET 호출은 하나로 합쳐집니다. (UpstreamRequestCoalescer)
+     * @param upstreamRequestFactory   연결 풀을 사용하는 요청 팩토리
+     * @param upstreamIsolation        업스트림별 bulkhead 와 서킷 브레이커
+     * @param upstreamRequestCoalescer 같은 GET 호출 합치기
      * @return Spring 컨테이너가 관리할 RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory, UpstreamIsolation upstreamIsolation,
+                                     UpstreamRequestCoalescer upstreamRequestCoalescer) {
         // 새로운 RestTemplate 인스턴스를 생성하여 반환합니다.
-        return new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        // 업스트림 호출에 추적 헤더(traceparent, X-Trace-Id)를 전달하고, 호출마다 자식 span 을 기록합니다.
+        restTemplate.getInterceptors().add(new TracingClientHttpRequestInterceptor());
+        // 합쳐진 호출도 요청마다 span 으로 기록되고, 실제로 보내는 호출에만 bulkhead 와 서킷 브레이커가 적용되도록
+        // 추적 -> 합치기 -> 격리 순서로 둡니다. (거절된 호출도 오류가 있는 span 으로 기록됩니다)
+        restTemplate.getInterceptors().add(new UpstreamCoalescingInterceptor(upstreamRequestCoalescer));
+        restTemplate.getInterceptors().add(new UpstreamIsolationInterceptor(upstreamIsolation));
+        return restTemplate;
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.APIServer.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 쓰기(primary)와 읽기(replica) 연결 풀을 나누어 구성하는 설정 클래스입니다.
+ *
+ * 애플리케이션이 주입받는 DataSource 는 LazyConnectionDataSourceProxy 이며, 실제 연결은 첫 SQL 을 실행할 때 얻습니다.
+ * 그 시점에 read-only 트랜잭션(@Transactional(readOnly = true), Spring Data 의 조회 메소드 등)이면
+ * apilog.datasource.read 의 풀에서, 그 밖의 경우(로그 INSERT, ID 예약, 정리 작업 등)는 spring.datasource 의 풀에서 연결을 얻습니다.
+ * 두 풀은 크기가 따로 정해지므로, 목록 조회/내보내기/통계 조회가 몰려도 로그 저장 연결을 빼앗지 않습니다.
+ *
+ * apilog.datasource.read.enabled=false 이면 읽기 풀을 만들지 않고 모든 연결을 primary 에서 얻습니다.
+ * 복제 지연이 문제가 되는 조회는 ReadRouting 으로 primary 에서 다시 읽을 수 있습니다.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * 쓰기용 연결 풀입니다. (spring.datasource.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("apilog.datasource.read")
+    @ConditionalOnProperty(name = "apilog.datasource.read.enabled", havingValue = "true")
+    public DataSourceProperties readDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * 읽기용 연결 풀입니다. (apilog.datasource.read.hikari.*) 복제 서버 또는 테스트용 두 번째 로컬 인스턴스를 가리킵니다.
+     */
+    @Bean
+    @ConfigurationProperties("apilog.datasource.read.hikari")
+    @ConditionalOnProperty(name = "apilog.datasource.read.enabled", havingValue = "true")
+    public HikariDataSource readDataSource(@Qualifier("readDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * JPA, JdbcTemplate 등이 사용하는 기본 DataSource 입니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        DataSource replica = readDataSource.getIfAvailable();
+        if (replica != null) {
+            dataSource.setReadOnlyDataSource(replica);
+            log.info("read-only 트랜잭션은 읽기 전용 DataSource 에서 연결을 얻습니다.");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Service.ApiLogRecorder;
+import com.example.APIServer.Service.HttpPayloadCapture;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청/응답 본문을 컨테이너와 주고받는 바이트 그대로 HttpPayloadCapture 에 복사(tee)하는 필터입니다.
+ *
+ * 입력 스트림은 Spring MVC가 @RequestBody 를 변환하면서 읽는 바이트를, 출력 스트림은 메시지 컨버터가 쓰는 바이트를
+ * 그대로 통과시키면서 정책에 필요한 만큼만 복사하므로, 로그를 위해 본문을 다시 직렬화하거나 응답 전체를 버퍼링하지 않습니다.
+ * 복사는 PayloadCaptureInterceptor 가 기록 대상 라우트에서 시작시킬 때만 일어납니다.
+ *
+ * LogAspect 가 넘긴 로그(pendingLog)는 응답 쓰기가 끝난 뒤 실제 상태 코드와 본문을 채워 ApiLogRecorder 로 기록합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class PayloadCaptureFilter extends OncePerRequestFilter {
+
+    private final ApiLogRecorder apiLogRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpPayloadCapture capture = new HttpPayloadCapture();
+        request.setAttribute(HttpPayloadCapture.ATTRIBUTE, capture);
+        TeeResponse teeResponse = new TeeResponse(response, capture.getResponse());
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new TeeRequest(request, capture.getRequest()), teeResponse);
+            teeResponse.flushWriter();
+            completed = true;
+        } finally {
+            ApiLogDto logDto = capture.getPendingLog();
+            if (logDto != null) {
+                // 예외로 끝난 경우에는 LogAspect 가 기록한 상태 코드(500)와 오류 내용을 그대로 둡니다.
+                if (completed) {
+                    logDto.setResponseStatus(teeResponse.getStatus());
+                    logDto.setResponsePayload(capture.responsePayload(teeResponse.getContentType()));
+                }
+                if (logDto.getRequestPayload() == null) {
+                    logDto.setRequestPayload(capture.getRequest().result());
+                }
+                apiLogRecorder.record(logDto);
+            }
+        }
+    }
+
+    /**
+     * 읽은 요청 본문 바이트를 복사하는 요청 래퍼입니다.
+     */
+    private static final class TeeRequest extends HttpServletRequestWrapper {
+
+        private final HttpPayloadCapture.Tee tee;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        TeeRequest(HttpServletRequest request, HttpPayloadCapture.Tee tee) {
+            super(request);
+            this.tee = tee;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new TeeInputStream(super.getInputStream(), tee);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+    }
+
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final HttpPayloadCapture.Tee tee;
+
+        TeeInputStream(ServletInputStream delegate, HttpPayloadCapture.Tee tee) {
+            this.delegate = delegate;
+            this.tee = tee;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                tee.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                tee.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * 쓴 응답 본문 바이트를 복사하는 응답 래퍼입니다. 응답을 버퍼링하지 않고 바로 컨테이너로 보냅니다.
+     */
+    private static final class TeeResponse extends HttpServletResponseWrapper {
+
+        private final HttpPayloadCapture.Tee tee;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        TeeResponse(HttpServletResponse response, HttpPayloadCapture.Tee tee) {
+            super(response);
+            this.tee = tee;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TeeOutputStream(super.getOutputStream(), tee);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final HttpPayloadCapture.Tee tee;
+
+        TeeOutputStream(ServletOutputStream delegate, HttpPayloadCapture.Tee tee) {
+            this.delegate = delegate;
+            this.tee = tee;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            tee.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            tee.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
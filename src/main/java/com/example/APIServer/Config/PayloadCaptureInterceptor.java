@@ -0,0 +1,39 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.ApiRouteMetadata;
+import com.example.APIServer.Service.ApiRouteRegistry;
+import com.example.APIServer.Service.HttpPayloadCapture;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Locale;
+
+/**
+ * 핸들러가 정해진 직후(요청 본문을 읽기 전) 라우트의 본문 기록 정책으로 HttpPayloadCapture 의 복사를 시작시키는 인터셉터입니다.
+ * 로그를 남기지 않는 라우트(/api/logs 등)는 시작시키지 않으므로 본문을 복사하지 않습니다.
+ * multipart 요청은 파일 바이트를 기록하지 않고, LogAspect 가 파일 요약만 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayloadCaptureInterceptor implements HandlerInterceptor {
+
+    private final ApiRouteRegistry apiRouteRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpPayloadCapture capture = HttpPayloadCapture.of(request);
+        if (capture != null && handler instanceof HandlerMethod handlerMethod) {
+            ApiRouteMetadata route = apiRouteRegistry.lookup(handlerMethod.getMethod());
+            if (route != null && route.isLogged()) {
+                String contentType = request.getContentType();
+                boolean multipart = contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+                capture.start(route.getCapturePolicy(), !multipart);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.PayloadCapturePolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.properties 의 'apilog.capture.*' 설정을 바인딩하는 클래스입니다.
+ * 라우트 그룹(경로 패턴)별로 본문 기록 정책을 지정하며, 먼저 선언된 패턴이 우선합니다.
+ *
+ * 예) apilog.capture.routes[0].pattern=/api/proxy/dashboard/**
+ *     apilog.capture.routes[0].mode=DIGEST
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "apilog.capture")
+public class PayloadCaptureProperties {
+
+    /**
+     * 어떤 패턴에도 해당하지 않는 요청의 기록 방식
+     */
+    private PayloadCapturePolicy.Mode defaultMode = PayloadCapturePolicy.Mode.HEAD;
+
+    /**
+     * 어떤 패턴에도 해당하지 않는 요청의 최대 기록 바이트 수
+     */
+    private int defaultMaxBytes = 4096;
+
+    /**
+     * 경로 패턴별 기록 정책 목록
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String pattern;                 // Ant 스타일 경로 패턴 (e.g., "/api/proxy/dashboard/**")
+        private PayloadCapturePolicy.Mode mode; // 기록 방식 (비어 있으면 defaultMode)
+        private Integer maxBytes;               // 최대 기록 바이트 수 (비어 있으면 defaultMaxBytes)
+    }
+}
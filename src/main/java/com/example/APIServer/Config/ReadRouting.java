@@ -0,0 +1,50 @@
+package com.example.APIServer.Config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 조회를 읽기(replica) 또는 쓰기(primary) 연결에서 실행하는 도우미입니다. (DataSourceConfig 참고)
+ *
+ * 복제 지연 때문에 방금 저장된 로그가 읽기 연결에서 아직 보이지 않을 수 있는 조회(로그 상세, 추적 조회 등)는
+ * replicaOrPrimary() 로 먼저 읽기 연결에서 찾고, 찾지 못했을 때만 primary 에서 다시 읽습니다.
+ * 이미 열린 트랜잭션 안에서 호출하면 그 트랜잭션의 연결을 그대로 사용합니다.
+ */
+@Component
+public class ReadRouting {
+
+    private final TransactionTemplate replica;
+    private final TransactionTemplate primary;
+
+    public ReadRouting(PlatformTransactionManager transactionManager) {
+        this.replica = new TransactionTemplate(transactionManager);
+        this.replica.setReadOnly(true);
+        this.primary = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * read-only 트랜잭션에서 실행합니다. 읽기 DataSource 가 설정되어 있으면 그 연결을 사용합니다.
+     */
+    public <T> T onReplica(Supplier<T> read) {
+        return replica.execute(status -> read.get());
+    }
+
+    /**
+     * 쓰기 연결에서 실행합니다. 방금 저장한 데이터를 반드시 읽어야 하는 경우(read-your-writes)에 사용합니다.
+     */
+    public <T> T onPrimary(Supplier<T> read) {
+        return primary.execute(status -> read.get());
+    }
+
+    /**
+     * 읽기 연결에서 먼저 조회하고, found 가 false 이면 primary 에서 다시 조회합니다.
+     */
+    public <T> T replicaOrPrimary(Supplier<T> read, Predicate<T> found) {
+        T result = onReplica(read);
+        return found.test(result) ? result : onPrimary(read);
+    }
+}
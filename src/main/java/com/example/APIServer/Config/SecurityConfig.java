@@ -2,6 +2,7 @@ package com.example.APIServer.Config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -44,11 +45,25 @@ public class SecurityConfig {
 
                 // HTTP 요청에 대한 인가(Authorization) 규칙을 설정합니다.
                 .authorizeHttpRequests(authorize -> authorize
+                        // 로그 샘플링 설정 변경은 관리자만 가능합니다. (아래 규칙보다 먼저 선언되어야 합니다)
+                        .requestMatchers(HttpMethod.PUT, "/api/logs/sampling").hasRole("ADMIN")
+                        // 본문 압축 사전 생성과 저장 형식 전환도 관리자만 실행할 수 있습니다.
+                        .requestMatchers(HttpMethod.POST, "/api/logs/payloads/**").hasRole("ADMIN")
+                        // 본문을 포함한 전체 로그 내보내기도 관리자만 가능합니다.
+                        .requestMatchers(HttpMethod.GET, "/api/logs/export").hasRole("ADMIN")
+                        // 대량 적재는 로그를 보내는 다른 서비스가 호출하므로 단건 수신(POST /api/logs)과 같이 인증 없이 허용합니다.
+                        .requestMatchers(HttpMethod.POST, "/api/logs/bulk").permitAll()
+                        // 본문이 없는 읽기 전용 상태 지표는 모니터링 대시보드가 인증 없이 조회할 수 있습니다.
+                        .requestMatchers(HttpMethod.GET, "/api/logs/writer/stats", "/api/logs/stats").permitAll()
+                        // 업스트림 호출 상태 지표(연결 풀, 서킷 브레이커, 호출 합치기)도 본문이 없으므로 인증 없이 조회할 수 있습니다.
+                        .requestMatchers(HttpMethod.GET, "/api/upstreams/**").permitAll()
                         // "/api/proxy/" 또는 "/api/logs"로 시작하는 경로의 모든 요청은
                         // 인증(로그인) 없이 누구나 접근할 수 있도록 허용(permitAll)합니다.
                         .requestMatchers("/api/proxy/**", "/api/logs").permitAll()
                         // "/api/proxy/**" : 하위 경로 허용.
                         // "/api/logs" : 정확히 일치해야 함. 하위 경로 미허용.
+                        // 그 밖의 로그 API(단건/추적 조회, 검색, tail, 아카이브, 이상 징후 등)는 본문을 담고 있으므로 인증이 필요합니다.
+                        .requestMatchers("/api/logs/**").authenticated()
                         // 위에서 지정한 경로 외의 모든 요청은 반드시 인증이 필요함을 명시합니다.
                         .anyRequest().authenticated()
                 );
@@ -0,0 +1,139 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Dto.ApiSpanDto;
+import com.example.APIServer.Service.TraceContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
+
+/**
+ * 공용 RestTemplate 으로 나가는 업스트림 호출에 추적 헤더를 붙이고, 호출 한 건을 자식 span 으로 기록하는 인터셉터입니다.
+ *
+ * 현재 스레드에 TraceContext 가 있을 때만 동작합니다. (스케줄러 등 요청 밖의 호출은 그대로 통과)
+ * 응답 본문을 읽는 만큼 바이트 수를 세고, RestTemplate 이 응답을 닫는 시점에 소요 시간을 확정합니다.
+ */
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final int MAX_ERROR_LENGTH = 255; // api_spans.error 컬럼 길이
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        TraceContext trace = TraceContext.current();
+        if (trace == null) {
+            return execution.execute(request, body);
+        }
+
+        String spanId = TraceContext.newSpanId();
+        request.getHeaders().set(TraceContext.TRACEPARENT_HEADER, trace.traceparent(spanId));
+        request.getHeaders().set(TraceContext.TRACE_ID_HEADER, trace.getTraceId());
+
+        URI uri = request.getURI();
+        ApiSpanDto span = ApiSpanDto.builder()
+                .traceId(trace.getTraceId())
+                .spanId(spanId)
+                .parentSpanId(trace.getSpanId())
+                .startedAt(LocalDateTime.now())
+                .upstreamHost(uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost())
+                .httpMethod(request.getMethod().name())
+                .urlPath(uri.getRawPath())
+                .requestBytes((long) body.length)
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setResponseStatus(response.getStatusCode().value());
+            return new SpanRecordingResponse(response, span, start, trace);
+        } catch (IOException | RuntimeException e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            span.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            span.setDurationMs((System.nanoTime() - start) / 1_000_000);
+            trace.addSpan(span);
+            throw e;
+        }
+    }
+
+    /**
+     * 응답 본문 바이트 수를 세고, 닫힐 때 span 을 완료하는 응답 래퍼입니다.
+     */
+    private static final class SpanRecordingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final ApiSpanDto span;
+        private final long start;
+        private final TraceContext trace;
+        private long bytesRead;
+        private InputStream body;
+        private boolean finished;
+
+        SpanRecordingResponse(ClientHttpResponse delegate, ApiSpanDto span, long start, TraceContext trace) {
+            this.delegate = delegate;
+            this.span = span;
+            this.start = start;
+            this.trace = trace;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        if (b >= 0) {
+                            bytesRead++;
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int n = super.read(buffer, offset, length);
+                        if (n > 0) {
+                            bytesRead += n;
+                        }
+                        return n;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (!finished) {
+                    finished = true;
+                    span.setResponseBytes(bytesRead);
+                    span.setDurationMs((System.nanoTime() - start) / 1_000_000);
+                    trace.addSpan(span);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.UpstreamRequestCoalescer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 공용 RestTemplate 으로 나가는 같은 GET 호출이 동시에 여러 번 일어나면 UpstreamRequestCoalescer 로 하나로 합치는 인터셉터입니다.
+ */
+public class UpstreamCoalescingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamRequestCoalescer upstreamRequestCoalescer;
+
+    public UpstreamCoalescingInterceptor(UpstreamRequestCoalescer upstreamRequestCoalescer) {
+        this.upstreamRequestCoalescer = upstreamRequestCoalescer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        return upstreamRequestCoalescer.execute(request, body, execution);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.APIServer.Config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 업스트림(ERP, MES, Drone) 호출에 쓰는 연결 풀과 HTTP 클라이언트를 구성하는 설정 클래스입니다.
+ *
+ * 모든 업스트림이 하나의 PoolingHttpClientConnectionManager 를 공유하되, 업스트림마다 최대 연결 수를 따로 두어
+ * 한 업스트림이 느려져 연결을 모두 잡고 있어도 다른 업스트림 호출은 영향을 받지 않습니다.
+ * 연결/읽기/응답 대기와 풀 대기에 모두 제한 시간이 있으므로, 응답하지 않는 업스트림이 Tomcat 스레드를 무한히 붙잡지 않습니다.
+ * 연결은 Keep-Alive 로 재사용하고, 오래 쉰 연결과 만료된 연결은 백그라운드 스레드가 닫습니다.
+ *
+ * 풀 사용 현황은 UpstreamPoolMonitor(GET /api/upstreams/stats)로 조회합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UpstreamHttpConfig {
+
+    private final UpstreamHttpProperties properties;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager() {
+        Map<String, UpstreamHttpProperties.Upstream> upstreams = upstreamsByAuthority();
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getDefaultMaxPerRoute())
+                .setConnectionConfigResolver(route ->
+                        connectionConfig(upstreams.get(UpstreamHttpProperties.authority(route.getTargetHost()))))
+                .build();
+        properties.getUpstreams().forEach((name, upstream) -> {
+            if (upstream.getUrl() == null) {
+                return;
+            }
+            manager.setMaxPerRoute(UpstreamHttpProperties.route(upstream.getUrl()), upstream.getMaxConnections());
+            log.info("업스트림 연결 풀: {} ({}) 최대 {}개", name, upstream.getUrl(), upstream.getMaxConnections());
+        });
+        return manager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setDefaultRequestConfig(requestConfig(null))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEvictMs()))
+                // 재시도하면 호출 한 번이 응답 제한 시간의 몇 배까지 늘어날 수 있으므로, 재시도 여부는 호출하는 쪽에 맡깁니다.
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * 공용 RestTemplate(AppConfig)이 사용하는 요청 팩토리입니다.
+     * 응답 제한 시간을 따로 지정한 업스트림은 요청마다 그 값으로 바꾼 RequestConfig 를 사용합니다.
+     */
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(CloseableHttpClient upstreamHttpClient) {
+        Map<String, UpstreamHttpProperties.Upstream> upstreams = upstreamsByAuthority();
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+        factory.setHttpContextFactory((method, uri) -> {
+            UpstreamHttpProperties.Upstream upstream = upstreams.get(UpstreamHttpProperties.authority(uri));
+            if (upstream == null || upstream.getResponseTimeoutMs() == null) {
+                return null; // 클라이언트 기본 RequestConfig 사용
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig(upstream));
+            return context;
+        });
+        return factory;
+    }
+
+    private RequestConfig requestConfig(UpstreamHttpProperties.Upstream upstream) {
+        long responseTimeoutMs = upstream != null && upstream.getResponseTimeoutMs() != null
+                ? upstream.getResponseTimeoutMs() : properties.getResponseTimeoutMs();
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(properties.getKeepAliveMs()))
+                .build();
+    }
+
+    private ConnectionConfig connectionConfig(UpstreamHttpProperties.Upstream upstream) {
+        long connectTimeoutMs = upstream != null && upstream.getConnectTimeoutMs() != null
+                ? upstream.getConnectTimeoutMs() : properties.getConnectTimeoutMs();
+        long socketTimeoutMs = upstream != null && upstream.getSocketTimeoutMs() != null
+                ? upstream.getSocketTimeoutMs() : properties.getSocketTimeoutMs();
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(socketTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.getTimeToLiveMs()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(properties.getValidateAfterInactivityMs()))
+                .build();
+    }
+
+    private Map<String, UpstreamHttpProperties.Upstream> upstreamsByAuthority() {
+        Map<String, UpstreamHttpProperties.Upstream> upstreams = new HashMap<>();
+        properties.namesByAuthority().forEach((authority, name) -> upstreams.put(authority, properties.getUpstreams().get(name)));
+        return upstreams;
+    }
+}
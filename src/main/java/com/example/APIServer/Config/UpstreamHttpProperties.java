@@ -0,0 +1,121 @@
+package com.example.APIServer.Config;
+
+import lombok.Data;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * application.properties 의 'upstream.http.*' 설정을 바인딩하는 클래스입니다.
+ * 공용 RestTemplate 이 쓰는 연결 풀의 크기와 시간 제한을 정하며, 업스트림(ERP, MES, Drone)별로 일부 값을 바꿀 수 있습니다.
+ *
+ * 예) upstream.http.upstreams.erp.url=http://localhost:8081
+ *     upstream.http.upstreams.erp.max-connections=40
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "upstream.http")
+public class UpstreamHttpProperties {
+
+    private int maxTotal = 100;                    // 모든 업스트림을 합친 최대 연결 수
+    private int defaultMaxPerRoute = 10;           // 아래 목록에 없는 호스트의 최대 연결 수
+    private long connectTimeoutMs = 2000;          // TCP 연결 제한 시간
+    private long socketTimeoutMs = 10000;          // 읽기(패킷 사이 대기) 제한 시간
+    private long responseTimeoutMs = 10000;        // 요청을 보낸 뒤 응답을 기다리는 제한 시간
+    private long connectionRequestTimeoutMs = 1000; // 풀이 가득 찼을 때 연결을 기다리는 제한 시간
+    private long keepAliveMs = 30000;              // 서버가 Keep-Alive 시간을 알려주지 않을 때 연결을 재사용하는 시간
+    private long timeToLiveMs = 300000;            // 연결 하나를 사용하는 최대 시간 (업스트림 재배포 후 새 연결로 바꾸기 위함)
+    private long idleEvictMs = 30000;              // 이 시간 이상 쓰이지 않은 연결은 백그라운드에서 닫습니다.
+    private long validateAfterInactivityMs = 2000; // 이 시간 이상 쉬었던 연결은 재사용 전에 끊겼는지 확인합니다.
+    private long bulkheadMaxWaitMs = 0;            // 동시 호출 수 한도에 도달했을 때 자리가 나기를 기다리는 시간 (0: 바로 거절)
+
+    /**
+     * 업스트림별 서킷 브레이커 공통 설정
+     */
+    private Breaker breaker = new Breaker();
+
+    /**
+     * 동일한 GET 호출 합치기(single-flight) 설정
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * 업스트림 이름(erp, mes, drone 등)별 설정
+     */
+    private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+    @Data
+    public static class Upstream {
+        private String url;                // 업스트림 기준 주소 (e.g., "http://localhost:8081"). 호스트와 포트로 구분합니다.
+        private int maxConnections = 20;   // 이 업스트림의 최대 연결 수
+        private Long connectTimeoutMs;     // 비어 있으면 공통 값
+        private Long socketTimeoutMs;      // 비어 있으면 공통 값
+        private Long responseTimeoutMs;    // 비어 있으면 공통 값 (e.g., 파일 업로드가 있는 Drone 은 길게)
+        private Integer maxConcurrentCalls; // 동시 호출 수 한도(bulkhead). 비어 있으면 maxConnections
+    }
+
+    @Data
+    public static class Breaker {
+        private boolean enabled = true;
+        private int windowSize = 50;                 // 실패율/느린 호출 비율을 계산하는 최근 호출 수
+        private int minimumCalls = 20;               // 판단을 시작하는 최소 호출 수
+        private double failureRateThreshold = 0.5;   // 실패(I/O 오류, 5xx) 비율이 이 값 이상이면 차단
+        private long slowCallThresholdMs = 3000;     // 이 시간 이상 걸린 호출을 느린 호출로 봅니다.
+        private double slowCallRateThreshold = 0.8;  // 느린 호출 비율이 이 값 이상이면 차단
+        private long openDurationMs = 30000;         // 차단을 유지하는 시간
+        private int halfOpenCalls = 5;               // 차단이 끝난 뒤 상태를 확인하는 시험 호출 수
+    }
+
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;
+        private int maxBodyBytes = 4 * 1024 * 1024; // 이보다 큰 응답은 공유하지 않고, 기다리던 요청이 각자 다시 호출합니다.
+        private List<String> keyHeaders = new ArrayList<>(List.of("Authorization", "Accept", "Accept-Language")); // URL 과 함께 같은 호출인지 판단하는 헤더
+    }
+
+    /**
+     * 주소의 "호스트:포트" 를 반환합니다. 포트가 없으면 scheme 의 기본 포트를 사용합니다.
+     */
+    public static String authority(URI uri) {
+        return uri.getHost() + ":" + portOf(uri.getScheme(), uri.getPort());
+    }
+
+    public static String authority(HttpHost host) {
+        return host.getHostName() + ":" + portOf(host.getSchemeName(), host.getPort());
+    }
+
+    /**
+     * 업스트림 기준 주소에 해당하는 연결 풀 route 를 반환합니다.
+     */
+    public static HttpRoute route(String url) {
+        URI uri = URI.create(url);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), portOf(uri.getScheme(), uri.getPort())));
+    }
+
+    private static int portOf(String scheme, int port) {
+        if (port > 0) {
+            return port;
+        }
+        return "https".equalsIgnoreCase(scheme) ? 443 : 80;
+    }
+
+    /**
+     * "호스트:포트" 로 업스트림 설정을 찾을 수 있는 맵을 만듭니다. (key: 호스트:포트, value: 업스트림 이름)
+     */
+    public Map<String, String> namesByAuthority() {
+        Map<String, String> names = new LinkedHashMap<>();
+        upstreams.forEach((name, upstream) -> {
+            if (upstream.getUrl() != null) {
+                names.put(authority(URI.create(upstream.getUrl())), name);
+            }
+        });
+        return names;
+    }
+}
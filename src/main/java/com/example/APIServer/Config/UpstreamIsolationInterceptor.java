@@ -0,0 +1,97 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.UpstreamIsolation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 공용 RestTemplate 으로 나가는 업스트림 호출마다 UpstreamIsolation 의 bulkhead 와 서킷 브레이커를 적용하는 인터셉터입니다.
+ *
+ * 자리를 얻지 못하면 호출을 보내지 않고 UpstreamUnavailableException 을 던집니다.
+ * 호출 자리는 RestTemplate 이 응답을 닫는 시점에 반납하며, 응답 본문을 다 읽기까지 걸린 시간으로 느린 호출을 판단합니다.
+ */
+public class UpstreamIsolationInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamIsolation upstreamIsolation;
+
+    public UpstreamIsolationInterceptor(UpstreamIsolation upstreamIsolation) {
+        this.upstreamIsolation = upstreamIsolation;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        UpstreamIsolation.Guard guard = upstreamIsolation.guard(request.getURI());
+        if (guard == null) {
+            return execution.execute(request, body);
+        }
+
+        long permit = guard.acquire();
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            return new GuardedResponse(response, guard, permit, start, response.getStatusCode().is5xxServerError());
+        } catch (IOException | RuntimeException e) {
+            guard.release(permit, (System.nanoTime() - start) / 1_000_000, true);
+            throw e;
+        }
+    }
+
+    /**
+     * 닫힐 때 호출 결과를 기록하고 호출 자리를 반납하는 응답 래퍼입니다.
+     */
+    private static final class GuardedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final UpstreamIsolation.Guard guard;
+        private final long permit;
+        private final long start;
+        private final boolean failure;
+        private boolean released;
+
+        GuardedResponse(ClientHttpResponse delegate, UpstreamIsolation.Guard guard, long permit, long start, boolean failure) {
+            this.delegate = delegate;
+            this.guard = guard;
+            this.permit = permit;
+            this.start = start;
+            this.failure = failure;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    guard.release(permit, (System.nanoTime() - start) / 1_000_000, failure);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.APIServer.Config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정 클래스입니다. 본문 기록 인터셉터(PayloadCaptureInterceptor)를 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final PayloadCaptureInterceptor payloadCaptureInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(payloadCaptureInterceptor);
+    }
+}
@@ -1,13 +1,58 @@
 package com.example.APIServer.Controller;
 
+import com.example.APIServer.Dto.ApiLogAnomalyBaselineDto;
+import com.example.APIServer.Dto.ApiLogAnomalyDto;
+import com.example.APIServer.Dto.ApiLogArchiveFileDto;
+import com.example.APIServer.Dto.ApiLogArchiveStatsDto;
+import com.example.APIServer.Dto.ApiLogBulkIngestResultDto;
 import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogIndexQuery;
+import com.example.APIServer.Dto.ApiLogIndexSearchResultDto;
+import com.example.APIServer.Dto.ApiLogPageDto;
+import com.example.APIServer.Dto.ApiLogPayloadDictionaryDto;
+import com.example.APIServer.Dto.ApiLogPayloadMigrationDto;
+import com.example.APIServer.Dto.ApiLogSamplingConfigDto;
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import com.example.APIServer.Dto.ApiLogStatsReportDto;
+import com.example.APIServer.Dto.ApiLogTailQuery;
+import com.example.APIServer.Dto.ApiLogTailResultDto;
+import com.example.APIServer.Dto.ApiLogTraceDto;
+import com.example.APIServer.Dto.ApiLogWriterStatsDto;
 import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Repository.ApiLogAnomalyRepository;
+import com.example.APIServer.Service.ApiLogAnomalyDetector;
+import com.example.APIServer.Service.ApiLogAnomalyStreamer;
+import com.example.APIServer.Service.ApiLogArchiveQueryService;
+import com.example.APIServer.Service.ApiLogArchiver;
+import com.example.APIServer.Service.ApiLogBulkIngestService;
+import com.example.APIServer.Service.ApiLogExportService;
+import com.example.APIServer.Service.ApiLogIndex;
+import com.example.APIServer.Service.ApiLogPayloadStore;
+import com.example.APIServer.Service.ApiLogRollupService;
+import com.example.APIServer.Service.ApiLogSampler;
+import com.example.APIServer.Service.ApiLogSink;
 import com.example.APIServer.Service.ApiLogService;
+import com.example.APIServer.Service.ApiLogTailBuffer;
+import com.example.APIServer.Service.ApiLogTailStreamer;
+import com.example.APIServer.Service.ApiLogWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -25,6 +70,81 @@ public class ApiLogController {
      */
     private final ApiLogService apiLogService;
 
+    /**
+     * 설정에 따라 조합된 로그 저장소입니다. (저널이 켜져 있으면 저널 -> DB, ApiLogSinkConfig 참고)
+     */
+    private final ApiLogSink apiLogSink;
+
+    /**
+     * LogAspect가 사용하는 비동기 로그 writer입니다. 상태 지표 조회에 사용합니다.
+     */
+    private final ApiLogWriter apiLogWriter;
+
+    /**
+     * 분 단위 롤업 통계를 제공하는 서비스입니다.
+     */
+    private final ApiLogRollupService apiLogRollupService;
+
+    /**
+     * 로그 샘플링 설정을 관리하는 서비스입니다.
+     */
+    private final ApiLogSampler apiLogSampler;
+
+    /**
+     * 여러 건의 로그를 한 번에 받아 저장하는 서비스입니다.
+     */
+    private final ApiLogBulkIngestService apiLogBulkIngestService;
+
+    /**
+     * 로그를 NDJSON/CSV 로 내보내는 서비스입니다.
+     */
+    private final ApiLogExportService apiLogExportService;
+
+    /**
+     * 최근 로그의 메모리 색인입니다. 수신한 로그를 바로 색인합니다.
+     */
+    private final ApiLogIndex apiLogIndex;
+
+    /**
+     * 최근 로그를 보관하는 실시간 tail 링 버퍼입니다.
+     */
+    private final ApiLogTailBuffer apiLogTailBuffer;
+
+    /**
+     * tail 버퍼의 로그를 SSE 로 보내는 서비스입니다.
+     */
+    private final ApiLogTailStreamer apiLogTailStreamer;
+
+    /**
+     * 오래된 로그를 열 지향 압축 파일로 옮기는 아카이버입니다. 파일 목록 조회에 사용합니다.
+     */
+    private final ApiLogArchiver apiLogArchiver;
+
+    /**
+     * 아카이브 파일에서 통계를 계산하는 서비스입니다.
+     */
+    private final ApiLogArchiveQueryService apiLogArchiveQueryService;
+
+    /**
+     * 응답 시간/오류율/요청 수의 이상 징후 감지기입니다. 학습한 평소 값 조회에 사용합니다.
+     */
+    private final ApiLogAnomalyDetector apiLogAnomalyDetector;
+
+    /**
+     * 저장된 이상 징후를 조회하는 리포지토리입니다.
+     */
+    private final ApiLogAnomalyRepository apiLogAnomalyRepository;
+
+    /**
+     * 새로 감지된 이상 징후를 SSE 로 보내는 서비스입니다.
+     */
+    private final ApiLogAnomalyStreamer apiLogAnomalyStreamer;
+
+    /**
+     * 요청/응답 본문 저장소입니다. 압축 사전 생성과 저장 형식 전환에 사용합니다.
+     */
+    private final ApiLogPayloadStore apiLogPayloadStore;
+
     /**
      * POST 요청을 통해 새로운 API 로그를 시스템에 기록합니다.
      * AOP Aspect(@LogAspect) 등 다른 서비스에서 이 엔드포인트를 호출하여 로그를 저장할 수 있습니다.
@@ -34,22 +154,330 @@ public class ApiLogController {
      */
     @PostMapping
     public ResponseEntity<Void> receiveLog(@RequestBody ApiLogDto logDto) {
-        // 서비스 레이어에 로그 생성을 위임합니다.
-        apiLogService.createLog(logDto);
+        // 요청 시각이 없는 로그는 수신 시각으로 기록합니다. (저널 재전송으로 늦게 저장되어도 같은 시각을 유지)
+        if (logDto.getCreatedAt() == null) {
+            logDto.setCreatedAt(LocalDateTime.now());
+        }
+        // ApiLogWriter 와 같은 sink 로 저장하므로, 저널이 켜져 있으면 DB가 느리거나 중단되어도 저널에 기록한 뒤 응답합니다.
+        apiLogSink.write(List.of(logDto));
+        // 최근 로그 검색과 실시간 tail 에서 바로 볼 수 있도록 색인하고 버퍼에 넣습니다.
+        apiLogIndex.add(logDto);
+        apiLogTailBuffer.publish(logDto);
         // 성공적으로 리소스가 생성되었음을 알리는 201 상태 코드로 응답합니다.
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
     /**
-     * GET 요청을 통해 시스템에 저장된 모든 API 로그 목록을 조회합니다.
+     * 여러 건의 API 로그를 한 번의 요청으로 기록합니다.
+     * 본문은 JSON 배열 또는 NDJSON(Content-Type: application/x-ndjson)이며, gzip 압축(Content-Encoding: gzip)을 지원합니다.
+     * 레코드는 스트리밍으로 읽어 큰 배치 단위로 저장하므로, 본문 크기와 관계없이 메모리 사용량이 일정합니다.
      *
-     * @return ApiLogEntity 객체의 리스트와 HTTP 200 OK 상태 코드를 포함한 응답
+     * @param request 본문 스트림과 헤더를 읽기 위한 HTTP 요청
+     * @return 수락/거부 건수를 포함한 응답. 본문 중간에 JSON 문법 오류가 있거나 본문(gzip 등)이 잘려 끝까지 읽지 못하면
+     *         HTTP 400 Bad Request (그 앞까지는 저장됨)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiLogBulkIngestResultDto> receiveBulk(HttpServletRequest request) throws IOException {
+        ApiLogBulkIngestResultDto result = apiLogBulkIngestService.ingest(
+                request.getInputStream(),
+                request.getContentType(),
+                request.getHeader(HttpHeaders.CONTENT_ENCODING));
+        HttpStatus status = result.isCompleted() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return new ResponseEntity<>(result, status);
+    }
+
+    /**
+     * GET 요청을 통해 저장된 API 로그 목록을 커서(keyset) 방식으로 한 페이지씩 조회합니다.
+     * 서비스 이름, 엔드포인트 접두사, 상태 코드 범위, 시간 구간, traceId로 필터링할 수 있으며,
+     * 목록에는 요청/응답 본문이 포함되지 않습니다.
+     *
+     * @param condition 검색 조건 (쿼리 파라미터로 전달)
+     * @return 로그 목록과 다음 페이지 커서, HTTP 200 OK 상태 코드를 포함한 응답. cursor 형식이 잘못되면 HTTP 400 Bad Request
      */
     @GetMapping
-    public ResponseEntity<List<ApiLogEntity>> getLogs(
-            @RequestParam(required = false) String httpMethod) {
+    public ResponseEntity<ApiLogPageDto> getLogs(@ModelAttribute ApiLogSearchCondition condition) {
+        try {
+            return ResponseEntity.ok(apiLogService.searchLogs(condition));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * traceId, clientIp, 엔드포인트 템플릿, 상태 코드, 본문 필드 값(planId 등)으로 최근 로그를 검색합니다.
+     * 최근 구간(기본 1시간)은 메모리 색인에서 밀리초 단위로 응답하고, 그보다 이전 구간은 DB에서 조회합니다.
+     *
+     * @param query 검색 조건 (쿼리 파라미터로 전달)
+     * @return 검색 결과와 HTTP 200 OK 상태 코드를 포함한 응답. 조건 형식이 잘못되면 HTTP 400 Bad Request
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiLogIndexSearchResultDto> searchRecentLogs(@ModelAttribute ApiLogIndexQuery query) {
+        try {
+            return ResponseEntity.ok(apiLogService.searchRecent(query));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 실시간 tail 버퍼에서 최근 로그를 조회합니다. DB를 조회하지 않습니다.
+     *
+     * @param query 서비스 이름, 메소드, 상태 코드(e.g., "5xx") 조건과 최대 건수(limit, 기본값 100)
+     * @return 최신 로그부터의 목록과 마지막 순번, HTTP 200 OK 상태 코드를 포함한 응답. 조건 형식이 잘못되면 HTTP 400 Bad Request
+     */
+    @GetMapping("/tail")
+    public ResponseEntity<ApiLogTailResultDto> getLatestLogs(@ModelAttribute ApiLogTailQuery query) {
+        try {
+            ApiLogTailBuffer.Filter filter = ApiLogTailBuffer.Filter.of(query);
+            int limit = query.getLimit() != null ? Math.max(1, Math.min(query.getLimit(), 1000)) : 100;
+            long lastSequence = apiLogTailBuffer.getLastSequence();
+            return ResponseEntity.ok(new ApiLogTailResultDto(lastSequence, apiLogTailBuffer.latest(limit, filter)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 새로 기록되는 로그를 Server-Sent Events 로 실시간 전송합니다. (event: log, id: 순번)
+     * 재연결 시 Last-Event-ID 헤더 또는 after 파라미터로 그 다음 로그부터 이어받으며,
+     * 버퍼에서 이미 밀려난 로그가 있으면 event: gap 으로 빠진 건수를 먼저 알려줍니다.
+     *
+     * @param query       서비스 이름, 메소드, 상태 코드 조건과 이어받을 순번(after)
+     * @param lastEventId 브라우저 EventSource 가 재연결 시 보내는 마지막 이벤트 id
+     * @return SSE 스트림. 조건 형식이 잘못되면 HTTP 400 Bad Request, 구독자가 너무 많으면 HTTP 503 Service Unavailable
+     */
+    @GetMapping(value = "/tail/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamLogs(
+            @ModelAttribute ApiLogTailQuery query,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return ResponseEntity.ok(apiLogTailStreamer.subscribe(query, lastEventId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 감지된 이상 징후(응답 시간 급증, 오류율 급증, 요청 급감)를 최신순으로 조회합니다.
+     *
+     * @param from        조회 시작 시각 (기본값: 24시간 전)
+     * @param serviceName 서비스 이름 필터 (선택, e.g., "ERP Server")
+     * @param limit       최대 건수 (기본값 100, 최대 1000)
+     * @return 이상 징후 목록과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/anomalies")
+    public ResponseEntity<List<ApiLogAnomalyDto>> getAnomalies(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(defaultValue = "100") int limit) {
 
-        List<ApiLogEntity> logs = apiLogService.getLogsByMethod(httpMethod);
-        return ResponseEntity.ok(logs);
+        LocalDateTime start = from != null ? from : LocalDateTime.now().minusHours(24);
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, 1000)));
+        return ResponseEntity.ok(apiLogAnomalyRepository.findRecent(start, serviceName, page).stream()
+                .map(ApiLogAnomalyDto::of)
+                .toList());
+    }
+
+    /**
+     * 새로 감지되는 이상 징후를 Server-Sent Events 로 실시간 전송합니다. (event: anomaly, id: anomalyId)
+     *
+     * @return SSE 스트림. 구독자가 너무 많으면 HTTP 503 Service Unavailable
+     */
+    @GetMapping(value = "/anomalies/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAnomalies() {
+        try {
+            return ResponseEntity.ok(apiLogAnomalyStreamer.subscribe());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 이상 징후 감지기가 엔드포인트별로 학습한 평소 값(요청 수, p95 응답 시간, 오류율의 EWMA 평균/표준편차)을 조회합니다.
+     *
+     * @return 엔드포인트별 평소 값과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/anomalies/baselines")
+    public ResponseEntity<List<ApiLogAnomalyBaselineDto>> getAnomalyBaselines() {
+        return ResponseEntity.ok(apiLogAnomalyDetector.getBaselines());
+    }
+
+    /**
+     * 검색 조건에 맞는 로그 전체를 NDJSON 또는 CSV 파일로 내보냅니다. (감사용)
+     * 목록 조회와 같은 필터를 사용하며, DB에서 읽는 즉시 응답으로 흘려보내므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param condition 검색 조건 (쿼리 파라미터로 전달, cursor/size 는 무시)
+     * @param format    "ndjson"(기본값) 또는 "csv"
+     * @param gzip      true 이면 gzip 으로 압축하여 응답합니다. (Content-Encoding: gzip)
+     * @return 응답 본문을 쓰는 비동기 작업 (apilog.export.timeout-ms 가 지나면 중단). 지원하지 않는 형식이면 HTTP 400 Bad Request
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportLogs(
+            @ModelAttribute ApiLogSearchCondition condition,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+
+        ApiLogExportService.Format exportFormat;
+        try {
+            exportFormat = ApiLogExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        response.setContentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"api_logs." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        // StreamingResponseBody 는 전역 비동기 타임아웃만 따르므로, 내보내기에만 긴 제한 시간을 두도록 WebAsyncTask 에서 직접 씁니다.
+        return new WebAsyncTask<>(apiLogExportService.getTimeoutMs(), () -> {
+            apiLogExportService.export(condition, exportFormat, gzip, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
+    /**
+     * 로그 한 건의 상세 정보를 요청/응답 본문과 함께 조회합니다.
+     *
+     * @param logId 조회할 로그 ID
+     * @return 로그 상세 정보. 존재하지 않으면 HTTP 404 Not Found
+     */
+    @GetMapping("/{logId:\\d+}")
+    public ResponseEntity<ApiLogEntity> getLogDetail(@PathVariable Long logId) {
+        return apiLogService.getLogDetail(logId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 추적 ID 하나에 속한 요청 로그와, 각 요청이 업스트림 서버(ERP, MES, Drone)로 보낸 호출을 함께 조회합니다.
+     * 요청 전체 시간 중 업스트림에서 보낸 시간과 이 서버에서 보낸 시간을 나누어 볼 수 있습니다.
+     *
+     * @param traceId 추적 ID (응답 헤더 X-Trace-Id 값)
+     * @return 요청 로그와 업스트림 호출 목록과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/traces/{traceId}")
+    public ResponseEntity<ApiLogTraceDto> getTrace(@PathVariable String traceId) {
+        return ResponseEntity.ok(apiLogService.getTrace(traceId));
+    }
+
+    /**
+     * 비동기 로그 writer의 큐 깊이, 저장/버림 건수 등 상태 지표를 조회합니다.
+     *
+     * @return writer 상태 지표와 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/writer/stats")
+    public ResponseEntity<ApiLogWriterStatsDto> getWriterStats() {
+        return ResponseEntity.ok(apiLogWriter.getStats());
+    }
+
+    /**
+     * 시간 구간 동안의 p50/p95/p99 응답 시간, 처리량, 오류율을 조회합니다.
+     * 원본 로그가 아닌 분 단위 롤업(api_log_rollups)에서 계산합니다.
+     *
+     * @param from             조회 시작 시각 (기본값: 1시간 전)
+     * @param to               조회 종료 시각 (기본값: 현재)
+     * @param serviceName      서비스 이름 필터 (선택)
+     * @param endpointTemplate 엔드포인트 템플릿 필터 (선택, e.g., "/api/proxy/employees/{employeeId}")
+     * @return 전체 및 엔드포인트별 통계와 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiLogStatsReportDto> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(required = false) String endpointTemplate) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(1);
+        return ResponseEntity.ok(apiLogRollupService.getStats(start, end, serviceName, endpointTemplate));
+    }
+
+    /**
+     * DB에서 아카이브 파일로 옮겨진 기간의 p50/p95/p99 응답 시간, 처리량, 오류율을 조회합니다.
+     * 조회 구간과 조건에 필요한 파일, row group, 열만 읽으며 DB는 사용하지 않습니다.
+     *
+     * @param from             조회 시작 시각 (기본값: 30일 전)
+     * @param to               조회 종료 시각 (기본값: 현재)
+     * @param serviceName      서비스 이름 필터 (선택)
+     * @param endpointTemplate 엔드포인트 템플릿 필터 (선택)
+     * @param httpMethod       HTTP 메소드 필터 (선택)
+     * @return 통계와 읽은 파일/바이트 수, HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/archive/stats")
+    public ResponseEntity<ApiLogArchiveStatsDto> getArchiveStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(required = false) String endpointTemplate,
+            @RequestParam(required = false) String httpMethod) throws IOException {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        return ResponseEntity.ok(apiLogArchiveQueryService.getStats(start, end, serviceName, endpointTemplate, httpMethod));
+    }
+
+    /**
+     * 아카이브 파일 목록을 날짜, 행 수, 크기, 시간 범위와 함께 조회합니다.
+     *
+     * @param from 시작 날짜 (선택, 포함)
+     * @param to   종료 날짜 (선택, 포함)
+     * @return 파일 목록과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/archive/files")
+    public ResponseEntity<List<ApiLogArchiveFileDto>> getArchiveFiles(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws IOException {
+        return ResponseEntity.ok(apiLogArchiver.describeFiles(from, to));
+    }
+
+    /**
+     * 최근 본문으로 본문 압축 사전을 새로 만들어 이후 압축에 사용합니다. (관리자 전용)
+     *
+     * @return 새 사전 정보와 HTTP 201 Created 상태 코드를 포함한 응답. 표본이 부족하면 HTTP 409 Conflict
+     */
+    @PostMapping("/payloads/dictionary")
+    public ResponseEntity<ApiLogPayloadDictionaryDto> trainPayloadDictionary() {
+        try {
+            return new ResponseEntity<>(apiLogPayloadStore.trainDictionary(), HttpStatus.CREATED);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 기존 로그의 본문을 현재 저장 형식(해시 참조, 압축)으로 바로 옮깁니다. (관리자 전용, 평소에는 매일 자동 실행)
+     *
+     * @return 옮긴 행 수와 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @PostMapping("/payloads/migrate")
+    public ResponseEntity<ApiLogPayloadMigrationDto> migratePayloads() {
+        return ResponseEntity.ok(apiLogPayloadStore.migrate());
+    }
+
+    /**
+     * 현재 적용 중인 로그 샘플링 설정을 조회합니다.
+     *
+     * @return 샘플링 설정과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/sampling")
+    public ResponseEntity<ApiLogSamplingConfigDto> getSampling() {
+        return ResponseEntity.ok(apiLogSampler.getConfig());
+    }
+
+    /**
+     * 로그 샘플링 설정을 교체합니다. 재기동 없이 다음 요청부터 적용됩니다.
+     *
+     * @param config 새 샘플링 설정
+     * @return 적용된 샘플링 설정과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @PutMapping("/sampling")
+    public ResponseEntity<ApiLogSamplingConfigDto> updateSampling(@RequestBody ApiLogSamplingConfigDto config) {
+        apiLogSampler.updateConfig(config);
+        return ResponseEntity.ok(apiLogSampler.getConfig());
     }
 }
\ No newline at end of file
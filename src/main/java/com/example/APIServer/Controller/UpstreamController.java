@@ -0,0 +1,70 @@
+package com.example.APIServer.Controller;
+
+import com.example.APIServer.Dto.UpstreamBreakerStatsDto;
+import com.example.APIServer.Dto.UpstreamCoalescingStatsDto;
+import com.example.APIServer.Dto.UpstreamPoolStatsDto;
+import com.example.APIServer.Service.UpstreamIsolation;
+import com.example.APIServer.Service.UpstreamPoolMonitor;
+import com.example.APIServer.Service.UpstreamRequestCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 업스트림(ERP, MES, Drone) 호출 상태 지표를 조회하는 RESTful API 엔드포인트를 제공하는 컨트롤러입니다.
+ * '/api/upstreams' 경로에 대한 요청을 처리합니다.
+ */
+@RestController
+@RequestMapping("/api/upstreams")
+@RequiredArgsConstructor
+public class UpstreamController {
+
+    /**
+     * 업스트림 호출 연결 풀 현황 조회 서비스입니다.
+     */
+    private final UpstreamPoolMonitor upstreamPoolMonitor;
+
+    /**
+     * 업스트림별 동시 호출 수 한도와 서킷 브레이커입니다.
+     */
+    private final UpstreamIsolation upstreamIsolation;
+
+    /**
+     * 동시에 진행 중인 같은 업스트림 GET 호출 합치기입니다.
+     */
+    private final UpstreamRequestCoalescer upstreamRequestCoalescer;
+
+    /**
+     * 업스트림(ERP, MES, Drone) 호출 연결 풀의 사용 중/유휴/대기 연결 수를 조회합니다.
+     *
+     * @return 전체 및 업스트림별 연결 풀 현황과 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<UpstreamPoolStatsDto> getUpstreamStats() {
+        return ResponseEntity.ok(upstreamPoolMonitor.getStats());
+    }
+
+    /**
+     * 업스트림별 서킷 브레이커 상태(CLOSED/OPEN/HALF_OPEN), 실패율, 느린 호출 비율, 동시 호출 수를 조회합니다.
+     *
+     * @return 업스트림별 상태 지표와 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/breakers")
+    public ResponseEntity<List<UpstreamBreakerStatsDto>> getUpstreamBreakers() {
+        return ResponseEntity.ok(upstreamIsolation.getStats());
+    }
+
+    /**
+     * 업스트림별로 같은 GET 호출을 합친 건수와 비율(coalescingRatio)을 조회합니다.
+     *
+     * @return 업스트림별 합치기 지표와 HTTP 200 OK 상태 코드를 포함한 응답
+     */
+    @GetMapping("/coalescing")
+    public ResponseEntity<List<UpstreamCoalescingStatsDto>> getUpstreamCoalescing() {
+        return ResponseEntity.ok(upstreamRequestCoalescer.getStats());
+    }
+}
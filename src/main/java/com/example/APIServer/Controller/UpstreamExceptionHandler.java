@@ -0,0 +1,29 @@
+package com.example.APIServer.Controller;
+
+import com.example.APIServer.Service.UpstreamUnavailableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 업스트림 호출이 격리 장치(UpstreamIsolation)에 의해 거절된 경우 503 Service Unavailable 로 응답하는 예외 처리기입니다.
+ * Retry-After 헤더로 다시 시도할 수 있는 시점(초)을 알려줍니다.
+ */
+@RestControllerAdvice
+public class UpstreamExceptionHandler {
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleUpstreamUnavailable(UpstreamUnavailableException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        problem.setTitle("Upstream Unavailable");
+        problem.setProperty("upstream", e.getUpstream());
+        problem.setProperty("reason", e.getReason().name());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfterMs() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(problem);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * (서비스, 엔드포인트 템플릿) 하나에 대해 이상 징후 감지기가 학습한 평소 값입니다.
+ * 평균과 표준편차는 평가 구간마다 갱신되는 EWMA(지수 가중 이동 평균) 값입니다.
+ */
+@Getter
+@Builder
+public class ApiLogAnomalyBaselineDto {
+
+    private String serviceName;
+    private String endpointTemplate;
+    private long windows;                  // 지금까지 평가한 구간 수
+    private boolean warmedUp;              // 평소 값을 학습하여 이상 징후를 판정하는 중인지 여부
+    private double requestsPerWindow;      // 구간당 요청 수 평균
+    private double p95Ms;                  // 구간 p95 응답 시간 평균
+    private double p95StddevMs;            // 구간 p95 응답 시간 표준편차
+    private double errorRate;              // 구간 5xx 비율 평균
+    private double errorRateStddev;        // 구간 5xx 비율 표준편차
+}
@@ -0,0 +1,41 @@
+package com.example.APIServer.Dto;
+
+import com.example.APIServer.Entity.ApiLogAnomalyEntity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이상 징후 한 건입니다. 목록 조회와 실시간 스트림(event: anomaly)에서 같은 형식으로 사용합니다.
+ */
+@Getter
+@Builder
+public class ApiLogAnomalyDto {
+
+    private Long anomalyId;
+    private LocalDateTime detectedAt;
+    private String serviceName;
+    private String endpointTemplate;
+    private ApiLogAnomalyEntity.Kind kind;
+    private Double observedValue;   // 구간에서 관측된 값
+    private Double baselineValue;   // 평소 값 (EWMA 평균)
+    private Double thresholdValue;  // 이상 징후로 판정한 경계값
+    private Long windowRequests;    // 평가 구간의 요청 수
+    private Long windowMs;          // 평가 구간 길이
+
+    public static ApiLogAnomalyDto of(ApiLogAnomalyEntity entity) {
+        return ApiLogAnomalyDto.builder()
+                .anomalyId(entity.getAnomalyId())
+                .detectedAt(entity.getDetectedAt())
+                .serviceName(entity.getServiceName())
+                .endpointTemplate(entity.getEndpointTemplate())
+                .kind(entity.getKind())
+                .observedValue(entity.getObservedValue())
+                .baselineValue(entity.getBaselineValue())
+                .thresholdValue(entity.getThresholdValue())
+                .windowRequests(entity.getWindowRequests())
+                .windowMs(entity.getWindowMs())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브 파일 하나의 정보입니다. (GET /api/logs/archive/files)
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogArchiveFileDto {
+
+    private LocalDate day;
+    private String fileName;
+    private long sizeBytes;
+    private long rowCount;
+    private int rowGroups;
+    private LocalDateTime minCreatedAt;
+    private LocalDateTime maxCreatedAt;
+}
@@ -0,0 +1,22 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * GET /api/logs/archive/stats 응답입니다.
+ * 통계(report)와 함께, 파일/row group 통계로 건너뛴 양과 실제로 읽은 바이트 수를 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogArchiveStatsDto {
+
+    private ApiLogStatsReportDto report;
+    private int filesScanned;
+    private int filesSkipped;          // footer 의 시간 범위로 건너뛴 파일
+    private int rowGroupsScanned;
+    private int rowGroupsSkipped;      // 시간 범위 통계 또는 사전에 조건 값이 없어 건너뛴 row group
+    private long rowsScanned;
+    private long bytesRead;            // footer 와 읽은 열 블록의 합계 (본문 열은 읽지 않습니다)
+    private long tookMs;
+}
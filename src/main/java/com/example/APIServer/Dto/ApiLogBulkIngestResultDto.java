@@ -0,0 +1,28 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * POST /api/logs/bulk 응답입니다. 레코드별 수락/거부 건수와 거부 사유를 담습니다.
+ * 본문 중간에 JSON 문법 오류가 있거나 본문이 잘려 있으면 그 앞까지 처리한 결과와 함께 completed=false 로 응답합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogBulkIngestResultDto {
+
+    private long accepted;              // 저장된 레코드 수
+    private long rejected;              // 형식/필수값 오류 또는 저장 실패로 거부된 레코드 수
+    private boolean completed;          // 본문 끝까지 읽었는지 여부
+    private String abortReason;         // completed=false 인 경우 중단 사유
+    private List<RecordError> errors;   // 거부된 레코드 (앞쪽 일부만)
+
+    @Getter
+    @AllArgsConstructor
+    public static class RecordError {
+        private long index;     // 0부터 시작하는 레코드 순번 (NDJSON 은 빈 줄을 제외한 줄 순번)
+        private String message;
+    }
+}
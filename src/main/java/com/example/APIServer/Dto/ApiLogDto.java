@@ -1,8 +1,13 @@
 package com.example.APIServer.Dto;
 
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 /**
@@ -13,9 +18,12 @@ import lombok.Data;
  * @Data: Lombok 어노테이션으로, getter, setter, toString, equals, hashCode 메소드를 자동으로 생성합니다.
  * @Builder: 빌더 패턴을 자동으로 생성하여, 객체 생성 시 가독성과 안정성을 높여줍니다.
  * LogAspect.java에서 setter 메소드를 여러 번 호출하는 대신 빌더를 사용하기 위해 추가되었습니다.
+ * @NoArgsConstructor: JSON 역직렬화(POST /api/logs, 로그 저널 재전송)를 위한 기본 생성자를 추가합니다.
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ApiLogDto {
 
     /**
@@ -36,7 +44,7 @@ public class ApiLogDto {
     /**
      * API 요청 본문(payload).
      * 다양한 형태의 JSON 데이터를 받기 위해 Object 타입으로 설정되었습니다.
-     * DB 저장 시에는 JSON 문자열로 변환됩니다.
+     * 서버가 직접 기록한 본문은 전송된 그대로의 문자열이며, 객체(POST /api/logs)는 DB 저장 시 JSON 문자열로 변환됩니다.
      */
     private Object requestPayload;
 
@@ -57,7 +65,45 @@ public class ApiLogDto {
     private String clientIp;
 
     /**
-     * 해당 요청-응답 사이클을 고유하게 식별하기 위한 추적 ID (UUID)
+     * 해당 요청-응답 사이클을 고유하게 식별하기 위한 추적 ID (W3C trace-id, 32자리 16진수)
+     * 호출한 쪽이 traceparent 또는 X-Trace-Id 헤더를 보냈으면 그 값을 이어서 사용합니다.
      */
     private String traceId;
+
+    /**
+     * 이 요청의 span ID. 업스트림 호출(자식 span)의 parentSpanId 가 이 값을 가리킵니다.
+     */
+    private String spanId;
+
+    /**
+     * 이 요청을 호출한 쪽의 span ID (traceparent 헤더로 받은 경우)
+     */
+    private String parentSpanId;
+
+    /**
+     * 요청 처리 중 업스트림 서버로 보낸 호출 목록. api_spans 테이블에 함께 저장됩니다.
+     */
+    private List<ApiSpanDto> spans;
+
+    /**
+     * 로그가 발생한 시각.
+     * 비동기 저장 시 큐에서 대기한 시간과 관계없이 실제 요청 시각을 기록하기 위해 사용합니다.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 요청 처리에 걸린 시간(ms)
+     */
+    private Long durationMs;
+
+    /**
+     * 요청이 매칭된 엔드포인트 템플릿 (e.g., "/api/proxy/employees/{employeeId}")
+     * 경로 변수 값과 관계없이 같은 API를 하나로 묶어 집계하기 위해 사용합니다.
+     */
+    private String endpointTemplate;
+
+    /**
+     * 샘플링 가중치. 이 로그 한 건이 실제로 몇 건의 요청을 대표하는지를 나타냅니다. (샘플링하지 않으면 1)
+     */
+    private Double sampleWeight;
 }
\ No newline at end of file
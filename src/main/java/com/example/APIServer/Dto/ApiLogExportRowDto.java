@@ -0,0 +1,55 @@
+package com.example.APIServer.Dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 로그 내보내기(GET /api/logs/export)에서 한 행을 표현하는 조회 결과(projection)입니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않아, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * JPA Criteria의 construct()로 직접 생성되므로 생성자 파라미터 순서를 바꾸면 안 됩니다.
+ * CSV 컬럼 순서도 이 필드 순서를 따릅니다.
+ * 본문이 api_log_payloads 에 저장된 행은 본문 필드가 비어 있고 해시 필드가 채워지며,
+ * 내보내기 서비스가 resolvePayloads() 로 본문을 채운 뒤 출력합니다. (해시 필드는 출력하지 않습니다)
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"logId", "createdAt", "serviceName", "apiEndpoint", "endpointTemplate", "httpMethod",
+        "responseStatus", "durationMs", "sampleWeight", "clientIp", "traceId", "requestPayload", "responsePayload"})
+public class ApiLogExportRowDto {
+
+    private Long logId;
+    private LocalDateTime createdAt;
+    private String serviceName;
+    private String apiEndpoint;
+    private String endpointTemplate;
+    private String httpMethod;
+    private Integer responseStatus;
+    private Long durationMs;
+    private Double sampleWeight;
+    private String clientIp;
+    private String traceId;
+    private String requestPayload;
+    private String responsePayload;
+    @JsonIgnore
+    private String requestPayloadHash;
+    @JsonIgnore
+    private String responsePayloadHash;
+
+    /**
+     * 해시로 저장된 본문을 contents(해시 -> 본문)에서 찾아 채웁니다.
+     */
+    public void resolvePayloads(Map<String, String> contents) {
+        if (requestPayload == null && requestPayloadHash != null) {
+            requestPayload = contents.get(requestPayloadHash);
+        }
+        if (responsePayload == null && responsePayloadHash != null) {
+            responsePayload = contents.get(responsePayloadHash);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.APIServer.Dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 로그 검색(GET /api/logs/search)의 조건입니다.
+ * 서로 다른 항목은 AND 로, 한 항목에 쉼표로 나열한 값은 OR 로 결합합니다.
+ *
+ * 예) status=500,502&endpointTemplate=/api/proxy/project_plans/{planId}&field=planId:P-001&not=clientIp:127.0.0.1
+ */
+@Data
+public class ApiLogIndexQuery {
+
+    private List<String> traceId = new ArrayList<>();
+    private List<String> clientIp = new ArrayList<>();
+    private List<String> endpointTemplate = new ArrayList<>();
+    private List<Integer> status = new ArrayList<>();
+    private List<String> serviceName = new ArrayList<>();
+    private List<String> httpMethod = new ArrayList<>();
+
+    /**
+     * 본문 필드 조건 "필드명:값" (e.g., "planId:P-001"). 여러 번 지정하면 AND 로 결합합니다.
+     */
+    private List<String> field = new ArrayList<>();
+
+    /**
+     * 제외 조건 "항목:값" (e.g., "status:200", "clientIp:127.0.0.1", "planId:P-001")
+     */
+    private List<String> not = new ArrayList<>();
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;     // 조회 시작 시각 (포함, 기본값: 1시간 전)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;       // 조회 종료 시각 (미포함)
+
+    private Integer limit;          // 최대 건수
+}
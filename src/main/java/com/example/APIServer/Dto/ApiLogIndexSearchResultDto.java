@@ -0,0 +1,25 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GET /api/logs/search 응답입니다.
+ * 조회 구간이 메모리 색인의 보관 구간 안이면 source=INDEX, 벗어나면 DB에서 조회하고 source=DATABASE 입니다.
+ * 색인에서 찾은 로그는 아직 DB에 저장되기 전일 수 있으므로 logId 가 비어 있을 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogIndexSearchResultDto {
+
+    public enum Source { INDEX, DATABASE }
+
+    private Source source;
+    private LocalDateTime indexedSince;      // 이 시각 이후는 색인에서 조회 가능
+    private long tookMicros;                 // 검색에 걸린 시간
+    private List<String> ignoredFilters;     // DB 조회 시 적용하지 못한 조건 (본문 필드 등)
+    private List<ApiLogSummaryDto> items;    // 최신 로그부터
+}
@@ -0,0 +1,19 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 로그 목록 조회 결과입니다.
+ * 다음 페이지를 조회하려면 nextCursor 값을 cursor 파라미터로 그대로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogPageDto {
+
+    private List<ApiLogSummaryDto> items; // 현재 페이지의 로그 목록 (최신순)
+    private String nextCursor;            // 다음 페이지 커서. 마지막 페이지이면 null
+    private boolean hasNext;              // 다음 페이지 존재 여부
+}
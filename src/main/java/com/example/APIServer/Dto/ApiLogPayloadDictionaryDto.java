@@ -0,0 +1,20 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 새로 만든 본문 압축 사전의 정보입니다. (POST /api/logs/payloads/dictionary)
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogPayloadDictionaryDto {
+
+    private String dictionaryId;  // 사전의 Adler-32 값 (16진수)
+    private int sizeBytes;
+    private int sampleCount;      // 사전을 만들 때 사용한 표본 본문 수
+    private double sampleRatio;   // 표본 본문을 이 사전으로 압축했을 때의 크기 비율 (압축 후 / 원본)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기존 행의 본문 저장 형식 전환 결과입니다. (POST /api/logs/payloads/migrate)
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogPayloadMigrationDto {
+
+    private long movedLogs;          // api_logs 에 그대로 있던 큰 본문을 api_log_payloads 로 옮긴 로그 수
+    private long compressedPayloads; // 텍스트로 저장되어 있던 본문을 압축한 api_log_payloads 행 수
+}
@@ -0,0 +1,39 @@
+package com.example.APIServer.Dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * API 로그 샘플링 설정입니다.
+ * 기동 시에는 application.properties 의 'apilog.sampling.*' 값으로 채워지고(ApiLogSamplingConfig 참고),
+ * 운영 중에는 PUT /api/logs/sampling 으로 재기동 없이 교체할 수 있습니다.
+ *
+ * 샘플링 여부와 관계없이 아래 꼬리(tail) 규칙에 해당하는 요청은 항상 기록됩니다.
+ * - keepErrors: 2xx 가 아닌 응답
+ * - slowThresholdMs: 처리 시간이 기준 이상인 요청
+ * - keepMutating: POST / PUT / PATCH / DELETE 요청
+ */
+@Data
+public class ApiLogSamplingConfigDto {
+
+    private boolean enabled = false;     // false이면 모든 요청을 기록
+    private double defaultRate = 1.0;    // 규칙에 해당하지 않는 요청의 기록 비율 (0.0 ~ 1.0)
+    private boolean keepErrors = true;
+    private long slowThresholdMs = 1000; // 0 이하이면 사용하지 않음
+    private boolean keepMutating = true;
+
+    /**
+     * 라우트/서비스별 규칙 목록. 먼저 선언된 규칙이 우선합니다.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String pattern;       // 엔드포인트 템플릿에 대한 Ant 패턴 (e.g., "/api/proxy/dashboard/**"), 비어 있으면 모든 경로
+        private String serviceName;   // 서비스 이름 (e.g., "ERP Server"), 비어 있으면 모든 서비스
+        private Double rate;          // 기록 비율 (0.0 ~ 1.0), 비어 있으면 defaultRate
+        private Integer maxPerSecond; // 초당 최대 기록 건수, 비어 있으면 제한 없음
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.APIServer.Dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그 목록 조회 API의 검색 조건과 페이지 정보를 담는 DTO입니다.
+ * GET /api/logs 의 쿼리 파라미터가 이 객체의 필드에 그대로 바인딩됩니다.
+ * 모든 조건은 선택 사항이며, 값이 있는 조건만 AND로 결합됩니다.
+ */
+@Data
+public class ApiLogSearchCondition {
+
+    private String httpMethod;      // HTTP 메소드 (e.g., "GET"), "ALL"이면 필터 없음
+    private String serviceName;     // 서비스 이름 (e.g., "ERP Server")
+    private String endpointPrefix;  // 엔드포인트 접두사 (e.g., "/api/proxy/employees")
+    private Integer minStatus;      // 응답 상태 코드 하한 (포함)
+    private Integer maxStatus;      // 응답 상태 코드 상한 (포함)
+    private String traceId;         // 추적 ID
+    private String clientIp;        // 클라이언트 IP
+    private String endpointTemplate; // 엔드포인트 템플릿 (e.g., "/api/proxy/employees/{employeeId}")
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;     // 조회 시작 시각 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;       // 조회 종료 시각 (미포함)
+
+    /**
+     * 이전 페이지 응답의 nextCursor 값. 비어 있으면 가장 최신 로그부터 조회합니다.
+     */
+    private String cursor;
+
+    /**
+     * 한 페이지의 최대 건수.
+     */
+    private Integer size;
+}
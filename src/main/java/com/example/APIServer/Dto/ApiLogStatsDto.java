@@ -0,0 +1,25 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 조회 구간 동안의 지연 시간/처리량/오류율 통계입니다.
+ * serviceName, endpointTemplate 이 null이면 전체 합계를 의미합니다.
+ */
+@Getter
+@Builder
+public class ApiLogStatsDto {
+
+    private String serviceName;
+    private String endpointTemplate;
+    private long requestCount;
+    private long errorCount;            // 5xx 응답 수
+    private double errorRate;           // errorCount / requestCount
+    private double throughputPerSecond; // 조회 구간 전체 기준 초당 요청 수
+    private double avgMs;
+    private long p50Ms;
+    private long p95Ms;
+    private long p99Ms;
+    private long maxMs;
+}
@@ -0,0 +1,20 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GET /api/logs/stats 응답입니다. 전체 합계와 (서비스, 엔드포인트 템플릿)별 통계를 함께 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogStatsReportDto {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private ApiLogStatsDto total;
+    private List<ApiLogStatsDto> endpoints; // 요청 수가 많은 순
+}
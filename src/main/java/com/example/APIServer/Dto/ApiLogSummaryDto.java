@@ -0,0 +1,41 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그 목록 화면에 사용하는 경량 조회 결과(projection)입니다.
+ * 용량이 큰 requestPayload, responsePayload 컬럼은 포함하지 않으며,
+ * 본문이 필요하면 GET /api/logs/{logId} 상세 조회를 사용합니다.
+ *
+ * JPA Criteria의 construct()로 직접 생성되므로 생성자 파라미터 순서를 바꾸면 안 됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogSummaryDto {
+
+    private Long logId;
+    private LocalDateTime createdAt;
+    private String serviceName;
+    private String apiEndpoint;
+    private String httpMethod;
+    private Integer responseStatus;
+    private Long durationMs;
+    private Double sampleWeight;
+    private String clientIp;
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;
+
+    /**
+     * 아직 DB에 저장되지 않은 로그(메모리 색인, 실시간 tail)의 목록 항목을 만듭니다. logId 는 비어 있습니다.
+     * @param createdAt 로그 시각 (dto 에 없으면 호출하는 쪽에서 정한 시각)
+     */
+    public static ApiLogSummaryDto of(ApiLogDto dto, LocalDateTime createdAt) {
+        return new ApiLogSummaryDto(null, createdAt, dto.getServiceName(), dto.getApiEndpoint(), dto.getHttpMethod(),
+                dto.getResponseStatus(), dto.getDurationMs(), dto.getSampleWeight(), dto.getClientIp(),
+                dto.getTraceId(), dto.getSpanId(), dto.getParentSpanId());
+    }
+}
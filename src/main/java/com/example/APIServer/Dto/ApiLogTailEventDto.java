@@ -0,0 +1,16 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 실시간 tail 버퍼의 로그 한 건입니다.
+ * sequence 는 서버 기동 후 1부터 증가하는 순번으로, SSE 이벤트 id 로도 사용되어 재연결 시 이어받기에 쓰입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogTailEventDto {
+
+    private long sequence;
+    private ApiLogSummaryDto log;
+}
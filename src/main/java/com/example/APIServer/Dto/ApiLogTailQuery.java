@@ -0,0 +1,32 @@
+package com.example.APIServer.Dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 로그 tail(GET /api/logs/tail, GET /api/logs/tail/stream)의 조건입니다.
+ * 서로 다른 항목은 AND 로, 한 항목에 쉼표로 나열한 값은 OR 로 결합합니다.
+ *
+ * 예) serviceName=ERP Server&httpMethod=POST,PUT&status=5xx,429
+ */
+@Data
+public class ApiLogTailQuery {
+
+    private List<String> serviceName = new ArrayList<>();
+    private List<String> httpMethod = new ArrayList<>();
+
+    /**
+     * 상태 코드 (e.g., "500") 또는 상태 코드 범위 (e.g., "5xx")
+     */
+    private List<String> status = new ArrayList<>();
+
+    /**
+     * 이 순번 다음의 로그부터 스트리밍합니다. Last-Event-ID 헤더가 있으면 헤더 값을 우선합니다.
+     * 둘 다 없으면 구독 이후에 들어온 로그만 보냅니다.
+     */
+    private Long after;
+
+    private Integer limit;          // 최근 로그 조회의 최대 건수
+}
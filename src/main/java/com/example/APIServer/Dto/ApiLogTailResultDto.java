@@ -0,0 +1,18 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/logs/tail 응답입니다.
+ * 이어서 실시간 스트림을 받으려면 after=lastSequence 로 구독하면 빠지거나 겹치는 로그가 없습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogTailResultDto {
+
+    private long lastSequence;                  // 조회 시점까지 버퍼에 들어온 마지막 순번
+    private List<ApiLogTailEventDto> items;     // 최신 로그부터
+}
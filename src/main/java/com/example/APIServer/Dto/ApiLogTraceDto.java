@@ -0,0 +1,21 @@
+package com.example.APIServer.Dto;
+
+import com.example.APIServer.Entity.ApiSpanEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/logs/traces/{traceId} 응답입니다.
+ * 추적 ID에 속한 요청 로그(서버 span)와 각 요청이 보낸 업스트림 호출(자식 span)을 함께 담습니다.
+ * 자식 span 의 parentSpanId 는 logs 중 한 건의 spanId 와 같습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiLogTraceDto {
+
+    private String traceId;
+    private List<ApiLogSummaryDto> logs;
+    private List<ApiSpanEntity> spans;
+}
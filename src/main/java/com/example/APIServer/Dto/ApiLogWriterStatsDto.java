@@ -0,0 +1,24 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 로그 writer(ApiLogWriter)의 상태 지표를 전달하기 위한 DTO입니다.
+ * 운영 중 큐가 얼마나 차 있는지, 버려진 로그가 있는지 확인하는 용도로 사용합니다.
+ */
+@Getter
+@Builder
+public class ApiLogWriterStatsDto {
+
+    private int queueDepth;        // 현재 큐에 쌓여 있는 로그 수
+    private int queueCapacity;     // 큐의 최대 크기
+    private int maxQueueDepth;     // 기동 이후 관측된 최대 큐 깊이
+    private long enqueued;         // 큐에 들어간 누적 건수
+    private long written;          // DB에 저장된 누적 건수
+    private long dropped;          // 큐가 가득 차서 버려진 누적 건수
+    private long spilled;          // 큐를 거치지 않고 직접 저장된 누적 건수
+    private long failed;           // 저장 중 오류로 유실된 누적 건수
+    private long batches;          // 실행된 INSERT 배치 수
+    private String overflowPolicy; // 적용 중인 back-pressure 정책
+}
@@ -0,0 +1,32 @@
+package com.example.APIServer.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 처리 중 업스트림 서버(ERP, MES, Drone)로 보낸 호출 한 건(자식 span)의 정보를 담는 DTO입니다.
+ * TracingClientHttpRequestInterceptor 가 만들고, 부모 요청의 ApiLogDto 에 담겨 함께 저장됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiSpanDto {
+
+    private String traceId;         // 부모 요청과 같은 추적 ID
+    private String spanId;          // 이 호출의 span ID (업스트림에 traceparent 로 전달한 값)
+    private String parentSpanId;    // 부모 요청(api_logs 행)의 span ID
+    private LocalDateTime startedAt;
+    private String upstreamHost;    // 호출한 서버 (e.g., "localhost:8081")
+    private String httpMethod;
+    private String urlPath;
+    private Integer responseStatus; // 응답을 받지 못했으면 null
+    private Long requestBytes;
+    private Long responseBytes;     // 실제로 읽은 응답 본문 크기
+    private Long durationMs;        // 요청 전송부터 응답 본문을 다 읽을 때까지
+    private String error;           // 연결 실패 등 예외가 발생한 경우의 사유
+}
@@ -0,0 +1,28 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업스트림별 서킷 브레이커와 동시 호출 수 한도(bulkhead)의 상태 지표를 전달하기 위한 DTO입니다.
+ */
+@Getter
+@Builder
+public class UpstreamBreakerStatsDto {
+
+    private String name;                 // 업스트림 이름 (erp, mes, drone 등)
+    private String authority;            // 호스트:포트
+    private String state;                // CLOSED | OPEN | HALF_OPEN (브레이커를 끈 경우 DISABLED)
+    private LocalDateTime stateChangedAt; // 현재 상태가 된 시각
+    private int bufferedCalls;           // 현재 상태에서 기록된 호출 수
+    private double failureRate;          // 실패(I/O 오류, 5xx) 비율
+    private double slowCallRate;         // 느린 호출 비율
+    private long notPermittedCalls;      // 브레이커가 거절한 누적 호출 수
+    private long openCount;              // OPEN 으로 바뀐 누적 횟수
+    private long retryAfterMs;           // OPEN 상태에서 시험 호출까지 남은 시간
+    private int concurrentCalls;         // 진행 중인 호출 수
+    private int maxConcurrentCalls;      // 동시 호출 수 한도
+    private long bulkheadRejectedCalls;  // 동시 호출 수 한도로 거절한 누적 호출 수
+}
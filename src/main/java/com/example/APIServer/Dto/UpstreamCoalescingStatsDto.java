@@ -0,0 +1,20 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업스트림별 GET 호출 합치기(UpstreamRequestCoalescer) 지표를 전달하기 위한 DTO입니다.
+ */
+@Getter
+@Builder
+public class UpstreamCoalescingStatsDto {
+
+    private String name;            // 업스트림 이름 (설정에 없는 호스트는 null)
+    private String authority;       // 호스트:포트
+    private long requests;          // 누적 GET 요청 수 (upstreamCalls + coalescedCalls)
+    private long upstreamCalls;     // 실제로 업스트림에 보낸 GET 수
+    private long coalescedCalls;    // 진행 중인 같은 호출의 응답을 함께 받은 GET 수
+    private long notSharedCalls;    // 응답이 커서 공유하지 못하고 다시 호출한 GET 수 (upstreamCalls 에 포함)
+    private double coalescingRatio; // coalescedCalls / requests
+}
@@ -0,0 +1,29 @@
+package com.example.APIServer.Dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 업스트림 호출 연결 풀(UpstreamHttpConfig)의 사용 현황을 전달하기 위한 DTO입니다.
+ * pending 이 계속 0보다 크면 해당 업스트림이 느려졌거나 max-connections 가 부족한 것입니다.
+ */
+@Getter
+@Builder
+public class UpstreamPoolStatsDto {
+
+    private Pool total;           // 모든 업스트림 합계
+    private List<Pool> upstreams; // 업스트림(호스트:포트)별 현황
+
+    @Getter
+    @Builder
+    public static class Pool {
+        private String name;      // 업스트림 이름 (설정에 없는 호스트는 null)
+        private String authority; // 호스트:포트
+        private int leased;       // 사용 중인 연결 수
+        private int available;    // 재사용을 기다리는 유휴 연결 수
+        private int pending;      // 연결을 기다리는 요청 수
+        private int max;          // 최대 연결 수
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 'api_log_anomalies' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * ApiLogAnomalyDetector 가 (서비스, 엔드포인트 템플릿)별 평소 값(baseline)에서 크게 벗어난 구간을 발견할 때마다 한 행씩 저장합니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_log_anomalies", indexes = {
+        @Index(name = "idx_api_log_anomalies_detected", columnList = "detected_at, service_name")
+})
+public class ApiLogAnomalyEntity {
+
+    /**
+     * 이상 징후의 종류
+     */
+    public enum Kind {
+        LATENCY_SPIKE,   // 구간 p95 응답 시간이 평소보다 크게 늘어남
+        ERROR_RATE_JUMP, // 구간 5xx 비율이 평소보다 크게 늘어남
+        TRAFFIC_DROP     // 구간 요청 수가 평소보다 크게 줄어듦
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long anomalyId;
+
+    /**
+     * 이상 징후를 판정한 시각 (평가 구간의 끝)
+     */
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Column(name = "service_name")
+    private String serviceName;
+
+    private String endpointTemplate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32, nullable = false)
+    private Kind kind;
+
+    /**
+     * 구간에서 관측된 값 (LATENCY_SPIKE: p95 ms, ERROR_RATE_JUMP: 5xx 비율, TRAFFIC_DROP: 요청 수)
+     */
+    private Double observedValue;
+
+    /**
+     * 같은 지표의 평소 값 (EWMA 평균)
+     */
+    private Double baselineValue;
+
+    /**
+     * 이상 징후로 판정한 경계값
+     */
+    private Double thresholdValue;
+
+    /**
+     * 평가 구간의 요청 수
+     */
+    private Long windowRequests;
+
+    private Long windowMs;
+}
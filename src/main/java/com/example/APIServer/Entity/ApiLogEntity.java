@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -16,30 +15,40 @@ import java.time.LocalDateTime;
  * @Data: Lombok 어노테이션으로, getter, setter 등의 코드를 자동으로 생성합니다.
  * @Entity: 이 클래스가 JPA 엔티티임을 나타냅니다. JPA는 이 클래스를 기반으로 데이터베이스 작업을 수행합니다.
  * @Table(name = "api_logs"): 이 엔티티가 'api_logs'라는 이름의 데이터베이스 테이블에 매핑됨을 명시합니다.
+ * indexes: (필터 컬럼, created_at, log_id) 복합 인덱스는 로그 목록 조회(커서 페이지네이션)에서, payload_hash 인덱스는 참조가 끊긴 본문 정리에서 사용합니다.
  */
 @Data
 @Entity
 @Builder // 빌더 추가
 @AllArgsConstructor // 빌더 사용을 위한 전체 생성자 추가
 @NoArgsConstructor  // JPA를 위한 기본 생성자 추가
-@Table(name = "api_logs")
+@Table(name = "api_logs", indexes = {
+        @Index(name = "idx_api_logs_created", columnList = "created_at, log_id"),
+        @Index(name = "idx_api_logs_service_created", columnList = "service_name, created_at, log_id"),
+        @Index(name = "idx_api_logs_method_created", columnList = "http_method, created_at, log_id"),
+        @Index(name = "idx_api_logs_endpoint_created", columnList = "api_endpoint, created_at"),
+        @Index(name = "idx_api_logs_status_created", columnList = "response_status, created_at"),
+        @Index(name = "idx_api_logs_trace", columnList = "trace_id"),
+        @Index(name = "idx_api_logs_request_payload", columnList = "request_payload_hash"),
+        @Index(name = "idx_api_logs_response_payload", columnList = "response_payload_hash")
+})
 public class ApiLogEntity {
 
     /**
      * 로그의 고유 식별자 (Primary Key).
      * @Id: 이 필드가 테이블의 기본 키(PK)임을 나타냅니다.
-     * @GeneratedValue(strategy = GenerationType.IDENTITY): 기본 키 생성을 데이터베이스에 위임합니다(예: MySQL의 AUTO_INCREMENT).
+     * @ApiLogId: DB에서 예약한 ID 구간으로 메모리에서 키를 붙입니다(ApiLogIdGenerator).
+     * INSERT 마다 생성된 키를 읽어 올 필요가 없어 Hibernate 가 INSERT 를 묶어(batch) 보낼 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ApiLogId
     private Long logId;
 
     /**
-     * 로그가 생성된 시간.
-     * @CreationTimestamp: 엔티티가 처음 저장될 때 JPA(Hibernate)가 현재 시간을 자동으로 할당합니다.
+     * 로그가 생성된 시간(요청 시각).
+     * 저장 시각이 아니라 로그 DTO의 createdAt 을 그대로 저장하므로, 저널 재전송으로 늦게 저장되어도 요청 시각의 파티션/구간에 들어갑니다.
      * @Column(updatable = false): 이 필드는 DB 업데이트 시 포함되지 않도록 설정합니다.
      */
-    @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -53,24 +62,44 @@ public class ApiLogEntity {
      */
     private String apiEndpoint;
 
+    /**
+     * 요청이 매칭된 엔드포인트 템플릿 (e.g., "/api/proxy/employees/{employeeId}").
+     */
+    private String endpointTemplate;
+
     /**
      * 요청에 사용된 HTTP 메소드 (e.g., "GET", "POST").
      */
     private String httpMethod;
 
     /**
-     * API 요청 본문(payload)을 JSON 형태의 문자열로 저장합니다.
-     * @Column(columnDefinition = "json"): 데이터베이스가 JSON 타입을 지원하는 경우,
-     * 해당 컬럼을 JSON 타입으로 생성하여 더 효율적인 저장 및 조회를 가능하게 합니다.
+     * API 요청 본문(payload)을 전송된 그대로의 문자열로 저장합니다.
+     * 기록 정책에 따라 잘린 본문이나 요약 문자열은 올바른 JSON 이 아닐 수 있으므로 TEXT 타입을 사용합니다.
      */
-    @Column(columnDefinition = "json")
+    @Column(columnDefinition = "text")
     private String requestPayload;
 
+    /**
+     * 요청 본문이 api_log_payloads 에 저장된 경우 그 해시. 이때 requestPayload 컬럼은 비어 있습니다. (ApiLogPayloadStore)
+     */
+    @Column(name = "request_payload_hash", length = 32)
+    private String requestPayloadHash;
+
     /**
      * HTTP 응답 상태 코드.
      */
     private Integer responseStatus;
 
+    /**
+     * 요청 처리에 걸린 시간(ms).
+     */
+    private Long durationMs;
+
+    /**
+     * 샘플링 가중치. 건수를 셀 때 이 값을 곱하면 샘플링 이전의 실제 요청 수를 추정할 수 있습니다.
+     */
+    private Double sampleWeight;
+
     /**
      * API 응답 본문(payload)을 문자열로 저장합니다.
      * @Column(columnDefinition = "text"): 일반적인 VARCHAR(255)보다 더 긴 텍스트를
@@ -79,6 +108,12 @@ public class ApiLogEntity {
     @Column(columnDefinition = "text")
     private String responsePayload;
 
+    /**
+     * 응답 본문이 api_log_payloads 에 저장된 경우 그 해시. 이때 responsePayload 컬럼은 비어 있습니다.
+     */
+    @Column(name = "response_payload_hash", length = 32)
+    private String responsePayloadHash;
+
     /**
      * 요청을 보낸 클라이언트의 IP 주소.
      */
@@ -86,6 +121,22 @@ public class ApiLogEntity {
 
     /**
      * 해당 요청-응답 사이클을 고유하게 식별하기 위한 추적 ID.
+     * 애플리케이션에서는 32자리 16진수 문자열이고, DB에는 BINARY(16)으로 저장합니다. (TraceIdConverter)
+     * 새로 만드는 추적 ID는 앞 48비트가 생성 시각이므로 인덱스에 거의 끝에서만 추가됩니다.
      */
+    @Convert(converter = TraceIdConverter.class)
+    @Column(name = "trace_id", columnDefinition = "binary(16)")
     private String traceId;
+
+    /**
+     * 이 요청의 span ID. api_spans 의 (trace_id, parent_span_id) 가 이 행을 가리킵니다.
+     */
+    @Column(length = 16)
+    private String spanId;
+
+    /**
+     * 이 요청을 호출한 쪽의 span ID.
+     */
+    @Column(length = 16)
+    private String parentSpanId;
 }
\ No newline at end of file
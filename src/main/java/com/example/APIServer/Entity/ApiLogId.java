@@ -0,0 +1,20 @@
+package com.example.APIServer.Entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * api_logs 의 log_id 를 ApiLogIdGenerator 로 생성하도록 지정하는 어노테이션입니다.
+ * blockSize: DB에서 한 번에 예약하는 ID 개수. 예약 1번(왕복 1번)으로 blockSize 건의 INSERT 에 ID를 붙입니다.
+ */
+@IdGeneratorType(ApiLogIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ApiLogId {
+
+    int blockSize() default ApiLogIdGenerator.DEFAULT_BLOCK_SIZE;
+}
@@ -0,0 +1,32 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 'api_log_id_blocks' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * log_id 구간 예약용 카운터를 저장합니다. (카운터 이름마다 한 행)
+ * 카운터 행은 ApiLogIdAllocator 가 기동 시 만들고 예약은 ApiLogIdGenerator 가 JDBC 로 직접 처리하며,
+ * 이 엔티티는 테이블 정의에 사용됩니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_log_id_blocks")
+public class ApiLogIdBlockEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * 다음에 예약할 구간의 시작 ID
+     */
+    @Column(name = "next_id", nullable = false)
+    private Long nextId;
+}
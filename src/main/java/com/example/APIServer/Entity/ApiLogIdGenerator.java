@@ -0,0 +1,128 @@
+package com.example.APIServer.Entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.jdbc.AbstractReturningWork;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * api_logs 의 log_id 를 DB 왕복 없이 메모리에서 붙이는 Hibernate ID 생성기입니다.
+ *
+ * IDENTITY(AUTO_INCREMENT)는 INSERT 마다 생성된 키를 읽어 와야 하므로 Hibernate 가 INSERT 를 묶어 보낼(batch) 수 없습니다.
+ * 이 생성기는 api_log_id_blocks 테이블의 카운터를 blockSize 만큼 한 번에 올려 [시작, 시작 + blockSize) 구간을 예약하고,
+ * 그 구간이 소진될 때까지 메모리에서 ID를 붙입니다. 카운터 증가는 원자적이므로 서버가 여러 대여도 구간이 겹치지 않습니다.
+ * (서버별로 구간을 나눠 쓰므로 ID 순서는 서버 간 저장 순서와 정확히 일치하지 않으며, 재기동 시 남은 구간은 버려집니다)
+ *
+ * 예약은 현재 트랜잭션과 분리된 연결에서 바로 커밋하므로, 카운터 행의 잠금을 로그 저장 트랜잭션 동안 잡고 있지 않습니다.
+ * JdbcApiLogSink 는 같은 카운터를 ApiLogIdAllocator 로 예약하여 JPA 경로와 ID가 겹치지 않습니다.
+ */
+public class ApiLogIdGenerator implements IdentifierGenerator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+
+    public static final String COUNTER_NAME = "api_logs";
+    private static final String RESERVE_SQL = "UPDATE api_log_id_blocks SET next_id = LAST_INSERT_ID(next_id + ?) WHERE name = ?";
+
+    private final Block block;
+
+    public ApiLogIdGenerator(ApiLogId config) {
+        this.block = new Block(config.blockSize());
+    }
+
+    public ApiLogIdGenerator() {
+        this.block = new Block(DEFAULT_BLOCK_SIZE);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return block.nextId(size -> session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+                new AbstractReturningWork<Long>() {
+                    @Override
+                    public Long execute(Connection connection) throws SQLException {
+                        return reserve(connection, size);
+                    }
+                }, true));
+    }
+
+    /**
+     * 카운터를 size 만큼 올리고 예약된 구간의 시작 ID를 반환합니다.
+     * MySQL 의 LAST_INSERT_ID(expr) 는 연결별 값이므로 UPDATE 와 조회 사이에 다른 서버가 끼어들어도 안전합니다.
+     * 테이블은 ApiLogIdBlockEntity 로 만들어지고 카운터 행은 ApiLogIdAllocator 가 기동 시 만듭니다.
+     */
+    public static long reserve(Connection connection, int size) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(RESERVE_SQL)) {
+            update.setInt(1, size);
+            update.setString(2, COUNTER_NAME);
+            if (update.executeUpdate() != 1) {
+                throw new SQLException("api_log_id_blocks 에 '" + COUNTER_NAME + "' 카운터 행이 없습니다.");
+            }
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+            rs.next();
+            return rs.getLong(1) - size;
+        }
+    }
+
+    /**
+     * 구간 예약 방법입니다. 예약한 구간의 시작 ID를 반환합니다.
+     */
+    @FunctionalInterface
+    public interface BlockSource {
+        long reserve(int size);
+    }
+
+    /**
+     * 예약된 구간에서 ID를 차례로 꺼내는 메모리 할당기입니다. 구간이 소진되면 source 로 다음 구간을 예약합니다.
+     * 구간 예약(DB 왕복)을 잠금 안에서 기다리므로 synchronized 대신 ReentrantLock 을 사용합니다. (가상 스레드 고정 방지)
+     */
+    public static final class Block {
+
+        private final int size;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+
+        public Block(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("ID 예약 크기는 1 이상이어야 합니다: " + size);
+            }
+            this.size = size;
+        }
+
+        public long nextId(BlockSource source) {
+            lock.lock();
+            try {
+                if (next >= limit) {
+                    next = source.reserve(size);
+                    limit = next + size;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * count 개의 ID를 한 번에 꺼냅니다. 필요한 만큼 구간을 더 예약합니다.
+         */
+        public long[] nextIds(int count, BlockSource source) {
+            lock.lock();
+            try {
+                long[] ids = new long[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = nextId(source);
+                }
+                return ids;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 'api_log_payload_dictionaries' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * 본문 압축에 사용하는 사전(preset dictionary)을 저장합니다. 가장 최근에 만든 사전으로 압축하며,
+ * 이전 사전으로 압축된 본문을 읽어야 하므로 사전은 지우지 않습니다.
+ * 쓰기와 조회는 ApiLogPayloadStore 가 JDBC 로 직접 처리하며, 이 엔티티는 테이블 정의에 사용됩니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_log_payload_dictionaries")
+public class ApiLogPayloadDictionaryEntity {
+
+    /**
+     * 사전의 Adler-32 값 (zlib 헤더에 기록되는 사전 ID)
+     */
+    @Id
+    @Column(name = "dictionary_id")
+    private Integer dictionaryId;
+
+    @Column(columnDefinition = "blob", nullable = false)
+    private byte[] content;
+
+    private Integer sizeBytes;
+
+    /**
+     * 사전을 만들 때 사용한 표본 본문 수
+     */
+    private Integer sampleCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,63 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 'api_log_payloads' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * 요청/응답 본문을 내용의 해시(payload_hash)를 키로 한 번만 저장하고, api_logs 행은 해시만 참조합니다.
+ *
+ * 대시보드 폴링처럼 같은 본문이 반복되는 로그는 본문 한 벌을 공유하며,
+ * last_seen_at 은 하루에 한 번 이상 갱신되어 참조가 끊긴 오래된 본문을 정리하는 기준이 됩니다.
+ * 본문은 apilog.payload.compression 에 따라 content(텍스트) 또는 content_compressed(Deflate 압축) 중 한 곳에 저장되며,
+ * 압축된 본문은 로그 상세 조회나 내보내기처럼 본문이 필요할 때만 풀어서 씁니다.
+ * 쓰기와 조회는 ApiLogPayloadStore 가 JDBC 로 직접 처리하며, 이 엔티티는 테이블 정의에 사용됩니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_log_payloads", indexes = {
+        @Index(name = "idx_api_log_payloads_last_seen", columnList = "last_seen_at")
+})
+public class ApiLogPayloadEntity {
+
+    /**
+     * 본문(UTF-8)의 128비트 MurmurHash3 값 (16진수 32자)
+     */
+    @Id
+    @Column(name = "payload_hash", length = 32)
+    private String payloadHash;
+
+    /**
+     * 압축하지 않은 본문 (compression=none 이거나 압축 전환 전에 저장된 행)
+     */
+    @Column(columnDefinition = "mediumtext")
+    private String content;
+
+    /**
+     * Deflate(zlib) 로 압축된 본문. 압축 사전을 사용했으면 헤더에 사전 ID가 들어 있습니다. (PayloadCodec)
+     */
+    @Column(name = "content_compressed", columnDefinition = "mediumblob")
+    private byte[] contentCompressed;
+
+    /**
+     * 본문의 UTF-8 바이트 수
+     */
+    private Integer sizeBytes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 이 본문을 참조하는 로그가 마지막으로 저장된 날짜 (하루 단위로 갱신)
+     */
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
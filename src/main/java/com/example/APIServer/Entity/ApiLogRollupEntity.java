@@ -0,0 +1,63 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 'api_log_rollups' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * (서비스, 엔드포인트 템플릿, 상태 코드 계열, 1분 구간)별 요청 수와 응답 시간 히스토그램을 저장합니다.
+ *
+ * 같은 키의 행이 여러 개 있을 수 있으며(서버 여러 대, 재기동 등), 조회 시 모두 합산합니다.
+ * 통계 API는 원본 api_logs 를 읽지 않고 이 테이블만 사용합니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_log_rollups", indexes = {
+        @Index(name = "idx_api_log_rollups_bucket", columnList = "bucket_start, service_name, endpoint_template")
+})
+public class ApiLogRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    /**
+     * 집계 구간의 시작 시각 (분 단위로 절삭)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private String serviceName;
+
+    private String endpointTemplate;
+
+    /**
+     * 응답 상태 코드 계열 (2 = 2xx, 4 = 4xx, 5 = 5xx ...)
+     */
+    private Integer statusClass;
+
+    private Long requestCount;
+
+    /**
+     * 5xx 응답 수
+     */
+    private Long errorCount;
+
+    private Long durationSumMs;
+
+    private Long durationMaxMs;
+
+    /**
+     * 응답 시간 분포 (LatencyHistogram.toBytes() 로 인코딩된 값)
+     */
+    @Column(columnDefinition = "blob")
+    private byte[] histogram;
+}
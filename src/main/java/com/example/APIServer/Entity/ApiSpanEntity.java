@@ -0,0 +1,64 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 'api_spans' 테이블과 매핑되는 JPA 엔티티 클래스입니다.
+ * 요청 처리 중 업스트림 서버로 보낸 호출 한 건을 저장하며,
+ * (trace_id, parent_span_id) 로 그 호출을 만든 api_logs 행(trace_id, span_id)과 연결됩니다.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "api_spans", indexes = {
+        @Index(name = "idx_api_spans_trace", columnList = "trace_id, started_at")
+})
+public class ApiSpanEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 추적 ID. DB에는 BINARY(16)으로 저장합니다. (TraceIdConverter)
+     */
+    @Convert(converter = TraceIdConverter.class)
+    @Column(name = "trace_id", columnDefinition = "binary(16)", nullable = false)
+    private String traceId;
+
+    @Column(length = 16)
+    private String spanId;
+
+    /**
+     * 이 호출을 만든 요청(api_logs 행)의 span ID
+     */
+    @Column(length = 16)
+    private String parentSpanId;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    private String upstreamHost;
+
+    private String httpMethod;
+
+    private String urlPath;
+
+    private Integer responseStatus;
+
+    private Long requestBytes;
+
+    private Long responseBytes;
+
+    private Long durationMs;
+
+    private String error;
+}
@@ -0,0 +1,51 @@
+package com.example.APIServer.Entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.HexFormat;
+
+/**
+ * 추적 ID(32자리 16진수 문자열)를 DB의 BINARY(16) 컬럼과 변환하는 JPA 컨버터입니다.
+ *
+ * 애플리케이션과 API 에서는 traceparent 와 같은 32자리 소문자 16진수 문자열로 다루고, 저장할 때만 16바이트로 줄입니다.
+ * 조건 검색(traceId = ?, IN)의 파라미터에도 같은 변환이 적용되므로, UUID 형식(대시 포함)이나 대문자로 검색해도 일치합니다.
+ * 16진수 32자리로 해석할 수 없는 값은 null 로 저장합니다.
+ */
+@Converter
+public class TraceIdConverter implements AttributeConverter<String, byte[]> {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String traceId) {
+        return toBytes(traceId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return toHex(bytes);
+    }
+
+    /**
+     * 32자리 16진수(또는 대시가 들어간 UUID 형식) 문자열을 16바이트로 변환합니다. 형식이 틀리면 null
+     */
+    public static byte[] toBytes(String traceId) {
+        if (traceId == null) {
+            return null;
+        }
+        String value = traceId.trim().replace("-", "");
+        if (value.length() != 32) {
+            return null;
+        }
+        try {
+            return HEX.parseHex(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        return bytes != null ? HEX.formatHex(bytes) : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Entity.ApiLogAnomalyEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApiLogAnomalyRepository extends JpaRepository<ApiLogAnomalyEntity, Long> {
+
+    // from 이후의 이상 징후를 최신순으로 조회합니다. serviceName 이 null이면 해당 조건은 무시합니다. (읽기 연결)
+    @Transactional(readOnly = true)
+    @Query("SELECT a FROM ApiLogAnomalyEntity a "
+            + "WHERE a.detectedAt >= :from "
+            + "AND (:serviceName IS NULL OR a.serviceName = :serviceName) "
+            + "ORDER BY a.detectedAt DESC, a.anomalyId DESC")
+    List<ApiLogAnomalyEntity> findRecent(@Param("from") LocalDateTime from,
+                                         @Param("serviceName") String serviceName,
+                                         Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Dto.ApiLogExportRowDto;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data가 기본 제공하지 않는 로그 조회 기능을 정의하는 커스텀 리포지토리 인터페이스입니다.
+ * 구현체는 ApiLogQueryRepositoryImpl이며, ApiLogRepository가 이 인터페이스를 함께 상속합니다.
+ */
+public interface ApiLogQueryRepository {
+
+    /**
+     * 조건에 맞는 로그를 (createdAt, logId) 내림차순으로 최대 limit 건 조회합니다.
+     * 본문(payload) 컬럼은 SELECT 하지 않고 목록용 필드만 가져옵니다.
+     * @param spec  검색 조건
+     * @param limit 최대 조회 건수
+     * @return 경량 로그 목록
+     */
+    List<ApiLogSummaryDto> findSummaries(Specification<ApiLogEntity> spec, int limit);
+
+    /**
+     * 조건에 맞는 로그를 (createdAt, logId) 오름차순으로 한 행씩 읽는 스트림을 엽니다.
+     * 결과를 한 번에 메모리에 올리지 않고, 전진 전용(forward-only) 커서로 fetchSize 행씩 DB에서 가져옵니다.
+     * 트랜잭션 안에서 호출해야 하며, 사용이 끝나면 반드시 스트림을 닫아야 합니다.
+     * @param spec      검색 조건
+     * @param fetchSize 한 번에 DB에서 가져오는 행 수
+     * @return 본문을 포함한 내보내기용 행 스트림
+     */
+    Stream<ApiLogExportRowDto> streamForExport(Specification<ApiLogEntity> spec, int fetchSize);
+}
@@ -0,0 +1,96 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Dto.ApiLogExportRowDto;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ApiLogQueryRepository의 구현체입니다.
+ * Specification으로 만든 조건을 그대로 사용하면서, SELECT 절은 목록용 컬럼만 지정(projection)합니다.
+ */
+public class ApiLogQueryRepositoryImpl implements ApiLogQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApiLogSummaryDto> findSummaries(Specification<ApiLogEntity> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApiLogSummaryDto> query = cb.createQuery(ApiLogSummaryDto.class);
+        Root<ApiLogEntity> root = query.from(ApiLogEntity.class);
+
+        // 생성자 파라미터 순서는 ApiLogSummaryDto의 필드 선언 순서와 같아야 합니다.
+        query.select(cb.construct(ApiLogSummaryDto.class,
+                root.get("logId"),
+                root.get("createdAt"),
+                root.get("serviceName"),
+                root.get("apiEndpoint"),
+                root.get("httpMethod"),
+                root.get("responseStatus"),
+                root.get("durationMs"),
+                root.get("sampleWeight"),
+                root.get("clientIp"),
+                root.get("traceId"),
+                root.get("spanId"),
+                root.get("parentSpanId")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("logId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<ApiLogExportRowDto> streamForExport(Specification<ApiLogEntity> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApiLogExportRowDto> query = cb.createQuery(ApiLogExportRowDto.class);
+        Root<ApiLogEntity> root = query.from(ApiLogEntity.class);
+
+        // 생성자 파라미터 순서는 ApiLogExportRowDto의 필드 선언 순서와 같아야 합니다.
+        query.select(cb.construct(ApiLogExportRowDto.class,
+                root.get("logId"),
+                root.get("createdAt"),
+                root.get("serviceName"),
+                root.get("apiEndpoint"),
+                root.get("endpointTemplate"),
+                root.get("httpMethod"),
+                root.get("responseStatus"),
+                root.get("durationMs"),
+                root.get("sampleWeight"),
+                root.get("clientIp"),
+                root.get("traceId"),
+                root.get("requestPayload"),
+                root.get("responsePayload"),
+                root.get("requestPayloadHash"),
+                root.get("responsePayloadHash")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("logId")));
+
+        // getResultStream()은 Hibernate의 FORWARD_ONLY ScrollableResults 위에서 동작합니다.
+        // MySQL 드라이버는 URL에 useCursorFetch=true 가 있을 때 fetchSize 만큼씩 서버 커서에서 행을 가져옵니다.
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -9,7 +9,8 @@ import org.springframework.data.domain.Sort;
 import java.util.List;
 
 @Repository
-public interface ApiLogRepository extends JpaRepository<ApiLogEntity, Long>, JpaSpecificationExecutor<ApiLogEntity> {
+public interface ApiLogRepository extends JpaRepository<ApiLogEntity, Long>, JpaSpecificationExecutor<ApiLogEntity>,
+        ApiLogQueryRepository {
 
     // httpMethod를 기준으로 검색하고, Sort 객체로 정렬도 할 수 있는 메소드
     List<ApiLogEntity> findByHttpMethod(String method, Sort sort);
@@ -0,0 +1,24 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Entity.ApiLogRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApiLogRollupRepository extends JpaRepository<ApiLogRollupEntity, Long> {
+
+    // 시간 구간 [from, to) 의 롤업 행을 조회합니다. serviceName, endpointTemplate 이 null이면 해당 조건은 무시합니다.
+    @Query("SELECT r FROM ApiLogRollupEntity r "
+            + "WHERE r.bucketStart >= :from AND r.bucketStart < :to "
+            + "AND (:serviceName IS NULL OR r.serviceName = :serviceName) "
+            + "AND (:endpointTemplate IS NULL OR r.endpointTemplate = :endpointTemplate)")
+    List<ApiLogRollupEntity> findInRange(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("serviceName") String serviceName,
+                                         @Param("endpointTemplate") String endpointTemplate);
+}
@@ -0,0 +1,134 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Dto.ApiLogIndexQuery;
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import com.example.APIServer.Entity.ApiLogEntity;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ApiLogRepository(JpaSpecificationExecutor)에서 사용하는 검색 조건(Specification) 모음입니다.
+ * 각 조건은 api_logs 테이블의 복합 인덱스 (조건 컬럼, created_at, log_id) 를 탈 수 있도록 작성되어 있습니다.
+ */
+public final class ApiLogSpecifications {
+
+    private ApiLogSpecifications() {
+    }
+
+    /**
+     * 검색 조건 DTO에서 값이 있는 항목만 골라 AND로 결합한 조건을 만듭니다.
+     * @param condition 검색 조건
+     * @return 결합된 Specification (조건이 없으면 전체 조회)
+     */
+    public static Specification<ApiLogEntity> matches(ApiLogSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            String httpMethod = condition.getHttpMethod();
+            if (httpMethod != null && !httpMethod.isEmpty() && !"ALL".equalsIgnoreCase(httpMethod)) {
+                predicates.add(cb.equal(root.get("httpMethod"), httpMethod));
+            }
+            if (hasText(condition.getServiceName())) {
+                predicates.add(cb.equal(root.get("serviceName"), condition.getServiceName()));
+            }
+            if (hasText(condition.getEndpointPrefix())) {
+                // 접두사 검색은 LIKE 'prefix%' 형태가 되어야 인덱스 범위 검색이 가능합니다.
+                predicates.add(cb.like(root.get("apiEndpoint"), escapeLike(condition.getEndpointPrefix()) + "%", '\\'));
+            }
+            if (condition.getMinStatus() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("responseStatus"), condition.getMinStatus()));
+            }
+            if (condition.getMaxStatus() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("responseStatus"), condition.getMaxStatus()));
+            }
+            if (hasText(condition.getTraceId())) {
+                predicates.add(cb.equal(root.get("traceId"), condition.getTraceId()));
+            }
+            if (hasText(condition.getClientIp())) {
+                predicates.add(cb.equal(root.get("clientIp"), condition.getClientIp()));
+            }
+            if (hasText(condition.getEndpointTemplate())) {
+                predicates.add(cb.equal(root.get("endpointTemplate"), condition.getEndpointTemplate()));
+            }
+            if (condition.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), condition.getFrom()));
+            }
+            if (condition.getTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), condition.getTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 최근 로그 검색 조건을 DB 조건으로 변환합니다. (색인 보관 구간 밖을 조회할 때 사용)
+     * 항목마다 나열된 값은 IN 으로, 항목끼리는 AND 로 결합합니다. 본문 필드 조건과 제외 조건은 포함하지 않습니다.
+     * @param query 최근 로그 검색 조건
+     * @param from  조회 시작 시각 (포함)
+     * @param to    조회 종료 시각 (미포함, null 이면 제한 없음)
+     */
+    public static Specification<ApiLogEntity> matchesAny(ApiLogIndexQuery query, LocalDateTime from, LocalDateTime to) {
+        return (root, criteriaQuery, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addIn(predicates, root.get("traceId"), query.getTraceId());
+            addIn(predicates, root.get("clientIp"), query.getClientIp());
+            addIn(predicates, root.get("endpointTemplate"), query.getEndpointTemplate());
+            addIn(predicates, root.get("responseStatus"), query.getStatus());
+            addIn(predicates, root.get("serviceName"), query.getServiceName());
+            addIn(predicates, root.get("httpMethod"), query.getHttpMethod());
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), to));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 지정한 컬럼 값이 value 가 아닌(또는 NULL 인) 로그만 선택합니다.
+     * @param attribute 엔티티 필드 이름 (e.g., "clientIp")
+     * @param value     제외할 값
+     */
+    public static Specification<ApiLogEntity> notEqual(String attribute, Object value) {
+        return (root, query, cb) -> cb.or(cb.isNull(root.get(attribute)), cb.notEqual(root.get(attribute), value));
+    }
+
+    private static void addIn(List<Predicate> predicates, Path<Object> path, Collection<?> values) {
+        if (values != null && !values.isEmpty()) {
+            predicates.add(path.in(values));
+        }
+    }
+
+    /**
+     * (createdAt, logId) 기준 내림차순 정렬에서 커서 위치보다 뒤(더 오래된)에 있는 로그만 선택합니다.
+     * OFFSET 방식과 달리 페이지가 뒤로 갈수록 느려지지 않습니다.
+     * created_at 상한을 별도 조건으로 한 번 더 걸어 두어, 인덱스 범위 검색과 파티션 pruning 이 적용되도록 합니다.
+     * @param createdAt 이전 페이지 마지막 로그의 생성 시각
+     * @param logId     이전 페이지 마지막 로그의 ID
+     */
+    public static Specification<ApiLogEntity> olderThan(LocalDateTime createdAt, Long logId) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), createdAt),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), createdAt),
+                                cb.lessThan(root.get("logId"), logId))));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
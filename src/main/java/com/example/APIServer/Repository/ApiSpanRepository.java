@@ -0,0 +1,14 @@
+package com.example.APIServer.Repository;
+
+import com.example.APIServer.Entity.ApiSpanEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApiSpanRepository extends JpaRepository<ApiSpanEntity, Long> {
+
+    // 추적 ID에 속한 업스트림 호출을 시작 시각 순으로 조회합니다.
+    List<ApiSpanEntity> findByTraceIdOrderByStartedAtAsc(String traceId);
+}
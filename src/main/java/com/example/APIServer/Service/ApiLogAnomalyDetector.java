@@ -0,0 +1,284 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogAnomalyBaselineDto;
+import com.example.APIServer.Dto.ApiLogAnomalyDto;
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Entity.ApiLogAnomalyEntity;
+import com.example.APIServer.Repository.ApiLogAnomalyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (업스트림 서비스, 엔드포인트 템플릿)별로 응답 시간과 오류율, 요청 수의 평소 값을 학습하고
+ * 크게 벗어난 구간을 이상 징후(응답 시간 급증, 오류율 급증, 요청 급감)로 기록하는 서비스 클래스입니다.
+ *
+ * 요청 스레드는 record() 에서 현재 구간 칸의 LongAdder 와 LatencyHistogram 버킷 하나만 증가시키므로,
+ * 요청마다 드는 비용이 일정하고 락을 잡지 않습니다. (새 엔드포인트가 처음 들어올 때만 칸을 만듭니다.)
+ * window-ms 마다 평가 스레드가 구간 칸을 새 칸으로 바꾸고, 지난 구간의 p95/오류율/요청 수를
+ * EWMA 평균과 표준편차로 학습한 평소 값과 비교합니다. 판정한 이상 징후는 api_log_anomalies 에 저장하고
+ * ApiLogAnomalyStreamer 로 실시간 구독자에게 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogAnomalyDetector {
+
+    private final ApiLogAnomalyRepository anomalyRepository;
+    private final ApiLogAnomalyStreamer anomalyStreamer;
+
+    @Value("${apilog.anomaly.enabled:true}")
+    private boolean enabled;
+
+    @Value("${apilog.anomaly.window-ms:10000}")
+    private long windowMs;
+
+    @Value("${apilog.anomaly.ewma-alpha:0.05}")
+    private double alpha;
+
+    @Value("${apilog.anomaly.warmup-windows:30}")
+    private int warmupWindows;
+
+    @Value("${apilog.anomaly.min-requests:20}")
+    private long minRequests;
+
+    @Value("${apilog.anomaly.sigma:4.0}")
+    private double sigma;
+
+    @Value("${apilog.anomaly.latency-factor:2.0}")
+    private double latencyFactor;
+
+    @Value("${apilog.anomaly.latency-min-delta-ms:100}")
+    private long latencyMinDeltaMs;
+
+    @Value("${apilog.anomaly.error-rate-min-delta:0.1}")
+    private double errorRateMinDelta;
+
+    @Value("${apilog.anomaly.traffic-drop-ratio:0.2}")
+    private double trafficDropRatio;
+
+    @Value("${apilog.anomaly.traffic-min-baseline:20}")
+    private double trafficMinBaseline;
+
+    @Value("${apilog.anomaly.cooldown-ms:300000}")
+    private long cooldownMs;
+
+    @Value("${apilog.anomaly.max-series:5000}")
+    private int maxSeries;
+
+    private final ConcurrentHashMap<SeriesKey, Series> series = new ConcurrentHashMap<>();
+
+    private record SeriesKey(String serviceName, String endpointTemplate) {
+    }
+
+    /**
+     * 평가 구간 하나의 누적값입니다. 모든 필드가 락 없이 동시에 갱신됩니다.
+     */
+    private static final class Window {
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram histogram = new LatencyHistogram();
+    }
+
+    /**
+     * (서비스, 엔드포인트 템플릿) 하나의 현재 구간과 평소 값입니다. 평소 값은 평가 스레드만 갱신합니다.
+     */
+    private static final class Series {
+        final SeriesKey key;
+        final AtomicReference<Window> current = new AtomicReference<>(new Window());
+        final Ewma traffic = new Ewma();
+        final Ewma p95 = new Ewma();
+        final Ewma errorRate = new Ewma();
+        final long[] lastAlertAt = new long[ApiLogAnomalyEntity.Kind.values().length];
+        volatile long windows;
+
+        Series(SeriesKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 지수 가중 이동 평균과 분산입니다. 새 값이 alpha 만큼의 가중치로 반영됩니다.
+     */
+    static final class Ewma {
+        private volatile double mean;
+        private volatile double variance;
+        private volatile long samples;
+
+        void update(double value, double alpha) {
+            if (samples++ == 0) {
+                mean = value;
+                return;
+            }
+            double diff = value - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+        }
+
+        double mean() {
+            return mean;
+        }
+
+        double stddev() {
+            return Math.sqrt(variance);
+        }
+
+        long samples() {
+            return samples;
+        }
+    }
+
+    /**
+     * 요청 한 건을 현재 구간에 더합니다. 요청 스레드에서 호출되며 잠금 없이 바로 반환합니다.
+     * @param dto 응답 상태, 처리 시간, 엔드포인트 템플릿이 채워진 로그 DTO
+     */
+    public void record(ApiLogDto dto) {
+        if (!enabled) {
+            return;
+        }
+        SeriesKey key = new SeriesKey(dto.getServiceName(),
+                dto.getEndpointTemplate() != null ? dto.getEndpointTemplate() : dto.getApiEndpoint());
+        Series target = series.get(key);
+        if (target == null) {
+            if (series.size() >= maxSeries) {
+                return; // 템플릿이 없는 경로가 무한히 늘어나는 경우를 막습니다.
+            }
+            target = series.computeIfAbsent(key, Series::new);
+        }
+        Window window = target.current.get();
+        window.count.increment();
+        if (dto.getResponseStatus() != null && dto.getResponseStatus() >= 500) {
+            window.errors.increment();
+        }
+        window.histogram.record(dto.getDurationMs() != null ? dto.getDurationMs() : 0L);
+    }
+
+    /**
+     * 지난 구간을 평가합니다. (기본값: 10초마다)
+     * 구간을 바꾸는 순간 이전 구간 칸을 잡고 있던 요청 몇 건은 어느 구간에도 반영되지 않을 수 있습니다.
+     */
+    @Scheduled(fixedRateString = "${apilog.anomaly.window-ms:10000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<ApiLogAnomalyEntity> anomalies = new ArrayList<>();
+        for (Series target : series.values()) {
+            evaluate(target, target.current.getAndSet(new Window()), now, anomalies);
+        }
+        if (anomalies.isEmpty()) {
+            return;
+        }
+        for (ApiLogAnomalyEntity anomaly : anomalies) {
+            log.warn("API 이상 징후 감지: {} {} {} (관측 {}, 평소 {}, 경계 {}, 구간 요청 {}건)",
+                    anomaly.getKind(), anomaly.getServiceName(), anomaly.getEndpointTemplate(),
+                    round(anomaly.getObservedValue()), round(anomaly.getBaselineValue()),
+                    round(anomaly.getThresholdValue()), anomaly.getWindowRequests());
+        }
+        try {
+            anomalyRepository.saveAll(anomalies);
+        } catch (Exception e) {
+            log.error("API 이상 징후 저장 실패 ({}건): {}", anomalies.size(), e.getMessage(), e);
+        }
+        anomalyStreamer.publish(anomalies.stream().map(ApiLogAnomalyDto::of).toList());
+    }
+
+    private void evaluate(Series target, Window window, long now, List<ApiLogAnomalyEntity> anomalies) {
+        long count = window.count.sum();
+        long errors = window.errors.sum();
+        boolean warmedUp = target.windows >= warmupWindows;
+
+        if (warmedUp && target.traffic.mean() >= trafficMinBaseline) {
+            double threshold = target.traffic.mean() * trafficDropRatio;
+            if (count < threshold) {
+                alert(target, ApiLogAnomalyEntity.Kind.TRAFFIC_DROP, count, target.traffic.mean(), threshold, count, now, anomalies);
+            }
+        }
+
+        // 요청이 적은 구간의 p95 와 오류율은 흔들림이 커서 판정과 학습에 사용하지 않습니다.
+        if (count >= minRequests) {
+            long p95 = window.histogram.percentile(95);
+            double rate = (double) errors / count;
+            if (warmedUp && target.p95.samples() >= warmupWindows) {
+                double expected = target.p95.mean();
+                double threshold = Math.max(expected + sigma * target.p95.stddev(),
+                        Math.max(expected * latencyFactor, expected + latencyMinDeltaMs));
+                if (p95 > threshold) {
+                    alert(target, ApiLogAnomalyEntity.Kind.LATENCY_SPIKE, p95, expected, threshold, count, now, anomalies);
+                }
+            }
+            if (warmedUp && target.errorRate.samples() >= warmupWindows) {
+                double expected = target.errorRate.mean();
+                double threshold = Math.max(expected + sigma * target.errorRate.stddev(), expected + errorRateMinDelta);
+                if (rate > threshold) {
+                    alert(target, ApiLogAnomalyEntity.Kind.ERROR_RATE_JUMP, rate, expected, threshold, count, now, anomalies);
+                }
+            }
+            target.p95.update(p95, alpha);
+            target.errorRate.update(rate, alpha);
+        }
+        target.traffic.update(count, alpha);
+        target.windows++;
+    }
+
+    /**
+     * 같은 종류의 이상 징후가 cooldown-ms 안에 이미 기록되었으면 다시 기록하지 않습니다.
+     */
+    private void alert(Series target, ApiLogAnomalyEntity.Kind kind, double observed, double baseline, double threshold,
+                       long count, long now, List<ApiLogAnomalyEntity> anomalies) {
+        if (now - target.lastAlertAt[kind.ordinal()] < cooldownMs) {
+            return;
+        }
+        target.lastAlertAt[kind.ordinal()] = now;
+        anomalies.add(ApiLogAnomalyEntity.builder()
+                .detectedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()))
+                .serviceName(target.key.serviceName())
+                .endpointTemplate(target.key.endpointTemplate())
+                .kind(kind)
+                .observedValue(observed)
+                .baselineValue(baseline)
+                .thresholdValue(threshold)
+                .windowRequests(count)
+                .windowMs(windowMs)
+                .build());
+    }
+
+    /**
+     * 엔드포인트별로 지금까지 학습한 평소 값을 조회합니다.
+     */
+    public List<ApiLogAnomalyBaselineDto> getBaselines() {
+        return series.values().stream()
+                .sorted(Comparator.comparing((Series s) -> String.valueOf(s.key.serviceName()))
+                        .thenComparing(s -> String.valueOf(s.key.endpointTemplate())))
+                .map(s -> ApiLogAnomalyBaselineDto.builder()
+                        .serviceName(s.key.serviceName())
+                        .endpointTemplate(s.key.endpointTemplate())
+                        .windows(s.windows)
+                        .warmedUp(s.windows >= warmupWindows)
+                        .requestsPerWindow(s.traffic.mean())
+                        .p95Ms(s.p95.mean())
+                        .p95StddevMs(s.p95.stddev())
+                        .errorRate(s.errorRate.mean())
+                        .errorRateStddev(s.errorRate.stddev())
+                        .build())
+                .toList();
+    }
+
+    private static String round(Double value) {
+        return value != null ? String.format("%.3f", value) : "-";
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogAnomalyDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 새로 감지된 이상 징후를 Server-Sent Events 로 구독자에게 보내는 서비스 클래스입니다. (event: anomaly, id: anomalyId)
+ *
+ * 이상 징후는 드물게 발생하므로 구독자별 커서 없이 감지될 때마다 모든 구독자에게 보냅니다.
+ * 전송은 전용 sender 스레드에서 하므로 느린 구독자가 ApiLogAnomalyDetector 의 평가 주기를 늦추지 않습니다.
+ * 연결이 끊긴 동안의 이상 징후는 GET /api/logs/anomalies 로 조회합니다.
+ */
+@Slf4j
+@Service
+public class ApiLogAnomalyStreamer {
+
+    @Value("${apilog.anomaly.max-subscribers:50}")
+    private int maxSubscribers;
+
+    @Value("${apilog.tail.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void start() {
+        this.sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-log-anomaly-sse");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이상 징후 스트림을 엽니다.
+     * @throws IllegalStateException 구독자 수가 최대치에 이른 경우
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("이상 징후 구독자 수가 최대치(" + maxSubscribers + ")에 도달했습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        return emitter;
+    }
+
+    /**
+     * 이상 징후를 모든 구독자에게 보냅니다. 호출한 스레드는 전송을 기다리지 않습니다.
+     */
+    public void publish(List<ApiLogAnomalyDto> anomalies) {
+        if (anomalies.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    for (ApiLogAnomalyDto anomaly : anomalies) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(anomaly.getAnomalyId()))
+                                .name("anomaly")
+                                .data(anomaly, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    remove(emitter, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 연결이 끊긴 구독자를 찾아내고 프록시의 유휴 연결 종료를 막기 위한 주석 이벤트를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${apilog.tail.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(emitter, e);
+                }
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void remove(SseEmitter emitter, Exception e) {
+        // 클라이언트 연결이 끊겼거나 이미 완료된 emitter 입니다.
+        subscribers.remove(emitter);
+        emitter.completeWithError(e);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogArchiveStatsDto;
+import com.example.APIServer.Dto.ApiLogStatsDto;
+import com.example.APIServer.Dto.ApiLogStatsReportDto;
+import com.example.APIServer.Service.ApiLogColumnarFile.Column;
+import com.example.APIServer.Service.ApiLogColumnarFile.ColumnVector;
+import com.example.APIServer.Service.ApiLogColumnarFile.RowGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아카이브 파일(ApiLogColumnarFile)에서 지연 시간/처리량/오류율 통계를 계산하는 서비스 클래스입니다. DB를 사용하지 않습니다.
+ *
+ * 1. 디렉터리 이름(day=...)으로 조회 구간 밖의 날짜를 제외하고,
+ * 2. footer 의 created_at 최소/최대값으로 파일과 row group 을 건너뛰고,
+ * 3. 서비스/템플릿/메소드 조건 값이 row group 사전에 없으면 그 row group 을 건너뛴 뒤,
+ * 4. 통계에 필요한 열 블록만 읽습니다. (본문, traceId 같은 큰 열은 읽지 않습니다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogArchiveQueryService {
+
+    private final ApiLogArchiver apiLogArchiver;
+
+    /**
+     * 조회 구간 동안의 전체 및 (서비스, 엔드포인트 템플릿)별 통계를 계산합니다.
+     * 샘플링된 로그는 가중치(sampleWeight)를 곱해 건수를 추정합니다. 백분위수는 기록된 로그 기준입니다.
+     * @param from             조회 시작 시각 (포함)
+     * @param to               조회 종료 시각 (미포함)
+     * @param serviceName      서비스 이름 필터 (선택)
+     * @param endpointTemplate 엔드포인트 템플릿 필터 (선택)
+     * @param httpMethod       HTTP 메소드 필터 (선택)
+     */
+    public ApiLogArchiveStatsDto getStats(LocalDateTime from, LocalDateTime to, String serviceName,
+                                          String endpointTemplate, String httpMethod) throws IOException {
+        long started = System.currentTimeMillis();
+        long fromMicros = ApiLogColumnarFile.toMicros(from);
+        long toMicros = ApiLogColumnarFile.toMicros(to) - 1;
+
+        Accumulator total = new Accumulator(null, null);
+        Map<String, Accumulator> byEndpoint = new HashMap<>();
+        int filesScanned = 0, filesSkipped = 0, rowGroupsScanned = 0, rowGroupsSkipped = 0;
+        long rowsScanned = 0, bytesRead = 0;
+
+        for (Path file : apiLogArchiver.listFiles(from.toLocalDate(), to.minusNanos(1).toLocalDate())) {
+            try (ApiLogColumnarFile.Reader reader = ApiLogColumnarFile.Reader.open(file)) {
+                Long min = reader.min(Column.CREATED_AT);
+                Long max = reader.max(Column.CREATED_AT);
+                if (min == null || max < fromMicros || min > toMicros) {
+                    filesSkipped++;
+                    bytesRead += reader.getBytesRead();
+                    continue;
+                }
+                filesScanned++;
+                for (RowGroup rowGroup : reader.getRowGroups()) {
+                    if (!rowGroup.mayOverlap(Column.CREATED_AT, fromMicros, toMicros)) {
+                        rowGroupsSkipped++;
+                        continue;
+                    }
+                    // 사전 열을 먼저 읽어, 조건 값이 사전에 없으면 나머지 열을 읽지 않고 건너뜁니다.
+                    ColumnVector services = reader.read(rowGroup, Column.SERVICE_NAME);
+                    ColumnVector templates = reader.read(rowGroup, Column.ENDPOINT_TEMPLATE);
+                    ColumnVector methods = httpMethod != null ? reader.read(rowGroup, Column.HTTP_METHOD) : null;
+                    int serviceCode = serviceName != null ? services.codeOf(serviceName) : -1;
+                    int templateCode = endpointTemplate != null ? templates.codeOf(endpointTemplate) : -1;
+                    int methodCode = methods != null ? methods.codeOf(httpMethod) : -1;
+                    if ((serviceName != null && serviceCode < 0) || (endpointTemplate != null && templateCode < 0)
+                            || (methods != null && methodCode < 0)) {
+                        rowGroupsSkipped++;
+                        continue;
+                    }
+                    rowGroupsScanned++;
+
+                    ColumnVector createdAt = reader.read(rowGroup, Column.CREATED_AT);
+                    ColumnVector statuses = reader.read(rowGroup, Column.RESPONSE_STATUS);
+                    ColumnVector durations = reader.read(rowGroup, Column.DURATION_MS);
+                    ColumnVector weights = reader.read(rowGroup, Column.SAMPLE_WEIGHT);
+                    ColumnVector uris = null; // 템플릿이 없는 행이 있을 때만 읽습니다.
+
+                    for (int i = 0; i < rowGroup.getRowCount(); i++) {
+                        rowsScanned++;
+                        if (createdAt.isNull(i) || createdAt.getLong(i) < fromMicros || createdAt.getLong(i) > toMicros) {
+                            continue;
+                        }
+                        if ((serviceName != null && services.getCode(i) != serviceCode)
+                                || (endpointTemplate != null && templates.getCode(i) != templateCode)
+                                || (methods != null && methods.getCode(i) != methodCode)) {
+                            continue;
+                        }
+                        if (templates.isNull(i) && uris == null) {
+                            uris = reader.read(rowGroup, Column.API_ENDPOINT);
+                        }
+                        // 템플릿이 없는 예전 로그는 실제 URI 로 묶습니다.
+                        String template = templates.isNull(i) ? uris.getString(i) : templates.getString(i);
+                        String service = services.getString(i);
+                        double weight = weights.isNull(i) ? 1.0 : weights.getDouble(i);
+                        Integer status = statuses.isNull(i) ? null : (int) statuses.getLong(i);
+                        Long duration = durations.isNull(i) ? null : durations.getLong(i);
+
+                        total.add(weight, status, duration);
+                        byEndpoint.computeIfAbsent(service + " " + template, k -> new Accumulator(service, template))
+                                .add(weight, status, duration);
+                    }
+                }
+                bytesRead += reader.getBytesRead();
+            }
+        }
+
+        double seconds = Math.max(1, Duration.between(from, to).toSeconds());
+        List<ApiLogStatsDto> endpoints = byEndpoint.values().stream()
+                .sorted(Comparator.comparingDouble((Accumulator a) -> a.count).reversed())
+                .map(a -> a.toDto(seconds))
+                .toList();
+        ApiLogStatsReportDto report = new ApiLogStatsReportDto(from, to, total.toDto(seconds), endpoints);
+        long tookMs = System.currentTimeMillis() - started;
+        log.debug("아카이브 통계: 파일 {}개 조회/{}개 제외, row group {}개 조회/{}개 제외, {}bytes, {}ms",
+                filesScanned, filesSkipped, rowGroupsScanned, rowGroupsSkipped, bytesRead, tookMs);
+        return new ApiLogArchiveStatsDto(report, filesScanned, filesSkipped, rowGroupsScanned, rowGroupsSkipped,
+                rowsScanned, bytesRead, tookMs);
+    }
+
+    /**
+     * 요청 로그를 합산하는 조회용 누적기입니다. (ApiLogRollupService 의 누적기와 같은 지표)
+     */
+    private static final class Accumulator {
+        private final String serviceName;
+        private final String endpointTemplate;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private double count;
+        private double errors;
+        private double durationSum;
+        private long durationMax;
+
+        Accumulator(String serviceName, String endpointTemplate) {
+            this.serviceName = serviceName;
+            this.endpointTemplate = endpointTemplate;
+        }
+
+        void add(double weight, Integer status, Long durationMs) {
+            count += weight;
+            if (status != null && status >= 500) {
+                errors += weight;
+            }
+            if (durationMs != null) {
+                durationSum += weight * durationMs;
+                durationMax = Math.max(durationMax, durationMs);
+                histogram.record(durationMs);
+            }
+        }
+
+        ApiLogStatsDto toDto(double seconds) {
+            long requestCount = Math.round(count);
+            return ApiLogStatsDto.builder()
+                    .serviceName(serviceName)
+                    .endpointTemplate(endpointTemplate)
+                    .requestCount(requestCount)
+                    .errorCount(Math.round(errors))
+                    .errorRate(count == 0 ? 0 : errors / count)
+                    .throughputPerSecond(count / seconds)
+                    .avgMs(count == 0 ? 0 : durationSum / count)
+                    .p50Ms(Math.min(histogram.percentile(50), durationMax))
+                    .p95Ms(Math.min(histogram.percentile(95), durationMax))
+                    .p99Ms(Math.min(histogram.percentile(99), durationMax))
+                    .maxMs(durationMax)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogArchiveFileDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 보관 기간(after-days)이 지난 api_logs 행을 날짜별 열 지향 압축 파일(ApiLogColumnarFile)로 옮기는 서비스 클래스입니다.
+ *
+ * 파일은 {dir}/day=yyyy-MM-dd/part-NNN.alc 로 저장되며, 하루치 행을 전진 전용 커서로 읽어 바로 파일에 쓰므로
+ * 메모리에는 행 대신 log_id(행당 8바이트)만 남습니다. 파일 쓰기가 끝나면(임시 파일 → 이름 변경)
+ * 파일에 보존된 log_id 만 골라 DB에서 나눠 삭제하므로, 커서가 지나간 뒤 커밋된 행은 삭제되지 않습니다.
+ *
+ * 같은 날짜를 다시 처리하면 이미 아카이브된 log_id 는 건너뛰고 새 part 파일에 나머지 행만 쓰므로,
+ * 파일 쓰기 후 삭제 전에 중단되었거나 늦게 들어온 행이 있어도 중복 없이 이어서 처리됩니다.
+ *
+ * apilog.archive.enabled=false(기본값)이면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogArchiver {
+
+    static final String FILE_EXTENSION = ".alc";
+    private static final String DAY_PREFIX = "day=";
+    // 해시로 저장된 본문(api_log_payloads)은 조인하여(압축된 본문은 풀어서) 파일에는 항상 본문을 그대로 씁니다.
+    private static final String SELECT_DAY = "SELECT l.log_id, l.created_at, l.service_name, l.api_endpoint, l.endpoint_template, "
+            + "l.http_method, COALESCE(l.request_payload, rq.content) AS request_payload, rq.content_compressed AS request_compressed, "
+            + "rq.size_bytes AS request_size, l.response_status, l.duration_ms, l.sample_weight, "
+            + "COALESCE(l.response_payload, rs.content) AS response_payload, rs.content_compressed AS response_compressed, "
+            + "rs.size_bytes AS response_size, l.client_ip, LOWER(HEX(l.trace_id)) AS trace_id, l.span_id, "
+            + "l.parent_span_id FROM api_logs l "
+            + "LEFT JOIN api_log_payloads rq ON rq.payload_hash = l.request_payload_hash "
+            + "LEFT JOIN api_log_payloads rs ON rs.payload_hash = l.response_payload_hash "
+            + "WHERE l.created_at >= ? AND l.created_at < ? ORDER BY l.created_at, l.log_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApiLogPayloadStore apiLogPayloadStore;
+
+    @Value("${apilog.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${apilog.archive.dir:./archive/api-logs}")
+    private String archiveDir;
+
+    @Value("${apilog.archive.after-days:7}")
+    private int afterDays;
+
+    @Value("${apilog.archive.row-group-size:16384}")
+    private int rowGroupSize;
+
+    @Value("${apilog.archive.compression-level:6}")
+    private int compressionLevel;
+
+    @Value("${apilog.archive.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${apilog.archive.delete-batch-size:5000}")
+    private int deleteBatchSize;
+
+    /**
+     * 매일 아카이브를 실행합니다. (기본값: 매일 00시 30분)
+     */
+    @Scheduled(cron = "${apilog.archive.cron:0 30 0 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive(LocalDate.now());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * today 기준 after-days 이전 날짜의 행을 날짜별로 아카이브합니다.
+     * @return 파일로 옮긴 행 수
+     */
+    public long archive(LocalDate today) {
+        LocalDate cutoff = today.minusDays(afterDays);
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT DATE(MIN(created_at)) FROM api_logs WHERE created_at < ?", LocalDate.class, Timestamp.valueOf(cutoff.atStartOfDay()));
+        long total = 0;
+        for (LocalDate day = oldest; day != null && day.isBefore(cutoff); day = day.plusDays(1)) {
+            try {
+                total += archiveDay(day);
+            } catch (IOException | UncheckedIOException e) {
+                // 파일을 쓰지 못한 날짜의 행은 DB에 그대로 남으므로 다음 실행에서 다시 시도합니다.
+                log.error("api_logs {} 아카이브 실패: {}", day, e.getMessage(), e);
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 하루치 행을 새 part 파일로 쓰고, 아카이브된 행을 DB에서 삭제합니다.
+     */
+    long archiveDay(LocalDate day) throws IOException {
+        Path dayDir = dayDirectory(day);
+        Files.createDirectories(dayDir);
+        List<Path> existingParts = listParts(dayDir);
+        long[] archivedIds = loadLogIds(existingParts);
+
+        Path part = dayDir.resolve(String.format("part-%03d%s", existingParts.size(), FILE_EXTENSION));
+        Path temp = dayDir.resolve(part.getFileName() + ".tmp");
+        IdBuffer writtenIds = new IdBuffer();
+        long written;
+        try (ApiLogColumnarFile.Writer writer = new ApiLogColumnarFile.Writer(temp, rowGroupSize, compressionLevel)) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_DAY);
+                ps.setFetchSize(fetchSize); // useCursorFetch=true 이므로 fetch-size 행씩 나눠 읽습니다.
+                ps.setTimestamp(1, Timestamp.valueOf(day.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                long logId = rs.getLong("log_id");
+                if (Arrays.binarySearch(archivedIds, logId) >= 0) {
+                    return; // 이전 실행에서 이미 아카이브된 행
+                }
+                try {
+                    writer.write(toEntity(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                writtenIds.add(logId);
+            });
+            written = writer.getRowCount();
+        }
+
+        if (written > 0) {
+            Files.move(temp, part, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.deleteIfExists(temp);
+        }
+
+        long deleted = deleteArchived(day, written > 0 ? merge(archivedIds, writtenIds.toSortedArray()) : archivedIds);
+        if (written > 0 || deleted > 0) {
+            log.info("api_logs {} 아카이브: {}행 → {} ({}bytes), DB에서 {}행 삭제",
+                    day, written, written > 0 ? part : "-", written > 0 ? Files.size(part) : 0, deleted);
+        }
+        return written;
+    }
+
+    /**
+     * 파일에 보존된 log_id 만 delete-batch-size 개씩 IN 목록으로 나눠 삭제합니다. (긴 잠금과 큰 undo 로그를 피하기 위함)
+     * 커서로 읽은 뒤에 커밋된 행은 log_id 가 더 작더라도(늦은 커밋, 저널 재전송, 다른 서버의 ID 구간) 목록에 없으므로
+     * 삭제되지 않고 다음 실행에서 아카이브됩니다. created_at 조건은 파티션 pruning 을 위해 함께 겁니다.
+     * @param logIds 파일에 보존된 log_id (오름차순)
+     */
+    private long deleteArchived(LocalDate day, long[] logIds) {
+        long deleted = 0;
+        for (int from = 0; from < logIds.length; from += deleteBatchSize) {
+            int count = Math.min(deleteBatchSize, logIds.length - from);
+            Object[] args = new Object[count + 2];
+            args[0] = Timestamp.valueOf(day.atStartOfDay());
+            args[1] = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+            for (int i = 0; i < count; i++) {
+                args[i + 2] = logIds[from + i];
+            }
+            deleted += jdbcTemplate.update("DELETE FROM api_logs WHERE created_at >= ? AND created_at < ? AND log_id IN ("
+                    + String.join(", ", Collections.nCopies(count, "?")) + ")", args);
+        }
+        return deleted;
+    }
+
+    private static long[] merge(long[] sortedA, long[] sortedB) {
+        long[] merged = Arrays.copyOf(sortedA, sortedA.length + sortedB.length);
+        System.arraycopy(sortedB, 0, merged, sortedA.length, sortedB.length);
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * 이번 실행에서 파일에 쓴 log_id 를 모으는 버퍼입니다. (행당 8바이트)
+     */
+    private static final class IdBuffer {
+        private long[] ids = new long[1024];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /**
+     * 날짜 구간 [from, to] 의 아카이브 파일을 날짜 순서로 반환합니다. 디렉터리 이름만으로 날짜를 걸러냅니다.
+     */
+    public List<Path> listFiles(LocalDate from, LocalDate to) throws IOException {
+        Path base = Paths.get(archiveDir);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> days = Files.list(base)) {
+            for (Path dayDir : days.filter(Files::isDirectory).sorted().toList()) {
+                LocalDate day = parseDay(dayDir);
+                if (day != null && (from == null || !day.isBefore(from)) && (to == null || !day.isAfter(to))) {
+                    files.addAll(listParts(dayDir));
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 아카이브 파일 목록을 footer 정보(행 수, 시간 범위)와 함께 반환합니다.
+     */
+    public List<ApiLogArchiveFileDto> describeFiles(LocalDate from, LocalDate to) throws IOException {
+        List<ApiLogArchiveFileDto> result = new ArrayList<>();
+        for (Path file : listFiles(from, to)) {
+            try (ApiLogColumnarFile.Reader reader = ApiLogColumnarFile.Reader.open(file)) {
+                Long min = reader.min(ApiLogColumnarFile.Column.CREATED_AT);
+                Long max = reader.max(ApiLogColumnarFile.Column.CREATED_AT);
+                result.add(new ApiLogArchiveFileDto(parseDay(file.getParent()), file.getFileName().toString(), Files.size(file),
+                        reader.getRowCount(), reader.getRowGroups().size(),
+                        min != null ? ApiLogColumnarFile.fromMicros(min) : null,
+                        max != null ? ApiLogColumnarFile.fromMicros(max) : null));
+            }
+        }
+        return result;
+    }
+
+    static LocalDate parseDay(Path dayDir) {
+        String name = dayDir.getFileName().toString();
+        if (!name.startsWith(DAY_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(DAY_PREFIX.length()));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Path dayDirectory(LocalDate day) {
+        return Paths.get(archiveDir).resolve(DAY_PREFIX + day);
+    }
+
+    private static List<Path> listParts(Path dayDir) throws IOException {
+        try (Stream<Path> parts = Files.list(dayDir)) {
+            return parts.filter(p -> p.getFileName().toString().endsWith(FILE_EXTENSION)).sorted().toList();
+        }
+    }
+
+    /**
+     * 이미 아카이브된 log_id 를 오름차순으로 읽습니다. LOG_ID 열 블록만 읽습니다.
+     */
+    private static long[] loadLogIds(List<Path> parts) throws IOException {
+        long[] ids = new long[0];
+        int size = 0;
+        for (Path part : parts) {
+            try (ApiLogColumnarFile.Reader reader = ApiLogColumnarFile.Reader.open(part)) {
+                ids = Arrays.copyOf(ids, (int) (size + reader.getRowCount()));
+                for (ApiLogColumnarFile.RowGroup rowGroup : reader.getRowGroups()) {
+                    ApiLogColumnarFile.ColumnVector vector = reader.read(rowGroup, ApiLogColumnarFile.Column.LOG_ID);
+                    for (int i = 0; i < vector.size(); i++) {
+                        if (!vector.isNull(i)) {
+                            ids[size++] = vector.getLong(i);
+                        }
+                    }
+                }
+            }
+        }
+        ids = Arrays.copyOf(ids, size);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private ApiLogEntity toEntity(ResultSet rs) throws SQLException {
+        return ApiLogEntity.builder()
+                .logId(rs.getLong("log_id"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .serviceName(rs.getString("service_name"))
+                .apiEndpoint(rs.getString("api_endpoint"))
+                .endpointTemplate(rs.getString("endpoint_template"))
+                .httpMethod(rs.getString("http_method"))
+                .requestPayload(apiLogPayloadStore.content(rs.getString("request_payload"),
+                        rs.getBytes("request_compressed"), rs.getInt("request_size")))
+                .responseStatus(rs.getObject("response_status", Integer.class))
+                .durationMs(rs.getObject("duration_ms", Long.class))
+                .sampleWeight(rs.getObject("sample_weight", Double.class))
+                .responsePayload(apiLogPayloadStore.content(rs.getString("response_payload"),
+                        rs.getBytes("response_compressed"), rs.getInt("response_size")))
+                .clientIp(rs.getString("client_ip"))
+                .traceId(rs.getString("trace_id"))
+                .spanId(rs.getString("span_id"))
+                .parentSpanId(rs.getString("parent_span_id"))
+                .build();
+    }
+}
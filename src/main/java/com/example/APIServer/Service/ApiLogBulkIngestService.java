@@ -0,0 +1,241 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogBulkIngestResultDto;
+import com.example.APIServer.Dto.ApiLogDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 다른 서비스가 보내는 로그를 한 번의 HTTP 요청으로 여러 건 받아 저장하는 서비스 클래스입니다.
+ *
+ * 본문은 JSON 배열([{...}, {...}]) 또는 NDJSON(한 줄에 JSON 객체 하나)이며, gzip 으로 압축되어 있어도 됩니다.
+ * 본문 전체를 메모리에 올리지 않고 레코드를 하나씩 읽어, batch-size 만큼 모일 때마다 JdbcApiLogSink 의
+ * multi-row INSERT 로 저장합니다. 형식이 잘못된 레코드는 건너뛰고 거부 건수와 사유만 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogBulkIngestService {
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcApiLogSink jdbcApiLogSink; // 수락 건수를 응답하기 전에 저장을 끝내야 하므로 비동기 writer 대신 직접 사용
+    private final TransactionTemplate transactionTemplate;
+    private final ApiLogIndex apiLogIndex; // 저장된 로그를 최근 로그 검색 색인에도 추가
+    private final ApiLogTailBuffer apiLogTailBuffer; // 저장된 로그를 실시간 tail 에도 전달
+
+    @Value("${apilog.ingest.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${apilog.ingest.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    /**
+     * 요청 본문의 로그 레코드를 모두 읽어 저장합니다.
+     * @param body            요청 본문 스트림
+     * @param contentType     Content-Type 헤더 (application/x-ndjson 이면 NDJSON 으로 처리)
+     * @param contentEncoding Content-Encoding 헤더 (gzip 이면 압축 해제)
+     * @return 수락/거부 건수와 거부 사유. 본문을 끝까지 읽지 못하면 그 앞까지 저장한 결과와 중단 사유
+     */
+    public ApiLogBulkIngestResultDto ingest(InputStream body, String contentType, String contentEncoding) {
+        Ingestion ingestion = new Ingestion();
+        try (InputStream in = decode(body, contentEncoding)) {
+            PushbackInputStream pushback = new PushbackInputStream(in, 1);
+            int first = firstNonWhitespace(pushback);
+            if (first == '[' && !isNdjson(contentType)) {
+                readJsonArray(pushback, ingestion);
+            } else if (first != -1) {
+                readNdjson(pushback, ingestion);
+            }
+        } catch (JsonProcessingException e) {
+            // 배열 본문의 문법 오류는 이후 레코드의 경계를 알 수 없으므로 그 자리에서 중단합니다.
+            ingestion.abortReason = "JSON 문법 오류: " + e.getOriginalMessage();
+        } catch (IOException e) {
+            // 잘린 gzip 본문, 연결 끊김 등. 앞서 저장한 배치는 이미 커밋되었으므로 500 대신 그때까지의 건수를 돌려줍니다.
+            ingestion.abortReason = "본문 읽기 오류: " + e.getMessage();
+        } finally {
+            ingestion.flush();
+        }
+        log.info("API 로그 일괄 수신: 수락 {}건, 거부 {}건{}", ingestion.accepted, ingestion.rejected,
+                ingestion.abortReason != null ? " (중단: " + ingestion.abortReason + ")" : "");
+        return ingestion.toResult();
+    }
+
+    /**
+     * Content-Encoding 이 gzip 이거나, 헤더가 없더라도 본문이 gzip 매직 넘버로 시작하면 압축을 풉니다.
+     */
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body, 64 * 1024);
+        if (contentEncoding != null && contentEncoding.toLowerCase().contains("gzip")) {
+            return new GZIPInputStream(in, 64 * 1024);
+        }
+        in.mark(2);
+        int b1 = in.read();
+        int b2 = in.read();
+        in.reset();
+        return b1 == GZIP_MAGIC_1 && b2 == GZIP_MAGIC_2 ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static boolean isNdjson(String contentType) {
+        return contentType != null && (contentType.contains("ndjson") || contentType.contains("jsonl"));
+    }
+
+    private static int firstNonWhitespace(PushbackInputStream in) throws IOException {
+        int b;
+        do {
+            b = in.read();
+        } while (b == ' ' || b == '\t' || b == '\r' || b == '\n');
+        if (b != -1) {
+            in.unread(b);
+        }
+        return b;
+    }
+
+    /**
+     * JSON 배열을 스트리밍 파서로 원소 하나씩 읽습니다.
+     * 원소를 먼저 JsonNode 로 읽으므로, 필드 타입이 맞지 않는 원소가 있어도 파서 위치는 다음 원소로 정확히 넘어갑니다.
+     */
+    private void readJsonArray(InputStream in, Ingestion ingestion) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.nextToken(); // START_ARRAY
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                ingestion.offer(node);
+            }
+            if (token == null) {
+                ingestion.abortReason = "JSON 배열이 닫히지 않았습니다.";
+            }
+        }
+    }
+
+    /**
+     * NDJSON 본문을 한 줄씩 읽습니다. 한 줄의 오류는 그 레코드만 거부하고 다음 줄을 계속 처리합니다.
+     */
+    private void readNdjson(InputStream in, Ingestion ingestion) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ingestion.offer(objectMapper.readTree(line));
+            } catch (JsonProcessingException e) {
+                ingestion.reject("JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * 요청 하나의 진행 상태(배치, 건수, 거부 사유)입니다.
+     */
+    private final class Ingestion {
+        private final List<ApiLogDto> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchIndexes = new ArrayList<>(batchSize);
+        private final List<ApiLogBulkIngestResultDto.RecordError> errors = new ArrayList<>();
+        private long index;
+        private long accepted;
+        private long rejected;
+        private String abortReason;
+
+        void offer(JsonNode node) {
+            ApiLogDto dto;
+            try {
+                dto = objectMapper.treeToValue(node, ApiLogDto.class);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                reject("필드 형식 오류: " + (e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage()));
+                return;
+            }
+            String invalid = validate(dto);
+            if (invalid != null) {
+                reject(invalid);
+                return;
+            }
+            batch.add(dto);
+            batchIndexes.add(index++);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            addError(index++, message);
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                // 배치 하나가 여러 INSERT 문으로 나뉘더라도 전부 저장되거나 전부 거부되도록 한 트랜잭션으로 묶습니다.
+                transactionTemplate.executeWithoutResult(status -> jdbcApiLogSink.write(batch));
+                accepted += batch.size();
+                for (ApiLogDto dto : batch) {
+                    apiLogIndex.add(dto);
+                    apiLogTailBuffer.publish(dto);
+                }
+            } catch (Exception e) {
+                log.error("API 로그 일괄 저장 실패 ({}건): {}", batch.size(), e.getMessage(), e);
+                for (Long failedIndex : batchIndexes) {
+                    addError(failedIndex, "저장 실패: " + e.getMessage());
+                }
+            } finally {
+                batch.clear();
+                batchIndexes.clear();
+            }
+        }
+
+        private void addError(long recordIndex, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ApiLogBulkIngestResultDto.RecordError(recordIndex, message));
+            }
+        }
+
+        ApiLogBulkIngestResultDto toResult() {
+            return new ApiLogBulkIngestResultDto(accepted, rejected, abortReason == null, abortReason, errors);
+        }
+    }
+
+    /**
+     * 저장에 꼭 필요한 값이 있는지 확인합니다.
+     * @return 문제가 없으면 null, 있으면 거부 사유
+     */
+    private static String validate(ApiLogDto dto) {
+        if (dto == null) {
+            return "레코드가 JSON 객체가 아닙니다.";
+        }
+        if (dto.getApiEndpoint() == null || dto.getApiEndpoint().isBlank()) {
+            return "apiEndpoint 값이 없습니다.";
+        }
+        if (dto.getHttpMethod() == null || dto.getHttpMethod().isBlank()) {
+            return "httpMethod 값이 없습니다.";
+        }
+        if (dto.getTraceId() != null && TraceContext.normalizeTraceId(dto.getTraceId()) == null) {
+            return "traceId 는 32자리 16진수(또는 UUID 형식)여야 합니다.";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,679 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.ApiLogEntity;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 아카이브된 API 로그 파일(.alc)의 열(column) 지향 형식입니다.
+ *
+ * 파일은 [magic] [row group 1 의 열 블록들] ... [row group N 의 열 블록들] [footer] [footer 길이] [magic] 순서입니다.
+ * row group 은 최대 row-group-size 행이며, 같은 열의 값끼리 모아 인코딩한 뒤 열 블록마다 따로 Deflate 로 압축합니다.
+ * - LONG: 직전 값과의 차이를 zigzag varint 로 (시간, ID 처럼 증가하는 값이 1~2바이트로 줄어듭니다)
+ * - DICT: row group 별 사전 + 사전 번호 (서비스 이름, 템플릿, 메소드처럼 값 종류가 적은 열)
+ * - TEXT: 길이 + UTF-8 (본문, traceId)
+ * - DOUBLE: 존재 여부 + 8바이트
+ *
+ * footer 에는 row group 별 열 블록의 위치/길이와 LONG 열의 최소/최대값이 있으므로,
+ * 읽는 쪽은 footer 만 읽고 조건에 맞지 않는 row group 을 건너뛰며, 필요한 열 블록만 읽습니다.
+ */
+public final class ApiLogColumnarFile {
+
+    static final int MAGIC = 0x414C4331; // "ALC1"
+    private static final int VERSION = 1;
+    private static final int TRAILER_BYTES = 8;
+
+    public enum Encoding { LONG, DOUBLE, DICT, TEXT }
+
+    /**
+     * 열 목록입니다. footer 에 열 이름을 기록하므로, 열을 추가해도 이전 파일을 읽을 수 있습니다. (없는 열은 모두 null)
+     */
+    public enum Column {
+        LOG_ID(Encoding.LONG),
+        CREATED_AT(Encoding.LONG),          // epoch 마이크로초 (LocalDateTime 을 UTC 로 간주)
+        SERVICE_NAME(Encoding.DICT),
+        API_ENDPOINT(Encoding.TEXT),
+        ENDPOINT_TEMPLATE(Encoding.DICT),
+        HTTP_METHOD(Encoding.DICT),
+        RESPONSE_STATUS(Encoding.LONG),
+        DURATION_MS(Encoding.LONG),
+        SAMPLE_WEIGHT(Encoding.DOUBLE),
+        CLIENT_IP(Encoding.DICT),
+        TRACE_ID(Encoding.TEXT),
+        SPAN_ID(Encoding.TEXT),
+        PARENT_SPAN_ID(Encoding.TEXT),
+        REQUEST_PAYLOAD(Encoding.TEXT),
+        RESPONSE_PAYLOAD(Encoding.TEXT);
+
+        private final Encoding encoding;
+
+        Column(Encoding encoding) {
+            this.encoding = encoding;
+        }
+
+        public Encoding getEncoding() {
+            return encoding;
+        }
+    }
+
+    private ApiLogColumnarFile() {
+    }
+
+    public static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 행을 순서대로 받아 row group 단위로 파일에 씁니다. 메모리에는 현재 row group 의 압축된 열 블록만 보관합니다.
+     */
+    public static final class Writer implements Closeable {
+        private final OutputStream out;
+        private final int rowGroupSize;
+        private final ColumnBuilder[] builders;
+        private final List<RowGroup> rowGroups = new ArrayList<>();
+        private long position;
+        private int rows;
+        private long totalRows;
+
+        public Writer(Path path, int rowGroupSize, int compressionLevel) throws IOException {
+            this.out = new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024);
+            this.rowGroupSize = rowGroupSize;
+            this.builders = new ColumnBuilder[Column.values().length];
+            for (Column column : Column.values()) {
+                builders[column.ordinal()] = new ColumnBuilder(column, compressionLevel);
+            }
+            writeInt(MAGIC);
+        }
+
+        public void write(ApiLogEntity row) throws IOException {
+            builders[Column.LOG_ID.ordinal()].addLong(row.getLogId());
+            builders[Column.CREATED_AT.ordinal()].addLong(row.getCreatedAt() != null ? toMicros(row.getCreatedAt()) : null);
+            builders[Column.SERVICE_NAME.ordinal()].addString(row.getServiceName());
+            builders[Column.API_ENDPOINT.ordinal()].addString(row.getApiEndpoint());
+            builders[Column.ENDPOINT_TEMPLATE.ordinal()].addString(row.getEndpointTemplate());
+            builders[Column.HTTP_METHOD.ordinal()].addString(row.getHttpMethod());
+            builders[Column.RESPONSE_STATUS.ordinal()].addLong(row.getResponseStatus() != null ? row.getResponseStatus().longValue() : null);
+            builders[Column.DURATION_MS.ordinal()].addLong(row.getDurationMs());
+            builders[Column.SAMPLE_WEIGHT.ordinal()].addDouble(row.getSampleWeight());
+            builders[Column.CLIENT_IP.ordinal()].addString(row.getClientIp());
+            builders[Column.TRACE_ID.ordinal()].addString(row.getTraceId());
+            builders[Column.SPAN_ID.ordinal()].addString(row.getSpanId());
+            builders[Column.PARENT_SPAN_ID.ordinal()].addString(row.getParentSpanId());
+            builders[Column.REQUEST_PAYLOAD.ordinal()].addString(row.getRequestPayload());
+            builders[Column.RESPONSE_PAYLOAD.ordinal()].addString(row.getResponsePayload());
+            rows++;
+            totalRows++;
+            if (rows >= rowGroupSize) {
+                flushRowGroup();
+            }
+        }
+
+        public long getRowCount() {
+            return totalRows;
+        }
+
+        private void flushRowGroup() throws IOException {
+            if (rows == 0) {
+                return;
+            }
+            Map<Column, Chunk> chunks = new EnumMap<>(Column.class);
+            for (ColumnBuilder builder : builders) {
+                byte[] bytes = builder.finish();
+                chunks.put(builder.column, new Chunk(position, bytes.length, builder.hasStats(), builder.min, builder.max));
+                out.write(bytes);
+                position += bytes.length;
+                builder.reset();
+            }
+            rowGroups.add(new RowGroup(rows, chunks));
+            rows = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushRowGroup();
+                ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+                DataOutputStream footer = new DataOutputStream(footerBytes);
+                footer.writeInt(VERSION);
+                Column[] columns = Column.values();
+                footer.writeInt(columns.length);
+                for (Column column : columns) {
+                    footer.writeUTF(column.name());
+                    footer.writeByte(column.encoding.ordinal());
+                }
+                footer.writeInt(rowGroups.size());
+                for (RowGroup rowGroup : rowGroups) {
+                    footer.writeInt(rowGroup.rowCount);
+                    for (Column column : columns) {
+                        Chunk chunk = rowGroup.chunks.get(column);
+                        footer.writeLong(chunk.offset);
+                        footer.writeInt(chunk.length);
+                        footer.writeBoolean(chunk.hasStats);
+                        if (chunk.hasStats) {
+                            footer.writeLong(chunk.min);
+                            footer.writeLong(chunk.max);
+                        }
+                    }
+                }
+                footer.flush();
+                out.write(footerBytes.toByteArray());
+                writeInt(footerBytes.size());
+                writeInt(MAGIC);
+            } finally {
+                for (ColumnBuilder builder : builders) {
+                    builder.end();
+                }
+                out.close();
+            }
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(ByteBuffer.allocate(4).putInt(value).array());
+            position += 4;
+        }
+    }
+
+    /**
+     * 한 row group 안의 열 하나를 인코딩합니다. 값은 들어오는 즉시 압축 스트림에 쓰입니다.
+     */
+    private static final class ColumnBuilder {
+        private final Column column;
+        private final int compressionLevel;
+        private ByteArrayOutputStream compressed;
+        private Deflater deflater;
+        private DataOutputStream data;
+        private long previous;
+        private long min;
+        private long max;
+        private Map<String, Integer> dictionary;
+        private List<String> dictionaryValues;
+
+        ColumnBuilder(Column column, int compressionLevel) {
+            this.column = column;
+            this.compressionLevel = compressionLevel;
+            reset();
+        }
+
+        void reset() {
+            end();
+            compressed = new ByteArrayOutputStream(4096);
+            deflater = new Deflater(compressionLevel);
+            data = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(compressed, deflater, 8192), 8192));
+            previous = 0;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            if (column.encoding == Encoding.DICT) {
+                dictionary = new HashMap<>();
+                dictionaryValues = new ArrayList<>();
+            }
+        }
+
+        void addLong(Long value) throws IOException {
+            if (value == null) {
+                writeVarLong(data, 0);
+                return;
+            }
+            long delta = value - previous;
+            previous = value;
+            writeVarLong(data, ((delta << 1) ^ (delta >> 63)) + 1); // zigzag, 0 은 null
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        void addDouble(Double value) throws IOException {
+            if (value == null) {
+                data.writeByte(0);
+            } else {
+                data.writeByte(1);
+                data.writeDouble(value);
+            }
+        }
+
+        void addString(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(data, 0);
+            } else if (column.encoding == Encoding.DICT) {
+                Integer code = dictionary.get(value);
+                if (code == null) {
+                    code = dictionaryValues.size();
+                    dictionary.put(value, code);
+                    dictionaryValues.add(value);
+                }
+                writeVarLong(data, code + 1L);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(data, bytes.length + 1L);
+                data.write(bytes);
+            }
+        }
+
+        boolean hasStats() {
+            return column.encoding == Encoding.LONG && min <= max;
+        }
+
+        /**
+         * 열 블록 바이트를 만듭니다. DICT 열은 [압축된 사전 길이(varint)][압축된 사전][압축된 번호] 입니다.
+         */
+        byte[] finish() throws IOException {
+            data.close();
+            byte[] values = compressed.toByteArray();
+            if (column.encoding != Encoding.DICT) {
+                return values;
+            }
+            ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+            Deflater dictionaryDeflater = new Deflater(compressionLevel);
+            try (DataOutputStream dictionaryData = new DataOutputStream(new DeflaterOutputStream(dictionaryBytes, dictionaryDeflater))) {
+                writeVarLong(dictionaryData, dictionaryValues.size());
+                for (String value : dictionaryValues) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(dictionaryData, bytes.length);
+                    dictionaryData.write(bytes);
+                }
+            } finally {
+                dictionaryDeflater.end();
+            }
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream(dictionaryBytes.size() + values.length + 5);
+            writeVarLong(new DataOutputStream(chunk), dictionaryBytes.size());
+            dictionaryBytes.writeTo(chunk);
+            chunk.write(values);
+            return chunk.toByteArray();
+        }
+
+        void end() {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * footer 를 읽고, 요청한 row group 의 요청한 열 블록만 파일에서 읽어 복원합니다.
+     */
+    public static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+        private final List<RowGroup> rowGroups;
+        private long bytesRead;
+
+        private Reader(FileChannel channel, List<RowGroup> rowGroups, long footerBytes) {
+            this.channel = channel;
+            this.rowGroups = rowGroups;
+            this.bytesRead = footerBytes;
+        }
+
+        public static Reader open(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                if (size < 4 + TRAILER_BYTES) {
+                    throw new IOException("아카이브 파일이 너무 짧습니다: " + path);
+                }
+                ByteBuffer trailer = readFully(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+                int footerLength = trailer.getInt();
+                if (trailer.getInt() != MAGIC || footerLength <= 0 || footerLength > size - 4 - TRAILER_BYTES) {
+                    throw new IOException("아카이브 파일 형식이 아닙니다: " + path);
+                }
+                ByteBuffer footerBuffer = readFully(channel, size - TRAILER_BYTES - footerLength, footerLength);
+                DataInputStream footer = new DataInputStream(new ByteArrayInputStream(
+                        footerBuffer.array(), footerBuffer.arrayOffset(), footerLength));
+                int version = footer.readInt();
+                if (version != VERSION) {
+                    throw new IOException("지원하지 않는 아카이브 파일 버전입니다: " + version);
+                }
+                int columnCount = footer.readInt();
+                Column[] fileColumns = new Column[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    String name = footer.readUTF();
+                    footer.readByte();
+                    fileColumns[i] = Arrays.stream(Column.values()).filter(c -> c.name().equals(name)).findFirst().orElse(null);
+                }
+                int rowGroupCount = footer.readInt();
+                List<RowGroup> rowGroups = new ArrayList<>(rowGroupCount);
+                for (int g = 0; g < rowGroupCount; g++) {
+                    int rowCount = footer.readInt();
+                    Map<Column, Chunk> chunks = new EnumMap<>(Column.class);
+                    for (Column column : fileColumns) {
+                        long offset = footer.readLong();
+                        int length = footer.readInt();
+                        boolean hasStats = footer.readBoolean();
+                        long min = hasStats ? footer.readLong() : 0;
+                        long max = hasStats ? footer.readLong() : 0;
+                        if (column != null) { // 이 버전이 모르는 열은 건너뜁니다.
+                            chunks.put(column, new Chunk(offset, length, hasStats, min, max));
+                        }
+                    }
+                    rowGroups.add(new RowGroup(rowCount, chunks));
+                }
+                return new Reader(channel, Collections.unmodifiableList(rowGroups), footerLength + TRAILER_BYTES);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public List<RowGroup> getRowGroups() {
+            return rowGroups;
+        }
+
+        public long getRowCount() {
+            return rowGroups.stream().mapToLong(RowGroup::getRowCount).sum();
+        }
+
+        /**
+         * 파일 전체의 최소값입니다. 통계가 없는 열이거나 값이 모두 null 이면 null 입니다.
+         */
+        public Long min(Column column) {
+            return rowGroups.stream().map(g -> g.getChunk(column)).filter(c -> c != null && c.hasStats)
+                    .map(c -> c.min).min(Long::compare).orElse(null);
+        }
+
+        public Long max(Column column) {
+            return rowGroups.stream().map(g -> g.getChunk(column)).filter(c -> c != null && c.hasStats)
+                    .map(c -> c.max).max(Long::compare).orElse(null);
+        }
+
+        /**
+         * footer 와 지금까지 읽은 열 블록의 바이트 수입니다.
+         */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        /**
+         * row group 하나의 열 하나를 읽어 복원합니다.
+         */
+        public ColumnVector read(RowGroup rowGroup, Column column) throws IOException {
+            Chunk chunk = rowGroup.getChunk(column);
+            if (chunk == null) {
+                return ColumnVector.allNull(column, rowGroup.rowCount);
+            }
+            ByteBuffer buffer = readFully(channel, chunk.offset, chunk.length);
+            bytesRead += chunk.length;
+            return decode(column, rowGroup.rowCount, buffer.array());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static ColumnVector decode(Column column, int rowCount, byte[] bytes) throws IOException {
+        ColumnVector vector = new ColumnVector(column, rowCount);
+        int valuesOffset = 0;
+        if (column.encoding == Encoding.DICT) {
+            int[] position = {0};
+            int dictionaryLength = (int) readVarLong(bytes, position);
+            try (DataInputStream dictionaryData = inflate(bytes, position[0], dictionaryLength)) {
+                String[] dictionary = new String[(int) readVarLong(dictionaryData)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    byte[] value = new byte[(int) readVarLong(dictionaryData)];
+                    dictionaryData.readFully(value);
+                    dictionary[i] = new String(value, StandardCharsets.UTF_8);
+                }
+                vector.dictionary = dictionary;
+            }
+            valuesOffset = position[0] + dictionaryLength;
+        }
+
+        try (DataInputStream data = inflate(bytes, valuesOffset, bytes.length - valuesOffset)) {
+            switch (column.encoding) {
+                case LONG -> {
+                    vector.longs = new long[rowCount];
+                    long previous = 0;
+                    for (int i = 0; i < rowCount; i++) {
+                        long encoded = readVarLong(data);
+                        if (encoded == 0) {
+                            vector.nulls[i] = true;
+                            continue;
+                        }
+                        long zigzag = encoded - 1;
+                        previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                        vector.longs[i] = previous;
+                    }
+                }
+                case DOUBLE -> {
+                    vector.doubles = new double[rowCount];
+                    for (int i = 0; i < rowCount; i++) {
+                        if (data.readByte() == 0) {
+                            vector.nulls[i] = true;
+                        } else {
+                            vector.doubles[i] = data.readDouble();
+                        }
+                    }
+                }
+                case DICT -> {
+                    vector.codes = new int[rowCount];
+                    for (int i = 0; i < rowCount; i++) {
+                        vector.codes[i] = (int) readVarLong(data) - 1;
+                        vector.nulls[i] = vector.codes[i] < 0;
+                    }
+                }
+                case TEXT -> {
+                    vector.strings = new String[rowCount];
+                    for (int i = 0; i < rowCount; i++) {
+                        long length = readVarLong(data);
+                        if (length == 0) {
+                            vector.nulls[i] = true;
+                            continue;
+                        }
+                        byte[] value = new byte[(int) length - 1];
+                        data.readFully(value);
+                        vector.strings[i] = new String(value, StandardCharsets.UTF_8);
+                    }
+                }
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * row group 하나의 열 하나를 복원한 값 배열입니다.
+     * DICT 열은 사전 번호로 비교할 수 있어, 문자열 조건을 행마다 비교하지 않고 codeOf() 로 한 번만 찾습니다.
+     */
+    public static final class ColumnVector {
+        private final Column column;
+        private final boolean[] nulls;
+        private long[] longs;
+        private double[] doubles;
+        private String[] dictionary;
+        private int[] codes;
+        private String[] strings;
+
+        private ColumnVector(Column column, int rowCount) {
+            this.column = column;
+            this.nulls = new boolean[rowCount];
+        }
+
+        static ColumnVector allNull(Column column, int rowCount) {
+            ColumnVector vector = new ColumnVector(column, rowCount);
+            Arrays.fill(vector.nulls, true);
+            vector.longs = new long[rowCount];
+            vector.doubles = new double[rowCount];
+            vector.strings = new String[rowCount];
+            vector.dictionary = new String[0];
+            vector.codes = new int[rowCount];
+            Arrays.fill(vector.codes, -1);
+            return vector;
+        }
+
+        public int size() {
+            return nulls.length;
+        }
+
+        public boolean isNull(int row) {
+            return nulls[row];
+        }
+
+        public long getLong(int row) {
+            return longs[row];
+        }
+
+        public double getDouble(int row) {
+            return doubles[row];
+        }
+
+        public String getString(int row) {
+            if (nulls[row]) {
+                return null;
+            }
+            return column.encoding == Encoding.DICT ? dictionary[codes[row]] : strings[row];
+        }
+
+        /**
+         * DICT 열의 사전 번호입니다. null 이면 -1 입니다.
+         */
+        public int getCode(int row) {
+            return codes[row];
+        }
+
+        /**
+         * DICT 열에서 value 의 사전 번호를 찾습니다. 이 row group 에 없는 값이면 -1 입니다.
+         */
+        public int codeOf(String value) {
+            for (int i = 0; i < dictionary.length; i++) {
+                if (dictionary[i].equals(value)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * row group 하나의 행 수와 열 블록 위치입니다.
+     */
+    public static final class RowGroup {
+        private final int rowCount;
+        private final Map<Column, Chunk> chunks;
+
+        RowGroup(int rowCount, Map<Column, Chunk> chunks) {
+            this.rowCount = rowCount;
+            this.chunks = chunks;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public Chunk getChunk(Column column) {
+            return chunks.get(column);
+        }
+
+        /**
+         * 이 row group 에 [min, max] 구간과 겹치는 값이 있을 수 있는지 통계로 판단합니다.
+         * 통계가 없으면(값이 모두 null 이거나 LONG 열이 아니면) 겹칠 수 있다고 봅니다.
+         */
+        public boolean mayOverlap(Column column, long min, long max) {
+            Chunk chunk = chunks.get(column);
+            return chunk == null || !chunk.hasStats || (chunk.max >= min && chunk.min <= max);
+        }
+    }
+
+    /**
+     * 열 블록 하나의 파일 내 위치와 통계입니다.
+     */
+    public static final class Chunk {
+        private final long offset;
+        private final int length;
+        private final boolean hasStats;
+        private final long min;
+        private final long max;
+
+        Chunk(long offset, int length, boolean hasStats, long min, long max) {
+            this.offset = offset;
+            this.length = length;
+            this.hasStats = hasStats;
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getLength() {
+            return length;
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("아카이브 파일이 잘려 있습니다.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static DataInputStream inflate(byte[] bytes, int offset, int length) {
+        InputStream raw = new ByteArrayInputStream(bytes, offset, length);
+        return new DataInputStream(new BufferedInputStream(new InflaterInputStream(raw), 8192));
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (position[0] < bytes.length) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return value;
+    }
+}
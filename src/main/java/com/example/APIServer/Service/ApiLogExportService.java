@@ -0,0 +1,270 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogExportRowDto;
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Repository.ApiLogRepository;
+import com.example.APIServer.Repository.ApiLogSpecifications;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 검색 조건에 맞는 로그를 NDJSON 또는 CSV 로 내보내는 서비스 클래스입니다.
+ *
+ * DB에서 전진 전용 커서로 fetch-size 행씩 읽어 바로 응답 스트림에 쓰므로,
+ * 결과 목록을 힙에 모으지 않고 행 수와 관계없이 일정한 메모리로 동작합니다.
+ * api_log_payloads 에 해시로 저장된 본문은 fetch-size 행마다 한 번의 IN 조회로 채워 출력합니다.
+ * read-only 트랜잭션에서 읽으므로, 읽기 DataSource 가 설정되어 있으면 로그 저장과 다른 연결 풀을 사용합니다.
+ */
+@Slf4j
+@Service
+public class ApiLogExportService {
+
+    /**
+     * 내보내기 형식입니다.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 쿼리 파라미터 값(대소문자 무관)을 형식으로 변환합니다.
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+         */
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    private static final String[] CSV_HEADER = {"logId", "createdAt", "serviceName", "apiEndpoint", "endpointTemplate",
+            "httpMethod", "responseStatus", "durationMs", "sampleWeight", "clientIp", "traceId", "requestPayload", "responsePayload"};
+    // 내보내기 한 번 동안 기억하는 최근 본문 수 (폴링 로그처럼 같은 본문이 반복될 때 다시 조회하지 않기 위함)
+    private static final int RECENT_PAYLOADS = 256;
+
+    private final ApiLogRepository apiLogRepository;
+    private final ObjectMapper objectMapper;
+    private final ApiLogPayloadStore apiLogPayloadStore;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${apilog.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * 내보내기 한 번의 최대 처리 시간입니다. 전역 비동기 타임아웃 대신 내보내기 요청에만 적용됩니다.
+     */
+    @Getter
+    @Value("${apilog.export.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public ApiLogExportService(ApiLogRepository apiLogRepository, ObjectMapper objectMapper,
+                               ApiLogPayloadStore apiLogPayloadStore, PlatformTransactionManager transactionManager) {
+        this.apiLogRepository = apiLogRepository;
+        this.objectMapper = objectMapper;
+        this.apiLogPayloadStore = apiLogPayloadStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 조건에 맞는 로그를 (createdAt, logId) 오름차순으로 out 에 씁니다.
+     * 목록 조회(GET /api/logs)와 같은 필터를 사용하며, cursor 와 size 는 무시합니다.
+     * @param condition 검색 조건
+     * @param format    출력 형식
+     * @param gzip      true 이면 gzip 으로 압축하여 씁니다.
+     * @param out       응답 본문 스트림 (이 메소드가 닫지 않습니다)
+     */
+    public void export(ApiLogSearchCondition condition, Format format, boolean gzip, OutputStream out) throws IOException {
+        Specification<ApiLogEntity> spec = ApiLogSpecifications.matches(condition);
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+
+        long rows;
+        try {
+            // 스트림(서버 커서)은 트랜잭션이 열려 있는 동안에만 읽을 수 있습니다.
+            rows = readOnlyTransaction.execute(status -> {
+                try (Stream<ApiLogExportRowDto> stream = apiLogRepository.streamForExport(spec, fetchSize)) {
+                    Iterator<ApiLogExportRowDto> rowIterator = resolvingPayloads(stream.iterator());
+                    return format == Format.CSV ? writeCsv(rowIterator, target) : writeNdjson(rowIterator, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+        log.info("API 로그 내보내기 완료: {}행 (format={}, gzip={})", rows, format, gzip);
+    }
+
+    /**
+     * fetch-size 행씩 미리 읽어, 해시로 저장된 본문을 한 번의 조회로 채운 뒤 한 행씩 돌려주는 반복자입니다.
+     */
+    private Iterator<ApiLogExportRowDto> resolvingPayloads(Iterator<ApiLogExportRowDto> rows) {
+        return new Iterator<>() {
+            private final Deque<ApiLogExportRowDto> buffer = new ArrayDeque<>();
+            private final Map<String, String> recent = new LinkedHashMap<>(RECENT_PAYLOADS * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > RECENT_PAYLOADS;
+                }
+            };
+
+            @Override
+            public boolean hasNext() {
+                if (buffer.isEmpty()) {
+                    fill();
+                }
+                return !buffer.isEmpty();
+            }
+
+            @Override
+            public ApiLogExportRowDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return buffer.poll();
+            }
+
+            private void fill() {
+                Map<String, String> contents = new HashMap<>();
+                Set<String> missing = new HashSet<>();
+                while (rows.hasNext() && buffer.size() < fetchSize) {
+                    ApiLogExportRowDto row = rows.next();
+                    buffer.add(row);
+                    collect(row.getRequestPayload() == null ? row.getRequestPayloadHash() : null, contents, missing);
+                    collect(row.getResponsePayload() == null ? row.getResponsePayloadHash() : null, contents, missing);
+                }
+                if (!missing.isEmpty()) {
+                    Map<String, String> loaded = apiLogPayloadStore.load(missing);
+                    contents.putAll(loaded);
+                    recent.putAll(loaded);
+                }
+                if (!contents.isEmpty()) {
+                    buffer.forEach(row -> row.resolvePayloads(contents));
+                }
+            }
+
+            private void collect(String hash, Map<String, String> contents, Set<String> missing) {
+                if (hash == null || contents.containsKey(hash)) {
+                    return;
+                }
+                String content = recent.get(hash);
+                if (content != null) {
+                    contents.put(hash, content);
+                } else {
+                    missing.add(hash);
+                }
+            }
+        };
+    }
+
+    private long writeNdjson(Iterator<ApiLogExportRowDto> rows, OutputStream out) throws IOException {
+        long count = 0;
+        // SequenceWriter 는 닫아도 out 을 닫지 않도록 생성되며, 값 사이에 줄바꿈을 넣습니다.
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<ApiLogExportRowDto> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        long count = 0;
+        while (rows.hasNext()) {
+            ApiLogExportRowDto row = rows.next();
+            writeCsvLine(writer, row.getLogId(), row.getCreatedAt(), row.getServiceName(), row.getApiEndpoint(),
+                    row.getEndpointTemplate(), row.getHttpMethod(), row.getResponseStatus(), row.getDurationMs(),
+                    row.getSampleWeight(), row.getClientIp(), row.getTraceId(), row.getRequestPayload(), row.getResponsePayload());
+            count++;
+        }
+        // 내부 버퍼만 비우고 out 은 닫지 않습니다.
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * RFC 4180 규칙으로 한 줄을 씁니다. 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감쌉니다.
+     */
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            String value = values[i].toString();
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (quote) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
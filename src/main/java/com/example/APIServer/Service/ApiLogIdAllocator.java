@@ -0,0 +1,76 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.ApiLogIdGenerator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * JdbcApiLogSink 가 INSERT 할 log_id 를 미리 붙이기 위한 할당기입니다.
+ * ApiLogIdGenerator(JPA 경로)와 같은 api_log_id_blocks 카운터에서 block-size 개씩 구간을 예약하므로 두 경로의 ID가 겹치지 않습니다.
+ *
+ * 구간 예약은 DataSource 에서 직접 얻은 별도 연결(autocommit)에서 실행되어,
+ * 호출한 쪽의 트랜잭션(일괄 수신 등)이 끝날 때까지 카운터 행을 잠그지 않습니다.
+ *
+ * 카운터 행은 JPA가 api_log_id_blocks 테이블(ApiLogIdBlockEntity)을 만든 뒤 기동 시 한 번 만듭니다.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+public class ApiLogIdAllocator {
+
+    // 기존 api_logs 행(이전의 AUTO_INCREMENT 값)보다 큰 값에서 시작합니다. 이미 있는 카운터는 그대로 둡니다.
+    private static final String SEED_SQL = "INSERT IGNORE INTO api_log_id_blocks (name, next_id) "
+            + "SELECT ?, COALESCE(MAX(log_id), 0) + 1 FROM api_logs";
+
+    private final DataSource dataSource;
+    private final ApiLogIdGenerator.Block block;
+
+    public ApiLogIdAllocator(DataSource dataSource,
+                             @Value("${apilog.id.block-size:" + ApiLogIdGenerator.DEFAULT_BLOCK_SIZE + "}") int blockSize) {
+        this.dataSource = dataSource;
+        this.block = new ApiLogIdGenerator.Block(blockSize);
+    }
+
+    /**
+     * 카운터 행이 없으면 만듭니다. 요청을 받기 전에 실행되어야 JPA 경로(ApiLogIdGenerator)도 구간을 예약할 수 있습니다.
+     */
+    @PostConstruct
+    public void initialize() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement seed = connection.prepareStatement(SEED_SQL)) {
+            seed.setString(1, ApiLogIdGenerator.COUNTER_NAME);
+            seed.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("log_id 카운터 초기화 실패", e);
+        }
+    }
+
+    /**
+     * count 개의 log_id 를 꺼냅니다. 현재 구간이 남아 있으면 DB에 접근하지 않습니다.
+     */
+    public long[] next(int count) {
+        return block.nextIds(count, this::reserve);
+    }
+
+    private long reserve(int size) {
+        try (Connection connection = dataSource.getConnection()) {
+            long first = ApiLogIdGenerator.reserve(connection, size);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return first;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("log_id 구간 예약 실패", e);
+        }
+    }
+}
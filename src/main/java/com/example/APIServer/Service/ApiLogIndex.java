@@ -0,0 +1,446 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 최근 API 로그를 메모리에 보관하는 시간 구간(window) 역색인(inverted index)입니다.
+ *
+ * 로그 한 건마다 traceId, clientIp, 엔드포인트 템플릿, 상태 코드, 서비스, 메소드와
+ * 본문의 지정된 필드 값(planId, materialId 등)을 "종류:값" 형태의 검색어(term)로 만들어 색인합니다.
+ * 색인은 segment-seconds 단위의 세그먼트로 나뉘며, 검색은 세그먼트마다 검색어별 위치 목록(posting)을
+ * 합집합(OR)/교집합(AND)/차집합(NOT) 하는 것으로 끝나므로 테이블을 스캔하지 않습니다.
+ *
+ * 세그먼트는 보관 시간(window-minutes)이 지나거나 메모리 예산(memory-budget-mb)을 넘으면 오래된 것부터 통째로 버립니다.
+ * getCompleteSince() 이후의 로그는 빠짐없이 색인되어 있으므로, 그보다 이전 구간의 검색은 DB로 넘겨야 합니다.
+ */
+@Slf4j
+@Service
+public class ApiLogIndex {
+
+    public static final String TRACE = "trace";
+    public static final String CLIENT_IP = "ip";
+    public static final String TEMPLATE = "template";
+    public static final String STATUS = "status";
+    public static final String SERVICE = "service";
+    public static final String METHOD = "method";
+    public static final String FIELD = "field"; // 본문 필드, 값은 "필드명=값"
+
+    private static final int MAX_FIELD_VALUE_LENGTH = 128;
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final int POSTING_OVERHEAD_BYTES = 8;
+    private static final int TERM_OVERHEAD_BYTES = 64;
+
+    @Value("${apilog.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${apilog.index.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${apilog.index.memory-budget-mb:64}")
+    private long memoryBudgetMb;
+
+    @Value("${apilog.index.segment-seconds:60}")
+    private long segmentSeconds;
+
+    @Value("${apilog.index.max-tokens-per-event:32}")
+    private int maxTokensPerEvent;
+
+    @Value("#{'${apilog.index.payload-fields:planId,materialId,employeeId,inventoryId,salesOrderId,purchaseOrderId,shipmentId}'.split(',')}")
+    private Set<String> payloadFields;
+
+    private final ConcurrentLinkedDeque<Segment> segments = new ConcurrentLinkedDeque<>();
+    private final Object rotationLock = new Object();
+    private volatile Segment current;
+    private volatile LocalDateTime completeSince = LocalDateTime.now();
+
+    /**
+     * 로그 한 건을 색인합니다. 보관 구간보다 오래된 로그는 색인하지 않습니다.
+     * @param dto 응답 상태, 처리 시간이 채워진 로그 DTO
+     */
+    public void add(ApiLogDto dto) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime createdAt = dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now();
+        if (createdAt.isBefore(LocalDateTime.now().minusMinutes(windowMinutes))) {
+            return;
+        }
+
+        ApiLogSummaryDto summary = ApiLogSummaryDto.of(dto, createdAt);
+        Set<String> terms = termsOf(dto);
+        segmentFor(System.currentTimeMillis()).add(summary, terms);
+    }
+
+    /**
+     * 색인에서 로그를 검색합니다. 최신 로그부터 최대 limit 건을 반환합니다.
+     * @param must    AND 로 결합할 조건 목록. 각 조건은 OR 로 결합할 검색어 묶음입니다.
+     * @param mustNot 하나라도 포함하면 제외할 검색어 목록
+     * @param from    조회 시작 시각 (포함, null 이면 제한 없음)
+     * @param to      조회 종료 시각 (미포함, null 이면 제한 없음)
+     * @param limit   최대 건수
+     */
+    public List<ApiLogSummaryDto> search(List<Set<String>> must, Set<String> mustNot,
+                                         LocalDateTime from, LocalDateTime to, int limit) {
+        List<ApiLogSummaryDto> results = new ArrayList<>();
+        Iterator<Segment> it = segments.descendingIterator();
+        while (it.hasNext() && results.size() < limit) {
+            Segment segment = it.next();
+            if ((from != null && segment.maxCreatedAt != null && segment.maxCreatedAt.isBefore(from))
+                    || (to != null && segment.minCreatedAt != null && !segment.minCreatedAt.isBefore(to))) {
+                continue;
+            }
+            segment.search(must, mustNot, from, to, limit - results.size(), results);
+        }
+        return results;
+    }
+
+    /**
+     * 이 시각 이후의 로그는 빠짐없이 색인되어 있습니다. (기동 시각, 보관 구간, 메모리 예산으로 버린 구간 중 가장 늦은 시각)
+     */
+    public LocalDateTime getCompleteSince() {
+        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
+        return completeSince.isAfter(windowStart) ? completeSince : windowStart;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String term(String kind, Object value) {
+        return kind + ":" + value;
+    }
+
+    /**
+     * 보관 구간이 지났거나 메모리 예산을 넘은 세그먼트를 오래된 것부터 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${apilog.index.eviction-interval-ms:5000}")
+    public void evict() {
+        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
+        long budget = memoryBudgetMb * 1024 * 1024;
+        long total = segments.stream().mapToLong(Segment::estimatedBytes).sum();
+
+        Segment oldest;
+        while ((oldest = segments.peekFirst()) != null && oldest != current) {
+            boolean expired = oldest.maxCreatedAt == null || oldest.maxCreatedAt.isBefore(windowStart);
+            if (!expired && total <= budget) {
+                break;
+            }
+            segments.pollFirst();
+            total -= oldest.estimatedBytes();
+            if (!expired && oldest.maxCreatedAt != null && oldest.maxCreatedAt.isAfter(completeSince)) {
+                // 메모리 예산 때문에 보관 구간 안의 로그를 버렸으므로, 그 구간의 검색은 DB로 넘어가야 합니다.
+                completeSince = oldest.maxCreatedAt;
+                log.warn("API 로그 색인 메모리 예산 초과로 {} 이전 구간을 제거했습니다.", completeSince);
+            }
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 반환합니다. 구간이 바뀌었으면 새 세그먼트를 만듭니다.
+     */
+    private Segment segmentFor(long nowMs) {
+        long slot = nowMs / (segmentSeconds * 1000);
+        Segment segment = current;
+        if (segment != null && segment.slot == slot) {
+            return segment;
+        }
+        synchronized (rotationLock) {
+            segment = current;
+            if (segment == null || segment.slot != slot) {
+                segment = new Segment(slot);
+                segments.addLast(segment);
+                current = segment;
+            }
+            return segment;
+        }
+    }
+
+    private Set<String> termsOf(ApiLogDto dto) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTerm(terms, TRACE, dto.getTraceId());
+        addTerm(terms, CLIENT_IP, dto.getClientIp());
+        addTerm(terms, TEMPLATE, dto.getEndpointTemplate() != null ? dto.getEndpointTemplate() : dto.getApiEndpoint());
+        addTerm(terms, STATUS, dto.getResponseStatus());
+        addTerm(terms, SERVICE, dto.getServiceName());
+        addTerm(terms, METHOD, dto.getHttpMethod());
+        addPayloadTerms(terms, dto.getRequestPayload());
+        addPayloadTerms(terms, dto.getResponsePayload());
+        return terms;
+    }
+
+    private static void addTerm(Set<String> terms, String kind, Object value) {
+        if (value != null) {
+            terms.add(term(kind, value));
+        }
+    }
+
+    /**
+     * 본문에서 지정된 필드의 값을 검색어로 추출합니다.
+     * 요청 본문은 객체(Map/List, POST /api/logs 로 받은 경우)이거나 기록 정책에 따라 잘린 JSON 문자열일 수 있습니다.
+     */
+    private void addPayloadTerms(Set<String> terms, Object payload) {
+        if (payload == null || payloadFields.isEmpty()) {
+            return;
+        }
+        if (payload instanceof CharSequence text) {
+            scanJson(text.toString(), terms);
+        } else {
+            walk(payload, terms, 0);
+        }
+    }
+
+    private void walk(Object node, Set<String> terms, int depth) {
+        if (depth > 4 || terms.size() >= maxTokensPerEvent) {
+            return;
+        }
+        if (node instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object value = entry.getValue();
+                if (payloadFields.contains(String.valueOf(entry.getKey())) && isScalar(value)) {
+                    addFieldTerm(terms, String.valueOf(entry.getKey()), String.valueOf(value));
+                } else if (value instanceof Map<?, ?> || value instanceof Collection<?>) {
+                    walk(value, terms, depth + 1);
+                }
+            }
+        } else if (node instanceof Collection<?> list) {
+            for (Object item : list) {
+                walk(item, terms, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * JSON 문자열에서 "필드": 값 형태를 찾아 값(문자열, 숫자, true/false)을 읽습니다.
+     * 본문이 중간에서 잘려 있어도 온전히 남아 있는 필드까지는 추출됩니다.
+     */
+    private void scanJson(String json, Set<String> terms) {
+        for (String field : payloadFields) {
+            String key = "\"" + field + "\"";
+            int idx = json.indexOf(key);
+            while (idx >= 0 && terms.size() < maxTokensPerEvent) {
+                int pos = skipWhitespace(json, idx + key.length());
+                if (pos < json.length() && json.charAt(pos) == ':') {
+                    String value = readJsonScalar(json, skipWhitespace(json, pos + 1));
+                    if (value != null) {
+                        addFieldTerm(terms, field, value);
+                    }
+                }
+                idx = json.indexOf(key, idx + key.length());
+            }
+        }
+    }
+
+    private void addFieldTerm(Set<String> terms, String field, String value) {
+        if (terms.size() < maxTokensPerEvent && !value.isEmpty() && value.length() <= MAX_FIELD_VALUE_LENGTH) {
+            terms.add(term(FIELD, field + "=" + value));
+        }
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean;
+    }
+
+    private static int skipWhitespace(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static String readJsonScalar(String json, int pos) {
+        if (pos >= json.length()) {
+            return null;
+        }
+        if (json.charAt(pos) == '"') {
+            StringBuilder value = new StringBuilder();
+            for (int i = pos + 1; i < json.length() && value.length() <= MAX_FIELD_VALUE_LENGTH; i++) {
+                char c = json.charAt(i);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\' && i + 1 < json.length()) {
+                    c = json.charAt(++i);
+                }
+                value.append(c);
+            }
+            return null; // 닫는 따옴표 전에 잘린 값
+        }
+        int end = pos;
+        while (end < json.length() && ",}] \t\r\n".indexOf(json.charAt(end)) < 0) {
+            end++;
+        }
+        if (end == json.length()) {
+            return null; // 잘린 숫자일 수 있으므로 버림
+        }
+        String value = json.substring(pos, end);
+        return "null".equals(value) ? null : value;
+    }
+
+    /**
+     * 한 구간의 로그와 검색어별 위치 목록입니다. 추가와 검색은 세그먼트 단위로 잠급니다.
+     */
+    private static final class Segment {
+        final long slot;
+        private final List<ApiLogSummaryDto> entries = new ArrayList<>();
+        private final Map<String, IntList> postings = new HashMap<>();
+        private volatile long estimatedBytes;
+        private volatile LocalDateTime minCreatedAt;
+        private volatile LocalDateTime maxCreatedAt;
+
+        Segment(long slot) {
+            this.slot = slot;
+        }
+
+        synchronized void add(ApiLogSummaryDto entry, Set<String> terms) {
+            int position = entries.size();
+            entries.add(entry);
+            long bytes = ENTRY_OVERHEAD_BYTES + 2L * (length(entry.getApiEndpoint()) + length(entry.getTraceId())
+                    + length(entry.getClientIp()) + length(entry.getServiceName()));
+            for (String term : terms) {
+                IntList list = postings.get(term);
+                if (list == null) {
+                    list = new IntList();
+                    postings.put(term, list);
+                    bytes += TERM_OVERHEAD_BYTES + 2L * term.length();
+                }
+                list.add(position);
+                bytes += POSTING_OVERHEAD_BYTES;
+            }
+            estimatedBytes += bytes;
+            LocalDateTime createdAt = entry.getCreatedAt();
+            if (minCreatedAt == null || createdAt.isBefore(minCreatedAt)) {
+                minCreatedAt = createdAt;
+            }
+            if (maxCreatedAt == null || createdAt.isAfter(maxCreatedAt)) {
+                maxCreatedAt = createdAt;
+            }
+        }
+
+        long estimatedBytes() {
+            return estimatedBytes;
+        }
+
+        synchronized void search(List<Set<String>> must, Set<String> mustNot, LocalDateTime from, LocalDateTime to,
+                                 int limit, List<ApiLogSummaryDto> out) {
+            int[] candidates = null; // null 이면 세그먼트 전체
+            for (Set<String> anyOf : must) {
+                int[] union = union(anyOf);
+                candidates = candidates == null ? union : intersect(candidates, union);
+                if (candidates.length == 0) {
+                    return;
+                }
+            }
+            int[] excluded = mustNot.isEmpty() ? new int[0] : union(mustNot);
+
+            // 최신 로그부터 담습니다.
+            int count = candidates != null ? candidates.length : entries.size();
+            for (int i = count - 1; i >= 0 && limit > 0; i--) {
+                int position = candidates != null ? candidates[i] : i;
+                if (excluded.length > 0 && Arrays.binarySearch(excluded, position) >= 0) {
+                    continue;
+                }
+                ApiLogSummaryDto entry = entries.get(position);
+                if ((from != null && entry.getCreatedAt().isBefore(from)) || (to != null && !entry.getCreatedAt().isBefore(to))) {
+                    continue;
+                }
+                out.add(entry);
+                limit--;
+            }
+        }
+
+        private int[] union(Set<String> terms) {
+            int[] result = new int[0];
+            for (String term : terms) {
+                IntList list = postings.get(term);
+                if (list != null) {
+                    result = result.length == 0 ? list.toArray() : merge(result, list.toArray());
+                }
+            }
+            return result;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합
+     */
+    static int[] merge(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            out[n++] = a[i++];
+        }
+        while (j < b.length) {
+            out[n++] = b[j++];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합
+     */
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 위치(int) 목록. 항상 오름차순으로 추가됩니다.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
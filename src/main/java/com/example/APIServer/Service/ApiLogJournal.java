@@ -0,0 +1,245 @@
+package com.example.APIServer.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 로그 레코드를 로컬 파일에 순서대로 덧붙이는(append-only) 메모리 매핑 저널입니다.
+ * DB가 느리거나 내려가 있을 때 로그를 잃지 않도록 쓰기 전 버퍼(write-ahead buffer) 역할을 합니다.
+ *
+ * 파일 구조
+ * - 헤더(64바이트): magic(4) | version(4) | commitOffset(8) | epoch(4) | 예약
+ * - 레코드: length(4) | epoch(4) | crc32(4) | payload(length)
+ *
+ * commitOffset 앞쪽 레코드는 DB 저장이 끝난 것이고, 뒤쪽 레코드는 아직 재전송(replay)해야 하는 것입니다.
+ * commitOffset 은 저장이 끝난 뒤에 기록되므로, 그 사이에 중단되면 저장된 레코드가 다시 재전송될 수 있습니다. (at-least-once)
+ * 프로세스가 비정상 종료되면 다시 열 때 commitOffset 부터 CRC를 검사하며 유효한 레코드까지만 복구하므로,
+ * 쓰다 만(torn) 마지막 레코드는 자동으로 버려집니다.
+ * 모든 레코드가 커밋되면 쓰기 위치를 처음으로 되돌리고 epoch 를 올려, 이전 세대의 레코드가 다시 읽히지 않게 합니다.
+ */
+public class ApiLogJournal implements Closeable {
+
+    private static final int MAGIC = 0x414C4A31; // "ALJ1"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_HEADER_SIZE = 12;
+
+    private static final int COMMIT_OFFSET_POS = 8;
+    private static final int EPOCH_POS = 16;
+
+    /**
+     * 저널에서 읽은 미커밋 레코드입니다.
+     */
+    public static final class Entry {
+        private final byte[] data;
+        private final long endOffset;
+
+        Entry(byte[] data, long endOffset) {
+            this.data = data;
+            this.endOffset = endOffset;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * 이 레코드까지 처리했을 때 commit 에 넘겨야 하는 위치
+         */
+        public long getEndOffset() {
+            return endOffset;
+        }
+    }
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private long commitOffset;
+    private long writeOffset;
+    private int epoch;
+
+    private ApiLogJournal(RandomAccessFile file, MappedByteBuffer buffer, int capacity) {
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 저널 파일을 열거나 새로 만들고, 비정상 종료 이후라면 미커밋 레코드의 끝을 찾아 복구합니다.
+     * @param path     저널 파일 경로
+     * @param capacity 파일 크기(바이트). 기존 파일이 더 크면 기존 크기를 사용합니다.
+     */
+    public static ApiLogJournal open(Path path, int capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+        boolean fresh = file.length() < HEADER_SIZE;
+        int size = (int) Math.max(file.length(), capacity);
+        if (file.length() < size) {
+            file.setLength(size);
+        }
+        MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        ApiLogJournal journal = new ApiLogJournal(file, buffer, size);
+        if (fresh || buffer.getInt(0) != MAGIC) {
+            journal.format();
+        } else {
+            journal.recover();
+        }
+        return journal;
+    }
+
+    private void format() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(COMMIT_OFFSET_POS, HEADER_SIZE);
+        buffer.putInt(EPOCH_POS, 1);
+        commitOffset = HEADER_SIZE;
+        writeOffset = HEADER_SIZE;
+        epoch = 1;
+    }
+
+    private void recover() {
+        commitOffset = buffer.getLong(COMMIT_OFFSET_POS);
+        epoch = buffer.getInt(EPOCH_POS);
+        if (commitOffset < HEADER_SIZE || commitOffset > capacity) {
+            commitOffset = HEADER_SIZE;
+        }
+        long position = commitOffset;
+        while (true) {
+            long next = validRecordEnd(position);
+            if (next < 0) {
+                break;
+            }
+            position = next;
+        }
+        writeOffset = position;
+    }
+
+    /**
+     * position 에 현재 epoch 의 온전한 레코드가 있으면 그 끝 위치를, 없으면 -1을 반환합니다.
+     */
+    private long validRecordEnd(long position) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return -1;
+        }
+        int pos = (int) position;
+        int length = buffer.getInt(pos);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + length > capacity) {
+            return -1;
+        }
+        if (buffer.getInt(pos + 4) != epoch) {
+            return -1;
+        }
+        byte[] data = new byte[length];
+        buffer.get(pos + RECORD_HEADER_SIZE, data);
+        if (buffer.getInt(pos + 8) != checksum(data, epoch)) {
+            return -1;
+        }
+        return position + RECORD_HEADER_SIZE + length;
+    }
+
+    /**
+     * 레코드 하나를 덧붙입니다.
+     * @return 공간이 부족해 쓰지 못했으면 false
+     */
+    public synchronized boolean append(byte[] data) {
+        long end = writeOffset + RECORD_HEADER_SIZE + data.length;
+        if (end > capacity) {
+            return false;
+        }
+        int pos = (int) writeOffset;
+        // 본문과 CRC를 먼저 쓰고 길이를 마지막에 써서, 중간에 종료되면 길이/CRC 검사에서 걸러지도록 합니다.
+        buffer.put(pos + RECORD_HEADER_SIZE, data);
+        buffer.putInt(pos + 8, checksum(data, epoch));
+        buffer.putInt(pos + 4, epoch);
+        buffer.putInt(pos, data.length);
+        writeOffset = end;
+        return true;
+    }
+
+    /**
+     * 커밋되지 않은 레코드를 앞에서부터 최대 max 건 읽습니다. 읽기만 하고 커밋하지는 않습니다.
+     */
+    public synchronized List<Entry> readPending(int max) {
+        List<Entry> entries = new ArrayList<>();
+        long position = commitOffset;
+        while (position < writeOffset && entries.size() < max) {
+            int pos = (int) position;
+            int length = buffer.getInt(pos);
+            byte[] data = new byte[length];
+            buffer.get(pos + RECORD_HEADER_SIZE, data);
+            position += RECORD_HEADER_SIZE + length;
+            entries.add(new Entry(data, position));
+        }
+        return entries;
+    }
+
+    /**
+     * offset 앞쪽의 레코드를 처리 완료로 기록합니다.
+     * 모든 레코드가 커밋되면 파일 공간을 처음부터 다시 사용합니다.
+     */
+    public synchronized void commit(long offset) {
+        if (offset <= commitOffset || offset > writeOffset) {
+            return;
+        }
+        commitOffset = offset;
+        if (commitOffset == writeOffset) {
+            // epoch 를 먼저 올려 두면, 되감기 도중 종료되더라도 이전 세대 레코드는 복구 대상이 되지 않습니다.
+            epoch++;
+            buffer.putInt(EPOCH_POS, epoch);
+            commitOffset = HEADER_SIZE;
+            writeOffset = HEADER_SIZE;
+        }
+        buffer.putLong(COMMIT_OFFSET_POS, commitOffset);
+    }
+
+    public synchronized boolean hasPending() {
+        return writeOffset > commitOffset;
+    }
+
+    public synchronized long getPendingBytes() {
+        return writeOffset - commitOffset;
+    }
+
+    public synchronized long getWriteOffset() {
+        return writeOffset;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 페이지 캐시의 내용을 디스크에 강제로 기록합니다. (전원 장애 대비가 필요할 때 사용)
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        file.close();
+    }
+
+    private static int checksum(byte[] data, int epoch) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        crc.update(epoch >>> 24);
+        crc.update(epoch >>> 16);
+        crc.update(epoch >>> 8);
+        crc.update(epoch);
+        return (int) crc.getValue();
+    }
+}
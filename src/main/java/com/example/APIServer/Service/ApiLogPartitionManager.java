@@ -0,0 +1,184 @@
+package com.example.APIServer.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * api_logs 테이블을 created_at 기준 RANGE 파티션으로 관리하는 서비스 클래스입니다.
+ *
+ * 기동 시 테이블을 파티션 테이블로 변환하고, 매일 정해진 시각에
+ * 앞으로 사용할 파티션을 미리 만들고 보관 기간이 지난 파티션을 DROP 합니다.
+ * 오래된 로그 삭제가 대량 DELETE 대신 파티션 DROP 한 번으로 끝나므로, 테이블 크기와 관계없이 비용이 일정합니다.
+ *
+ * apilog.storage.partitioning=NONE(기본값)이면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogPartitionManager {
+
+    /**
+     * 파티션 단위입니다. NONE이면 파티션을 사용하지 않습니다.
+     */
+    public enum Granularity { NONE, DAILY, WEEKLY }
+
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${apilog.storage.partitioning:NONE}")
+    private Granularity granularity;
+
+    @Value("${apilog.storage.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${apilog.storage.partitions-ahead:7}")
+    private int partitionsAhead;
+
+    /**
+     * 애플리케이션 기동이 끝난 뒤(JPA가 테이블을 만든 뒤) 테이블을 파티션 테이블로 변환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!isEnabled()) {
+            return;
+        }
+        if (listPartitionStarts().isEmpty()) {
+            convertToPartitionedTable(LocalDate.now());
+        }
+        maintain(LocalDate.now());
+    }
+
+    /**
+     * 매일 파티션을 점검합니다. (기본값: 매일 00시 10분)
+     */
+    @Scheduled(cron = "${apilog.storage.maintenance-cron:0 10 0 * * *}")
+    public void scheduledMaintenance() {
+        if (isEnabled()) {
+            maintain(LocalDate.now());
+        }
+    }
+
+    public boolean isEnabled() {
+        return granularity != null && granularity != Granularity.NONE;
+    }
+
+    /**
+     * 미래 파티션을 미리 만들고, 보관 기간이 지난 파티션을 삭제합니다.
+     * @param today 기준 날짜
+     */
+    void maintain(LocalDate today) {
+        List<LocalDate> existing = listPartitionStarts();
+        if (existing.isEmpty()) {
+            log.warn("api_logs 테이블이 파티션 테이블이 아니므로 파티션 점검을 건너뜁니다.");
+            return;
+        }
+
+        // 1. 미래 파티션 생성: p_future 파티션을 쪼개서 새 구간을 추가합니다. (p_future는 항상 비어 있으므로 데이터 이동이 없습니다)
+        LocalDate last = existing.get(existing.size() - 1);
+        LocalDate horizon = periodStart(today).plusDays((long) partitionsAhead * periodDays());
+        List<LocalDate> toAdd = new ArrayList<>();
+        for (LocalDate start = nextPeriod(last); !start.isAfter(horizon); start = nextPeriod(start)) {
+            toAdd.add(start);
+        }
+        if (!toAdd.isEmpty()) {
+            StringJoiner defs = new StringJoiner(", ");
+            toAdd.forEach(start -> defs.add(partitionDefinition(start)));
+            defs.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+            jdbcTemplate.execute("ALTER TABLE api_logs REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" + defs + ")");
+            log.info("api_logs 파티션 {}개 추가 ({} ~ {})", toAdd.size(), toAdd.get(0), toAdd.get(toAdd.size() - 1));
+        }
+
+        // 2. 만료 파티션 삭제: 구간의 끝이 보관 기준일 이전인 파티션만 DROP 합니다. (최소 1개는 남깁니다)
+        LocalDate cutoff = today.minusDays(retentionDays);
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < existing.size() - 1; i++) {
+            LocalDate start = existing.get(i);
+            if (!nextPeriod(start).isAfter(cutoff)) {
+                expired.add(partitionName(start));
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE api_logs DROP PARTITION " + String.join(", ", expired));
+            log.info("보관 기간({}일)이 지난 api_logs 파티션 삭제: {}", retentionDays, expired);
+        }
+    }
+
+    /**
+     * 일반 테이블을 파티션 테이블로 변환합니다.
+     * MySQL은 파티션 키가 모든 유니크 키에 포함되어야 하므로 기본 키를 (log_id, created_at)으로 바꿉니다.
+     */
+    private void convertToPartitionedTable(LocalDate today) {
+        LocalDate oldest = jdbcTemplate.queryForObject("SELECT DATE(MIN(created_at)) FROM api_logs", LocalDate.class);
+        LocalDate first = periodStart(oldest != null && oldest.isBefore(today) ? oldest : today);
+
+        jdbcTemplate.execute("ALTER TABLE api_logs MODIFY created_at DATETIME(6) NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE api_logs DROP PRIMARY KEY, ADD PRIMARY KEY (log_id, created_at)");
+        jdbcTemplate.execute(buildPartitionByClause(first, periodStart(today)));
+        log.info("api_logs 테이블을 {} 파티션 테이블로 변환했습니다.", granularity);
+    }
+
+    String buildPartitionByClause(LocalDate first, LocalDate last) {
+        StringJoiner defs = new StringJoiner(", ");
+        for (LocalDate start = first; !start.isAfter(last); start = nextPeriod(start)) {
+            defs.add(partitionDefinition(start));
+        }
+        defs.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return "ALTER TABLE api_logs PARTITION BY RANGE COLUMNS (created_at) (" + defs + ")";
+    }
+
+    /**
+     * 현재 테이블의 파티션 시작일 목록을 오름차순으로 조회합니다. (p_future 제외)
+     */
+    private List<LocalDate> listPartitionStarts() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'api_logs' AND PARTITION_NAME IS NOT NULL "
+                        + "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+        List<LocalDate> starts = new ArrayList<>();
+        for (String name : names) {
+            if (!FUTURE_PARTITION.equals(name)) {
+                starts.add(LocalDate.parse(name.substring(1), NAME_FORMAT));
+            }
+        }
+        return starts;
+    }
+
+    private String partitionDefinition(LocalDate start) {
+        return "PARTITION " + partitionName(start) + " VALUES LESS THAN ('" + nextPeriod(start) + " 00:00:00')";
+    }
+
+    static String partitionName(LocalDate start) {
+        return "p" + start.format(NAME_FORMAT);
+    }
+
+    LocalDate periodStart(LocalDate date) {
+        return granularity == Granularity.WEEKLY
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date;
+    }
+
+    private LocalDate nextPeriod(LocalDate start) {
+        return start.plusDays(periodDays());
+    }
+
+    private int periodDays() {
+        return granularity == Granularity.WEEKLY ? 7 : 1;
+    }
+}
@@ -0,0 +1,491 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogPayloadDictionaryDto;
+import com.example.APIServer.Dto.ApiLogPayloadMigrationDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 요청/응답 본문을 내용 해시로 api_log_payloads 테이블에 한 번만 저장하고, 조회 시 다시 채워 넣는 서비스 클래스입니다.
+ *
+ * 저장: 본문이 min-bytes 이상이면 128비트 MurmurHash3 값을 api_logs 의 *_payload_hash 컬럼에 넣고 본문 컬럼은 비웁니다.
+ * 최근에 저장한 해시는 메모리 캐시(cache-size 칸, 해시 앞 32비트로 칸을 고르는 직접 사상 방식)에 기억하여,
+ * 같은 날 같은 본문이 다시 오면 INSERT 없이 해시만 기록합니다. 캐시에 없거나 날짜가 바뀐 해시만
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 저장(또는 last_seen_at 갱신)합니다.
+ * 캐시는 본문 저장이 커밋된 뒤에만 채우므로, 롤백된 본문을 있다고 착각하지 않습니다.
+ *
+ * 압축: compression=deflate 이면 본문을 PayloadCodec 으로 압축해 content_compressed(BLOB)에 저장합니다.
+ * 압축 사전은 POST /api/logs/payloads/dictionary 로 최근 본문에서 만들어 api_log_payload_dictionaries 에 저장하며,
+ * 기존 행은 migrate() 가 매일 조금씩(또는 POST /api/logs/payloads/migrate 로 즉시) 압축 형식으로 옮깁니다.
+ *
+ * 조회: resolve()/load() 가 해시로 본문을 읽어(필요하면 압축을 풀어) 엔티티와 내보내기 행의 본문 필드에 다시 채웁니다.
+ * 목록 조회는 본문을 읽지 않으므로, 압축을 푸는 비용은 상세 조회와 내보내기에서만 듭니다.
+ * 정리: 어떤 api_logs 행도 참조하지 않고 last_seen_at 이 하루 이상 지난 본문을 매일 삭제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogPayloadStore {
+
+    private static final String UPSERT_PREFIX = "INSERT INTO api_log_payloads (payload_hash, content, content_compressed, "
+            + "size_bytes, created_at, last_seen_at) VALUES ";
+    private static final String UPSERT_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at))";
+    private static final int UPSERT_COLUMN_COUNT = 6;
+    private static final int MAX_HASHES_PER_SELECT = 500;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${apilog.payload.dedup-enabled:true}")
+    private boolean enabled;
+
+    @Value("${apilog.payload.min-bytes:256}")
+    private int minBytes;
+
+    @Value("${apilog.payload.cache-size:65536}")
+    private int cacheSize;
+
+    @Value("${apilog.payload.max-rows-per-statement:200}")
+    private int maxRowsPerStatement;
+
+    @Value("${apilog.payload.sweep-batch-size:1000}")
+    private int sweepBatchSize;
+
+    @Value("${apilog.payload.compression:deflate}")
+    private String compression;
+
+    @Value("${apilog.payload.compression-level:1}")
+    private int compressionLevel;
+
+    @Value("${apilog.payload.dictionary-size:16384}")
+    private int dictionarySize;
+
+    @Value("${apilog.payload.dictionary-samples:500}")
+    private int dictionarySamples;
+
+    @Value("${apilog.payload.migrate-batch-size:500}")
+    private int migrateBatchSize;
+
+    private AtomicReferenceArray<SeenPayload> seen;
+    private int mask;
+    private PayloadCodec codec;
+    private boolean compress;
+
+    /**
+     * 캐시 칸 수를 2의 거듭제곱으로 올려 해시에서 칸 위치를 비트 연산으로 구합니다.
+     */
+    @PostConstruct
+    public void init() {
+        int size = 2;
+        while (size < cacheSize) {
+            size <<= 1;
+        }
+        this.seen = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        // 압축하지 않는 설정에서도 이미 압축된 행은 읽을 수 있어야 하므로 코덱은 항상 만듭니다.
+        this.codec = new PayloadCodec(compressionLevel, this::loadDictionary);
+        this.compress = "deflate".equalsIgnoreCase(compression);
+    }
+
+    /**
+     * 저장된 압축 사전을 읽어, 가장 최근에 만든 사전으로 압축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDictionaries() {
+        try {
+            jdbcTemplate.query("SELECT content FROM api_log_payload_dictionaries ORDER BY created_at",
+                    (RowCallbackHandler) rs -> codec.addDictionary(rs.getBytes(1)));
+        } catch (DataAccessException e) {
+            log.warn("본문 압축 사전을 읽지 못했습니다. 사전 없이 압축합니다: {}", e.getMessage());
+        }
+        if (compress && codec.getActiveDictionaryId() != null) {
+            log.info("본문 압축 사전 사용: {}", Integer.toHexString(codec.getActiveDictionaryId()));
+        }
+    }
+
+    private byte[] loadDictionary(int dictionaryId) {
+        List<byte[]> found = jdbcTemplate.query("SELECT content FROM api_log_payload_dictionaries WHERE dictionary_id = ?",
+                (rs, rowNum) -> rs.getBytes(1), dictionaryId);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * 엔티티의 본문을 해시 참조로 바꾸고, 처음 보는(또는 오늘 아직 갱신하지 않은) 본문을 api_log_payloads 에 저장합니다.
+     * api_logs 에 행을 INSERT 하기 전에 호출해야 합니다.
+     * @param entities 저장할 로그 엔티티 (본문 필드와 해시 필드가 바뀝니다)
+     */
+    public void externalize(List<ApiLogEntity> entities) {
+        if (!enabled || entities.isEmpty()) {
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        // 해시 순서로 저장하여, 같은 본문을 동시에 저장하는 트랜잭션끼리 잠금 순서가 엇갈리지(교착 상태) 않게 합니다.
+        Map<String, byte[]> pending = new TreeMap<>();
+        for (ApiLogEntity entity : entities) {
+            String requestHash = externalize(entity.getRequestPayload(), today, pending);
+            if (requestHash != null) {
+                entity.setRequestPayloadHash(requestHash);
+                entity.setRequestPayload(null);
+            }
+            String responseHash = externalize(entity.getResponsePayload(), today, pending);
+            if (responseHash != null) {
+                entity.setResponsePayloadHash(responseHash);
+                entity.setResponsePayload(null);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, byte[]>> rows = new ArrayList<>(pending.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp seenAt = Timestamp.valueOf(LocalDate.ofEpochDay(today).atStartOfDay());
+        for (int from = 0; from < rows.size(); from += maxRowsPerStatement) {
+            List<Map.Entry<String, byte[]>> chunk = rows.subList(from, Math.min(from + maxRowsPerStatement, rows.size()));
+            Object[] args = new Object[chunk.size() * UPSERT_COLUMN_COUNT];
+            int i = 0;
+            for (Map.Entry<String, byte[]> row : chunk) {
+                args[i++] = row.getKey();
+                args[i++] = compress ? null : new String(row.getValue(), StandardCharsets.UTF_8);
+                args[i++] = compress ? codec.encode(row.getValue()) : null;
+                args[i++] = row.getValue().length;
+                args[i++] = now;
+                args[i++] = seenAt;
+            }
+            jdbcTemplate.update(JdbcApiLogSink.buildInsertSql(UPSERT_PREFIX, UPSERT_ROW_PLACEHOLDER, chunk.size())
+                    + UPSERT_SUFFIX, args);
+        }
+        markSeenAfterCommit(pending.keySet(), today);
+    }
+
+    /**
+     * @return 본문을 참조로 바꿀 경우 그 해시, 본문을 그대로 둘 경우 null
+     */
+    private String externalize(String payload, long today, Map<String, byte[]> pending) {
+        if (payload == null || payload.length() * 3 < minBytes) {
+            return null; // UTF-8 로 문자당 최대 3바이트이므로 확실히 작은 본문은 인코딩하지 않고 건너뜁니다.
+        }
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < minBytes) {
+            return null;
+        }
+        String hash = hash(bytes);
+        SeenPayload cached = seen.get(slot(hash));
+        if (cached == null || cached.day != today || !cached.hash.equals(hash)) {
+            pending.putIfAbsent(hash, bytes);
+        }
+        return hash;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 캐시에 기록합니다.
+     */
+    private void markSeenAfterCommit(Collection<String> hashes, long day) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> committed = List.copyOf(hashes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markSeen(committed, day);
+                }
+            });
+        } else {
+            markSeen(hashes, day);
+        }
+    }
+
+    private void markSeen(Collection<String> hashes, long day) {
+        for (String hash : hashes) {
+            seen.set(slot(hash), new SeenPayload(hash, day));
+        }
+    }
+
+    private int slot(String hash) {
+        return Integer.parseUnsignedInt(hash, 0, 8, 16) & mask;
+    }
+
+    /**
+     * 엔티티의 해시 참조를 본문으로 다시 채웁니다. (본문 필드가 이미 있으면 그대로 둡니다)
+     */
+    public ApiLogEntity resolve(ApiLogEntity entity) {
+        List<String> hashes = new ArrayList<>(2);
+        if (entity.getRequestPayload() == null && entity.getRequestPayloadHash() != null) {
+            hashes.add(entity.getRequestPayloadHash());
+        }
+        if (entity.getResponsePayload() == null && entity.getResponsePayloadHash() != null) {
+            hashes.add(entity.getResponsePayloadHash());
+        }
+        if (hashes.isEmpty()) {
+            return entity;
+        }
+        Map<String, String> contents = load(hashes);
+        if (entity.getRequestPayload() == null && entity.getRequestPayloadHash() != null) {
+            entity.setRequestPayload(contents.get(entity.getRequestPayloadHash()));
+        }
+        if (entity.getResponsePayload() == null && entity.getResponsePayloadHash() != null) {
+            entity.setResponsePayload(contents.get(entity.getResponsePayloadHash()));
+        }
+        return entity;
+    }
+
+    /**
+     * 해시들의 본문을 IN 조회로 읽습니다. (max 500개씩 나눠 조회, 압축된 본문은 풀어서 반환)
+     * @return 해시 -> 본문 (없는 해시는 빠집니다)
+     */
+    public Map<String, String> load(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> distinct = hashes.stream().distinct().toList();
+        Map<String, String> contents = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += MAX_HASHES_PER_SELECT) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_HASHES_PER_SELECT, distinct.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT payload_hash, content, content_compressed, size_bytes FROM api_log_payloads "
+                            + "WHERE payload_hash IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> contents.put(rs.getString(1),
+                            content(rs.getString(2), rs.getBytes(3), rs.getInt(4))), chunk.toArray());
+        }
+        return contents;
+    }
+
+    /**
+     * api_log_payloads 한 행의 본문입니다. 텍스트 컬럼이 비어 있으면 압축 컬럼을 풀어서 반환합니다.
+     * @param sizeBytes 원래 본문의 바이트 수 (모르면 0)
+     */
+    public String content(String text, byte[] compressed, int sizeBytes) {
+        if (text != null || compressed == null) {
+            return text;
+        }
+        return new String(codec.decode(compressed, sizeBytes), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 최근 본문 dictionary-samples 개로 압축 사전을 만들어 저장하고, 이후 압축에 사용합니다.
+     * 이전 사전으로 압축된 본문은 그대로 두며, 읽을 때 헤더의 사전 ID로 알맞은 사전을 찾습니다.
+     * @throws IllegalStateException 표본이 부족하거나 공통 조각이 없어 사전을 만들 수 없는 경우
+     */
+    public ApiLogPayloadDictionaryDto trainDictionary() {
+        List<byte[]> samples = new ArrayList<>();
+        jdbcTemplate.query("SELECT content, content_compressed, size_bytes FROM api_log_payloads ORDER BY last_seen_at DESC LIMIT ?",
+                (RowCallbackHandler) rs -> samples.add(content(rs.getString(1), rs.getBytes(2), rs.getInt(3))
+                        .getBytes(StandardCharsets.UTF_8)), dictionarySamples);
+        if (samples.size() < 2) {
+            throw new IllegalStateException("압축 사전을 만들 본문 표본이 부족합니다. (" + samples.size() + "개)");
+        }
+        byte[] dictionary = PayloadCodec.trainDictionary(samples, dictionarySize);
+        if (dictionary.length == 0) {
+            throw new IllegalStateException("표본 본문에 공통 조각이 없어 압축 사전을 만들 수 없습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int dictionaryId = PayloadCodec.dictionaryId(dictionary);
+        jdbcTemplate.update("INSERT INTO api_log_payload_dictionaries (dictionary_id, content, size_bytes, sample_count, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE created_at = VALUES(created_at)",
+                dictionaryId, dictionary, dictionary.length, samples.size(), Timestamp.valueOf(now));
+        codec.addDictionary(dictionary);
+
+        long original = 0;
+        long compressed = 0;
+        for (byte[] sample : samples) {
+            original += sample.length;
+            compressed += codec.encode(sample).length;
+        }
+        log.info("본문 압축 사전 생성: {} ({}바이트, 표본 {}개, 압축 비율 {})", Integer.toHexString(dictionaryId),
+                dictionary.length, samples.size(), String.format("%.3f", (double) compressed / original));
+        return new ApiLogPayloadDictionaryDto(Integer.toHexString(dictionaryId), dictionary.length, samples.size(),
+                (double) compressed / original, now);
+    }
+
+    /**
+     * 기존 행을 현재 저장 형식으로 옮깁니다. migrate-batch-size 행씩 나눠 처리하므로 운영 중에 실행해도 됩니다.
+     * 1) api_logs 에 그대로 저장된 min-bytes 이상의 본문(중복 제거 도입 전 행 등)을 api_log_payloads 로 옮깁니다.
+     * 2) compression=deflate 이면 텍스트로 저장된 api_log_payloads 본문을 압축합니다.
+     */
+    @Scheduled(cron = "${apilog.payload.migrate-cron:0 45 1 * * *}")
+    public ApiLogPayloadMigrationDto migrate() {
+        long moved = enabled ? moveInlinePayloads() : 0;
+        long compressed = compress ? compressTextPayloads() : 0;
+        if (moved > 0 || compressed > 0) {
+            log.info("본문 저장 형식 전환: api_logs {}행 이동, api_log_payloads {}행 압축", moved, compressed);
+        }
+        return new ApiLogPayloadMigrationDto(moved, compressed);
+    }
+
+    private long moveInlinePayloads() {
+        long moved = 0;
+        long afterLogId = 0;
+        List<ApiLogEntity> rows;
+        do {
+            // log_id 순서로 이어서 읽으므로, 한 번 지나간 구간을 다시 검사하지 않습니다.
+            rows = jdbcTemplate.query("SELECT log_id, request_payload, response_payload FROM api_logs WHERE log_id > ? "
+                            + "AND (LENGTH(request_payload) >= ? OR LENGTH(response_payload) >= ?) ORDER BY log_id LIMIT ?",
+                    (rs, rowNum) -> ApiLogEntity.builder()
+                            .logId(rs.getLong(1))
+                            .requestPayload(rs.getString(2))
+                            .responsePayload(rs.getString(3))
+                            .build(),
+                    afterLogId, minBytes, minBytes, migrateBatchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            externalize(rows);
+            jdbcTemplate.batchUpdate("UPDATE api_logs SET request_payload = ?, request_payload_hash = COALESCE(?, request_payload_hash), "
+                            + "response_payload = ?, response_payload_hash = COALESCE(?, response_payload_hash) WHERE log_id = ?",
+                    rows.stream().map(row -> new Object[]{row.getRequestPayload(), row.getRequestPayloadHash(),
+                            row.getResponsePayload(), row.getResponsePayloadHash(), row.getLogId()}).toList());
+            moved += rows.size();
+            afterLogId = rows.get(rows.size() - 1).getLogId();
+        } while (rows.size() >= migrateBatchSize);
+        return moved;
+    }
+
+    private long compressTextPayloads() {
+        long compressed = 0;
+        String afterHash = "";
+        List<Map.Entry<String, String>> rows;
+        do {
+            // payload_hash(기본 키) 순서로 이어서 읽으므로, 이미 압축한 행을 매번 처음부터 건너뛰며 다시 검사하지 않습니다.
+            rows = jdbcTemplate.query("SELECT payload_hash, content FROM api_log_payloads WHERE payload_hash > ? "
+                            + "AND content IS NOT NULL ORDER BY payload_hash LIMIT ?",
+                    (rs, rowNum) -> Map.entry(rs.getString(1), rs.getString(2)), afterHash, migrateBatchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE api_log_payloads SET content_compressed = ?, content = NULL "
+                            + "WHERE payload_hash = ? AND content IS NOT NULL",
+                    rows.stream().map(row -> new Object[]{codec.encode(row.getValue().getBytes(StandardCharsets.UTF_8)),
+                            row.getKey()}).toList());
+            compressed += rows.size();
+            afterHash = rows.get(rows.size() - 1).getKey();
+        } while (rows.size() >= migrateBatchSize);
+        return compressed;
+    }
+
+    /**
+     * 참조하는 api_logs 행이 없고 last_seen_at 이 어제 이전인 본문을 sweep-batch-size 행씩 나눠 삭제합니다.
+     * (아카이브/파티션 삭제로 로그가 지워진 본문이 대상입니다)
+     * 어제와 오늘 본 본문은 남겨, 캐시를 믿고 해시만 기록한 로그가 아직 저장 중인 경우에도 본문이 사라지지 않게 합니다.
+     */
+    @Scheduled(cron = "${apilog.payload.sweep-cron:0 15 1 * * *}")
+    public long sweep() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDate.now().minusDays(1).atStartOfDay());
+        long deleted = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("DELETE FROM api_log_payloads WHERE last_seen_at < ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM api_logs l WHERE l.request_payload_hash = api_log_payloads.payload_hash) "
+                    + "AND NOT EXISTS (SELECT 1 FROM api_logs l WHERE l.response_payload_hash = api_log_payloads.payload_hash) "
+                    + "LIMIT " + sweepBatchSize, cutoff);
+            deleted += updated;
+        } while (updated >= sweepBatchSize);
+        if (deleted > 0) {
+            log.info("참조가 없는 api_log_payloads {}행 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 본문(UTF-8)의 128비트 MurmurHash3(x64, seed 0) 값을 16진수 32자로 반환합니다.
+     * 암호학적 해시가 아니지만, 로그 본문 중복 제거에서는 충돌 확률(2^-64 수준)이 무시할 만하고 SHA-256 보다 훨씬 빠릅니다.
+     */
+    static String hash(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int blocks = data.length / 16;
+        long h1 = 0;
+        long h2 = 0;
+        for (int i = 0; i < blocks; i++) {
+            h1 ^= mixK1(buffer.getLong(i * 16));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(buffer.getLong(i * 16 + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int tail = blocks * 16;
+        int remaining = data.length - tail;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = remaining - 1; i >= 8; i--) {
+            k2 ^= (long) (data[tail + i] & 0xff) << ((i - 8) * 8);
+        }
+        for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+            k1 ^= (long) (data[tail + i] & 0xff) << (i * 8);
+        }
+        if (remaining > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        byte[] digest = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(h1).putLong(h2).array();
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        return k ^ (k >>> 33);
+    }
+
+    /**
+     * 캐시 한 칸: 저장(또는 last_seen_at 갱신)이 커밋된 해시와 그 날짜(epoch day)
+     */
+    private record SeenPayload(String hash, long day) {
+    }
+}
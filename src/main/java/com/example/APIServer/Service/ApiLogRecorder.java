@@ -0,0 +1,42 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 완성된 요청 로그 한 건을 통계, 최근 로그 색인, 실시간 tail, 이상 징후 감지기, 비동기 writer 에 전달하는 서비스 클래스입니다.
+ *
+ * 본문을 기록하는 요청은 응답 쓰기가 끝난 뒤 PayloadCaptureFilter 가, 그 밖의 요청은 LogAspect 가 호출합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogRecorder {
+
+    private final ApiLogWriter apiLogWriter;   // 로그를 비동기로 모아서 DB에 저장하는 writer
+    private final ApiLogRollupService apiLogRollupService; // 분 단위 지연 시간/처리량 집계
+    private final ApiLogSampler apiLogSampler; // 로그 기록 여부(샘플링) 결정
+    private final ApiLogIndex apiLogIndex; // 최근 로그 검색용 메모리 색인
+    private final ApiLogTailBuffer apiLogTailBuffer; // 실시간 tail(SSE)용 링 버퍼
+    private final ApiLogAnomalyDetector apiLogAnomalyDetector; // 응답 시간/오류율/요청 수 이상 징후 감지
+
+    public void record(ApiLogDto logDto) {
+        // 분 단위 통계, 최근 로그 색인, 실시간 tail, 이상 징후 감지에는 모든 요청을 반영합니다.
+        apiLogRollupService.record(logDto);
+        apiLogIndex.add(logDto);
+        apiLogTailBuffer.publish(logDto);
+        apiLogAnomalyDetector.record(logDto);
+
+        // 샘플링을 통과한 로그만 가중치와 함께 비동기 writer의 큐에 넣습니다. DB 저장을 기다리지 않고 바로 응답합니다.
+        double sampleWeight = apiLogSampler.sample(logDto);
+        if (sampleWeight > 0) {
+            logDto.setSampleWeight(sampleWeight);
+            apiLogWriter.enqueue(logDto);
+        }
+
+        log.info("[{}] {} {} - {} {}ms", logDto.getTraceId(), logDto.getHttpMethod(), logDto.getApiEndpoint(),
+                logDto.getResponseStatus(), logDto.getDurationMs());
+    }
+}
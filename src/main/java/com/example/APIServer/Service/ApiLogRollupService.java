@@ -0,0 +1,208 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogStatsDto;
+import com.example.APIServer.Dto.ApiLogStatsReportDto;
+import com.example.APIServer.Entity.ApiLogRollupEntity;
+import com.example.APIServer.Repository.ApiLogRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 요청의 응답 시간과 처리량을 1분 단위로 집계(rollup)하는 서비스 클래스입니다.
+ *
+ * LogAspect가 요청마다 record()를 호출하면 메모리의 (분, 서비스, 엔드포인트 템플릿, 상태 코드 계열) 칸에 누적되고,
+ * 지나간 분의 칸은 주기적으로 api_log_rollups 테이블에 한 행씩 저장됩니다.
+ * 통계 조회는 이 롤업 행들의 히스토그램을 합쳐서 계산하므로, 원본 api_logs 를 스캔하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogRollupService {
+
+    private static final long MINUTE_MS = 60_000L;
+    private static final long FLUSH_GRACE_MS = 5_000L; // 분이 끝난 직후 늦게 도착한 기록을 기다리는 시간
+
+    private final ApiLogRollupRepository rollupRepository;
+
+    private final ConcurrentHashMap<RollupKey, RollupCell> cells = new ConcurrentHashMap<>();
+
+    private record RollupKey(long minute, String serviceName, String endpointTemplate, int statusClass) {
+    }
+
+    /**
+     * 한 칸의 누적값입니다. 모든 필드가 락 없이 동시에 갱신됩니다.
+     */
+    private static final class RollupCell {
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder durationSum = new LongAdder();
+        final LongAccumulator durationMax = new LongAccumulator(Math::max, 0);
+        final LatencyHistogram histogram = new LatencyHistogram();
+    }
+
+    /**
+     * 요청 한 건을 현재 분의 롤업 칸에 더합니다.
+     * @param dto 응답 상태, 처리 시간, 엔드포인트 템플릿이 채워진 로그 DTO
+     */
+    public void record(ApiLogDto dto) {
+        int status = dto.getResponseStatus() != null ? dto.getResponseStatus() : 0;
+        long duration = dto.getDurationMs() != null ? dto.getDurationMs() : 0L;
+        RollupKey key = new RollupKey(
+                System.currentTimeMillis() / MINUTE_MS,
+                dto.getServiceName(),
+                dto.getEndpointTemplate() != null ? dto.getEndpointTemplate() : dto.getApiEndpoint(),
+                status / 100);
+
+        RollupCell cell = cells.computeIfAbsent(key, k -> new RollupCell());
+        cell.count.increment();
+        if (status >= 500) {
+            cell.errors.increment();
+        }
+        cell.durationSum.add(duration);
+        cell.durationMax.accumulate(duration);
+        cell.histogram.record(duration);
+    }
+
+    /**
+     * 지나간 분의 롤업 칸을 DB에 저장합니다. (기본값: 15초마다)
+     */
+    @Scheduled(fixedDelayString = "${apilog.rollup.flush-interval-ms:15000}")
+    public void flushClosedMinutes() {
+        flush(false);
+    }
+
+    /**
+     * 종료 시에는 진행 중인 분까지 모두 저장합니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        flush(true);
+    }
+
+    private void flush(boolean includeOpen) {
+        long now = System.currentTimeMillis();
+        List<ApiLogRollupEntity> rows = new ArrayList<>();
+        for (Map.Entry<RollupKey, RollupCell> entry : cells.entrySet()) {
+            RollupKey key = entry.getKey();
+            boolean closed = (key.minute() + 1) * MINUTE_MS + FLUSH_GRACE_MS <= now;
+            if ((closed || includeOpen) && cells.remove(key, entry.getValue())) {
+                rows.add(toEntity(key, entry.getValue()));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            rollupRepository.saveAll(rows);
+        } catch (Exception e) {
+            log.error("API 로그 롤업 저장 실패 ({}행): {}", rows.size(), e.getMessage(), e);
+        }
+    }
+
+    private ApiLogRollupEntity toEntity(RollupKey key, RollupCell cell) {
+        return ApiLogRollupEntity.builder()
+                .bucketStart(LocalDateTime.ofInstant(Instant.ofEpochMilli(key.minute() * MINUTE_MS), ZoneId.systemDefault()))
+                .serviceName(key.serviceName())
+                .endpointTemplate(key.endpointTemplate())
+                .statusClass(key.statusClass())
+                .requestCount(cell.count.sum())
+                .errorCount(cell.errors.sum())
+                .durationSumMs(cell.durationSum.sum())
+                .durationMaxMs(cell.durationMax.get())
+                .histogram(cell.histogram.toBytes())
+                .build();
+    }
+
+    /**
+     * 시간 구간 [from, to) 의 통계를 롤업 테이블에서 계산합니다.
+     * @param from             조회 시작 시각 (포함)
+     * @param to               조회 종료 시각 (미포함)
+     * @param serviceName      서비스 이름 필터 (선택)
+     * @param endpointTemplate 엔드포인트 템플릿 필터 (선택)
+     * @return 전체 합계와 엔드포인트별 통계
+     */
+    @Transactional(readOnly = true)
+    public ApiLogStatsReportDto getStats(LocalDateTime from, LocalDateTime to, String serviceName, String endpointTemplate) {
+        List<ApiLogRollupEntity> rows = rollupRepository.findInRange(from, to, serviceName, endpointTemplate);
+        double seconds = Math.max(1, Duration.between(from, to).toSeconds());
+
+        Accumulator total = new Accumulator(null, null);
+        Map<String, Accumulator> byEndpoint = new LinkedHashMap<>();
+        for (ApiLogRollupEntity row : rows) {
+            total.add(row);
+            byEndpoint.computeIfAbsent(row.getServiceName() + " " + row.getEndpointTemplate(),
+                    k -> new Accumulator(row.getServiceName(), row.getEndpointTemplate())).add(row);
+        }
+
+        List<ApiLogStatsDto> endpoints = byEndpoint.values().stream()
+                .sorted(Comparator.comparingLong((Accumulator a) -> a.count).reversed())
+                .map(a -> a.toDto(seconds))
+                .toList();
+        return new ApiLogStatsReportDto(from, to, total.toDto(seconds), endpoints);
+    }
+
+    /**
+     * 롤업 행들을 합산하는 조회용 누적기입니다.
+     */
+    private static final class Accumulator {
+        private final String serviceName;
+        private final String endpointTemplate;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long count;
+        private long errors;
+        private long durationSum;
+        private long durationMax;
+
+        Accumulator(String serviceName, String endpointTemplate) {
+            this.serviceName = serviceName;
+            this.endpointTemplate = endpointTemplate;
+        }
+
+        void add(ApiLogRollupEntity row) {
+            count += nullToZero(row.getRequestCount());
+            errors += nullToZero(row.getErrorCount());
+            durationSum += nullToZero(row.getDurationSumMs());
+            durationMax = Math.max(durationMax, nullToZero(row.getDurationMaxMs()));
+            histogram.merge(LatencyHistogram.fromBytes(row.getHistogram()));
+        }
+
+        ApiLogStatsDto toDto(double seconds) {
+            return ApiLogStatsDto.builder()
+                    .serviceName(serviceName)
+                    .endpointTemplate(endpointTemplate)
+                    .requestCount(count)
+                    .errorCount(errors)
+                    .errorRate(count == 0 ? 0 : (double) errors / count)
+                    .throughputPerSecond(count / seconds)
+                    .avgMs(count == 0 ? 0 : (double) durationSum / count)
+                    // 히스토그램 버킷 상한값이 실제 최대값보다 클 수 있으므로 최대값으로 제한합니다.
+                    .p50Ms(Math.min(histogram.percentile(50), durationMax))
+                    .p95Ms(Math.min(histogram.percentile(95), durationMax))
+                    .p99Ms(Math.min(histogram.percentile(99), durationMax))
+                    .maxMs(durationMax)
+                    .build();
+        }
+
+        private static long nullToZero(Long value) {
+            return value != null ? value : 0L;
+        }
+    }
+}
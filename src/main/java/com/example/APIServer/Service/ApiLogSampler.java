@@ -0,0 +1,199 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogSamplingConfigDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 로그를 api_logs 에 기록할지 결정하는 샘플러입니다.
+ *
+ * 대시보드 폴링처럼 거의 같은 200 응답이 반복되는 요청은 비율(rate)이나 초당 건수(maxPerSecond)로 줄이고,
+ * 오류/느린 요청/변경 요청은 꼬리(tail) 규칙으로 항상 남깁니다.
+ * 기록되는 로그에는 "이 한 건이 실제 몇 건을 대표하는지"를 나타내는 가중치(sampleWeight)가 붙으므로,
+ * 원본 로그로 건수를 셀 때 가중치를 곱하면 실제 요청 수를 추정할 수 있습니다.
+ *
+ * 설정은 불변 스냅샷(volatile)으로 보관하므로 운영 중 교체해도 요청 스레드가 락을 잡지 않습니다.
+ */
+@Slf4j
+@Service
+public class ApiLogSampler {
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final LongSupplier clock;
+    private volatile Snapshot snapshot;
+
+    private final AtomicLong sampledIn = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+
+    @Autowired
+    public ApiLogSampler(ApiLogSamplingConfigDto initialSamplingConfig) {
+        this(initialSamplingConfig, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 현재 시각(ms). 초당 건수 제한의 1초 구간을 나누는 데 사용합니다.
+     */
+    ApiLogSampler(ApiLogSamplingConfigDto initialSamplingConfig, LongSupplier clock) {
+        this.clock = clock;
+        this.snapshot = new Snapshot(initialSamplingConfig, clock);
+    }
+
+    /**
+     * 로그를 기록할지 결정합니다.
+     * @param dto 응답 상태, 처리 시간까지 채워진 로그 DTO
+     * @return 기록하지 않으면 0, 기록하면 이 로그의 가중치(1 이상)
+     */
+    public double sample(ApiLogDto dto) {
+        Snapshot current = snapshot;
+        ApiLogSamplingConfigDto config = current.config;
+        if (!config.isEnabled() || isTail(config, dto)) {
+            sampledIn.incrementAndGet();
+            return 1.0;
+        }
+
+        CompiledRule rule = current.match(dto, pathMatcher);
+        double rate = rule != null && rule.rate != null ? rule.rate : config.getDefaultRate();
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            sampledOut.incrementAndGet();
+            return 0;
+        }
+
+        double weight = rate < 1 ? 1.0 / rate : 1.0;
+        if (rule != null && rule.limiter != null) {
+            double limiterWeight = rule.limiter.tryAcquire();
+            if (limiterWeight <= 0) {
+                sampledOut.incrementAndGet();
+                return 0;
+            }
+            weight *= limiterWeight;
+        }
+        sampledIn.incrementAndGet();
+        return weight;
+    }
+
+    private static boolean isTail(ApiLogSamplingConfigDto config, ApiLogDto dto) {
+        Integer status = dto.getResponseStatus();
+        if (config.isKeepErrors() && (status == null || status < 200 || status >= 300)) {
+            return true;
+        }
+        if (config.getSlowThresholdMs() > 0 && dto.getDurationMs() != null && dto.getDurationMs() >= config.getSlowThresholdMs()) {
+            return true;
+        }
+        return config.isKeepMutating() && dto.getHttpMethod() != null && MUTATING_METHODS.contains(dto.getHttpMethod());
+    }
+
+    /**
+     * 현재 적용 중인 샘플링 설정을 반환합니다.
+     */
+    public ApiLogSamplingConfigDto getConfig() {
+        return snapshot.config;
+    }
+
+    /**
+     * 샘플링 설정을 교체합니다. 다음 요청부터 바로 적용됩니다.
+     */
+    public void updateConfig(ApiLogSamplingConfigDto config) {
+        this.snapshot = new Snapshot(config, clock);
+        log.info("API 로그 샘플링 설정 변경: enabled={}, defaultRate={}, rules={}",
+                config.isEnabled(), config.getDefaultRate(), config.getRules().size());
+    }
+
+    public long getSampledIn() {
+        return sampledIn.get();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.get();
+    }
+
+    /**
+     * 설정과, 설정에서 만들어진 규칙/초당 제한기를 함께 묶은 불변 스냅샷입니다.
+     */
+    private static final class Snapshot {
+        final ApiLogSamplingConfigDto config;
+        final List<CompiledRule> rules;
+
+        Snapshot(ApiLogSamplingConfigDto config, LongSupplier clock) {
+            this.config = config;
+            this.rules = config.getRules().stream().map(rule -> new CompiledRule(rule, clock)).toList();
+        }
+
+        CompiledRule match(ApiLogDto dto, AntPathMatcher matcher) {
+            String path = dto.getEndpointTemplate() != null ? dto.getEndpointTemplate() : dto.getApiEndpoint();
+            for (CompiledRule rule : rules) {
+                if (rule.serviceName != null && !rule.serviceName.equals(dto.getServiceName())) {
+                    continue;
+                }
+                if (rule.pattern != null && (path == null || !matcher.match(rule.pattern, path))) {
+                    continue;
+                }
+                return rule;
+            }
+            return null;
+        }
+    }
+
+    private static final class CompiledRule {
+        final String pattern;
+        final String serviceName;
+        final Double rate;
+        final RateLimiter limiter;
+
+        CompiledRule(ApiLogSamplingConfigDto.Rule rule, LongSupplier clock) {
+            this.pattern = rule.getPattern() == null || rule.getPattern().isBlank() ? null : rule.getPattern();
+            this.serviceName = rule.getServiceName() == null || rule.getServiceName().isBlank() ? null : rule.getServiceName();
+            this.rate = rule.getRate();
+            this.limiter = rule.getMaxPerSecond() != null && rule.getMaxPerSecond() > 0
+                    ? new RateLimiter(rule.getMaxPerSecond(), clock) : null;
+        }
+    }
+
+    /**
+     * 1초 구간마다 최대 maxPerSecond 건만 통과시키는 락 없는 제한기입니다.
+     * 통과한 로그의 가중치는 직전 1초 동안의 (도착 건수 / 통과 건수)로 추정합니다.
+     */
+    private static final class RateLimiter {
+        private final int maxPerSecond;
+        private final LongSupplier clock;
+        private final AtomicLong window = new AtomicLong();   // 현재 구간(초)
+        private final AtomicLong seen = new AtomicLong();     // 현재 구간 도착 건수
+        private final AtomicLong admitted = new AtomicLong(); // 현재 구간 통과 건수
+        private volatile double previousWeight = 1.0;
+
+        RateLimiter(int maxPerSecond, LongSupplier clock) {
+            this.maxPerSecond = maxPerSecond;
+            this.clock = clock;
+        }
+
+        /**
+         * @return 통과하면 가중치(1 이상), 제한에 걸리면 0
+         */
+        double tryAcquire() {
+            long second = clock.getAsLong() / 1000;
+            long current = window.get();
+            if (second != current && window.compareAndSet(current, second)) {
+                // 새 구간의 첫 요청이 직전 구간의 비율을 가중치로 남기고 카운터를 초기화합니다.
+                long passed = admitted.getAndSet(0);
+                long arrived = seen.getAndSet(0);
+                previousWeight = second == current + 1 && passed > 0 ? Math.max(1.0, (double) arrived / passed) : 1.0;
+            }
+            seen.incrementAndGet();
+            if (admitted.incrementAndGet() > maxPerSecond) {
+                admitted.decrementAndGet();
+                return 0;
+            }
+            return previousWeight;
+        }
+    }
+}
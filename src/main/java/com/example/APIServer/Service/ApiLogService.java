@@ -1,17 +1,36 @@
 package com.example.APIServer.Service;
 
+import com.example.APIServer.Config.ReadRouting;
 import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogIndexQuery;
+import com.example.APIServer.Dto.ApiLogIndexSearchResultDto;
+import com.example.APIServer.Dto.ApiLogPageDto;
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import com.example.APIServer.Dto.ApiLogTraceDto;
+import com.example.APIServer.Dto.ApiSpanDto;
 import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Entity.ApiSpanEntity;
 import com.example.APIServer.Repository.ApiLogRepository;
+import com.example.APIServer.Repository.ApiLogSpecifications;
+import com.example.APIServer.Repository.ApiSpanRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional; // Spring의 @Transactional을 사용하는 것이 더 일반적입니다.
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.data.domain.Sort; // Sort import
-
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * API 로그 데이터를 처리하는 비즈니스 로직을 담고 있는 서비스 클래스입니다.
@@ -22,56 +41,291 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApiLogService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String CURSOR_DELIMITER = "_";
+    private static final int MAX_TRACE_LOGS = 1000;
+
+    // 최근 로그 검색 조건의 항목 이름 -> (색인 검색어 종류, 엔티티 필드 이름)
+    private static final Map<String, String[]> SEARCH_FIELDS = Map.of(
+            "traceId", new String[]{ApiLogIndex.TRACE, "traceId"},
+            "clientIp", new String[]{ApiLogIndex.CLIENT_IP, "clientIp"},
+            "endpointTemplate", new String[]{ApiLogIndex.TEMPLATE, "endpointTemplate"},
+            "status", new String[]{ApiLogIndex.STATUS, "responseStatus"},
+            "serviceName", new String[]{ApiLogIndex.SERVICE, "serviceName"},
+            "httpMethod", new String[]{ApiLogIndex.METHOD, "httpMethod"});
+
     // 데이터베이스와 상호작용하기 위한 리포지토리
     private final ApiLogRepository apiLogRepository;
+    // 업스트림 호출(자식 span)을 저장/조회하기 위한 리포지토리
+    private final ApiSpanRepository apiSpanRepository;
     // Java 객체를 JSON 문자열로 변환하기 위한 ObjectMapper
     private final ObjectMapper objectMapper;
+    // 최근 로그의 메모리 역색인
+    private final ApiLogIndex apiLogIndex;
+    // 반복되는 요청/응답 본문을 해시로 한 번만 저장하는 저장소
+    private final ApiLogPayloadStore apiLogPayloadStore;
+    // 조회를 읽기 연결에서 실행하고, 필요하면 primary 에서 다시 읽는 도우미
+    private final ReadRouting readRouting;
 
     /**
-     * ApiLogDto를 받아 ApiLogEntity로 변환한 후, 데이터베이스에 저장합니다.
-     * @Transactional: 이 메소드의 모든 작업이 하나의 트랜잭션(Transaction)으로 처리되도록 보장합니다.
-     * 작업 중 하나라도 실패하면, 모든 변경사항이 롤백(취소)됩니다.
-     * @param dto LogAspect로부터 전달받은 로그 정보가 담긴 DTO
+     * ApiLogDto를 DB 저장용 ApiLogEntity로 변환합니다.
+     * JpaApiLogSink 등 엔티티로 저장하는 경로가 같은 변환 규칙을 사용하도록 분리한 메소드입니다.
+     * @param dto 변환할 로그 DTO
+     * @return 저장 가능한 상태의 엔티티 (logId는 비어 있음, createdAt 이 없는 로그는 현재 시각)
      */
-    @Transactional
-    public void createLog(ApiLogDto dto) {
+    public ApiLogEntity toEntity(ApiLogDto dto) {
         // DB에 저장하기 위한 엔티티 객체를 생성합니다.
         ApiLogEntity logEntity = ApiLogEntity.builder()
+                .createdAt(dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now())
                 .serviceName(dto.getServiceName())
                 .apiEndpoint(dto.getApiEndpoint())
                 .httpMethod(dto.getHttpMethod())
+                .endpointTemplate(dto.getEndpointTemplate())
                 .responseStatus(dto.getResponseStatus())
+                .durationMs(dto.getDurationMs())
+                .sampleWeight(dto.getSampleWeight() != null ? dto.getSampleWeight() : 1.0)
                 .responsePayload(dto.getResponsePayload())
                 .clientIp(dto.getClientIp())
-                .traceId(dto.getTraceId())
+                .traceId(TraceContext.normalizeTraceId(dto.getTraceId()))
+                .spanId(dto.getSpanId())
+                .parentSpanId(dto.getParentSpanId())
                 .build();
 
         try {
-            // DTO의 requestPayload 필드는 다양한 객체 형태일 수 있으므로,
-            // ObjectMapper를 사용해 JSON 형태의 문자열로 안전하게 변환합니다.
-            if (dto.getRequestPayload() != null) {
+            // LogAspect/PayloadCaptureFilter 가 기록한 본문은 이미 전송된 그대로의 문자열이므로 다시 직렬화하지 않습니다.
+            // POST /api/logs 로 받은 본문은 다양한 객체 형태일 수 있으므로, ObjectMapper를 사용해 JSON 문자열로 한 번만 변환합니다.
+            if (dto.getRequestPayload() instanceof String text) {
+                logEntity.setRequestPayload(text);
+            } else if (dto.getRequestPayload() != null) {
                 logEntity.setRequestPayload(objectMapper.writeValueAsString(dto.getRequestPayload()));
             }
         } catch (JsonProcessingException e) {
             // 만약 JSON 변환에 실패하면, 에러 로그를 기록합니다.
             logEntity.setRequestPayload("{\"error\":\"JSON_PARSING_FAILED\"}");
         }
+        return logEntity;
+    }
+
+    /**
+     * 로그 DTO에 담긴 업스트림 호출(자식 span)을 DB 저장용 엔티티로 변환합니다.
+     * @param dto 변환할 로그 DTO
+     * @return 저장 가능한 span 엔티티 목록 (호출이 없으면 빈 목록)
+     */
+    public List<ApiSpanEntity> toSpanEntities(ApiLogDto dto) {
+        if (dto.getSpans() == null || dto.getSpans().isEmpty()) {
+            return List.of();
+        }
+        // trace_id 는 BINARY(16) 필수 컬럼이므로, 32자리 16진수로 해석할 수 없는 추적 ID의 span 은 저장하지 않습니다.
+        return dto.getSpans().stream()
+                .map(span -> toSpanEntity(dto, span))
+                .filter(span -> span.getTraceId() != null)
+                .toList();
+    }
+
+    private static ApiSpanEntity toSpanEntity(ApiLogDto dto, ApiSpanDto span) {
+        return ApiSpanEntity.builder()
+                .traceId(TraceContext.normalizeTraceId(span.getTraceId() != null ? span.getTraceId() : dto.getTraceId()))
+                .spanId(span.getSpanId())
+                .parentSpanId(span.getParentSpanId() != null ? span.getParentSpanId() : dto.getSpanId())
+                .startedAt(span.getStartedAt())
+                .upstreamHost(span.getUpstreamHost())
+                .httpMethod(span.getHttpMethod())
+                .urlPath(span.getUrlPath())
+                .responseStatus(span.getResponseStatus())
+                .requestBytes(span.getRequestBytes())
+                .responseBytes(span.getResponseBytes())
+                .durationMs(span.getDurationMs())
+                .error(span.getError())
+                .build();
+    }
+
+    /**
+     * 추적 ID에 속한 요청 로그와 업스트림 호출(자식 span)을 함께 조회합니다.
+     * 각 span 의 parentSpanId 로 어떤 요청에서 나간 호출인지 알 수 있습니다.
+     * @param traceId 추적 ID
+     * @return 요청 로그 목록과 업스트림 호출 목록
+     */
+    public ApiLogTraceDto getTrace(String traceId) {
+        ApiLogSearchCondition condition = new ApiLogSearchCondition();
+        condition.setTraceId(traceId);
+        // 응답 헤더의 X-Trace-Id 로 바로 조회하는 경우가 많으므로, 읽기 연결에 아직 없으면 primary 에서 다시 읽습니다.
+        return readRouting.replicaOrPrimary(() -> new ApiLogTraceDto(traceId,
+                        apiLogRepository.findSummaries(ApiLogSpecifications.matches(condition), MAX_TRACE_LOGS),
+                        apiSpanRepository.findByTraceIdOrderByStartedAtAsc(traceId)),
+                trace -> !trace.getLogs().isEmpty());
+    }
+
+    /**
+     * 검색 조건에 맞는 로그를 커서(keyset) 방식으로 한 페이지씩 조회합니다.
+     * (createdAt, logId) 내림차순으로 정렬하며, 본문(payload)을 제외한 목록용 필드만 반환합니다.
+     * @param condition 검색 조건과 커서, 페이지 크기
+     * @return 현재 페이지의 로그 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public ApiLogPageDto searchLogs(ApiLogSearchCondition condition) {
+        int size = resolvePageSize(condition.getSize());
+
+        Specification<ApiLogEntity> spec = ApiLogSpecifications.matches(condition);
+        if (condition.getCursor() != null && !condition.getCursor().isBlank()) {
+            Cursor cursor = Cursor.parse(condition.getCursor());
+            spec = spec.and(ApiLogSpecifications.olderThan(cursor.createdAt(), cursor.logId()));
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        List<ApiLogSummaryDto> rows = apiLogRepository.findSummaries(spec, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ApiLogSummaryDto> items = hasNext ? rows.subList(0, size) : rows;
 
-        // 완성된 엔티티 객체를 리포지토리를 통해 데이터베이스에 저장합니다.
-        apiLogRepository.save(logEntity);
+        String nextCursor = null;
+        if (hasNext) {
+            ApiLogSummaryDto last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getLogId()).format();
+        }
+        return new ApiLogPageDto(items, nextCursor, hasNext);
     }
 
-    // 필터링과 정렬 기능이 포함된 메소드
-    public List<ApiLogEntity> getLogsByMethod(String httpMethod) {
-        // 정렬 조건을 생성합니다: "createdAt" 필드를 기준으로 내림차순(DESC)
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-
-        if (httpMethod == null || httpMethod.isEmpty() || "ALL".equalsIgnoreCase(httpMethod)) {
-            // 필터가 없으면, findAll에 정렬 조건을 적용하여 모든 로그를 최신순으로 가져옵니다.
-            return apiLogRepository.findAll(sort);
-        } else {
-            // 필터가 있으면, findByHttpMethod에 검색어와 정렬 조건을 함께 전달합니다.
-            return apiLogRepository.findByHttpMethod(httpMethod, sort);
+    /**
+     * traceId, clientIp, 엔드포인트 템플릿, 상태 코드, 본문 필드 값 등으로 최근 로그를 검색합니다.
+     * 조회 구간이 메모리 색인의 보관 구간 안이면 색인에서 바로 찾고, 벗어나면 DB에서 조회합니다.
+     * DB 조회에서는 본문 필드 조건을 적용할 수 없으므로 ignoredFilters 로 알려 줍니다.
+     * @param query 검색 조건
+     * @return 최신 로그부터 최대 limit 건과 조회 출처
+     */
+    @Transactional(readOnly = true)
+    public ApiLogIndexSearchResultDto searchRecent(ApiLogIndexQuery query) {
+        long started = System.nanoTime();
+        int limit = resolvePageSize(query.getLimit());
+        LocalDateTime to = query.getTo();
+        LocalDateTime from = query.getFrom() != null ? query.getFrom() : (to != null ? to : LocalDateTime.now()).minusHours(1);
+        LocalDateTime indexedSince = apiLogIndex.getCompleteSince();
+
+        if (apiLogIndex.isEnabled() && !from.isBefore(indexedSince)) {
+            List<Set<String>> must = new ArrayList<>();
+            addAnyOf(must, ApiLogIndex.TRACE, query.getTraceId());
+            addAnyOf(must, ApiLogIndex.CLIENT_IP, query.getClientIp());
+            addAnyOf(must, ApiLogIndex.TEMPLATE, query.getEndpointTemplate());
+            addAnyOf(must, ApiLogIndex.STATUS, query.getStatus());
+            addAnyOf(must, ApiLogIndex.SERVICE, query.getServiceName());
+            addAnyOf(must, ApiLogIndex.METHOD, query.getHttpMethod());
+            for (String field : query.getField()) {
+                must.add(Set.of(toIndexTerm(field, true)));
+            }
+            Set<String> mustNot = new HashSet<>();
+            for (String not : query.getNot()) {
+                mustNot.add(toIndexTerm(not, false));
+            }
+            List<ApiLogSummaryDto> items = apiLogIndex.search(must, mustNot, from, to, limit);
+            return new ApiLogIndexSearchResultDto(ApiLogIndexSearchResultDto.Source.INDEX, indexedSince,
+                    elapsedMicros(started), List.of(), items);
+        }
+
+        Specification<ApiLogEntity> spec = ApiLogSpecifications.matchesAny(query, from, to);
+        List<String> ignored = new ArrayList<>();
+        for (String field : query.getField()) {
+            ignored.add("field=" + field);
+        }
+        for (String not : query.getNot()) {
+            String[] kindAndValue = splitCondition(not);
+            String[] mapping = SEARCH_FIELDS.get(kindAndValue[0]);
+            if (mapping == null) {
+                ignored.add("not=" + not);
+                continue;
+            }
+            Object value = "status".equals(kindAndValue[0]) ? parseStatus(kindAndValue[1]) : kindAndValue[1];
+            spec = spec.and(ApiLogSpecifications.notEqual(mapping[1], value));
+        }
+        List<ApiLogSummaryDto> items = apiLogRepository.findSummaries(spec, limit);
+        return new ApiLogIndexSearchResultDto(ApiLogIndexSearchResultDto.Source.DATABASE, indexedSince,
+                elapsedMicros(started), ignored, items);
+    }
+
+    private static void addAnyOf(List<Set<String>> must, String kind, List<?> values) {
+        if (values != null && !values.isEmpty()) {
+            Set<String> anyOf = new LinkedHashSet<>();
+            for (Object value : values) {
+                anyOf.add(ApiLogIndex.term(kind, value));
+            }
+            must.add(anyOf);
+        }
+    }
+
+    /**
+     * "항목:값" 조건을 색인 검색어로 변환합니다. 알려진 항목이 아니면 본문 필드 이름으로 봅니다.
+     * @param fieldOnly true 이면 항목 이름을 항상 본문 필드 이름으로 봅니다. (field 파라미터)
+     */
+    private static String toIndexTerm(String condition, boolean fieldOnly) {
+        String[] kindAndValue = splitCondition(condition);
+        String[] mapping = fieldOnly ? null : SEARCH_FIELDS.get(kindAndValue[0]);
+        if (mapping == null) {
+            return ApiLogIndex.term(ApiLogIndex.FIELD, kindAndValue[0] + "=" + kindAndValue[1]);
+        }
+        Object value = "status".equals(kindAndValue[0]) ? parseStatus(kindAndValue[1]) : kindAndValue[1];
+        return ApiLogIndex.term(mapping[0], value);
+    }
+
+    private static String[] splitCondition(String condition) {
+        int idx = condition.indexOf(':');
+        if (idx <= 0) {
+            throw new IllegalArgumentException("검색 조건은 '항목:값' 형식이어야 합니다: " + condition);
+        }
+        return new String[]{condition.substring(0, idx), condition.substring(idx + 1)};
+    }
+
+    private static Integer parseStatus(String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 상태 코드입니다: " + value, e);
+        }
+    }
+
+    private static long elapsedMicros(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * 로그 한 건의 상세 정보(요청/응답 본문 포함)를 조회합니다.
+     * 본문이 api_log_payloads 에 저장된 로그는 해시로 본문을 읽어 채웁니다.
+     * 읽기 연결에 아직 복제되지 않은 로그는 primary 에서 다시 읽습니다.
+     * @param logId 조회할 로그 ID
+     * @return 로그 엔티티. 없으면 빈 Optional
+     */
+    public Optional<ApiLogEntity> getLogDetail(Long logId) {
+        return readRouting.replicaOrPrimary(() -> apiLogRepository.findById(logId).map(apiLogPayloadStore::resolve),
+                Optional::isPresent);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 목록 조회 커서입니다. 이전 페이지 마지막 로그의 (생성 시각, 로그 ID)를 "생성시각_로그ID" 형태의 문자열로 주고받습니다.
+     */
+    record Cursor(LocalDateTime createdAt, long logId) {
+
+        /**
+         * 커서 문자열을 해석합니다.
+         * @throws IllegalArgumentException 형식이 잘못된 경우 (컨트롤러에서 400 Bad Request 로 응답합니다)
+         */
+        static Cursor parse(String cursor) {
+            int idx = cursor.lastIndexOf(CURSOR_DELIMITER);
+            if (idx <= 0) {
+                throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + cursor);
+            }
+            try {
+                return new Cursor(LocalDateTime.parse(cursor.substring(0, idx)), Long.parseLong(cursor.substring(idx + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + cursor, e);
+            }
+        }
+
+        String format() {
+            return createdAt + CURSOR_DELIMITER + logId;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+
+import java.util.List;
+
+/**
+ * API 로그의 최종 저장소(sink)를 추상화한 인터페이스입니다.
+ * ApiLogWriter는 모아 둔 로그를 이 인터페이스로만 내보내며, 실제 구현은 설정(apilog.sink.*)에 따라 결정됩니다.
+ *
+ * 구현체
+ * - JdbcApiLogSink: multi-row INSERT로 api_logs 에 직접 저장
+ * - JpaApiLogSink: ApiLogRepository.saveAll 로 저장
+ * - JournalingApiLogSink: 로컬 저널 파일에 먼저 기록한 뒤 다른 sink로 전달 (다른 sink를 감싸는 방식으로 조합)
+ */
+public interface ApiLogSink {
+
+    /**
+     * 로그 목록을 저장합니다.
+     * @param logs 저장할 로그 목록
+     * @throws RuntimeException 저장에 실패한 경우 (호출한 쪽에서 실패 건수로 집계합니다)
+     */
+    void write(List<ApiLogDto> logs);
+}
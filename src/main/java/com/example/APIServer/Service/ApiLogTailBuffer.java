@@ -0,0 +1,179 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import com.example.APIServer.Dto.ApiLogTailEventDto;
+import com.example.APIServer.Dto.ApiLogTailQuery;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 API 로그 capacity 건을 보관하는 락 없는 링 버퍼입니다. 실시간 tail(SSE)과 최근 N건 조회에 사용합니다.
+ *
+ * 로그마다 1부터 증가하는 순번(sequence)을 붙이고 순번 % capacity 칸에 덮어씁니다.
+ * 쓰는 쪽은 AtomicLong 증가와 배열 한 칸 쓰기만 하므로 요청 스레드가 락을 잡거나 읽는 쪽을 기다리지 않으며,
+ * 읽는 쪽은 자신이 읽은 위치(순번)만 기억했다가 그 다음부터 읽습니다.
+ * 읽는 쪽이 capacity 건 이상 뒤처지면 덮어쓰인 로그는 건너뛰고 건너뛴 건수(missed)를 알려줍니다.
+ */
+@Service
+public class ApiLogTailBuffer {
+
+    @Value("${apilog.tail.capacity:4096}")
+    private int capacity;
+
+    private AtomicReferenceArray<ApiLogTailEventDto> slots;
+    private int mask;
+    private final AtomicLong nextSequence = new AtomicLong(1);
+
+    /**
+     * 칸 수를 2의 거듭제곱으로 올려 순번에서 칸 위치를 비트 연산으로 구합니다.
+     */
+    @PostConstruct
+    public void init() {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 로그 한 건을 버퍼에 넣습니다. 요청 스레드에서 호출되며 잠금 없이 바로 반환합니다.
+     * @return 붙여진 순번
+     */
+    public long publish(ApiLogDto dto) {
+        LocalDateTime createdAt = dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now();
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new ApiLogTailEventDto(sequence, ApiLogSummaryDto.of(dto, createdAt)));
+        return sequence;
+    }
+
+    /**
+     * 마지막으로 붙여진 순번입니다. (아직 아무 로그도 없으면 0)
+     */
+    public long getLastSequence() {
+        return nextSequence.get() - 1;
+    }
+
+    /**
+     * fromSequence 부터 순서대로 조건에 맞는 로그를 최대 max 건 읽습니다.
+     * 아직 쓰기가 끝나지 않은 칸을 만나면 그 앞에서 멈추고, 다음 읽기에서 그 칸부터 다시 읽습니다.
+     */
+    public TailRead read(long fromSequence, int max, Filter filter) {
+        long head = nextSequence.get();
+        long oldest = Math.max(1, head - slots.length());
+        long sequence = Math.max(1, fromSequence);
+        long missed = 0;
+        if (sequence < oldest) {
+            missed = oldest - sequence;
+            sequence = oldest;
+        }
+
+        List<ApiLogTailEventDto> events = new ArrayList<>();
+        for (; sequence < head && events.size() < max; sequence++) {
+            ApiLogTailEventDto event = slots.get((int) (sequence & mask));
+            if (event == null || event.getSequence() < sequence) {
+                break; // 순번은 받았지만 아직 칸에 쓰지 않은 로그
+            }
+            if (event.getSequence() > sequence) {
+                missed++; // 읽는 동안 덮어쓰인 로그
+                continue;
+            }
+            if (filter.matches(event.getLog())) {
+                events.add(event);
+            }
+        }
+        return new TailRead(events, sequence, missed);
+    }
+
+    /**
+     * 조건에 맞는 최근 로그를 최신 로그부터 최대 limit 건 반환합니다.
+     */
+    public List<ApiLogTailEventDto> latest(int limit, Filter filter) {
+        long head = nextSequence.get();
+        long oldest = Math.max(1, head - slots.length());
+        List<ApiLogTailEventDto> events = new ArrayList<>();
+        for (long sequence = head - 1; sequence >= oldest && events.size() < limit; sequence--) {
+            ApiLogTailEventDto event = slots.get((int) (sequence & mask));
+            if (event != null && event.getSequence() == sequence && filter.matches(event.getLog())) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * read() 결과입니다. 다음 읽기는 nextSequence 부터 시작합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TailRead {
+        private final List<ApiLogTailEventDto> events;
+        private final long nextSequence;
+        private final long missed;
+    }
+
+    /**
+     * 서비스 이름, HTTP 메소드, 상태 코드(또는 "5xx" 같은 범위) 조건입니다. 비어 있는 항목은 검사하지 않습니다.
+     */
+    public static final class Filter {
+        private final Set<String> serviceNames;
+        private final Set<String> httpMethods;
+        private final Set<Integer> statuses = new HashSet<>();
+        private final Set<Integer> statusClasses = new HashSet<>();
+
+        private Filter(ApiLogTailQuery query) {
+            this.serviceNames = new HashSet<>(query.getServiceName());
+            this.httpMethods = new HashSet<>();
+            for (String method : query.getHttpMethod()) {
+                httpMethods.add(method.trim().toUpperCase(Locale.ROOT));
+            }
+            for (String status : query.getStatus()) {
+                String value = status.trim().toLowerCase(Locale.ROOT);
+                if (value.length() == 3 && value.endsWith("xx") && value.charAt(0) >= '1' && value.charAt(0) <= '5') {
+                    statusClasses.add(value.charAt(0) - '0');
+                    continue;
+                }
+                try {
+                    statuses.add(Integer.valueOf(value));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("잘못된 상태 코드입니다: " + status, e);
+                }
+            }
+        }
+
+        /**
+         * @throws IllegalArgumentException 상태 코드 형식이 잘못된 경우
+         */
+        public static Filter of(ApiLogTailQuery query) {
+            return new Filter(query);
+        }
+
+        public boolean matches(ApiLogSummaryDto log) {
+            if (!serviceNames.isEmpty() && !serviceNames.contains(log.getServiceName())) {
+                return false;
+            }
+            if (!httpMethods.isEmpty() && (log.getHttpMethod() == null || !httpMethods.contains(log.getHttpMethod()))) {
+                return false;
+            }
+            if (statuses.isEmpty() && statusClasses.isEmpty()) {
+                return true;
+            }
+            Integer status = log.getResponseStatus();
+            return status != null && (statuses.contains(status) || statusClasses.contains(status / 100));
+        }
+    }
+}
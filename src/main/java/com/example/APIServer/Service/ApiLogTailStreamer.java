@@ -0,0 +1,193 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogTailEventDto;
+import com.example.APIServer.Dto.ApiLogTailQuery;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ApiLogTailBuffer 의 로그를 Server-Sent Events 로 구독자에게 보내는 서비스 클래스입니다.
+ *
+ * 로그를 쓰는 요청 스레드는 구독자를 전혀 알지 못하고 링 버퍼에 쓰기만 합니다.
+ * poll-interval-ms 마다 구독자별로 "다음에 읽을 순번"부터 새 로그를 읽어 sender 스레드에서 한 번에 보내며,
+ * 이전 전송이 끝나지 않은 구독자는 그 주기를 건너뜁니다. 따라서 느린 구독자는 자신만 뒤처지고,
+ * 버퍼 크기 이상 뒤처지면 "gap" 이벤트로 빠진 건수를 받은 뒤 남아 있는 가장 오래된 로그부터 이어받습니다.
+ *
+ * 이벤트 id 는 로그 순번이므로, 브라우저 EventSource 가 재연결하면서 보내는 Last-Event-ID 헤더로 이어받을 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogTailStreamer {
+
+    private final ApiLogTailBuffer apiLogTailBuffer;
+
+    @Value("${apilog.tail.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${apilog.tail.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${apilog.tail.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${apilog.tail.max-events-per-send:500}")
+    private int maxEventsPerSend;
+
+    @Value("${apilog.tail.sender-threads:4}")
+    private int senderThreads;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private ExecutorService senders;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "api-log-tail-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 실시간 로그 스트림을 엽니다.
+     * @param query       서비스 이름, 메소드, 상태 코드 조건과 이어받을 순번(after)
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 (after 보다 우선)
+     * @throws IllegalArgumentException 조건 형식이 잘못된 경우
+     * @throws IllegalStateException    구독자 수가 최대치에 이른 경우
+     */
+    public SseEmitter subscribe(ApiLogTailQuery query, String lastEventId) {
+        ApiLogTailBuffer.Filter filter = ApiLogTailBuffer.Filter.of(query);
+        long after;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                after = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 Last-Event-ID 입니다: " + lastEventId, e);
+            }
+        } else {
+            after = query.getAfter() != null ? query.getAfter() : apiLogTailBuffer.getLastSequence();
+        }
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("실시간 로그 구독자 수가 최대치(" + maxSubscribers + ")에 도달했습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscription subscription = new Subscription(emitter, filter, after + 1);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        log.info("실시간 로그 구독 시작 (from={}, 구독자 {}명)", subscription.cursor, subscriptions.size());
+        return emitter;
+    }
+
+    /**
+     * 새 로그가 있거나 heartbeat 시간이 된 구독자에게 전송 작업을 맡깁니다.
+     */
+    @Scheduled(fixedDelayString = "${apilog.tail.poll-interval-ms:200}")
+    public void dispatch() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long next = apiLogTailBuffer.getLastSequence() + 1;
+        long now = System.currentTimeMillis();
+        for (Subscription subscription : subscriptions) {
+            boolean due = subscription.cursor < next || now - subscription.lastSentAt >= heartbeatIntervalMs;
+            // 이전 전송이 아직 진행 중인(느린) 구독자는 이번 주기를 건너뜁니다.
+            if (due && subscription.sending.compareAndSet(false, true)) {
+                try {
+                    senders.execute(() -> deliver(subscription));
+                } catch (RejectedExecutionException e) {
+                    subscription.sending.set(false);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void deliver(Subscription subscription) {
+        try {
+            ApiLogTailBuffer.TailRead read = apiLogTailBuffer.read(subscription.cursor, maxEventsPerSend, subscription.filter);
+            Set<ResponseBodyEmitter.DataWithMediaType> items = new LinkedHashSet<>();
+            if (read.getMissed() > 0) {
+                items.addAll(SseEmitter.event().name("gap")
+                        .data(Map.of("missed", read.getMissed()), MediaType.APPLICATION_JSON)
+                        .build());
+            }
+            for (ApiLogTailEventDto event : read.getEvents()) {
+                items.addAll(SseEmitter.event()
+                        .id(String.valueOf(event.getSequence()))
+                        .name("log")
+                        .data(event, MediaType.APPLICATION_JSON)
+                        .build());
+            }
+            long now = System.currentTimeMillis();
+            if (items.isEmpty() && now - subscription.lastSentAt >= heartbeatIntervalMs) {
+                // 연결이 끊긴 구독자를 찾아내고 프록시의 유휴 연결 종료를 막기 위한 주석 이벤트입니다.
+                items.addAll(SseEmitter.event().comment("keep-alive").build());
+            }
+            if (!items.isEmpty()) {
+                // 여러 이벤트를 한 번에 써서 flush 횟수를 줄입니다.
+                subscription.emitter.send(items);
+                subscription.lastSentAt = now;
+            }
+            subscription.cursor = read.getNextSequence();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊겼거나 이미 완료된 emitter 입니다.
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+        } finally {
+            subscription.sending.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.emitter.complete();
+        }
+        subscriptions.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * 구독자 한 명의 상태입니다. cursor 는 다음에 읽을 순번입니다.
+     */
+    private static final class Subscription {
+        final SseEmitter emitter;
+        final ApiLogTailBuffer.Filter filter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long cursor;
+        volatile long lastSentAt = System.currentTimeMillis();
+
+        Subscription(SseEmitter emitter, ApiLogTailBuffer.Filter filter, long cursor) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogWriterStatsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 로그를 요청 스레드와 분리하여 비동기로 저장하는 서비스 클래스입니다.
+ * LogAspect는 로그를 제한된 크기의 메모리 큐에 넣기만 하고(O(1)) 바로 응답을 반환하며,
+ * 별도의 writer 스레드가 큐를 비우면서 여러 건의 로그를 한 번에 ApiLogSink 로 내보냅니다.
+ *
+ * 큐가 가득 찬 경우의 처리 방식(back-pressure)은 OverflowPolicy로 설정합니다.
+ * 애플리케이션 종료 시에는 큐에 남은 로그를 모두 저장한 뒤 writer 스레드를 종료합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLogWriter {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식입니다.
+     * BLOCK: 큐에 자리가 날 때까지 요청 스레드가 최대 block-timeout-ms 만큼 기다립니다. (시간 초과 시 버림)
+     * DROP: 로그를 버리고 버린 건수만 집계합니다.
+     * SPILL: 큐를 거치지 않고 요청 스레드에서 직접 저장합니다. (기존 동기 저장 방식과 동일한 비용)
+     */
+    public enum OverflowPolicy { BLOCK, DROP, SPILL }
+
+    private final ApiLogSink apiLogSink; // 설정에 따라 조합된 로그 저장소 (ApiLogSinkConfig 참고)
+
+    @Value("${apilog.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${apilog.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${apilog.writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${apilog.writer.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${apilog.writer.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    @Value("${apilog.writer.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<ApiLogDto> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // 모니터링용 지표
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    /**
+     * 설정값이 주입된 후 큐와 writer 스레드를 생성하고 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.writerThread = new Thread(this::runLoop, "api-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("API 로그 비동기 writer 시작 (capacity={}, batchSize={}, flushInterval={}ms, policy={})",
+                queueCapacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    /**
+     * 로그 한 건을 큐에 넣습니다. 요청 스레드에서 호출되며, DB 작업을 기다리지 않습니다.
+     * @param dto 저장할 로그 DTO
+     */
+    public void enqueue(ApiLogDto dto) {
+        if (dto.getCreatedAt() == null) {
+            // 큐 대기 시간과 관계없이 실제 요청 시각이 기록되도록 여기서 시간을 확정합니다.
+            dto.setCreatedAt(LocalDateTime.now());
+        }
+
+        boolean accepted = queue.offer(dto);
+        if (!accepted) {
+            accepted = handleOverflow(dto);
+        }
+        if (accepted) {
+            enqueued.increment();
+            int depth = queue.size();
+            if (depth > maxQueueDepth.get()) {
+                maxQueueDepth.accumulateAndGet(depth, Math::max);
+            }
+        }
+    }
+
+    /**
+     * 큐가 가득 찼을 때 설정된 정책에 따라 로그를 처리합니다.
+     * @return 로그가 큐에 들어갔으면 true, 버려지거나 직접 저장되었으면 false
+     */
+    private boolean handleOverflow(ApiLogDto dto) {
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(dto, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropped.increment();
+            }
+            case SPILL -> {
+                List<ApiLogDto> single = new ArrayList<>(1);
+                single.add(dto);
+                flush(single);
+                spilled.increment();
+            }
+            default -> dropped.increment();
+        }
+        return false;
+    }
+
+    /**
+     * writer 스레드의 본문입니다.
+     * 첫 로그가 도착한 시점부터 flush-interval 이내에 batch-size 만큼 모아서 한 번에 저장합니다.
+     */
+    private void runLoop() {
+        List<ApiLogDto> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush(batch);
+        }
+
+        // 종료 요청 이후 큐에 남아 있는 로그를 모두 저장합니다.
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            flush(batch);
+        }
+        flush(batch);
+    }
+
+    private void fillBatch(List<ApiLogDto> batch) throws InterruptedException {
+        ApiLogDto first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            ApiLogDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모인 로그를 sink 로 한 번에 내보내고 batch 리스트를 비웁니다.
+     * 저장에 실패하더라도 요청 처리에는 영향을 주지 않도록 예외를 기록만 합니다.
+     */
+    private void flush(List<ApiLogDto> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            apiLogSink.write(batch);
+            written.add(batch.size());
+            batches.increment();
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.error("API 로그 일괄 저장 실패 ({}건): {}", batch.size(), e.getMessage(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 현재 큐 깊이와 누적 처리 건수 등 writer의 상태 지표를 반환합니다.
+     */
+    public ApiLogWriterStatsDto getStats() {
+        return ApiLogWriterStatsDto.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queueCapacity)
+                .maxQueueDepth(maxQueueDepth.get())
+                .enqueued(enqueued.sum())
+                .written(written.sum())
+                .dropped(dropped.sum())
+                .spilled(spilled.sum())
+                .failed(failed.sum())
+                .batches(batches.sum())
+                .overflowPolicy(overflowPolicy.name())
+                .build();
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 로그 수집을 멈추고, 큐에 남은 로그를 모두 저장할 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(shutdownTimeoutMs);
+        if (writerThread.isAlive()) {
+            log.warn("API 로그 writer가 {}ms 안에 종료되지 않았습니다. 남은 로그: {}건", shutdownTimeoutMs, queue.size());
+        } else {
+            log.info("API 로그 writer 종료 (저장 {}건, 버림 {}건, 실패 {}건)", written.sum(), dropped.sum(), failed.sum());
+        }
+    }
+}
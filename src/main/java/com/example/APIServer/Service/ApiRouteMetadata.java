@@ -0,0 +1,18 @@
+package com.example.APIServer.Service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨트롤러 메소드 하나에 대해 기동 시 미리 계산해 둔 로그 메타데이터입니다.
+ * LogAspect는 요청마다 이 값을 조회만 하고, 경로 문자열을 다시 검사하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ApiRouteMetadata {
+
+    private final boolean logged;                       // false이면 로그를 남기지 않음 (e.g., /api/logs)
+    private final String serviceName;                   // 요청을 처리하는 업스트림 서비스 이름
+    private final String endpointTemplate;              // URI 템플릿. 메소드에 경로가 여러 개이면 null (요청 시 매칭된 패턴 사용)
+    private final PayloadCapturePolicy capturePolicy;   // 본문 기록 정책
+}
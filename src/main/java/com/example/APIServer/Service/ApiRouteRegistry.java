@@ -0,0 +1,97 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.ApiRouteProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨트롤러 메소드별 로그 메타데이터(서비스 이름, URI 템플릿, 본문 기록 정책, 기록 여부)를 보관하는 레지스트리입니다.
+ *
+ * 애플리케이션 컨텍스트가 준비되면 Spring MVC의 핸들러 매핑 전체를 한 번 순회하면서
+ * ApiRouteProperties 와 PayloadCaptureProperties 의 패턴 규칙을 미리 적용해 둡니다.
+ * 요청 처리 중에는 Method 키로 한 번 조회하는 것이 전부입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiRouteRegistry {
+
+    private final ApplicationContext applicationContext;
+    private final ApiRouteProperties properties;
+    private final PayloadCapturePolicyResolver payloadCapturePolicyResolver;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private volatile Map<Method, ApiRouteMetadata> routes = Map.of();
+
+    /**
+     * 핸들러 매핑이 모두 등록된 뒤 레지스트리를 만듭니다.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void build() {
+        RequestMappingHandlerMapping handlerMapping =
+                applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+
+        Map<Method, ApiRouteMetadata> built = new HashMap<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            Set<String> patterns = entry.getKey().getPatternValues();
+            String template = patterns.size() == 1 ? patterns.iterator().next() : null;
+            String probe = template != null ? template : patterns.stream().findFirst().orElse("");
+            built.put(entry.getValue().getMethod(), new ApiRouteMetadata(
+                    !isExcluded(probe),
+                    resolveService(probe),
+                    template,
+                    payloadCapturePolicyResolver.resolvePolicy(probe)));
+        }
+        this.routes = Map.copyOf(built);
+        log.info("API 라우트 레지스트리 생성: {}개 핸들러 메소드", built.size());
+    }
+
+    /**
+     * 컨트롤러 메소드의 메타데이터를 조회합니다.
+     * @param method 호출된 컨트롤러 메소드
+     * @return 등록된 메타데이터. 핸들러로 등록되지 않은 메소드면 null
+     */
+    public ApiRouteMetadata lookup(Method method) {
+        return routes.get(method);
+    }
+
+    /**
+     * 레지스트리에 없는 메소드(핸들러 매핑 이전 호출 등)에 쓰는 메타데이터를 요청 경로로 계산합니다.
+     */
+    public ApiRouteMetadata resolve(String path) {
+        return new ApiRouteMetadata(!isExcluded(path), resolveService(path), null, payloadCapturePolicyResolver.resolvePolicy(path));
+    }
+
+    private boolean isExcluded(String path) {
+        for (String pattern : properties.getExcluded()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveService(String path) {
+        for (ApiRouteProperties.Service service : properties.getServices()) {
+            for (String pattern : service.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return service.getName();
+                }
+            }
+        }
+        return properties.getDefaultService();
+    }
+}
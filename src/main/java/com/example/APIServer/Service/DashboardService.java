@@ -1,5 +1,6 @@
 package com.example.APIServer.Service;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -10,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class DashboardService {
     @Value("${erp.api.url:http://localhost:8081/api/projects}")
     private String ERP_PROJECTS_URL;
@@ -20,7 +22,8 @@ public class DashboardService {
     @Value("${erp.api.customers.url:http://localhost:8081/api/}")
     private String ERP_BASE_URL;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 추적 헤더 전달과 업스트림 호출 기록이 적용되도록 AppConfig의 공용 RestTemplate을 주입받습니다.
+    private final RestTemplate restTemplate;
 
     public List<Map<String, Object>> fetchProjectsFromErp() {
         try {
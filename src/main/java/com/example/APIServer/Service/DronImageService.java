@@ -34,6 +34,8 @@ public class DronImageService {
             // HTTP GET 요청을 보내고, 응답 본문을 Object 타입으로 받습니다.
             Object response = restTemplate.getForObject(droneApiUrl, Object.class);
             return response;
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("드론 서버 API 호출 중 오류 발생: " + e.getMessage());
             return null; // 오류 발생 시 null을 반환합니다.
@@ -56,6 +58,8 @@ public class DronImageService {
 
             // 수신한 응답을 그대로 컨트롤러에 반환합니다.
             return responseFromDroneServer;
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("개별 이미지 조회 중 오류 발생: " + e.getMessage());
             // 오류 발생 시 500 Internal Server Error 상태를 반환합니다.
@@ -97,6 +101,8 @@ public class DronImageService {
             // 4. RestTemplate을 사용하여 드론 서버에 POST 요청을 전송하고, 응답을 String 형태로 받습니다.
             return restTemplate.postForEntity(droneApiUrl, requestEntity, String.class);
 
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("이미지 업로드 중계 중 오류 발생: " + e.getMessage());
             return ResponseEntity.status(500).body("Failed to proxy image upload");
@@ -0,0 +1,232 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import jakarta.servlet.ServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 요청 하나의 요청/응답 본문을 실제로 읽고 쓴 바이트 그대로 기록하는 객체입니다.
+ *
+ * PayloadCaptureFilter 가 요청마다 만들어 요청 속성(ATTRIBUTE)에 넣고 입출력 스트림을 이 객체로 복사(tee)하며,
+ * 핸들러가 정해진 뒤(PayloadCaptureInterceptor) start() 로 라우트의 PayloadCapturePolicy 가 주어져야 복사를 시작합니다.
+ * 본문을 다시 직렬화하지 않으므로 로그의 본문은 전송된 바이트와 같고, 기록 비용은 maxBytes 이상 늘어나지 않습니다.
+ *
+ * LogAspect 는 완성할 로그를 pendingLog 로 넘기고, 필터가 응답 쓰기가 끝난 뒤 본문과 상태 코드를 채워 기록합니다.
+ */
+public class HttpPayloadCapture {
+
+    public static final String ATTRIBUTE = HttpPayloadCapture.class.getName();
+
+    private final Tee request = new Tee();
+    private final Tee response = new Tee();
+    private ApiLogDto pendingLog;
+
+    /**
+     * 요청 속성에서 이 요청의 기록 객체를 찾습니다.
+     * @return 필터를 거치지 않은 요청이면 null
+     */
+    public static HttpPayloadCapture of(ServletRequest servletRequest) {
+        return servletRequest.getAttribute(ATTRIBUTE) instanceof HttpPayloadCapture capture ? capture : null;
+    }
+
+    /**
+     * 본문 복사를 시작합니다. 요청 본문을 읽기 전(인자 변환 전)에 호출되어야 요청 본문이 기록됩니다.
+     * @param policy             라우트의 본문 기록 정책
+     * @param captureRequestBody false 이면 요청 본문은 기록하지 않습니다. (multipart 등)
+     */
+    public void start(PayloadCapturePolicy policy, boolean captureRequestBody) {
+        request.start(captureRequestBody ? policy : PayloadCapturePolicy.DISABLED);
+        response.start(policy);
+    }
+
+    public Tee getRequest() {
+        return request;
+    }
+
+    public Tee getResponse() {
+        return response;
+    }
+
+    public ApiLogDto getPendingLog() {
+        return pendingLog;
+    }
+
+    public void setPendingLog(ApiLogDto pendingLog) {
+        this.pendingLog = pendingLog;
+    }
+
+    /**
+     * 기록된 응답 본문입니다. 텍스트가 아닌 응답(이미지 등)은 형식과 크기만 남깁니다.
+     */
+    public String responsePayload(String contentType) {
+        if (response.getTotalBytes() > 0 && contentType != null && !isText(contentType)) {
+            return contentType + " data (size: " + response.getTotalBytes() + " bytes)";
+        }
+        return response.result();
+    }
+
+    private static boolean isText(String contentType) {
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml")
+                || type.startsWith("application/x-www-form-urlencoded");
+    }
+
+    /**
+     * 한 방향(요청 또는 응답)의 바이트를 정책에 필요한 만큼만 보관합니다.
+     *
+     * HEAD: 앞 maxBytes 만 복사하고 나머지는 건너뜁니다.
+     * HEAD_TAIL: 앞/뒤 절반씩을 복사합니다. 뒷부분은 원형 버퍼에 덮어쓰므로 메모리는 maxBytes 로 고정됩니다.
+     * DIGEST: 본문 대신 SHA-256 해시와 전체 크기만 계산합니다.
+     * OFF(또는 start 이전): 크기만 셉니다.
+     */
+    public static final class Tee {
+
+        private PayloadCapturePolicy.Mode mode = PayloadCapturePolicy.Mode.OFF;
+        private int headLimit;
+        private byte[] head = new byte[0];
+        private int headLength;
+        private byte[] tail = new byte[0];   // HEAD_TAIL 모드에서 마지막 바이트들을 담는 원형 버퍼
+        private int tailStart;
+        private int tailLength;
+        private MessageDigest digest;
+        private long totalBytes;
+
+        void start(PayloadCapturePolicy policy) {
+            this.mode = policy.getMode();
+            int maxBytes = Math.max(policy.getMaxBytes(), 0);
+            if (mode == PayloadCapturePolicy.Mode.HEAD_TAIL) {
+                this.headLimit = maxBytes / 2;
+                this.tail = new byte[maxBytes - headLimit];
+            } else if (mode == PayloadCapturePolicy.Mode.HEAD) {
+                this.headLimit = maxBytes;
+            } else if (mode == PayloadCapturePolicy.Mode.DIGEST) {
+                this.digest = sha256();
+            }
+        }
+
+        public void write(int b) {
+            totalBytes++;
+            if (mode == PayloadCapturePolicy.Mode.OFF) {
+                return;
+            }
+            if (mode == PayloadCapturePolicy.Mode.DIGEST) {
+                digest.update((byte) b);
+            } else if (headLength < headLimit) {
+                ensureHead(headLength + 1);
+                head[headLength++] = (byte) b;
+            } else if (tail.length > 0) {
+                appendTail((byte) b);
+            }
+        }
+
+        public void write(byte[] bytes, int off, int len) {
+            totalBytes += len;
+            if (mode == PayloadCapturePolicy.Mode.OFF || len <= 0) {
+                return;
+            }
+            if (mode == PayloadCapturePolicy.Mode.DIGEST) {
+                digest.update(bytes, off, len);
+                return;
+            }
+            int copied = Math.min(len, headLimit - headLength);
+            if (copied > 0) {
+                ensureHead(headLength + copied);
+                System.arraycopy(bytes, off, head, headLength, copied);
+                headLength += copied;
+            }
+            if (tail.length > 0) {
+                // 원형 버퍼에 남을 마지막 tail.length 바이트만 복사합니다.
+                int from = off + Math.max(copied, len - tail.length);
+                for (int i = from; i < off + len; i++) {
+                    appendTail(bytes[i]);
+                }
+            }
+        }
+
+        private void ensureHead(int required) {
+            if (required > head.length) {
+                // 작은 본문이 대부분이므로 상한까지 한 번에 잡지 않고 필요할 때 두 배씩 늘립니다.
+                head = Arrays.copyOf(head, Math.min(headLimit, Math.max(required, Math.max(256, head.length * 2))));
+            }
+        }
+
+        private void appendTail(byte b) {
+            if (tailLength < tail.length) {
+                tail[(tailStart + tailLength++) % tail.length] = b;
+            } else {
+                tail[tailStart] = b;
+                tailStart = (tailStart + 1) % tail.length;
+            }
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * 정책에 따라 기록된 본문 문자열입니다. 본문이 없거나 기록하지 않는 경우 null 입니다.
+         * 잘라낸 경계에 걸친 UTF-8 문자는 버립니다.
+         */
+        public String result() {
+            if (totalBytes == 0 || mode == PayloadCapturePolicy.Mode.OFF) {
+                return null;
+            }
+            if (mode == PayloadCapturePolicy.Mode.DIGEST) {
+                return "{\"digest\":\"sha256:" + HexFormat.of().formatHex(digest.digest()) + "\",\"bytes\":" + totalBytes + "}";
+            }
+            if (totalBytes <= headLength + tailLength) {
+                byte[] all = Arrays.copyOf(head, headLength + tailLength);
+                copyTail(all, headLength);
+                return new String(all, StandardCharsets.UTF_8);
+            }
+            String headText = new String(head, 0, completeLength(head, headLength), StandardCharsets.UTF_8);
+            if (mode == PayloadCapturePolicy.Mode.HEAD) {
+                return headText + "...[truncated at " + headLimit + " bytes]";
+            }
+            byte[] tailBytes = new byte[tailLength];
+            copyTail(tailBytes, 0);
+            int skip = 0;
+            while (skip < tailBytes.length && (tailBytes[skip] & 0xC0) == 0x80) {
+                skip++; // 앞이 잘린 멀티바이트 문자의 나머지 바이트
+            }
+            return headText + "...[truncated, total " + totalBytes + " bytes]..."
+                    + new String(tailBytes, skip, tailBytes.length - skip, StandardCharsets.UTF_8);
+        }
+
+        private void copyTail(byte[] target, int offset) {
+            for (int i = 0; i < tailLength; i++) {
+                target[offset + i] = tail[(tailStart + i) % tail.length];
+            }
+        }
+
+        /**
+         * 끝에서 완성되지 않은 UTF-8 문자를 뺀 길이입니다.
+         */
+        private static int completeLength(byte[] bytes, int length) {
+            int start = length - 1;
+            while (start >= 0 && length - start < 4 && (bytes[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            if (start < 0) {
+                return length;
+            }
+            int lead = bytes[start] & 0xFF;
+            int size = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+            return length - start >= size ? length : start;
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
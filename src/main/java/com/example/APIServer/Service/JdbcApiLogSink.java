@@ -0,0 +1,133 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Entity.ApiSpanEntity;
+import com.example.APIServer.Entity.TraceIdConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그를 JDBC multi-row INSERT 문으로 api_logs 테이블에 저장하는 sink 입니다.
+ * 한 문장에 담는 최대 행 수(max-rows-per-statement)를 넘으면 여러 문장으로 나누어 실행합니다.
+ * 로그에 업스트림 호출(자식 span)이 있으면 같은 방식으로 api_spans 테이블에 저장합니다.
+ * 일정 크기 이상의 본문은 ApiLogPayloadStore 로 api_log_payloads 에 따로 저장하고 해시만 기록합니다.
+ *
+ * write() 한 번의 모든 문장(본문, 로그, span)은 한 트랜잭션으로 실행됩니다. 중간 문장이 실패하면 앞서 실행한 문장도 롤백되므로,
+ * writer 재시도나 저널 재전송으로 같은 목록을 다시 보내도 이미 저장된 행이 새 log_id 로 중복 저장되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcApiLogSink implements ApiLogSink {
+
+    private static final String INSERT_PREFIX = "INSERT INTO api_logs (log_id, created_at, service_name, api_endpoint, endpoint_template, "
+            + "http_method, request_payload, request_payload_hash, response_status, duration_ms, sample_weight, response_payload, "
+            + "response_payload_hash, client_ip, trace_id, span_id, parent_span_id) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 17;
+
+    private static final String SPAN_INSERT_PREFIX = "INSERT INTO api_spans (trace_id, span_id, parent_span_id, started_at, "
+            + "upstream_host, http_method, url_path, response_status, request_bytes, response_bytes, duration_ms, error) VALUES ";
+    private static final String SPAN_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int SPAN_COLUMN_COUNT = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApiLogService apiLogService; // DTO -> 엔티티 변환 규칙을 공유하기 위해 사용
+    private final ApiLogPayloadStore apiLogPayloadStore;
+    private final ApiLogIdAllocator apiLogIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${apilog.sink.jdbc.max-rows-per-statement:500}")
+    private int maxRowsPerStatement;
+
+    @Override
+    public void write(List<ApiLogDto> logs) {
+        // 일괄 수신(ApiLogBulkIngestService)처럼 이미 트랜잭션 안에서 호출되면 그 트랜잭션에 참여합니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < logs.size(); from += maxRowsPerStatement) {
+                insert(logs.subList(from, Math.min(from + maxRowsPerStatement, logs.size())));
+            }
+
+            List<ApiSpanEntity> spans = new ArrayList<>();
+            for (ApiLogDto dto : logs) {
+                spans.addAll(apiLogService.toSpanEntities(dto));
+            }
+            for (int from = 0; from < spans.size(); from += maxRowsPerStatement) {
+                insertSpans(spans.subList(from, Math.min(from + maxRowsPerStatement, spans.size())));
+            }
+        });
+    }
+
+    private void insert(List<ApiLogDto> rows) {
+        List<ApiLogEntity> entities = rows.stream().map(apiLogService::toEntity).toList();
+        // 반복되는 본문은 api_log_payloads 에 한 번만 저장하고 행에는 해시만 넣습니다.
+        apiLogPayloadStore.externalize(entities);
+
+        // log_id 는 예약된 구간에서 미리 붙이므로 생성된 키를 다시 읽어 올 필요가 없습니다.
+        long[] ids = apiLogIdAllocator.next(rows.size());
+        Object[] args = new Object[rows.size() * COLUMN_COUNT];
+        int i = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            ApiLogDto dto = rows.get(row);
+            ApiLogEntity entity = entities.get(row);
+            args[i++] = ids[row];
+            args[i++] = Timestamp.valueOf(dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now());
+            args[i++] = entity.getServiceName();
+            args[i++] = entity.getApiEndpoint();
+            args[i++] = entity.getEndpointTemplate();
+            args[i++] = entity.getHttpMethod();
+            args[i++] = entity.getRequestPayload();
+            args[i++] = entity.getRequestPayloadHash();
+            args[i++] = entity.getResponseStatus();
+            args[i++] = entity.getDurationMs();
+            args[i++] = entity.getSampleWeight();
+            args[i++] = entity.getResponsePayload();
+            args[i++] = entity.getResponsePayloadHash();
+            args[i++] = entity.getClientIp();
+            args[i++] = TraceIdConverter.toBytes(entity.getTraceId());
+            args[i++] = entity.getSpanId();
+            args[i++] = entity.getParentSpanId();
+        }
+        jdbcTemplate.update(buildInsertSql(INSERT_PREFIX, ROW_PLACEHOLDER, rows.size()), args);
+    }
+
+    private void insertSpans(List<ApiSpanEntity> rows) {
+        Object[] args = new Object[rows.size() * SPAN_COLUMN_COUNT];
+        int i = 0;
+        for (ApiSpanEntity span : rows) {
+            args[i++] = TraceIdConverter.toBytes(span.getTraceId());
+            args[i++] = span.getSpanId();
+            args[i++] = span.getParentSpanId();
+            args[i++] = span.getStartedAt() != null ? Timestamp.valueOf(span.getStartedAt()) : null;
+            args[i++] = span.getUpstreamHost();
+            args[i++] = span.getHttpMethod();
+            args[i++] = span.getUrlPath();
+            args[i++] = span.getResponseStatus();
+            args[i++] = span.getRequestBytes();
+            args[i++] = span.getResponseBytes();
+            args[i++] = span.getDurationMs();
+            args[i++] = span.getError();
+        }
+        jdbcTemplate.update(buildInsertSql(SPAN_INSERT_PREFIX, SPAN_ROW_PLACEHOLDER, rows.size()), args);
+    }
+
+    static String buildInsertSql(String prefix, String placeholder, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (placeholder.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholder);
+        }
+        return sql.toString();
+    }
+}
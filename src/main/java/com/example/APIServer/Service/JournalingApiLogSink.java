@@ -0,0 +1,150 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그를 로컬 저널 파일(ApiLogJournal)에 먼저 기록한 뒤, 감싸고 있는 다른 sink(delegate)로 전달하는 sink 입니다.
+ * DB 저장이 실패하면 로그는 저널에 남아 있다가, 주기적인 재전송(replay)으로 DB가 복구된 뒤 저장됩니다.
+ *
+ * asyncDelegate=false: 저널 기록 직후 바로 delegate 로 전달합니다. (밀린 로그가 있으면 재전송 작업에 맡김)
+ * asyncDelegate=true: 저널 기록만 하고, delegate 전달은 모두 재전송 작업이 담당합니다. (저널 우선, DB는 비동기)
+ *
+ * 전달은 최소 한 번(at-least-once)입니다. delegate 저장이 끝난 뒤 커밋 위치를 기록하기 전에 프로세스가 중단되면
+ * 다음 기동 때 그 묶음을 다시 보내며, log_id 는 저장할 때 붙으므로 같은 로그가 다른 log_id 로 한 번 더 저장됩니다.
+ * (span 도 함께 중복됩니다. 중복을 걸러야 하는 분석은 trace_id/span_id 와 created_at 으로 구분합니다)
+ *
+ * 설정에 따라 ApiLogSinkConfig 에서 생성되는 빈이므로 @Component 를 붙이지 않습니다.
+ * 잠금을 잡은 채 delegate 의 DB I/O 를 기다리므로 synchronized 대신 ReentrantLock 을 사용합니다.
+ * (SPILL 정책에서는 요청 스레드가 직접 호출하며, 가상 스레드가 대기하는 동안 캐리어 스레드를 붙잡지 않게 하기 위함)
+ */
+@Slf4j
+public class JournalingApiLogSink implements ApiLogSink, Closeable {
+
+    private final ApiLogJournal journal;
+    private final ApiLogSink delegate;
+    private final ObjectMapper objectMapper;
+    private final boolean asyncDelegate;
+    private final boolean forceOnWrite;
+    private final int replayBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JournalingApiLogSink(ApiLogJournal journal, ApiLogSink delegate, ObjectMapper objectMapper,
+                                boolean asyncDelegate, boolean forceOnWrite, int replayBatchSize) {
+        this.journal = journal;
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+        this.asyncDelegate = asyncDelegate;
+        this.forceOnWrite = forceOnWrite;
+        this.replayBatchSize = replayBatchSize;
+        if (journal.hasPending()) {
+            log.info("API 로그 저널에 재전송 대기 중인 로그가 있습니다. ({} bytes)", journal.getPendingBytes());
+        }
+    }
+
+    @Override
+    public void write(List<ApiLogDto> logs) {
+        lock.lock();
+        try {
+            boolean backlog = journal.hasPending();
+
+            List<ApiLogDto> overflow = new ArrayList<>();
+            for (ApiLogDto dto : logs) {
+                if (!journal.append(serialize(dto))) {
+                    overflow.add(dto);
+                }
+            }
+            if (forceOnWrite) {
+                journal.force();
+            }
+
+            if (!overflow.isEmpty()) {
+                // 저널이 가득 찼으면 저널을 거치지 않고 바로 저장을 시도합니다. (실패하면 호출한 쪽에서 실패로 집계)
+                log.warn("API 로그 저널 공간 부족으로 {}건을 직접 저장합니다.", overflow.size());
+                delegate.write(overflow);
+            }
+            if (!backlog && !asyncDelegate) {
+                replayPending();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널에 남아 있는 로그를 delegate 로 재전송합니다. (기본값: 1초마다)
+     */
+    @Scheduled(fixedDelayString = "${apilog.journal.replay-interval-ms:1000}")
+    public void replay() {
+        lock.lock();
+        try {
+            replayPending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널의 미커밋 로그를 앞에서부터 전송하고, 성공한 만큼 커밋합니다.
+     * @return 모두 전송했으면 true, 도중에 실패했으면 false
+     */
+    private boolean replayPending() {
+        while (journal.hasPending()) {
+            List<ApiLogJournal.Entry> entries = journal.readPending(replayBatchSize);
+            List<ApiLogDto> logs = new ArrayList<>(entries.size());
+            for (ApiLogJournal.Entry entry : entries) {
+                try {
+                    logs.add(objectMapper.readValue(entry.getData(), ApiLogDto.class));
+                } catch (IOException e) {
+                    // 읽을 수 없는 레코드는 재시도해도 같으므로 건너뜁니다.
+                    log.error("API 로그 저널 레코드 역직렬화 실패: {}", e.getMessage());
+                }
+            }
+            try {
+                if (!logs.isEmpty()) {
+                    delegate.write(logs);
+                }
+            } catch (Exception e) {
+                log.warn("API 로그 저널 재전송 실패, 다음 주기에 다시 시도합니다. ({} bytes 대기): {}",
+                        journal.getPendingBytes(), e.getMessage());
+                return false;
+            }
+            journal.commit(entries.get(entries.size() - 1).getEndOffset());
+        }
+        return true;
+    }
+
+    private byte[] serialize(ApiLogDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (IOException e) {
+            throw new IllegalStateException("API 로그 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 저널에서 재전송을 기다리는 바이트 수
+     */
+    public long getPendingBytes() {
+        return journal.getPendingBytes();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            replayPending();
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Repository.ApiLogRepository;
+import com.example.APIServer.Repository.ApiSpanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 로그를 JPA(ApiLogRepository.saveAll)로 저장하는 sink 입니다.
+ * 엔티티 생명주기 이벤트(엔티티 리스너 등)가 필요할 때 사용합니다.
+ * created_at 은 JdbcApiLogSink 와 같이 로그 DTO의 요청 시각을 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaApiLogSink implements ApiLogSink {
+
+    private final ApiLogRepository apiLogRepository;
+    private final ApiSpanRepository apiSpanRepository;
+    private final ApiLogService apiLogService;
+    private final ApiLogPayloadStore apiLogPayloadStore;
+
+    @Override
+    @Transactional
+    public void write(List<ApiLogDto> logs) {
+        List<ApiLogEntity> entities = logs.stream().map(apiLogService::toEntity).toList();
+        apiLogPayloadStore.externalize(entities);
+        apiLogRepository.saveAll(entities);
+        apiSpanRepository.saveAll(logs.stream().flatMap(dto -> apiLogService.toSpanEntities(dto).stream()).toList());
+    }
+}
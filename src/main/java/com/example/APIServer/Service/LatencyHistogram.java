@@ -0,0 +1,151 @@
+package com.example.APIServer.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 응답 시간(ms) 분포를 고정 크기 버킷으로 집계하는 병합 가능한(mergeable) 히스토그램입니다.
+ *
+ * 0~15ms 는 1ms 단위로, 그 이상은 2의 거듭제곱 구간마다 16개 버킷으로 나누므로(log-linear)
+ * 어떤 값이든 상대 오차가 약 6% 이내이고, 메모리는 값의 개수와 관계없이 일정합니다.
+ * 버킷 카운트는 AtomicLongArray 이므로 여러 요청 스레드가 락 없이 동시에 기록할 수 있습니다.
+ * 분 단위 롤업을 합칠 때는 같은 버킷끼리 더하기만 하면 되므로, 어떤 시간 구간의 백분위수도 정확히 다시 계산됩니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = SUB_BUCKETS * 40;
+    private static final long MAX_TRACKABLE = upperBound(BUCKET_COUNT - 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 값 하나를 기록합니다.
+     * @param valueMs 응답 시간(ms). 음수는 0으로, 추적 범위를 넘는 값은 마지막 버킷으로 기록합니다.
+     */
+    public void record(long valueMs) {
+        counts.incrementAndGet(bucketIndex(valueMs));
+    }
+
+    /**
+     * 다른 히스토그램의 값을 이 히스토그램에 더합니다.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+    }
+
+    public long totalCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 백분위수 값을 반환합니다. (해당 버킷의 상한값)
+     * @param percentile 0 ~ 100 사이의 백분위 (e.g., 95.0)
+     * @return 백분위수에 해당하는 응답 시간(ms). 기록된 값이 없으면 0
+     */
+    public long percentile(double percentile) {
+        long total = totalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return MAX_TRACKABLE;
+    }
+
+    /**
+     * 0이 아닌 버킷만 (인덱스 차이, 카운트) varint 쌍으로 인코딩합니다. 롤업 테이블 저장용입니다.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        int previous = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                writeVarLong(out, i - previous);
+                writeVarLong(out, count);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * toBytes()로 인코딩된 값을 복원합니다.
+     */
+    public static LatencyHistogram fromBytes(byte[] bytes) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (bytes == null) {
+            return histogram;
+        }
+        int[] position = {0};
+        int index = 0;
+        while (position[0] < bytes.length) {
+            index += (int) readVarLong(bytes, position);
+            long count = readVarLong(bytes, position);
+            if (index >= 0 && index < BUCKET_COUNT) {
+                histogram.counts.addAndGet(index, count);
+            }
+        }
+        return histogram;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        if (value >= MAX_TRACKABLE) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift); // 16 ~ 31
+        return (shift + 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (position[0] < bytes.length) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return value;
+    }
+}
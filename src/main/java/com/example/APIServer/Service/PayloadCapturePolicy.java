@@ -0,0 +1,27 @@
+package com.example.APIServer.Service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청/응답 본문(payload)을 로그에 얼마나, 어떤 형태로 남길지 정하는 정책입니다.
+ * 라우트 그룹별로 PayloadCaptureProperties에 설정되며, HttpPayloadCapture 가 이 정책대로 본문 바이트를 기록합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PayloadCapturePolicy {
+
+    /**
+     * 본문 기록 방식입니다.
+     * HEAD: 앞부분을 maxBytes 까지만 기록하고, 나머지 바이트는 복사하지 않습니다.
+     * HEAD_TAIL: 앞/뒤 절반씩을 기록합니다. 뒷부분은 원형 버퍼에 덮어쓰므로 메모리는 maxBytes 로 고정됩니다.
+     * DIGEST: 본문 대신 SHA-256 해시와 전체 크기만 기록합니다.
+     * OFF: 본문을 기록하지 않습니다.
+     */
+    public enum Mode { HEAD, HEAD_TAIL, DIGEST, OFF }
+
+    public static final PayloadCapturePolicy DISABLED = new PayloadCapturePolicy(Mode.OFF, 0);
+
+    private final Mode mode;     // 기록 방식
+    private final int maxBytes;  // 기록할 최대 바이트 수 (HEAD, HEAD_TAIL 에서 사용)
+}
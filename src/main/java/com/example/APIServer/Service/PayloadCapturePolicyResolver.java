@@ -0,0 +1,35 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.PayloadCaptureProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 요청 경로에 적용할 본문 기록 정책(PayloadCapturePolicy)을 PayloadCaptureProperties 에서 찾는 서비스 클래스입니다.
+ * ApiRouteRegistry 가 기동 시 컨트롤러 메소드마다 한 번 호출하며,
+ * 실제 본문 기록은 PayloadCaptureFilter 가 주고받는 바이트를 HttpPayloadCapture 로 복사하여 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayloadCapturePolicyResolver {
+
+    private final PayloadCaptureProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * 요청 경로에 적용할 본문 기록 정책을 찾습니다. 먼저 선언된 패턴이 우선합니다.
+     * @param path 요청 URI 또는 URI 템플릿
+     * @return 적용할 정책 (일치하는 패턴이 없으면 기본 정책)
+     */
+    public PayloadCapturePolicy resolvePolicy(String path) {
+        for (PayloadCaptureProperties.Route route : properties.getRoutes()) {
+            if (route.getPattern() != null && pathMatcher.match(route.getPattern(), path)) {
+                return new PayloadCapturePolicy(
+                        route.getMode() != null ? route.getMode() : properties.getDefaultMode(),
+                        route.getMaxBytes() != null ? route.getMaxBytes() : properties.getDefaultMaxBytes());
+            }
+        }
+        return new PayloadCapturePolicy(properties.getDefaultMode(), properties.getDefaultMaxBytes());
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.APIServer.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * api_log_payloads 의 본문을 압축(zlib/Deflate)하고 푸는 코덱입니다.
+ *
+ * 압축 사전(preset dictionary)이 있으면 ERP JSON 처럼 필드 이름과 구조가 반복되는 짧은 본문도 잘 줄어듭니다.
+ * zlib 형식은 사용한 사전의 Adler-32 값을 헤더에 기록하므로, 압축된 값만으로 어떤 사전이 필요한지 알 수 있고
+ * 사전을 새로 만들어도 이전 사전으로 압축된 행을 그대로 읽을 수 있습니다.
+ * Deflater/Inflater 는 작은 풀에 두고 재사용합니다. 요청마다 새 가상 스레드가 만들어지는 경우에도
+ * 스레드별(ThreadLocal) 캐시와 달리 요청마다 네이티브 압축 버퍼를 새로 할당하지 않습니다.
+ */
+public class PayloadCodec {
+
+    private static final int SEGMENT_BYTES = 32; // 사전 학습에서 세는 조각 길이
+    static final int MAX_DICTIONARY_BYTES = 32 * 1024; // Deflate 창 크기를 넘는 사전은 쓰이지 않습니다.
+    private static final int MAX_POOLED = 16; // 풀에 보관하는 Deflater/Inflater 의 최대 개수
+
+    private final Map<Integer, byte[]> dictionaries = new ConcurrentHashMap<>();
+    private final IntFunction<byte[]> dictionaryLoader;
+    private final int level;
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(MAX_POOLED);
+    private final BlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(MAX_POOLED);
+    private volatile byte[] activeDictionary;
+
+    /**
+     * @param level            Deflate 압축 수준 (1: 가장 빠름 ~ 9: 가장 작음)
+     * @param dictionaryLoader 모르는 사전 ID를 만났을 때 사전을 읽어 오는 함수 (없으면 null 반환)
+     */
+    public PayloadCodec(int level, IntFunction<byte[]> dictionaryLoader) {
+        this.level = level;
+        this.dictionaryLoader = dictionaryLoader;
+    }
+
+    /**
+     * 사전을 등록하고 이후 압축에 사용합니다.
+     * @return 사전 ID (사전의 Adler-32 값)
+     */
+    public int addDictionary(byte[] dictionary) {
+        int id = dictionaryId(dictionary);
+        dictionaries.put(id, dictionary);
+        this.activeDictionary = dictionary;
+        return id;
+    }
+
+    /**
+     * 압축에 사용하는 사전의 ID. 사전이 없으면 null
+     */
+    public Integer getActiveDictionaryId() {
+        byte[] dictionary = activeDictionary;
+        return dictionary != null ? dictionaryId(dictionary) : null;
+    }
+
+    public static int dictionaryId(byte[] dictionary) {
+        Adler32 adler = new Adler32();
+        adler.update(dictionary);
+        return (int) adler.getValue();
+    }
+
+    public byte[] encode(byte[] data) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        try {
+            byte[] dictionary = activeDictionary;
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 3));
+            byte[] buffer = new byte[Math.min(Math.max(256, data.length), 8192)];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.reset();
+            if (!deflaters.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * @param sizeHint 원래 본문의 바이트 수 (모르면 0)
+     * @throws IllegalStateException 값이 손상되었거나 필요한 사전을 찾을 수 없는 경우
+     */
+    public byte[] decode(byte[] data, int sizeHint) {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        inflater.setInput(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sizeHint > 0 ? sizeHint : data.length * 4);
+        byte[] buffer = new byte[8192];
+        try {
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n > 0) {
+                    out.write(buffer, 0, n);
+                } else if (inflater.needsDictionary()) {
+                    inflater.setDictionary(dictionary(inflater.getAdler()));
+                } else if (inflater.needsInput()) {
+                    throw new IllegalStateException("압축된 본문이 중간에 끝났습니다.");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 압축 본문입니다.", e);
+        } finally {
+            inflater.reset();
+            if (!inflaters.offer(inflater)) {
+                inflater.end();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] dictionary(int id) {
+        byte[] dictionary = dictionaries.get(id);
+        if (dictionary == null && dictionaryLoader != null) {
+            // 다른 서버가 새로 만든 사전일 수 있으므로 저장소에서 읽어 옵니다.
+            dictionary = dictionaryLoader.apply(id);
+            if (dictionary != null) {
+                dictionaries.put(id, dictionary);
+            }
+        }
+        if (dictionary == null) {
+            throw new IllegalStateException("알 수 없는 압축 사전입니다: " + Integer.toHexString(id));
+        }
+        return dictionary;
+    }
+
+    /**
+     * 표본 본문들에서 여러 본문에 공통으로 나오는 조각을 모아 압축 사전을 만듭니다.
+     *
+     * 각 본문을 SEGMENT_BYTES 바이트 조각으로 나누어 몇 개의 본문에 나오는지 세고, 두 개 이상에 나온 조각을
+     * 많이 나온 순서로 (이미 사전에 들어 있는 조각은 빼고) maxBytes 까지 고릅니다.
+     * Deflate 는 가까운 위치를 더 짧게 참조하므로, 가장 자주 나오는 조각이 사전의 끝에 오도록 역순으로 이어 붙입니다.
+     * @param samples  표본 본문 (UTF-8)
+     * @param maxBytes 사전 최대 크기 (최대 32KB)
+     * @return 사전. 공통 조각이 없으면 빈 배열
+     */
+    public static byte[] trainDictionary(List<byte[]> samples, int maxBytes) {
+        int limit = Math.min(maxBytes, MAX_DICTIONARY_BYTES);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (byte[] sample : samples) {
+            Set<String> segments = new HashSet<>();
+            for (int offset = 0; offset + SEGMENT_BYTES <= sample.length; offset += SEGMENT_BYTES / 2) {
+                segments.add(new String(sample, offset, SEGMENT_BYTES, StandardCharsets.ISO_8859_1));
+            }
+            for (String segment : segments) {
+                documentFrequency.merge(segment, 1, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : documentFrequency.entrySet()) {
+            if (entry.getValue() >= 2) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        List<String> chosen = new ArrayList<>();
+        StringBuilder contents = new StringBuilder();
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            if (contents.length() + SEGMENT_BYTES > limit) {
+                break;
+            }
+            if (contents.indexOf(candidate.getKey()) < 0) {
+                chosen.add(candidate.getKey());
+                contents.append(candidate.getKey());
+            }
+        }
+
+        StringBuilder dictionary = new StringBuilder(contents.length());
+        for (int i = chosen.size() - 1; i >= 0; i--) {
+            dictionary.append(chosen.get(i));
+        }
+        return dictionary.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -13,6 +13,8 @@ public class PositionService {
         final String erpApiUrl = "http://localhost:8081/api/positions";
         try {
             return restTemplate.getForObject(erpApiUrl, Object.class);
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             return null;
@@ -41,6 +41,8 @@ public class ProjectPlanService {
             // Spring의 HttpMessageConverter가 JSON 응답을 자동으로 Java 객체(이 경우 List<Map<String, Object>>)로 변환해 줍니다.
             Object response = restTemplate.getForObject(erpApiUrl, Object.class);
             return response;
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             // RestTemplate 호출 중 발생할 수 있는 네트워크 오류나 서버 오류 등을 처리합니다.
             // 예외 발생 시, 콘솔에 에러 로그를 출력합니다.
@@ -59,6 +61,8 @@ public class ProjectPlanService {
         try {
             // HTTP PUT 요청을 보내고, 별도의 응답은 받지 않습니다.
             restTemplate.put(ERP_API_URL + "/" + planId, dto);
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             // 예외를 다시 던져서 Controller 단에서 오류를 인지하게 할 수 있습니다.
@@ -92,6 +96,8 @@ public class ProjectPlanService {
                 restTemplate.postForEntity(MES_REF_API_URL, dto, String.class);
             }
 
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("MES로 Plan ID 동기화 중 오류 발생", e);
@@ -123,6 +129,8 @@ public class ProjectPlanService {
 
             log.info("--- ✅ ERP 서버(8081)로 요청 발송 성공 ---");
 
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             // 4. 에러 발생 시, 로그를 더 상세하게 남깁니다.
             log.error("--- ❌ ERP 서버(8081)로 요청 발송 중 오류 발생! ---", e);
@@ -16,6 +16,8 @@ public class PurchaseOrderService {
         try {
             // ERP 서버의 응답을 Object 타입으로 받아서 그대로 반환합니다.
             return restTemplate.getForObject(ERP_API_URL, Object.class);
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             return null;
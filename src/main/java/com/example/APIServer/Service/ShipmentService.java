@@ -18,6 +18,8 @@ public class ShipmentService {
                 // Spring의 HttpMessageConverter가 JSON 응답을 자동으로 Java 객체(이 경우 List<Map<String, Object>>)로 변환해 줍니다.
                 Object response = restTemplate.getForObject(erpApiUrl, Object.class);
                 return response;
+                } catch (UpstreamUnavailableException e) {
+                    throw e;
                 } catch (Exception e) {
                     // RestTemplate 호출 중 발생할 수 있는 네트워크 오류나 서버 오류 등을 처리합니다.
                     // 예외 발생 시, 콘솔에 에러 로그를 출력합니다.
@@ -0,0 +1,188 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiSpanDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 현재 요청 스레드의 추적(trace) 정보입니다. W3C Trace Context(traceparent) 형식을 따릅니다.
+ *
+ * LogAspect 가 요청 시작 시 들어온 traceparent / X-Trace-Id 헤더로 만들거나 새로 생성하고,
+ * 공용 RestTemplate 의 TracingClientHttpRequestInterceptor 가 이 값을 업스트림 호출 헤더로 전달하며
+ * 호출마다 자식 span 을 기록합니다. 요청이 끝나면 LogAspect 가 자식 span 을 로그에 옮기고 정리합니다.
+ */
+public final class TraceContext {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final int MAX_SPANS = 256; // 요청 하나가 보관하는 자식 span 의 최대 개수
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;       // 32자리 소문자 16진수
+    private final String spanId;        // 이 서버에서 처리하는 요청의 span ID (16자리 16진수)
+    private final String parentSpanId;  // 호출한 쪽의 span ID (traceparent 로 받은 경우)
+    private final boolean sampled;
+    private final List<ApiSpanDto> spans = new ArrayList<>();
+    private int droppedSpans;
+
+    private TraceContext(String traceId, String spanId, String parentSpanId, boolean sampled) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * 들어온 헤더로 추적 정보를 만들어 현재 스레드에 설정합니다.
+     * traceparent 가 유효하면 그 trace ID 와 부모 span ID 를, 아니면 X-Trace-Id 를, 둘 다 없으면 새 trace ID 를 사용합니다.
+     * @param traceparent   W3C traceparent 헤더 값 (e.g., "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+     * @param traceIdHeader X-Trace-Id 헤더 값 (32자리 16진수 또는 UUID 형식)
+     */
+    public static TraceContext start(String traceparent, String traceIdHeader) {
+        TraceContext context = parseTraceparent(traceparent);
+        if (context == null) {
+            String traceId = normalizeTraceId(traceIdHeader);
+            context = new TraceContext(traceId != null ? traceId : newTraceId(), newSpanId(), null, true);
+        }
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 현재 스레드의 추적 정보. 요청 처리 중이 아니면 null
+     */
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * 자식 span 으로 업스트림에 전달할 traceparent 헤더 값을 만듭니다.
+     */
+    public String traceparent(String childSpanId) {
+        return "00-" + traceId + "-" + childSpanId + (sampled ? "-01" : "-00");
+    }
+
+    /**
+     * 끝난 자식 span 을 추가합니다. 상한을 넘으면 버리고 개수만 셉니다.
+     */
+    public synchronized void addSpan(ApiSpanDto span) {
+        if (spans.size() < MAX_SPANS) {
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    /**
+     * 지금까지 기록된 자식 span 을 꺼내고 비웁니다.
+     */
+    public synchronized List<ApiSpanDto> drainSpans() {
+        if (spans.isEmpty()) {
+            return List.of();
+        }
+        List<ApiSpanDto> drained = new ArrayList<>(spans);
+        spans.clear();
+        return drained;
+    }
+
+    public synchronized int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public static String newSpanId() {
+        return hex(nonZeroRandom(), 16);
+    }
+
+    /**
+     * 시간 순으로 정렬되는 새 trace ID를 만듭니다. UUIDv7 과 같은 비트 배치입니다.
+     * 앞 48비트는 Unix epoch 밀리초, 그 뒤로 버전(7), 무작위 12비트, variant(10), 무작위 62비트가 옵니다.
+     * 생성 시각 순서로 커지므로 trace_id 인덱스에 새 값이 끝쪽에만 추가되고, 무작위 부분은 잠금 없는 ThreadLocalRandom 으로 채웁니다.
+     */
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long low = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return hex(high, 16) + hex(low, 16);
+    }
+
+    /**
+     * "version-traceId-parentId-flags" 형식을 검사합니다. 형식이 틀리거나 ID가 모두 0이면 null
+     */
+    static TraceContext parseTraceparent(String header) {
+        if (header == null) {
+            return null;
+        }
+        String value = header.trim().toLowerCase(Locale.ROOT);
+        if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-') {
+            return null;
+        }
+        String version = value.substring(0, 2);
+        String traceId = value.substring(3, 35);
+        String parentId = value.substring(36, 52);
+        String flags = value.substring(53, 55);
+        if (!isHex(version) || "ff".equals(version) || !isHex(traceId) || !isHex(parentId) || !isHex(flags)
+                || INVALID_TRACE_ID.equals(traceId) || INVALID_SPAN_ID.equals(parentId)
+                || ("00".equals(version) && value.length() != 55)) {
+            return null;
+        }
+        boolean sampled = (Integer.parseInt(flags, 16) & 0x01) != 0;
+        return new TraceContext(traceId, newSpanId(), parentId, sampled);
+    }
+
+    /**
+     * X-Trace-Id 값을 32자리 소문자 16진수로 정규화합니다. UUID 형식이면 '-'를 제거합니다.
+     */
+    public static String normalizeTraceId(String header) {
+        if (header == null) {
+            return null;
+        }
+        String value = header.trim().replace("-", "").toLowerCase(Locale.ROOT);
+        return value.length() == 32 && isHex(value) && !INVALID_TRACE_ID.equals(value) ? value : null;
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long nonZeroRandom() {
+        long value;
+        do {
+            value = ThreadLocalRandom.current().nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static String hex(long value, int digits) {
+        String hex = Long.toHexString(value);
+        return hex.length() >= digits ? hex : "0".repeat(digits - hex.length()) + hex;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.APIServer.Service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 업스트림 하나의 최근 호출 결과로 호출 허용 여부를 정하는 서킷 브레이커입니다.
+ *
+ * CLOSED: 최근 windowSize 건의 결과를 링 버퍼에 두고, minimumCalls 건 이상 쌓인 뒤 실패율이나 느린 호출 비율이
+ *         임계값 이상이면 OPEN 으로 바뀝니다. (실패: 연결/응답 제한 시간 초과 등 I/O 오류와 5xx 응답)
+ * OPEN: openDurationMs 동안 호출을 보내지 않고 바로 거절합니다.
+ * HALF_OPEN: 대기 시간이 지나면 halfOpenCalls 건만 시험 호출로 보내고, 그 결과가 임계값 아래면 CLOSED, 아니면 다시 OPEN 이 됩니다.
+ *
+ * 상태가 바뀔 때마다 세대(generation)를 올려, 이전 상태에서 허용된 호출의 늦은 결과가 새 상태의 판단에 섞이지 않게 합니다.
+ * 잠금은 메모리 갱신에만 잡고 호출 자체는 잠금 밖에서 일어납니다.
+ */
+public class UpstreamCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * @param windowSize           판단에 쓰는 최근 호출 수
+     * @param minimumCalls         판단을 시작하는 최소 호출 수
+     * @param failureRateThreshold 실패율 임계값 (0~1)
+     * @param slowCallThresholdMs  이 시간 이상 걸린 호출을 느린 호출로 봅니다.
+     * @param slowCallRateThreshold 느린 호출 비율 임계값 (0~1)
+     * @param openDurationMs       OPEN 상태를 유지하는 시간
+     * @param halfOpenCalls        HALF_OPEN 상태에서 보내는 시험 호출 수
+     */
+    public record Settings(int windowSize, int minimumCalls, double failureRateThreshold, long slowCallThresholdMs,
+                           double slowCallRateThreshold, long openDurationMs, int halfOpenCalls) {
+    }
+
+    /**
+     * 거절된 호출에 돌려주는 값
+     */
+    public static final long REJECTED = -1;
+
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final Consumer<State> stateListener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    // 아래 필드는 lock 을 잡고 읽고 씁니다.
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int position;
+    private int failures;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long generation;
+    private long stateChangedAt;
+    private long openCount;
+    private int halfOpenPermitted;
+
+    /**
+     * @param clock         현재 시각(ms)
+     * @param stateListener 상태가 바뀌면 새 상태로 호출됩니다. (잠금을 잡은 채 호출되므로 가벼운 작업만 합니다)
+     */
+    public UpstreamCircuitBreaker(Settings settings, LongSupplier clock, Consumer<State> stateListener) {
+        if (settings.windowSize() < 1 || settings.halfOpenCalls() < 1) {
+            throw new IllegalArgumentException("windowSize 와 halfOpenCalls 는 1 이상이어야 합니다.");
+        }
+        this.settings = settings;
+        this.clock = clock;
+        this.stateListener = stateListener;
+        int capacity = Math.max(settings.windowSize(), settings.halfOpenCalls());
+        this.failed = new boolean[capacity];
+        this.slow = new boolean[capacity];
+        this.stateChangedAt = clock.getAsLong();
+    }
+
+    /**
+     * 호출을 보내도 되는지 확인합니다.
+     * @return 허용되면 onResult 에 넘길 세대 값, 거절되면 REJECTED
+     */
+    public long tryAcquire() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (state == State.OPEN && now - stateChangedAt >= settings.openDurationMs()) {
+                transition(State.HALF_OPEN, now);
+            }
+            if (state == State.CLOSED) {
+                return generation;
+            }
+            if (state == State.HALF_OPEN && halfOpenPermitted < settings.halfOpenCalls()) {
+                halfOpenPermitted++;
+                return generation;
+            }
+            notPermittedCalls.increment();
+            return REJECTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허용된 호출의 결과를 기록합니다.
+     * @param permit     tryAcquire 가 반환한 값
+     * @param durationMs 호출 소요 시간
+     * @param failure    I/O 오류 또는 5xx 응답이면 true
+     */
+    public void onResult(long permit, long durationMs, boolean failure) {
+        lock.lock();
+        try {
+            if (permit != generation || state == State.OPEN) {
+                return; // 상태가 바뀌기 전에 허용된 호출입니다.
+            }
+            boolean slowCall = durationMs >= settings.slowCallThresholdMs();
+            int size = state == State.CLOSED ? settings.windowSize() : settings.halfOpenCalls();
+            if (recorded == size) {
+                // 가장 오래된 결과를 밀어냅니다. (HALF_OPEN 에서는 size 에 이르면 바로 판단하므로 일어나지 않습니다)
+                if (failed[position]) {
+                    failures--;
+                }
+                if (slow[position]) {
+                    slowCalls--;
+                }
+            } else {
+                recorded++;
+            }
+            failed[position] = failure;
+            slow[position] = slowCall;
+            if (failure) {
+                failures++;
+            }
+            if (slowCall) {
+                slowCalls++;
+            }
+            position = (position + 1) % size;
+
+            long now = clock.getAsLong();
+            if (state == State.CLOSED) {
+                if (recorded >= settings.minimumCalls() && overThreshold()) {
+                    transition(State.OPEN, now);
+                }
+            } else if (recorded >= settings.halfOpenCalls()) {
+                transition(overThreshold() ? State.OPEN : State.CLOSED, now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean overThreshold() {
+        return (double) failures / recorded >= settings.failureRateThreshold()
+                || (double) slowCalls / recorded >= settings.slowCallRateThreshold();
+    }
+
+    private void transition(State next, long now) {
+        state = next;
+        stateChangedAt = now;
+        generation++;
+        recorded = 0;
+        position = 0;
+        failures = 0;
+        slowCalls = 0;
+        halfOpenPermitted = 0;
+        if (next == State.OPEN) {
+            openCount++;
+        }
+        stateListener.accept(next);
+    }
+
+    /**
+     * OPEN 상태에서 시험 호출을 시작할 때까지 남은 시간(ms). OPEN 이 아니면 0
+     */
+    public long getRetryAfterMs() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return 0;
+            }
+            return Math.max(0, settings.openDurationMs() - (clock.getAsLong() - stateChangedAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(state, recorded, recorded > 0 ? (double) failures / recorded : 0,
+                    recorded > 0 ? (double) slowCalls / recorded : 0, notPermittedCalls.sum(), openCount, stateChangedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 상태와 지표입니다. 실패율과 느린 호출 비율은 현재 상태에서 기록된 호출 기준입니다.
+     */
+    public record Snapshot(State state, int bufferedCalls, double failureRate, double slowCallRate,
+                           long notPermittedCalls, long openCount, long stateChangedAt) {
+    }
+}
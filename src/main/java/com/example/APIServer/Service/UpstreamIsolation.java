@@ -0,0 +1,161 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.UpstreamHttpProperties;
+import com.example.APIServer.Dto.UpstreamBreakerStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업스트림(ERP, MES, Drone)마다 동시 호출 수 한도(bulkhead)와 서킷 브레이커를 두어 장애를 격리하는 서비스 클래스입니다.
+ *
+ * ERP 가 느려지면 ERP 호출만 한도까지 쌓이고 나머지는 바로 거절되므로, 요청 스레드와 연결이 MES/Drone 호출 몫까지 잠기지 않습니다.
+ * 실패나 느린 호출이 많아지면 브레이커가 열려 일정 시간 동안 호출을 보내지 않고 바로 503 으로 응답합니다.
+ * 공용 RestTemplate 의 UpstreamIsolationInterceptor 가 호출마다 사용하며, upstream.http.upstreams 에 없는 호스트는 그대로 통과시킵니다.
+ */
+@Slf4j
+@Service
+public class UpstreamIsolation {
+
+    private final Map<String, Guard> guardsByAuthority = new HashMap<>();
+    private final List<Guard> guards = new ArrayList<>();
+
+    public UpstreamIsolation(UpstreamHttpProperties properties) {
+        UpstreamHttpProperties.Breaker breaker = properties.getBreaker();
+        UpstreamCircuitBreaker.Settings settings = new UpstreamCircuitBreaker.Settings(breaker.getWindowSize(),
+                breaker.getMinimumCalls(), breaker.getFailureRateThreshold(), breaker.getSlowCallThresholdMs(),
+                breaker.getSlowCallRateThreshold(), breaker.getOpenDurationMs(), breaker.getHalfOpenCalls());
+        properties.namesByAuthority().forEach((authority, name) -> {
+            UpstreamHttpProperties.Upstream upstream = properties.getUpstreams().get(name);
+            int maxConcurrentCalls = upstream.getMaxConcurrentCalls() != null
+                    ? upstream.getMaxConcurrentCalls() : upstream.getMaxConnections();
+            UpstreamCircuitBreaker circuitBreaker = breaker.isEnabled()
+                    ? new UpstreamCircuitBreaker(settings, System::currentTimeMillis,
+                            state -> log.warn("업스트림 서킷 브레이커 상태 변경: {} ({}) -> {}", name, authority, state))
+                    : null;
+            Guard guard = new Guard(name, authority, circuitBreaker, maxConcurrentCalls, properties.getBulkheadMaxWaitMs());
+            guardsByAuthority.put(authority, guard);
+            guards.add(guard);
+        });
+    }
+
+    /**
+     * 주소에 해당하는 업스트림의 격리 장치. 설정에 없는 호스트면 null
+     */
+    public Guard guard(URI uri) {
+        return guardsByAuthority.get(UpstreamHttpProperties.authority(uri));
+    }
+
+    /**
+     * 업스트림 하나의 bulkhead 와 서킷 브레이커입니다.
+     */
+    public static final class Guard {
+
+        private final String name;
+        private final String authority;
+        private final UpstreamCircuitBreaker breaker; // 브레이커를 끈 경우 null
+        private final Semaphore bulkhead;
+        private final int maxConcurrentCalls;
+        private final long maxWaitMs;
+        private final LongAdder bulkheadRejected = new LongAdder();
+
+        Guard(String name, String authority, UpstreamCircuitBreaker breaker, int maxConcurrentCalls, long maxWaitMs) {
+            this.name = name;
+            this.authority = authority;
+            this.breaker = breaker;
+            this.bulkhead = new Semaphore(maxConcurrentCalls);
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        /**
+         * 호출 자리를 얻습니다. 얻은 뒤에는 반드시 release 를 호출해야 합니다.
+         * @return release 에 넘길 값
+         * @throws UpstreamUnavailableException 동시 호출 수 한도에 도달했거나 브레이커가 열려 있는 경우
+         */
+        public long acquire() {
+            // bulkhead 를 먼저 얻어, 거절될 호출이 HALF_OPEN 시험 호출 자리를 차지하지 않게 합니다.
+            if (!tryAcquireBulkhead()) {
+                bulkheadRejected.increment();
+                throw new UpstreamUnavailableException(name, UpstreamUnavailableException.Reason.BULKHEAD_FULL, 1000);
+            }
+            if (breaker == null) {
+                return 0;
+            }
+            long permit = breaker.tryAcquire();
+            if (permit == UpstreamCircuitBreaker.REJECTED) {
+                bulkhead.release();
+                throw new UpstreamUnavailableException(name, UpstreamUnavailableException.Reason.CIRCUIT_OPEN,
+                        breaker.getRetryAfterMs());
+            }
+            return permit;
+        }
+
+        /**
+         * 호출 결과를 기록하고 호출 자리를 반납합니다.
+         * @param failure I/O 오류 또는 5xx 응답이면 true
+         */
+        public void release(long permit, long durationMs, boolean failure) {
+            try {
+                if (breaker != null) {
+                    breaker.onResult(permit, durationMs, failure);
+                }
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        private boolean tryAcquireBulkhead() {
+            if (maxWaitMs <= 0) {
+                return bulkhead.tryAcquire();
+            }
+            try {
+                return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        UpstreamBreakerStatsDto stats() {
+            UpstreamBreakerStatsDto.UpstreamBreakerStatsDtoBuilder builder = UpstreamBreakerStatsDto.builder()
+                    .name(name)
+                    .authority(authority)
+                    .concurrentCalls(maxConcurrentCalls - bulkhead.availablePermits())
+                    .maxConcurrentCalls(maxConcurrentCalls)
+                    .bulkheadRejectedCalls(bulkheadRejected.sum());
+            if (breaker == null) {
+                return builder.state("DISABLED").build();
+            }
+            UpstreamCircuitBreaker.Snapshot snapshot = breaker.snapshot();
+            return builder
+                    .state(snapshot.state().name())
+                    .stateChangedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.stateChangedAt()), ZoneId.systemDefault()))
+                    .bufferedCalls(snapshot.bufferedCalls())
+                    .failureRate(snapshot.failureRate())
+                    .slowCallRate(snapshot.slowCallRate())
+                    .notPermittedCalls(snapshot.notPermittedCalls())
+                    .openCount(snapshot.openCount())
+                    .retryAfterMs(breaker.getRetryAfterMs())
+                    .build();
+        }
+    }
+
+    /**
+     * 업스트림별 서킷 브레이커 상태와 동시 호출 현황을 조회합니다.
+     */
+    public List<UpstreamBreakerStatsDto> getStats() {
+        return guards.stream().map(Guard::stats).toList();
+    }
+}
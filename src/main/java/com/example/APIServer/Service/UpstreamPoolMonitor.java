@@ -0,0 +1,55 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.UpstreamHttpProperties;
+import com.example.APIServer.Dto.UpstreamPoolStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업스트림 호출 연결 풀의 사용 현황(사용 중/유휴/대기/최대 연결 수)을 조회하는 서비스 클래스입니다.
+ * 설정된 업스트림은 아직 호출된 적이 없어도 목록에 나오고, 설정에 없는 호스트는 호출된 뒤부터 나옵니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UpstreamPoolMonitor {
+
+    private final PoolingHttpClientConnectionManager upstreamConnectionManager;
+    private final UpstreamHttpProperties properties;
+
+    public UpstreamPoolStatsDto getStats() {
+        Map<String, String> names = properties.namesByAuthority();
+        Map<String, HttpRoute> routes = new LinkedHashMap<>();
+        names.forEach((authority, name) ->
+                routes.put(authority, UpstreamHttpProperties.route(properties.getUpstreams().get(name).getUrl())));
+        for (HttpRoute route : upstreamConnectionManager.getRoutes()) {
+            routes.putIfAbsent(UpstreamHttpProperties.authority(route.getTargetHost()), route);
+        }
+
+        List<UpstreamPoolStatsDto.Pool> upstreams = new ArrayList<>(routes.size());
+        routes.forEach((authority, route) ->
+                upstreams.add(pool(names.get(authority), authority, upstreamConnectionManager.getStats(route))));
+        return UpstreamPoolStatsDto.builder()
+                .total(pool(null, null, upstreamConnectionManager.getTotalStats()))
+                .upstreams(upstreams)
+                .build();
+    }
+
+    private static UpstreamPoolStatsDto.Pool pool(String name, String authority, PoolStats stats) {
+        return UpstreamPoolStatsDto.Pool.builder()
+                .name(name)
+                .authority(authority)
+                .leased(stats.getLeased())
+                .available(stats.getAvailable())
+                .pending(stats.getPending())
+                .max(stats.getMax())
+                .build();
+    }
+}
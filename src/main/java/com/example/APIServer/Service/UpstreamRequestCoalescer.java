@@ -0,0 +1,250 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.UpstreamHttpProperties;
+import com.example.APIServer.Dto.UpstreamCoalescingStatsDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 진행 중인 같은 업스트림 GET 호출을 하나로 합치는(single-flight) 서비스 클래스입니다.
+ *
+ * URL 과 keyHeaders(Authorization 등)가 같은 GET 이 이미 진행 중이면 새 호출을 보내지 않고 그 호출의 응답을 기다려 함께 받습니다.
+ * 먼저 온 요청(leader)이 응답 본문을 메모리에 읽어 두고, 기다리던 요청(follower)마다 같은 상태 코드/헤더/본문의 응답을 새로 만들어 줍니다.
+ * 진행 중인 호출만 공유하고 끝난 응답은 보관하지 않으므로, 응답을 받은 뒤에 들어온 요청은 다시 업스트림을 호출합니다. (오래된 데이터 없음)
+ * leader 의 호출은 연결/응답 제한 시간(UpstreamHttpConfig)으로 끝나는 시간이 정해져 있으므로 follower 도 그 이상 기다리지 않습니다.
+ *
+ * 공용 RestTemplate 의 UpstreamCoalescingInterceptor 가 사용하며, 격리 장치(UpstreamIsolation)보다 바깥에 있어
+ * 합쳐진 follower 는 동시 호출 수 한도와 서킷 브레이커 집계에 들어가지 않습니다.
+ */
+@Service
+public class UpstreamRequestCoalescer {
+
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final List<String> keyHeaders;
+    private final Map<String, String> namesByAuthority;
+
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public UpstreamRequestCoalescer(UpstreamHttpProperties properties) {
+        UpstreamHttpProperties.Coalescing coalescing = properties.getCoalescing();
+        this.enabled = coalescing.isEnabled();
+        this.maxBodyBytes = coalescing.getMaxBodyBytes();
+        this.keyHeaders = List.copyOf(coalescing.getKeyHeaders());
+        this.namesByAuthority = properties.namesByAuthority();
+    }
+
+    private record FlightKey(String uri, List<List<String>> headers) {
+    }
+
+    private static final class Counters {
+        final LongAdder upstreamCalls = new LongAdder();  // 실제로 업스트림에 보낸 GET
+        final LongAdder coalescedCalls = new LongAdder(); // 진행 중인 호출의 응답을 함께 받은 GET
+        final LongAdder notShared = new LongAdder();      // 응답이 커서 공유하지 못하고 다시 호출한 GET
+    }
+
+    /**
+     * leader 가 받은 응답입니다. 본문이 maxBodyBytes 를 넘으면 body 가 null 입니다.
+     */
+    private record SharedResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, byte[] body) {
+
+        ClientHttpResponse newResponse() {
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(headers);
+            return new BufferedResponse(statusCode, statusText, copy, new ByteArrayInputStream(body), null);
+        }
+    }
+
+    /**
+     * GET 이면 진행 중인 같은 호출에 합류하고, 아니면 그대로 보냅니다.
+     */
+    public ClientHttpResponse execute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!enabled || request.getMethod() != HttpMethod.GET || body.length > 0) {
+            return execution.execute(request, body);
+        }
+        Counters stats = counters.computeIfAbsent(UpstreamHttpProperties.authority(request.getURI()), authority -> new Counters());
+        FlightKey key = key(request);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            SharedResponse shared = await(existing);
+            if (shared.body() != null) {
+                stats.coalescedCalls.increment();
+                return shared.newResponse();
+            }
+            // 공유할 수 없는 큰 응답이었으므로 직접 호출합니다.
+            stats.notShared.increment();
+            stats.upstreamCalls.increment();
+            return execution.execute(request, body);
+        }
+
+        stats.upstreamCalls.increment();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            return lead(key, flight, response);
+        } catch (Throwable e) {
+            // 기다리던 요청이 멈춰 있지 않도록 어떤 오류든 함께 전달합니다.
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * leader 가 응답 본문을 읽어 follower 와 공유합니다.
+     * 본문이 maxBodyBytes 를 넘으면 읽은 부분과 나머지 스트림을 이어 leader 에게만 돌려줍니다.
+     */
+    private ClientHttpResponse lead(FlightKey key, CompletableFuture<SharedResponse> flight, ClientHttpResponse response) throws IOException {
+        HttpStatusCode statusCode;
+        String statusText;
+        byte[] prefix;
+        boolean complete;
+        try {
+            statusCode = response.getStatusCode();
+            statusText = response.getStatusText();
+            InputStream in = response.getBody();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while (out.size() <= maxBodyBytes && (n = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, n);
+            }
+            prefix = out.toByteArray();
+            complete = prefix.length <= maxBodyBytes;
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+
+        SharedResponse shared = new SharedResponse(statusCode, statusText, response.getHeaders(), complete ? prefix : null);
+        // 응답을 받은 뒤에 들어오는 요청이 이 응답을 받지 않도록 먼저 제거합니다.
+        inFlight.remove(key, flight);
+        flight.complete(shared);
+        if (complete) {
+            response.close();
+            return shared.newResponse();
+        }
+        return new BufferedResponse(statusCode, statusText, response.getHeaders(),
+                new SequenceInputStream(new ByteArrayInputStream(prefix), response.getBody()), response);
+    }
+
+    private static SharedResponse await(CompletableFuture<SharedResponse> flight) throws IOException {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("업스트림 응답을 기다리는 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            // leader 의 호출이 실패하면 함께 기다리던 요청도 같은 오류로 실패합니다.
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private FlightKey key(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        List<List<String>> values = new ArrayList<>(keyHeaders.size());
+        for (String name : keyHeaders) {
+            List<String> value = headers.get(name);
+            values.add(value != null ? List.copyOf(value) : List.of());
+        }
+        return new FlightKey(request.getURI().toString(), values);
+    }
+
+    /**
+     * 업스트림별 GET 합치기 지표를 조회합니다.
+     * coalescingRatio 는 전체 GET 중 업스트림에 보내지 않고 함께 받은 비율입니다.
+     */
+    public List<UpstreamCoalescingStatsDto> getStats() {
+        return counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    long upstreamCalls = entry.getValue().upstreamCalls.sum();
+                    long coalescedCalls = entry.getValue().coalescedCalls.sum();
+                    long requests = upstreamCalls + coalescedCalls;
+                    return UpstreamCoalescingStatsDto.builder()
+                            .name(namesByAuthority.get(entry.getKey()))
+                            .authority(entry.getKey())
+                            .requests(requests)
+                            .upstreamCalls(upstreamCalls)
+                            .coalescedCalls(coalescedCalls)
+                            .notSharedCalls(entry.getValue().notShared.sum())
+                            .coalescingRatio(requests > 0 ? (double) coalescedCalls / requests : 0)
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 메모리에 읽어 둔 본문(또는 읽어 둔 부분 + 나머지 스트림)을 돌려주는 응답입니다.
+     */
+    private static final class BufferedResponse implements ClientHttpResponse {
+        private final HttpStatusCode statusCode;
+        private final String statusText;
+        private final HttpHeaders headers;
+        private final InputStream body;
+        private final ClientHttpResponse delegate; // 나머지 스트림을 읽는 경우 닫아야 할 원래 응답
+
+        BufferedResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, InputStream body,
+                         ClientHttpResponse delegate) {
+            this.statusCode = statusCode;
+            this.statusText = statusText;
+            this.headers = headers;
+            this.body = body;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getStatusText() {
+            return statusText;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+    }
+}
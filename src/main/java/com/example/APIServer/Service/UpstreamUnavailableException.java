@@ -0,0 +1,29 @@
+package com.example.APIServer.Service;
+
+import lombok.Getter;
+
+/**
+ * 업스트림 호출을 보내지 않고 바로 거절했을 때 발생하는 예외입니다. UpstreamExceptionHandler 가 503 으로 응답합니다.
+ * 업스트림 장애를 기다리지 않고 빠르게 실패시키기 위한 것이므로, 대체 응답이 있는 서비스만 잡아서 처리합니다.
+ */
+@Getter
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,  // 서킷 브레이커가 열려 있음
+        BULKHEAD_FULL  // 동시 호출 수 한도에 도달함
+    }
+
+    private final String upstream;
+    private final Reason reason;
+    private final long retryAfterMs;
+
+    public UpstreamUnavailableException(String upstream, Reason reason, long retryAfterMs) {
+        super(reason == Reason.CIRCUIT_OPEN
+                ? "업스트림(" + upstream + ") 장애로 호출을 일시 중단했습니다."
+                : "업스트림(" + upstream + ") 동시 호출 수가 한도에 도달했습니다.");
+        this.upstream = upstream;
+        this.reason = reason;
+        this.retryAfterMs = retryAfterMs;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.APIServer.Config;
+
+import com.example.APIServer.Service.HttpPayloadCapture;
+import com.example.APIServer.Service.PayloadCapturePolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 요청/응답 본문 기록 방식별로 요청 한 건당 CPU 시간과 할당 바이트를 비교합니다.
+ *
+ * reserializing: 이전 LogAspect 처럼 Spring MVC 가 본문을 변환한 뒤, 컨트롤러 인자와 반환값을 로그용으로 다시 직렬화합니다.
+ * tee: PayloadCaptureFilter 가 MVC 가 읽고 쓰는 바이트를 HttpPayloadCapture.Tee 로 복사합니다.
+ * 두 방식 모두 같은 MVC 변환(ObjectMapper 읽기/쓰기)을 거치므로 차이는 로그 기록 비용입니다. 측정값은 로거로 남깁니다.
+ *
+ * 할당량은 JIT/TLAB 상태에 따라 달라지므로 benchmark 태그로 기본 test 작업에서 제외하며, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class PayloadCaptureBenchmarkTests {
+
+	private static final Logger log = LoggerFactory.getLogger(PayloadCaptureBenchmarkTests.class);
+
+	private static final int MAX_BYTES = 4096; // apilog.capture.default-max-bytes 기본값
+	private static final PayloadCapturePolicy POLICY = new PayloadCapturePolicy(PayloadCapturePolicy.Mode.HEAD, MAX_BYTES);
+	private static final int WARMUP = 3_000;
+	private static final int ITERATIONS = 10_000;
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final PayloadCaptureFilter filter = new PayloadCaptureFilter(null); // pendingLog 가 없으면 기록기를 호출하지 않습니다.
+
+	record Employee(long employeeId, String name, String department, String email) {
+	}
+
+	private record Captured(String requestPayload, String responsePayload) {
+	}
+
+	private record Result(String name, long cpuNanos, long allocatedBytes) {
+	}
+
+	@FunctionalInterface
+	private interface Exchange {
+		Captured handle(byte[] requestBody, List<Employee> responseBody) throws Exception;
+	}
+
+	@Test
+	void teeAllocatesLessForSmallResponse() throws Exception {
+		compare("small", employees(3));
+	}
+
+	@Test
+	void teeAllocatesLessForTruncatedResponse() throws Exception {
+		compare("truncated", employees(300));
+	}
+
+	private void compare(String name, List<Employee> responseBody) throws Exception {
+		assumeTrue(THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadAllocatedMemorySupported());
+		THREADS.setThreadCpuTimeEnabled(true);
+		THREADS.setThreadAllocatedMemoryEnabled(true);
+		byte[] requestBody = objectMapper.writeValueAsBytes(new Employee(7, "김철수", "생산관리", "kim@example.com"));
+
+		// 두 방식이 같은 본문을 남기는지 먼저 확인합니다. (요청 본문은 ObjectMapper 로 만들었으므로 재직렬화 결과와 같습니다)
+		Captured expected = reserializing(requestBody, responseBody);
+		assertThat(tee(requestBody, responseBody)).isEqualTo(expected);
+
+		Result reserializing = measure("reserializing", this::reserializing, requestBody, responseBody);
+		Result tee = measure("tee", this::tee, requestBody, responseBody);
+
+		long responseBytes = objectMapper.writeValueAsBytes(responseBody).length;
+		for (Result result : List.of(reserializing, tee)) {
+			log.info("{} {} response {} bytes: cpu {} ns/request, allocated {} bytes/request",
+					name, result.name(), responseBytes, result.cpuNanos(), result.allocatedBytes());
+		}
+		assertThat(tee.allocatedBytes()).isLessThan(reserializing.allocatedBytes());
+	}
+
+	private Result measure(String name, Exchange exchange, byte[] requestBody, List<Employee> responseBody) throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			exchange.handle(requestBody, responseBody);
+		}
+		long threadId = Thread.currentThread().threadId();
+		long cpuBefore = THREADS.getCurrentThreadCpuTime();
+		long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			exchange.handle(requestBody, responseBody);
+		}
+		long cpu = THREADS.getCurrentThreadCpuTime() - cpuBefore;
+		long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		return new Result(name, cpu / ITERATIONS, allocated / ITERATIONS);
+	}
+
+	/**
+	 * 이전 방식: MVC 변환 후 LogAspect 가 인자와 반환값을 다시 직렬화합니다.
+	 */
+	private Captured reserializing(byte[] requestBody, List<Employee> responseBody) throws Exception {
+		MockHttpServletRequest request = request(requestBody);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		Employee argument = objectMapper.readValue(request.getInputStream(), Employee.class);
+		response.setContentType("application/json");
+		objectMapper.writeValue(response.getOutputStream(), responseBody);
+
+		return new Captured(reserialize(argument), reserialize(responseBody));
+	}
+
+	/**
+	 * 현재 방식: PayloadCaptureFilter 가 MVC 가 읽고 쓴 바이트를 복사합니다.
+	 */
+	private Captured tee(byte[] requestBody, List<Employee> responseBody) throws Exception {
+		MockHttpServletRequest request = request(requestBody);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HttpPayloadCapture[] capture = new HttpPayloadCapture[1];
+
+		filter.doFilter(request, response, (req, res) -> {
+			capture[0] = HttpPayloadCapture.of(req);
+			capture[0].start(POLICY, true); // PayloadCaptureInterceptor 가 핸들러를 찾은 뒤 하는 일
+			objectMapper.readValue(req.getInputStream(), Employee.class);
+			res.setContentType("application/json");
+			objectMapper.writeValue(res.getOutputStream(), responseBody);
+		});
+
+		return new Captured(capture[0].getRequest().result(), capture[0].responsePayload(response.getContentType()));
+	}
+
+	private static MockHttpServletRequest request(byte[] body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/proxy/employees");
+		request.setContentType("application/json");
+		request.setContent(body);
+		return request;
+	}
+
+	private static List<Employee> employees(int count) {
+		return LongStream.rangeClosed(1, count)
+				.mapToObj(id -> new Employee(id, "사원" + id, id % 2 == 0 ? "생산관리" : "품질관리", "employee" + id + "@example.com"))
+				.toList();
+	}
+
+	/**
+	 * 제거된 PayloadCapturer.capture 와 같은 흐름입니다.
+	 */
+	private String reserialize(Object value) {
+		ReserializingWriter writer = new ReserializingWriter(MAX_BYTES);
+		try {
+			objectMapper.writeValue(writer, value);
+		} catch (Exception e) {
+			if (!writer.truncated) {
+				return "Payload logging error: " + e.getMessage();
+			}
+		}
+		return writer.result();
+	}
+
+	/**
+	 * 제거된 BoundedPayloadWriter 의 HEAD 모드입니다. 상한에 도달하면 예외로 직렬화를 중단합니다.
+	 */
+	private static final class ReserializingWriter extends Writer {
+
+		private final int headLimit;
+		private final StringBuilder head;
+		private int headBytes;
+		private boolean truncated;
+
+		ReserializingWriter(int headLimit) {
+			this.headLimit = headLimit;
+			this.head = new StringBuilder(Math.min(headLimit, 1024));
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			for (int i = off; i < off + len; i++) {
+				capture(cbuf[i]);
+			}
+		}
+
+		@Override
+		public void write(String str, int off, int len) throws IOException {
+			for (int i = off; i < off + len; i++) {
+				capture(str.charAt(i));
+			}
+		}
+
+		private void capture(char c) throws IOException {
+			int size = c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+			if (!truncated && headBytes + size <= headLimit) {
+				head.append(c);
+				headBytes += size;
+				return;
+			}
+			truncated = true;
+			throw new LimitReachedException();
+		}
+
+		String result() {
+			return truncated ? head + "...[truncated at " + headLimit + " bytes]" : head.toString();
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static final class LimitReachedException extends IOException {
+		LimitReachedException() {
+			super("payload capture limit reached", null);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.example.APIServer.Config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 업스트림 stub 을 상대로, 플랫폼 스레드 풀(Tomcat 작업 스레드와 같은 방식)과 요청마다 가상 스레드를 쓰는 방식에서
+ * 공용 RestTemplate 으로 동시에 처리되는 업스트림 호출 수와 전체 소요 시간을 비교합니다.
+ * 측정값은 표준 출력으로 남깁니다.
+ */
+class UpstreamHttpLoadTests {
+
+	private static final int REQUESTS = 400;
+	private static final int PLATFORM_THREADS = 50; // server.tomcat.threads.max 를 줄여서 흉내 냅니다.
+	private static final long UPSTREAM_DELAY_MS = 200;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+
+	private HttpServer upstream;
+	private ExecutorService upstreamExecutor;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+	private RestTemplate restTemplate;
+	private String url;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		upstream = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+		upstream.setExecutor(upstreamExecutor);
+		upstream.createContext("/api/projects", exchange -> {
+			int current = inFlight.incrementAndGet();
+			peakInFlight.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(UPSTREAM_DELAY_MS);
+				byte[] body = "[{\"projectId\":\"P-1\"}]".getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				inFlight.decrementAndGet();
+				exchange.close();
+			}
+		});
+		upstream.start();
+		url = "http://127.0.0.1:" + upstream.getAddress().getPort();
+
+		UpstreamHttpProperties properties = new UpstreamHttpProperties();
+		properties.setMaxTotal(REQUESTS);
+		UpstreamHttpProperties.Upstream erp = new UpstreamHttpProperties.Upstream();
+		erp.setUrl(url);
+		erp.setMaxConnections(REQUESTS);
+		properties.getUpstreams().put("erp", erp);
+
+		UpstreamHttpConfig config = new UpstreamHttpConfig(properties);
+		connectionManager = config.upstreamConnectionManager();
+		httpClient = config.upstreamHttpClient(connectionManager);
+		restTemplate = new RestTemplate(config.upstreamRequestFactory(httpClient));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		httpClient.close();
+		connectionManager.close();
+		upstream.stop(0);
+		upstreamExecutor.shutdownNow();
+	}
+
+	@Test
+	void virtualThreadsKeepMoreUpstreamCallsInFlight() throws Exception {
+		Result platform = run("platform-threads", Executors.newFixedThreadPool(PLATFORM_THREADS));
+		Result virtual = run("virtual-threads", Executors.newVirtualThreadPerTaskExecutor());
+
+		for (Result result : List.of(platform, virtual)) {
+			System.out.printf("%-17s %d requests, upstream %d ms: elapsed %5d ms, peak in-flight %3d%n",
+					result.name, REQUESTS, UPSTREAM_DELAY_MS, result.elapsedMs, result.peakInFlight);
+		}
+		assertThat(platform.peakInFlight).isLessThanOrEqualTo(PLATFORM_THREADS);
+		assertThat(virtual.peakInFlight).isGreaterThan(PLATFORM_THREADS);
+		assertThat(virtual.elapsedMs).isLessThan(platform.elapsedMs);
+		assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+	}
+
+	private Result run(String name, ExecutorService executor) throws Exception {
+		peakInFlight.set(0);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> responses = new ArrayList<>(REQUESTS);
+		try (executor) {
+			for (int i = 0; i < REQUESTS; i++) {
+				responses.add(executor.submit(() -> {
+					start.await();
+					return restTemplate.getForObject(url + "/api/projects", String.class);
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<String> response : responses) {
+				assertThat(response.get(30, TimeUnit.SECONDS)).contains("P-1");
+			}
+			return new Result(name, (System.nanoTime() - begin) / 1_000_000, peakInFlight.get());
+		}
+	}
+
+	private record Result(String name, long elapsedMs, int peakInFlight) {
+	}
+}
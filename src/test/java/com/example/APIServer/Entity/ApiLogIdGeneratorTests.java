@@ -0,0 +1,135 @@
+package com.example.APIServer.Entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiLogIdGenerator.Block 의 구간 소진 후 재예약, 여러 구간에 걸친 일괄 할당, 동시 호출 시 ID 중복 없음을 검증합니다.
+ */
+class ApiLogIdGeneratorTests {
+
+	private final AtomicLong counter = new AtomicLong(1);
+	private final List<Integer> reservations = new ArrayList<>();
+
+	/**
+	 * api_log_id_blocks 카운터처럼 요청한 크기만큼 값을 올리고 구간의 시작을 반환합니다.
+	 */
+	private long reserve(int size) {
+		synchronized (reservations) {
+			reservations.add(size);
+		}
+		return counter.getAndAdd(size);
+	}
+
+	@Test
+	void nextIdRollsOverToNextBlock() {
+		ApiLogIdGenerator.Block block = new ApiLogIdGenerator.Block(3);
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			ids.add(block.nextId(this::reserve));
+		}
+
+		assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+		assertThat(reservations).containsExactly(3, 3, 3);
+	}
+
+	@Test
+	void rolloverFollowsReservedBlockAfterGap() {
+		// 다른 서버가 사이 구간을 예약한 경우, 다음 구간은 카운터가 돌려준 시작 값부터 이어집니다.
+		long[] starts = {1, 101};
+		int[] calls = {0};
+		ApiLogIdGenerator.Block block = new ApiLogIdGenerator.Block(2);
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			ids.add(block.nextId(size -> starts[calls[0]++]));
+		}
+
+		assertThat(ids).containsExactly(1L, 2L, 101L, 102L);
+	}
+
+	@Test
+	void nextIdsSpansSeveralBlocksAndKeepsRemainder() {
+		ApiLogIdGenerator.Block block = new ApiLogIdGenerator.Block(4);
+
+		long[] ids = block.nextIds(10, this::reserve);
+
+		assertThat(ids).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		assertThat(reservations).hasSize(3);
+		// 세 번째 구간에 남은 11, 12 는 DB 왕복 없이 이어서 꺼냅니다.
+		assertThat(block.nextIds(2, this::reserve)).containsExactly(11, 12);
+		assertThat(reservations).hasSize(3);
+	}
+
+	@Test
+	void failedReservationDoesNotSkipIds() {
+		ApiLogIdGenerator.Block block = new ApiLogIdGenerator.Block(5);
+
+		assertThatThrownBy(() -> block.nextId(size -> {
+			throw new IllegalStateException("connection refused");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(block.nextId(this::reserve)).isEqualTo(1L);
+	}
+
+	@Test
+	void rejectsNonPositiveBlockSize() {
+		assertThatThrownBy(() -> new ApiLogIdGenerator.Block(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void concurrentCallersGetDisjointIds() throws Exception {
+		int threads = 16;
+		int rounds = 500;
+		ApiLogIdGenerator.Block block = new ApiLogIdGenerator.Block(64);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<List<Long>>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					List<Long> ids = new ArrayList<>();
+					for (int i = 0; i < rounds; i++) {
+						// JPA 경로(nextId)와 JDBC 경로(nextIds)가 같은 구간을 나눠 쓰는 상황을 섞어서 만듭니다.
+						if (i % 2 == 0) {
+							ids.add(block.nextId(this::reserve));
+						} else {
+							for (long id : block.nextIds(3, this::reserve)) {
+								ids.add(id);
+							}
+						}
+					}
+					return ids;
+				}));
+			}
+			start.countDown();
+
+			Set<Long> all = new HashSet<>();
+			int total = 0;
+			for (Future<List<Long>> result : results) {
+				List<Long> ids = result.get(30, TimeUnit.SECONDS);
+				total += ids.size();
+				all.addAll(ids);
+			}
+			assertThat(total).isEqualTo(threads * (rounds / 2) * 4);
+			assertThat(all).hasSize(total);
+			// 구간을 버리지 않으므로 1부터 빈틈없이 할당됩니다.
+			assertThat(all).allMatch(id -> id >= 1 && id <= total);
+		}
+	}
+}
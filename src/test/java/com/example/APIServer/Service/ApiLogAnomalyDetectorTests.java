@@ -0,0 +1,105 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Entity.ApiLogAnomalyEntity;
+import com.example.APIServer.Repository.ApiLogAnomalyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ApiLogAnomalyDetector 의 평소 값 학습과 응답 시간 급증/오류율 급증/요청 급감 판정을 검증합니다.
+ */
+class ApiLogAnomalyDetectorTests {
+
+	private ApiLogAnomalyRepository repository;
+	private ApiLogAnomalyDetector detector;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(ApiLogAnomalyRepository.class);
+		detector = new ApiLogAnomalyDetector(repository, mock(ApiLogAnomalyStreamer.class));
+		ReflectionTestUtils.setField(detector, "enabled", true);
+		ReflectionTestUtils.setField(detector, "windowMs", 10_000L);
+		ReflectionTestUtils.setField(detector, "alpha", 0.1);
+		ReflectionTestUtils.setField(detector, "warmupWindows", 5);
+		ReflectionTestUtils.setField(detector, "minRequests", 20L);
+		ReflectionTestUtils.setField(detector, "sigma", 4.0);
+		ReflectionTestUtils.setField(detector, "latencyFactor", 2.0);
+		ReflectionTestUtils.setField(detector, "latencyMinDeltaMs", 100L);
+		ReflectionTestUtils.setField(detector, "errorRateMinDelta", 0.1);
+		ReflectionTestUtils.setField(detector, "trafficDropRatio", 0.2);
+		ReflectionTestUtils.setField(detector, "trafficMinBaseline", 20.0);
+		ReflectionTestUtils.setField(detector, "cooldownMs", 300_000L);
+		ReflectionTestUtils.setField(detector, "maxSeries", 100);
+	}
+
+	@Test
+	void staysQuietWhileTrafficMatchesBaseline() {
+		for (int window = 0; window < 10; window++) {
+			recordWindow(50, 40, 0);
+			detector.evaluate();
+		}
+
+		verify(repository, never()).saveAll(any());
+		assertThat(detector.getBaselines()).singleElement()
+				.satisfies(baseline -> {
+					assertThat(baseline.isWarmedUp()).isTrue();
+					assertThat(baseline.getRequestsPerWindow()).isEqualTo(50.0);
+				});
+	}
+
+	@Test
+	void detectsLatencySpikeAndErrorRateJump() {
+		for (int window = 0; window < 10; window++) {
+			recordWindow(50, 40, 0);
+			detector.evaluate();
+		}
+
+		recordWindow(50, 900, 20);
+		detector.evaluate();
+
+		assertThat(savedKinds()).containsExactlyInAnyOrder(
+				ApiLogAnomalyEntity.Kind.LATENCY_SPIKE, ApiLogAnomalyEntity.Kind.ERROR_RATE_JUMP);
+	}
+
+	@Test
+	void detectsTrafficDrop() {
+		for (int window = 0; window < 10; window++) {
+			recordWindow(50, 40, 0);
+			detector.evaluate();
+		}
+
+		recordWindow(2, 40, 0);
+		detector.evaluate();
+
+		assertThat(savedKinds()).containsExactly(ApiLogAnomalyEntity.Kind.TRAFFIC_DROP);
+	}
+
+	private void recordWindow(int requests, long durationMs, int errors) {
+		for (int i = 0; i < requests; i++) {
+			ApiLogDto dto = new ApiLogDto();
+			dto.setServiceName("ERP Server");
+			dto.setEndpointTemplate("/api/proxy/employees/{employeeId}");
+			dto.setResponseStatus(i < errors ? 502 : 200);
+			dto.setDurationMs(durationMs);
+			detector.record(dto);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ApiLogAnomalyEntity.Kind> savedKinds() {
+		ArgumentCaptor<List<ApiLogAnomalyEntity>> captor = ArgumentCaptor.forClass(List.class);
+		verify(repository).saveAll(captor.capture());
+		return captor.getValue().stream().map(ApiLogAnomalyEntity::getKind).toList();
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogBulkIngestResultDto;
+import com.example.APIServer.Dto.ApiLogDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ApiLogBulkIngestService 의 JSON 배열/NDJSON 해석, gzip 판별(헤더, 매직 넘버), 레코드별 거부 집계,
+ * 잘린 본문에서의 부분 결과 반환을 검증합니다.
+ */
+class ApiLogBulkIngestServiceTests {
+
+	private static final String VALID = "{\"apiEndpoint\":\"/api/proxy/employees\",\"httpMethod\":\"GET\",\"responseStatus\":200}";
+	private static final String NO_METHOD = "{\"apiEndpoint\":\"/api/proxy/employees\",\"responseStatus\":200}";
+	private static final String BAD_STATUS = "{\"apiEndpoint\":\"/api/proxy/employees\",\"httpMethod\":\"GET\",\"responseStatus\":\"ok\"}";
+
+	private final List<List<ApiLogDto>> writes = new ArrayList<>();
+	private ApiLogBulkIngestService service;
+
+	@BeforeEach
+	void setUp() {
+		JdbcApiLogSink sink = mock(JdbcApiLogSink.class);
+		doAnswer(invocation -> writes.add(new ArrayList<>(invocation.<List<ApiLogDto>>getArgument(0))))
+				.when(sink).write(anyList());
+
+		service = new ApiLogBulkIngestService(new ObjectMapper().findAndRegisterModules(), sink,
+				new TransactionTemplate(new NoOpTransactionManager()), mock(ApiLogIndex.class), mock(ApiLogTailBuffer.class));
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		ReflectionTestUtils.setField(service, "maxReportedErrors", 100);
+	}
+
+	@Test
+	void readsJsonArrayAndRejectsInvalidRecords() {
+		String body = "[" + String.join(",", VALID, NO_METHOD, VALID, BAD_STATUS, VALID) + "]";
+
+		ApiLogBulkIngestResultDto result = service.ingest(stream(body), "application/json", null);
+
+		assertThat(result.isCompleted()).isTrue();
+		assertThat(result.getAccepted()).isEqualTo(3);
+		assertThat(result.getRejected()).isEqualTo(2);
+		assertThat(result.getErrors()).extracting(ApiLogBulkIngestResultDto.RecordError::getIndex).containsExactly(1L, 3L);
+		assertThat(writes).extracting(List::size).containsExactly(2, 1); // batch-size 2
+	}
+
+	@Test
+	void readsNdjsonAndContinuesAfterBadLine() {
+		String body = String.join("\n", VALID, "{not json", "", VALID, NO_METHOD) + "\n";
+
+		ApiLogBulkIngestResultDto result = service.ingest(stream(body), "application/x-ndjson", null);
+
+		assertThat(result.isCompleted()).isTrue();
+		assertThat(result.getAccepted()).isEqualTo(2);
+		assertThat(result.getRejected()).isEqualTo(2);
+		assertThat(result.getErrors()).extracting(ApiLogBulkIngestResultDto.RecordError::getIndex).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void stopsArrayAtSyntaxErrorAndKeepsEarlierRecords() {
+		String body = "[" + VALID + "," + VALID + "," + VALID + ", {oops ]";
+
+		ApiLogBulkIngestResultDto result = service.ingest(stream(body), "application/json", null);
+
+		assertThat(result.isCompleted()).isFalse();
+		assertThat(result.getAbortReason()).startsWith("JSON 문법 오류");
+		assertThat(result.getAccepted()).isEqualTo(3);
+	}
+
+	@Test
+	void decompressesGzipByContentEncoding() throws IOException {
+		byte[] body = gzip(String.join("\n", VALID, VALID, VALID));
+
+		ApiLogBulkIngestResultDto result = service.ingest(new ByteArrayInputStream(body), "application/x-ndjson", "gzip");
+
+		assertThat(result.isCompleted()).isTrue();
+		assertThat(result.getAccepted()).isEqualTo(3);
+	}
+
+	@Test
+	void decompressesGzipByMagicBytesWithoutHeader() throws IOException {
+		byte[] body = gzip("[" + VALID + "," + VALID + "]");
+
+		ApiLogBulkIngestResultDto result = service.ingest(new ByteArrayInputStream(body), "application/json", null);
+
+		assertThat(result.isCompleted()).isTrue();
+		assertThat(result.getAccepted()).isEqualTo(2);
+	}
+
+	@Test
+	void truncatedGzipReturnsPartialResult() throws IOException {
+		ReflectionTestUtils.setField(service, "batchSize", 100);
+		int records = 20_000;
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < records; i++) {
+			ndjson.append("{\"apiEndpoint\":\"/api/proxy/employees/").append(i)
+					.append("\",\"httpMethod\":\"GET\",\"responseStatus\":200}\n");
+		}
+		byte[] full = gzip(ndjson.toString());
+		byte[] truncated = Arrays.copyOf(full, full.length / 2);
+
+		ApiLogBulkIngestResultDto result = service.ingest(new ByteArrayInputStream(truncated), "application/x-ndjson", "gzip");
+
+		assertThat(result.isCompleted()).isFalse();
+		assertThat(result.getAbortReason()).startsWith("본문 읽기 오류");
+		assertThat(result.getAccepted()).isPositive().isLessThan(records);
+		assertThat(writes.stream().mapToInt(List::size).sum()).isEqualTo((int) result.getAccepted());
+	}
+
+	private static ByteArrayInputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] gzip(String body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body.getBytes(StandardCharsets.UTF_8));
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * 트랜잭션 경계만 흉내 내는 트랜잭션 매니저입니다.
+	 */
+	private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
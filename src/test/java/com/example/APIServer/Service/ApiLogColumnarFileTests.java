@@ -0,0 +1,91 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.ApiLogEntity;
+import com.example.APIServer.Service.ApiLogColumnarFile.Column;
+import com.example.APIServer.Service.ApiLogColumnarFile.ColumnVector;
+import com.example.APIServer.Service.ApiLogColumnarFile.RowGroup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogColumnarFile 의 열 단위 쓰기/읽기와 row group 통계를 검증합니다.
+ */
+class ApiLogColumnarFileTests {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 5, 9, 0, 0, 123_456_000);
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void roundTripsColumnsAcrossRowGroups() throws Exception {
+		Path file = tempDir.resolve("part-000.alc");
+		try (ApiLogColumnarFile.Writer writer = new ApiLogColumnarFile.Writer(file, 2, 6)) {
+			for (int i = 0; i < 5; i++) {
+				writer.write(row(i));
+			}
+		}
+
+		try (ApiLogColumnarFile.Reader reader = ApiLogColumnarFile.Reader.open(file)) {
+			List<RowGroup> rowGroups = reader.getRowGroups();
+			assertThat(rowGroups).extracting(RowGroup::getRowCount).containsExactly(2, 2, 1);
+			assertThat(reader.getRowCount()).isEqualTo(5);
+			assertThat(reader.min(Column.LOG_ID)).isEqualTo(100L);
+			assertThat(reader.max(Column.LOG_ID)).isEqualTo(104L);
+			assertThat(ApiLogColumnarFile.fromMicros(reader.min(Column.CREATED_AT))).isEqualTo(BASE);
+
+			RowGroup second = rowGroups.get(1);
+			ColumnVector services = reader.read(second, Column.SERVICE_NAME);
+			ColumnVector statuses = reader.read(second, Column.RESPONSE_STATUS);
+			ColumnVector weights = reader.read(second, Column.SAMPLE_WEIGHT);
+			ColumnVector payloads = reader.read(second, Column.REQUEST_PAYLOAD);
+
+			assertThat(services.getString(0)).isEqualTo("ERP Server");
+			assertThat(services.codeOf("MES Server")).isEqualTo(services.getCode(1));
+			assertThat(services.codeOf("Drone Server")).isEqualTo(-1);
+			assertThat(statuses.getLong(0)).isEqualTo(200L);
+			assertThat(statuses.isNull(1)).isTrue();
+			assertThat(weights.getDouble(1)).isEqualTo(10.0);
+			assertThat(payloads.getString(0)).isEqualTo("{\"planId\":\"P-2\"}");
+			assertThat(payloads.isNull(1)).isTrue();
+		}
+	}
+
+	@Test
+	void skipsRowGroupsByCreatedAtStatistics() throws Exception {
+		Path file = tempDir.resolve("part-000.alc");
+		try (ApiLogColumnarFile.Writer writer = new ApiLogColumnarFile.Writer(file, 2, 6)) {
+			for (int i = 0; i < 6; i++) {
+				writer.write(row(i));
+			}
+		}
+
+		long from = ApiLogColumnarFile.toMicros(BASE.plusMinutes(2));
+		long to = ApiLogColumnarFile.toMicros(BASE.plusMinutes(3));
+		try (ApiLogColumnarFile.Reader reader = ApiLogColumnarFile.Reader.open(file)) {
+			assertThat(reader.getRowGroups()).extracting(g -> g.mayOverlap(Column.CREATED_AT, from, to))
+					.containsExactly(false, true, false);
+		}
+	}
+
+	private static ApiLogEntity row(int i) {
+		return ApiLogEntity.builder()
+				.logId(100L + i)
+				.createdAt(BASE.plusMinutes(i))
+				.serviceName(i % 2 == 0 ? "ERP Server" : "MES Server")
+				.apiEndpoint("/api/proxy/project_plans/P-" + i)
+				.endpointTemplate("/api/proxy/project_plans/{planId}")
+				.httpMethod("GET")
+				.responseStatus(i % 2 == 0 ? 200 : null)
+				.durationMs(10L * i)
+				.sampleWeight(i % 2 == 0 ? 1.0 : 10.0)
+				.requestPayload(i % 2 == 0 ? "{\"planId\":\"P-" + i + "\"}" : null)
+				.build();
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그 목록 커서("생성시각_로그ID")의 생성/해석과 잘못된 커서 거절을 검증합니다.
+ */
+class ApiLogCursorTests {
+
+	@Test
+	void formatAndParseRoundTrip() {
+		ApiLogService.Cursor cursor = new ApiLogService.Cursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000), 42L);
+
+		String formatted = cursor.format();
+
+		assertThat(formatted).isEqualTo("2024-05-01T12:30:15.123456_42");
+		assertThat(ApiLogService.Cursor.parse(formatted)).isEqualTo(cursor);
+	}
+
+	@Test
+	void roundTripKeepsWholeMinutes() {
+		// LocalDateTime.toString 은 0초를 생략하므로("12:30") 그 형태도 다시 읽을 수 있어야 합니다.
+		ApiLogService.Cursor cursor = new ApiLogService.Cursor(LocalDateTime.of(2024, 5, 1, 12, 30), 7L);
+
+		assertThat(ApiLogService.Cursor.parse(cursor.format())).isEqualTo(cursor);
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		for (String cursor : new String[]{"abc", "_42", "2024-05-01T12:30_", "2024-05-01T12:30_x", "yesterday_42"}) {
+			assertThatThrownBy(() -> ApiLogService.Cursor.parse(cursor))
+					.as(cursor)
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void searchRejectsMalformedCursorBeforeQuerying() {
+		// 커서 해석은 조회 전에 일어나므로 리포지토리 없이도 IllegalArgumentException(컨트롤러의 400)이 발생해야 합니다.
+		ApiLogService service = new ApiLogService(null, null, null, null, null, null);
+		ApiLogSearchCondition condition = new ApiLogSearchCondition();
+		condition.setCursor("not-a-cursor");
+
+		assertThatThrownBy(() -> service.searchLogs(condition)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
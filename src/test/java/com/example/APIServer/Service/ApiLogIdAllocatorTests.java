@@ -0,0 +1,127 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiLogIdAllocator 의 카운터 초기화와, 같은 카운터를 쓰는 할당기(서버)들이 겹치지 않는 ID를 받는지 실제 MySQL 컨테이너에서 검증합니다.
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ApiLogIdAllocatorTests {
+
+	@Container
+	static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS api_logs");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS api_log_id_blocks");
+		// ddl-auto=create 가 만드는 테이블과 같은 형태 (api_logs 는 초기화에 필요한 열만)
+		jdbcTemplate.execute("CREATE TABLE api_logs (log_id BIGINT NOT NULL, created_at DATETIME(6), PRIMARY KEY (log_id))");
+		jdbcTemplate.execute("CREATE TABLE api_log_id_blocks (name VARCHAR(64) NOT NULL, next_id BIGINT NOT NULL, PRIMARY KEY (name))");
+	}
+
+	@Test
+	void initializeStartsAfterExistingRowsAndKeepsCounter() {
+		jdbcTemplate.update("INSERT INTO api_logs (log_id) VALUES (41)");
+		ApiLogIdAllocator first = new ApiLogIdAllocator(dataSource, 10);
+		first.initialize();
+
+		assertThat(first.next(3)).containsExactly(42, 43, 44);
+		assertThat(nextId()).isEqualTo(52);
+
+		// 다른 서버가 기동하면서 다시 초기화해도 진행 중인 카운터를 되돌리지 않습니다.
+		ApiLogIdAllocator second = new ApiLogIdAllocator(dataSource, 10);
+		second.initialize();
+		assertThat(second.next(1)).containsExactly(52);
+	}
+
+	@Test
+	void rolloverReservesNextBlockFromCounter() {
+		ApiLogIdAllocator allocator = new ApiLogIdAllocator(dataSource, 4);
+		allocator.initialize();
+
+		assertThat(allocator.next(3)).containsExactly(1, 2, 3);
+		assertThat(allocator.next(3)).containsExactly(4, 5, 6);
+		assertThat(nextId()).isEqualTo(9);
+	}
+
+	@Test
+	void failsClearlyWithoutCounterRow() {
+		ApiLogIdAllocator allocator = new ApiLogIdAllocator(dataSource, 10);
+
+		assertThatThrownBy(() -> allocator.next(1))
+				.isInstanceOf(DataAccessResourceFailureException.class)
+				.hasRootCauseMessage("api_log_id_blocks 에 'api_logs' 카운터 행이 없습니다.");
+	}
+
+	@Test
+	void concurrentAllocatorsGetDisjointIds() throws Exception {
+		int threads = 8;
+		int rounds = 200;
+		// 서버 두 대(또는 JPA 경로와 JDBC 경로)가 같은 카운터에서 서로 다른 크기로 예약하는 상황입니다.
+		List<ApiLogIdAllocator> allocators = List.of(new ApiLogIdAllocator(dataSource, 7), new ApiLogIdAllocator(dataSource, 16));
+		allocators.forEach(ApiLogIdAllocator::initialize);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<List<Long>>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int t = 0; t < threads; t++) {
+				ApiLogIdAllocator allocator = allocators.get(t % allocators.size());
+				results.add(executor.submit(() -> {
+					start.await();
+					List<Long> ids = new ArrayList<>();
+					for (int i = 0; i < rounds; i++) {
+						for (long id : allocator.next(3)) {
+							ids.add(id);
+						}
+					}
+					return ids;
+				}));
+			}
+			start.countDown();
+
+			Set<Long> all = new HashSet<>();
+			int total = 0;
+			for (Future<List<Long>> result : results) {
+				List<Long> ids = result.get(60, TimeUnit.SECONDS);
+				total += ids.size();
+				all.addAll(ids);
+			}
+			assertThat(total).isEqualTo(threads * rounds * 3);
+			assertThat(all).hasSize(total);
+			// 각 할당기가 예약한 구간은 카운터 안에 있어야 합니다.
+			long limit = nextId();
+			assertThat(all).allMatch(id -> id >= 1 && id < limit);
+		}
+	}
+
+	private long nextId() {
+		return jdbcTemplate.queryForObject("SELECT next_id FROM api_log_id_blocks WHERE name = 'api_logs'", Long.class);
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * api_logs 저장 방식별 처리량을 비교합니다.
+ *
+ * identity: AUTO_INCREMENT 로 키를 받으므로 Hibernate 처럼 한 행씩 INSERT 하고 생성된 키를 읽습니다.
+ * block: ApiLogIdAllocator 로 구간에서 log_id 를 미리 붙이고, rewriteBatchedStatements 로 여러 행 INSERT 한 문장으로 보냅니다.
+ */
+class ApiLogIdInsertBenchmarkTests extends MySqlBenchmarkSupport {
+
+	private static final int ROWS = 5000;
+	private static final int BATCH = 200;
+	private static final String COLUMNS = "created_at, service_name, api_endpoint, http_method, response_status, duration_ms, response_payload";
+
+	@Test
+	void identityAndBlockAllocatedInserts() {
+		long identityMs = run(true, this::insertIdentity);
+		long blockMs = run(false, this::insertBlocks);
+
+		log.info("identity        {} rows: elapsed {} ms, {} rows/s", ROWS, identityMs, ROWS * 1000L / Math.max(identityMs, 1));
+		log.info("block+multi-row {} rows: elapsed {} ms, {} rows/s", ROWS, blockMs, ROWS * 1000L / Math.max(blockMs, 1));
+	}
+
+	private long run(boolean autoIncrement, Runnable insert) {
+		recreate("api_logs", "log_id BIGINT NOT NULL" + (autoIncrement ? " AUTO_INCREMENT" : "")
+				+ ", created_at DATETIME(6), service_name VARCHAR(255), api_endpoint VARCHAR(255), http_method VARCHAR(255), "
+				+ "response_status INT, duration_ms BIGINT, response_payload TEXT, PRIMARY KEY (log_id)");
+		// ApiLogIdBlockEntity 의 열
+		recreate("api_log_id_blocks", "name VARCHAR(64) NOT NULL, next_id BIGINT NOT NULL, PRIMARY KEY (name)");
+
+		long elapsedMs = elapsedMs(insert);
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT log_id) FROM api_logs", Integer.class)).isEqualTo(ROWS);
+		return elapsedMs;
+	}
+
+	/**
+	 * IDENTITY 경로: INSERT 마다 생성된 키를 읽어야 하므로 묶어 보낼 수 없습니다.
+	 */
+	private void insertIdentity() {
+		for (int i = 0; i < ROWS; i++) {
+			Object[] row = row(i);
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			jdbcTemplate.update(con -> {
+				PreparedStatement ps = con.prepareStatement(
+						"INSERT INTO api_logs (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+				for (int c = 0; c < row.length; c++) {
+					ps.setObject(c + 1, row[c]);
+				}
+				return ps;
+			}, keyHolder);
+			assertThat(keyHolder.getKey()).isNotNull();
+		}
+	}
+
+	/**
+	 * 구간 예약 경로: JdbcApiLogSink 처럼 batch 단위로 ID를 꺼내 한 번에 INSERT 합니다.
+	 */
+	private void insertBlocks() {
+		ApiLogIdAllocator allocator = new ApiLogIdAllocator(dataSource, 1000);
+		allocator.initialize();
+		for (int from = 0; from < ROWS; from += BATCH) {
+			int count = Math.min(BATCH, ROWS - from);
+			long[] ids = allocator.next(count);
+			List<Object[]> rows = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				Object[] values = row(from + i);
+				Object[] withId = new Object[values.length + 1];
+				withId[0] = ids[i];
+				System.arraycopy(values, 0, withId, 1, values.length);
+				rows.add(withId);
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO api_logs (log_id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		}
+	}
+
+	private static Object[] row(int i) {
+		return new Object[]{
+				Timestamp.valueOf(LocalDateTime.of(2024, 5, 1, 12, 0).plusNanos(i * 1_000_000L)),
+				i % 2 == 0 ? "ERP Server" : "MES Server",
+				"/api/proxy/employees/" + i,
+				"GET",
+				200,
+				(long) (i % 50),
+				"{\"employeeId\":" + i + ",\"name\":\"사원" + i + "\"}"
+		};
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogIndex 의 검색어 추출과 AND / OR / NOT 검색을 검증합니다.
+ */
+class ApiLogIndexTests {
+
+	private ApiLogIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ApiLogIndex();
+		ReflectionTestUtils.setField(index, "enabled", true);
+		ReflectionTestUtils.setField(index, "windowMinutes", 60L);
+		ReflectionTestUtils.setField(index, "memoryBudgetMb", 64L);
+		ReflectionTestUtils.setField(index, "segmentSeconds", 60L);
+		ReflectionTestUtils.setField(index, "maxTokensPerEvent", 32);
+		ReflectionTestUtils.setField(index, "payloadFields", Set.of("planId", "materialId"));
+	}
+
+	@Test
+	void combinesTermsWithAndOrNot() {
+		index.add(log("t1", "10.0.0.1", 200, "{\"planId\":\"P-1\",\"qty\":3}"));
+		index.add(log("t2", "10.0.0.2", 500, "{\"planId\":\"P-1\"}"));
+		index.add(log("t3", "10.0.0.3", 502, Map.of("planId", "P-2")));
+		index.add(log("t4", "10.0.0.1", 500, "{\"planId\":\"P-2\"}"));
+
+		List<ApiLogSummaryDto> result = index.search(
+				List.of(Set.of("status:500", "status:502"), Set.of("field:planId=P-2")),
+				Set.of("ip:10.0.0.1"), null, null, 10);
+
+		assertThat(result).extracting(ApiLogSummaryDto::getTraceId).containsExactly("t3");
+	}
+
+	@Test
+	void ignoresTruncatedFieldValues() {
+		// 기록 정책으로 잘린 본문의 마지막 값은 온전하지 않을 수 있으므로 색인하지 않습니다.
+		index.add(log("t1", "10.0.0.1", 200, "{\"materialId\":12,\"planId\":\"P-10"));
+
+		assertThat(index.search(List.of(Set.of("field:materialId=12")), Set.of(), null, null, 10)).hasSize(1);
+		assertThat(index.search(List.of(Set.of("field:planId=P-10")), Set.of(), null, null, 10)).isEmpty();
+	}
+
+	private static ApiLogDto log(String traceId, String clientIp, int status, Object requestPayload) {
+		return ApiLogDto.builder()
+				.serviceName("ERP Server")
+				.apiEndpoint("/api/proxy/project_plans")
+				.endpointTemplate("/api/proxy/project_plans")
+				.httpMethod("POST")
+				.responseStatus(status)
+				.clientIp(clientIp)
+				.traceId(traceId)
+				.requestPayload(requestPayload)
+				.build();
+	}
+}
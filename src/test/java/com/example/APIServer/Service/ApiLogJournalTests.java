@@ -0,0 +1,86 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogJournal 의 비정상 종료 복구 동작을 검증합니다.
+ */
+class ApiLogJournalTests {
+
+	private static final int CAPACITY = 64 * 1024;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void replaysUncommittedRecordsAfterRestart() throws Exception {
+		Path path = dir.resolve("api-log.journal");
+		try (ApiLogJournal journal = ApiLogJournal.open(path, CAPACITY)) {
+			journal.append(bytes("a"));
+			journal.append(bytes("b"));
+			journal.append(bytes("c"));
+			// 첫 번째 레코드만 DB 저장이 끝난 상태에서 종료
+			journal.commit(journal.readPending(1).get(0).getEndOffset());
+		}
+
+		try (ApiLogJournal reopened = ApiLogJournal.open(path, CAPACITY)) {
+			assertThat(texts(reopened.readPending(10))).containsExactly("b", "c");
+		}
+	}
+
+	@Test
+	void discardsTornRecordAtTail() throws Exception {
+		Path path = dir.resolve("api-log.journal");
+		long tornRecordStart;
+		try (ApiLogJournal journal = ApiLogJournal.open(path, CAPACITY)) {
+			journal.append(bytes("first"));
+			tornRecordStart = journal.getWriteOffset();
+			journal.append(bytes("second"));
+		}
+
+		// 두 번째 레코드 본문을 쓰던 중 종료된 상황을 흉내 냅니다.
+		try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+			raf.seek(tornRecordStart + ApiLogJournal.RECORD_HEADER_SIZE + 2);
+			raf.write(0);
+		}
+
+		try (ApiLogJournal reopened = ApiLogJournal.open(path, CAPACITY)) {
+			assertThat(texts(reopened.readPending(10))).containsExactly("first");
+			// 복구 이후의 쓰기는 손상된 레코드 자리부터 이어집니다.
+			reopened.append(bytes("third"));
+			assertThat(texts(reopened.readPending(10))).containsExactly("first", "third");
+		}
+	}
+
+	@Test
+	void doesNotReplayPreviousGenerationAfterFullCommit() throws Exception {
+		Path path = dir.resolve("api-log.journal");
+		try (ApiLogJournal journal = ApiLogJournal.open(path, CAPACITY)) {
+			journal.append(bytes("old-1"));
+			journal.append(bytes("old-2"));
+			List<ApiLogJournal.Entry> pending = journal.readPending(10);
+			journal.commit(pending.get(pending.size() - 1).getEndOffset());
+			journal.append(bytes("new"));
+		}
+
+		try (ApiLogJournal reopened = ApiLogJournal.open(path, CAPACITY)) {
+			assertThat(texts(reopened.readPending(10))).containsExactly("new");
+		}
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static List<String> texts(List<ApiLogJournal.Entry> entries) {
+		return entries.stream().map(e -> new String(e.getData(), StandardCharsets.UTF_8)).toList();
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogPageDto;
+import com.example.APIServer.Dto.ApiLogSearchCondition;
+import com.example.APIServer.Dto.ApiLogSummaryDto;
+import com.example.APIServer.Repository.ApiLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogService.searchLogs 의 커서 페이지네이션을 실제 MySQL 컨테이너에서 검증합니다.
+ * created_at 이 같은 로그가 페이지 경계에 걸쳐 있어도 log_id 로 순서가 정해져 빠지거나 중복되는 행이 없어야 합니다.
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ApiLogPagingTests {
+
+	private static final int ROWS = 25;
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+	@Container
+	static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+	}
+
+	@Autowired
+	private ApiLogRepository apiLogRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private ApiLogService apiLogService;
+	private List<Row> rows;
+
+	private record Row(long logId, LocalDateTime createdAt, String serviceName) {
+	}
+
+	@BeforeEach
+	void setUp() {
+		// searchLogs 는 리포지토리만 사용합니다.
+		apiLogService = new ApiLogService(apiLogRepository, null, null, null, null, null);
+
+		// 세 건씩 같은 created_at 을 갖고, log_id 순서는 created_at 순서와 다르게 섞어서 넣습니다.
+		rows = new ArrayList<>();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		for (int i = 0; i < ROWS; i++) {
+			long logId = (i * 7L) % ROWS + 1;
+			LocalDateTime createdAt = BASE.minusSeconds(i / 3).plusNanos(i / 3 % 2 == 0 ? 0 : 250_000);
+			String serviceName = i % 2 == 0 ? "ERP Server" : "MES Server";
+			jdbcTemplate.update("INSERT INTO api_logs (log_id, created_at, service_name, api_endpoint, http_method, response_status) "
+					+ "VALUES (?, ?, ?, '/api/proxy/employees', 'GET', 200)", logId, createdAt, serviceName);
+			rows.add(new Row(logId, createdAt, serviceName));
+		}
+		rows.sort(Comparator.comparing(Row::createdAt).thenComparingLong(Row::logId).reversed());
+	}
+
+	@Test
+	void pagesVisitEveryRowOnceInOrder() {
+		List<Long> visited = readAllPages(new ApiLogSearchCondition(), 4);
+
+		assertThat(visited).containsExactlyElementsOf(rows.stream().map(Row::logId).toList());
+	}
+
+	@Test
+	void filteredPagesVisitEveryMatchingRowOnce() {
+		ApiLogSearchCondition condition = new ApiLogSearchCondition();
+		condition.setServiceName("MES Server");
+
+		List<Long> visited = readAllPages(condition, 3);
+
+		assertThat(visited).containsExactlyElementsOf(rows.stream()
+				.filter(row -> row.serviceName().equals("MES Server"))
+				.map(Row::logId)
+				.toList());
+	}
+
+	private List<Long> readAllPages(ApiLogSearchCondition condition, int size) {
+		condition.setSize(size);
+		List<Long> visited = new ArrayList<>();
+		for (int page = 0; page <= ROWS; page++) {
+			ApiLogPageDto result = apiLogService.searchLogs(condition);
+			assertThat(result.getItems()).hasSizeLessThanOrEqualTo(size);
+			result.getItems().stream().map(ApiLogSummaryDto::getLogId).forEach(visited::add);
+			if (!result.isHasNext()) {
+				assertThat(result.getNextCursor()).isNull();
+				return visited;
+			}
+			condition.setCursor(result.getNextCursor());
+		}
+		throw new AssertionError("마지막 페이지에 도달하지 못했습니다.");
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogPartitionManager 를 실제 MySQL 컨테이너에 대해 검증합니다.
+ * api_logs 는 ApiLogEntity 로부터 Hibernate 가 만든 테이블(ddl-auto=create)이므로, 엔티티의 열과 인덱스가 바뀌어도
+ * 파티션 변환이 그대로 검증됩니다. ALTER TABLE 은 트랜잭션과 무관하게 커밋되므로 테스트 트랜잭션을 쓰지 않고,
+ * 테스트마다 컨텍스트를 다시 만들어 파티션이 없는 테이블에서 시작합니다.
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Testcontainers(disabledWithoutDocker = true)
+class ApiLogPartitionManagerTests {
+
+	@Container
+	static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+	private ApiLogPartitionManager manager;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		manager = new ApiLogPartitionManager(jdbcTemplate);
+		ReflectionTestUtils.setField(manager, "granularity", ApiLogPartitionManager.Granularity.DAILY);
+		ReflectionTestUtils.setField(manager, "retentionDays", 30);
+		ReflectionTestUtils.setField(manager, "partitionsAhead", 2);
+	}
+
+	@Test
+	void convertsTableAndCreatesPartitionsAhead() {
+		manager.initialize();
+
+		LocalDate today = LocalDate.now();
+		assertThat(partitionNames()).contains(
+				ApiLogPartitionManager.partitionName(today),
+				ApiLogPartitionManager.partitionName(today.plusDays(2)),
+				ApiLogPartitionManager.FUTURE_PARTITION);
+	}
+
+	@Test
+	void dropsExpiredPartitionsWithoutDelete() {
+		LocalDate today = LocalDate.now();
+		jdbcTemplate.update("INSERT INTO api_logs (log_id, created_at, service_name) VALUES (1, ?, 'old')", today.minusDays(10).atTime(12, 0));
+		jdbcTemplate.update("INSERT INTO api_logs (log_id, created_at, service_name) VALUES (2, ?, 'new')", today.atTime(12, 0));
+		manager.initialize();
+		assertThat(partitionNames()).contains(ApiLogPartitionManager.partitionName(today.minusDays(10)));
+
+		// 보관 기간을 3일로 줄이면 다음 점검에서 오래된 파티션이 통째로 삭제되고 최근 로그만 남아야 합니다.
+		ReflectionTestUtils.setField(manager, "retentionDays", 3);
+		manager.maintain(today.plusDays(1));
+
+		assertThat(partitionNames()).doesNotContain(ApiLogPartitionManager.partitionName(today.minusDays(10)));
+		assertThat(jdbcTemplate.queryForList("SELECT service_name FROM api_logs", String.class)).containsExactly("new");
+	}
+
+	private List<String> partitionNames() {
+		return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+				+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'api_logs'", String.class);
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.ApiLogEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청/응답 본문 저장 방식별 저장 처리량, 저장 크기, 상세 조회 지연 시간을 비교합니다.
+ *
+ * inline: 본문 분리 이전의 api_logs 처럼 행마다 request_payload(JSON), response_payload(TEXT) 열에 본문을 그대로 저장합니다.
+ * none / deflate / deflate+dictionary: ApiLogPayloadStore 로 본문을 api_log_payloads 에 해시당 한 번만 저장하고
+ * api_logs 에는 해시만 남깁니다. 저장 크기에는 api_logs 의 본문/해시 열과 api_log_payloads 의 본문 열을 모두 더합니다.
+ *
+ * 본문은 DISTINCT 가지가 반복되어(같은 목록 조회를 여러 번 호출한 경우) 중복 제거와 압축의 효과를 함께 봅니다.
+ * 저장 크기는 실행 환경과 무관하므로 이것만 검사합니다.
+ */
+class ApiLogPayloadStorageBenchmarkTests extends MySqlBenchmarkSupport {
+
+	private static final int LOGS = 5000;
+	private static final int DISTINCT = 1000;
+	private static final int BATCH = 200;
+	private static final int DETAIL_READS = 500;
+	private static final String REQUEST_PAYLOAD = "{\"page\":0,\"size\":5}";
+
+	@Test
+	void externalizedStorageIsSmallerThanInlineColumns() {
+		Result inline = runInline();
+		Result text = runExternalized("none", false);
+		Result deflate = runExternalized("deflate", false);
+		Result dictionary = runExternalized("deflate", true);
+
+		for (Result result : List.of(inline, text, deflate, dictionary)) {
+			log.info("{} insert {} rows/s, stored {} bytes, detail read {} us",
+					String.format("%-18s", result.name), result.rowsPerSecond, result.storedBytes, result.detailReadMicros);
+		}
+		assertThat(text.storedBytes).isLessThan(inline.storedBytes);
+		assertThat(deflate.storedBytes).isLessThan(text.storedBytes);
+		assertThat(dictionary.storedBytes).isLessThan(deflate.storedBytes);
+	}
+
+	/**
+	 * 기준: 본문을 api_logs 행에 그대로 저장합니다.
+	 */
+	private Result runInline() {
+		recreate("api_logs", "log_id BIGINT NOT NULL, created_at DATETIME(6), request_payload JSON, "
+				+ "response_payload TEXT, PRIMARY KEY (log_id)");
+
+		long elapsedMs = elapsedMs(() -> {
+			for (int from = 0; from < LOGS; from += BATCH) {
+				List<Object[]> rows = new ArrayList<>(BATCH);
+				for (int i = from; i < Math.min(from + BATCH, LOGS); i++) {
+					rows.add(new Object[]{i + 1L, Timestamp.valueOf(LocalDateTime.now()), REQUEST_PAYLOAD, responsePayload(i)});
+				}
+				jdbcTemplate.batchUpdate("INSERT INTO api_logs (log_id, created_at, request_payload, response_payload) "
+						+ "VALUES (?, ?, ?, ?)", rows);
+			}
+		});
+
+		Long storedBytes = jdbcTemplate.queryForObject(
+				"SELECT SUM(LENGTH(request_payload) + LENGTH(response_payload)) FROM api_logs", Long.class);
+
+		long readStarted = System.nanoTime();
+		for (int i = 0; i < DETAIL_READS; i++) {
+			long logId = (long) i * (LOGS / DETAIL_READS) + 1;
+			assertThat(jdbcTemplate.queryForObject("SELECT response_payload FROM api_logs WHERE log_id = ?", String.class, logId))
+					.isNotNull();
+		}
+		return new Result("inline", LOGS * 1000L / Math.max(elapsedMs, 1), storedBytes != null ? storedBytes : 0,
+				TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readStarted) / DETAIL_READS);
+	}
+
+	/**
+	 * 본문을 ApiLogPayloadStore 로 분리하고 api_logs 에는 해시 참조만 저장합니다.
+	 */
+	private Result runExternalized(String compression, boolean trainDictionary) {
+		recreate("api_logs", "log_id BIGINT NOT NULL, created_at DATETIME(6), request_payload TEXT, "
+				+ "request_payload_hash VARCHAR(32), response_payload TEXT, response_payload_hash VARCHAR(32), PRIMARY KEY (log_id)");
+		recreate("api_log_payloads", "payload_hash VARCHAR(32) NOT NULL, content MEDIUMTEXT, content_compressed MEDIUMBLOB, "
+				+ "size_bytes INT, created_at DATETIME(6) NOT NULL, last_seen_at DATETIME(6) NOT NULL, PRIMARY KEY (payload_hash)");
+		recreate("api_log_payload_dictionaries", "dictionary_id INT NOT NULL, content BLOB NOT NULL, size_bytes INT, "
+				+ "sample_count INT, created_at DATETIME(6) NOT NULL, PRIMARY KEY (dictionary_id)");
+
+		ApiLogPayloadStore store = newStore(compression);
+		if (trainDictionary) {
+			// 학습용 표본을 먼저 저장하고 사전을 만든 뒤, 측정 대상 본문과 섞이지 않게 비웁니다.
+			List<ApiLogEntity> samples = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				samples.add(ApiLogEntity.builder().responsePayload(PayloadCodecTests.employees((DISTINCT + i) * 5, 5)).build());
+			}
+			store.externalize(samples);
+			store.trainDictionary();
+			jdbcTemplate.execute("DELETE FROM api_log_payloads");
+		}
+
+		List<ApiLogEntity> all = new ArrayList<>(LOGS);
+		long elapsedMs = elapsedMs(() -> {
+			for (int from = 0; from < LOGS; from += BATCH) {
+				List<ApiLogEntity> batch = new ArrayList<>(BATCH);
+				for (int i = from; i < Math.min(from + BATCH, LOGS); i++) {
+					batch.add(ApiLogEntity.builder().logId(i + 1L).createdAt(LocalDateTime.now())
+							.requestPayload(REQUEST_PAYLOAD).responsePayload(responsePayload(i)).build());
+				}
+				store.externalize(batch);
+				jdbcTemplate.batchUpdate("INSERT INTO api_logs (log_id, created_at, request_payload, request_payload_hash, "
+								+ "response_payload, response_payload_hash) VALUES (?, ?, ?, ?, ?, ?)",
+						batch.stream().map(e -> new Object[]{e.getLogId(), Timestamp.valueOf(e.getCreatedAt()),
+								e.getRequestPayload(), e.getRequestPayloadHash(), e.getResponsePayload(), e.getResponsePayloadHash()}).toList());
+				all.addAll(batch);
+			}
+		});
+
+		Long logBytes = jdbcTemplate.queryForObject("SELECT SUM(COALESCE(LENGTH(request_payload), 0) "
+				+ "+ COALESCE(LENGTH(request_payload_hash), 0) + COALESCE(LENGTH(response_payload), 0) "
+				+ "+ COALESCE(LENGTH(response_payload_hash), 0)) FROM api_logs", Long.class);
+		Long payloadBytes = jdbcTemplate.queryForObject(
+				"SELECT SUM(COALESCE(LENGTH(content), 0) + COALESCE(LENGTH(content_compressed), 0)) FROM api_log_payloads", Long.class);
+
+		long readStarted = System.nanoTime();
+		for (int i = 0; i < DETAIL_READS; i++) {
+			ApiLogEntity entity = all.get(i * (LOGS / DETAIL_READS));
+			ApiLogEntity detail = ApiLogEntity.builder().responsePayloadHash(entity.getResponsePayloadHash()).build();
+			assertThat(store.resolve(detail).getResponsePayload()).isEqualTo(responsePayload(i * (LOGS / DETAIL_READS)));
+		}
+		long detailReadMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readStarted) / DETAIL_READS;
+
+		String name = trainDictionary ? "deflate+dictionary" : compression;
+		long storedBytes = (logBytes != null ? logBytes : 0) + (payloadBytes != null ? payloadBytes : 0);
+		return new Result(name, LOGS * 1000L / Math.max(elapsedMs, 1), storedBytes, detailReadMicros);
+	}
+
+	private ApiLogPayloadStore newStore(String compression) {
+		ApiLogPayloadStore store = new ApiLogPayloadStore(jdbcTemplate);
+		ReflectionTestUtils.setField(store, "enabled", true);
+		ReflectionTestUtils.setField(store, "minBytes", 256);
+		ReflectionTestUtils.setField(store, "cacheSize", 65536);
+		ReflectionTestUtils.setField(store, "maxRowsPerStatement", BATCH);
+		ReflectionTestUtils.setField(store, "compression", compression);
+		ReflectionTestUtils.setField(store, "compressionLevel", 1);
+		ReflectionTestUtils.setField(store, "dictionarySize", 16384);
+		ReflectionTestUtils.setField(store, "dictionarySamples", 500);
+		store.init();
+		return store;
+	}
+
+	/**
+	 * ERP 직원 목록 응답과 비슷한 본문입니다. DISTINCT 가지가 반복됩니다.
+	 */
+	private static String responsePayload(int i) {
+		return PayloadCodecTests.employees((i % DISTINCT) * 5, 5);
+	}
+
+	private record Result(String name, long rowsPerSecond, long storedBytes, long detailReadMicros) {
+	}
+}
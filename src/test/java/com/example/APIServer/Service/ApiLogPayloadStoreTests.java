@@ -0,0 +1,70 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.ApiLogEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ApiLogPayloadStore 의 해시 값, 본문 참조 변환, 최근 해시 캐시를 검증합니다.
+ */
+class ApiLogPayloadStoreTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private ApiLogPayloadStore store;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		store = new ApiLogPayloadStore(jdbcTemplate);
+		ReflectionTestUtils.setField(store, "enabled", true);
+		ReflectionTestUtils.setField(store, "minBytes", 16);
+		ReflectionTestUtils.setField(store, "cacheSize", 64);
+		ReflectionTestUtils.setField(store, "maxRowsPerStatement", 100);
+		store.init();
+	}
+
+	@Test
+	void hashMatchesMurmur3ReferenceValues() {
+		assertThat(ApiLogPayloadStore.hash(new byte[0])).isEqualTo("00000000000000000000000000000000");
+		assertThat(ApiLogPayloadStore.hash("The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8)))
+				.isEqualTo("6c1b07bc7bbc4be347939ac4a93c437a");
+	}
+
+	@Test
+	void replacesLargePayloadsWithHashAndKeepsSmallOnesInline() {
+		String body = "[{\"employeeId\":1,\"name\":\"kim\"},{\"employeeId\":2,\"name\":\"lee\"}]";
+		ApiLogEntity entity = ApiLogEntity.builder().requestPayload("{}").responsePayload(body).build();
+
+		store.externalize(List.of(entity));
+
+		assertThat(entity.getRequestPayload()).isEqualTo("{}");
+		assertThat(entity.getRequestPayloadHash()).isNull();
+		assertThat(entity.getResponsePayload()).isNull();
+		assertThat(entity.getResponsePayloadHash())
+				.isEqualTo(ApiLogPayloadStore.hash(body.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void skipsInsertForRecentlySeenPayload() {
+		String body = "[{\"positionId\":1,\"positionName\":\"manager\"}]";
+
+		store.externalize(List.of(ApiLogEntity.builder().responsePayload(body).build(),
+				ApiLogEntity.builder().responsePayload(body).build()));
+		store.externalize(List.of(ApiLogEntity.builder().responsePayload(body).build()));
+
+		// 같은 본문은 첫 번째 호출에서 한 번만 저장됩니다.
+		verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+	}
+}
@@ -0,0 +1,164 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogSamplingConfigDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogSampler 의 꼬리(tail) 규칙, 비율 가중치, 초당 제한기의 구간별 가중치, 운영 중 설정 교체를 검증합니다.
+ */
+class ApiLogSamplerTests {
+
+	private static final String DASHBOARD = "/api/proxy/dashboard/**";
+
+	private long now;
+	private ApiLogSampler sampler;
+
+	@BeforeEach
+	void setUp() {
+		now = 10_000;
+		sampler = new ApiLogSampler(config(0.0), () -> now);
+	}
+
+	@Test
+	void disabledSamplingKeepsEverything() {
+		ApiLogSamplingConfigDto disabled = config(0.0);
+		disabled.setEnabled(false);
+		sampler.updateConfig(disabled);
+
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+	}
+
+	@Test
+	void tailRulesAlwaysKeepErrorsSlowAndMutatingRequests() {
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"))).isZero();
+
+		assertThat(sampler.sample(log("GET", 500, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+		assertThat(sampler.sample(log("GET", 404, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+		assertThat(sampler.sample(log("GET", null, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+		assertThat(sampler.sample(log("GET", 200, 1000L, "/api/proxy/employees"))).isEqualTo(1.0);
+		assertThat(sampler.sample(log("POST", 200, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+		assertThat(sampler.sample(log("DELETE", 200, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+
+		assertThat(sampler.getSampledIn()).isEqualTo(6);
+		assertThat(sampler.getSampledOut()).isEqualTo(1);
+	}
+
+	@Test
+	void tailRulesCanBeTurnedOff() {
+		ApiLogSamplingConfigDto config = config(0.0);
+		config.setKeepErrors(false);
+		config.setKeepMutating(false);
+		config.setSlowThresholdMs(0);
+		sampler.updateConfig(config);
+
+		assertThat(sampler.sample(log("GET", 500, 10L, "/api/proxy/employees"))).isZero();
+		assertThat(sampler.sample(log("POST", 200, 10L, "/api/proxy/employees"))).isZero();
+		assertThat(sampler.sample(log("GET", 200, 60_000L, "/api/proxy/employees"))).isZero();
+	}
+
+	@Test
+	void rateKeepsAShareAndWeightsByItsInverse() {
+		sampler.updateConfig(config(0.25));
+
+		int kept = 0;
+		for (int i = 0; i < 20_000; i++) {
+			double weight = sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"));
+			if (weight > 0) {
+				assertThat(weight).isEqualTo(4.0);
+				kept++;
+			}
+		}
+
+		assertThat(kept).isBetween(4_000, 6_000);
+	}
+
+	@Test
+	void ruleRateOverridesDefaultRate() {
+		ApiLogSamplingConfigDto config = config(1.0);
+		config.setRules(List.of(rule(DASHBOARD, 0.0, null)));
+		sampler.updateConfig(config);
+
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/dashboard/summary"))).isZero();
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+	}
+
+	@Test
+	void limiterCarriesArrivalRatioIntoNextSecond() {
+		ApiLogSamplingConfigDto config = config(1.0);
+		config.setRules(List.of(rule(DASHBOARD, 1.0, 2)));
+		sampler.updateConfig(config);
+
+		// 첫 1초: 5건 중 2건만 통과하며, 직전 구간이 없으므로 가중치는 1
+		assertThat(sampleDashboard(5)).containsExactly(1.0, 1.0, 0.0, 0.0, 0.0);
+
+		// 다음 1초: 직전 구간의 도착 5건 / 통과 2건 = 2.5 를 가중치로 씁니다.
+		now += 1000;
+		assertThat(sampleDashboard(3)).containsExactly(2.5, 2.5, 0.0);
+
+		// 구간을 건너뛰면 직전 비율을 쓸 수 없으므로 다시 1
+		now += 5000;
+		assertThat(sampleDashboard(1)).containsExactly(1.0);
+	}
+
+	@Test
+	void limiterWeightMultipliesRateWeight() {
+		ApiLogSamplingConfigDto config = config(1.0);
+		config.setRules(List.of(rule(DASHBOARD, 0.5, 1000)));
+		sampler.updateConfig(config);
+
+		for (int i = 0; i < 100; i++) {
+			double weight = sampler.sample(log("GET", 200, 10L, "/api/proxy/dashboard/summary"));
+			assertThat(weight).isIn(0.0, 2.0);
+		}
+	}
+
+	@Test
+	void updateConfigAppliesToNextRequest() {
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"))).isZero();
+
+		ApiLogSamplingConfigDto keepAll = config(1.0);
+		sampler.updateConfig(keepAll);
+
+		assertThat(sampler.getConfig()).isSameAs(keepAll);
+		assertThat(sampler.sample(log("GET", 200, 10L, "/api/proxy/employees"))).isEqualTo(1.0);
+	}
+
+	private List<Double> sampleDashboard(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> sampler.sample(log("GET", 200, 10L, "/api/proxy/dashboard/summary")))
+				.toList();
+	}
+
+	private static ApiLogSamplingConfigDto config(double defaultRate) {
+		ApiLogSamplingConfigDto config = new ApiLogSamplingConfigDto();
+		config.setEnabled(true);
+		config.setDefaultRate(defaultRate);
+		return config;
+	}
+
+	private static ApiLogSamplingConfigDto.Rule rule(String pattern, Double rate, Integer maxPerSecond) {
+		ApiLogSamplingConfigDto.Rule rule = new ApiLogSamplingConfigDto.Rule();
+		rule.setPattern(pattern);
+		rule.setRate(rate);
+		rule.setMaxPerSecond(maxPerSecond);
+		return rule;
+	}
+
+	private static ApiLogDto log(String method, Integer status, Long durationMs, String endpointTemplate) {
+		return ApiLogDto.builder()
+				.serviceName("ERP Server")
+				.httpMethod(method)
+				.apiEndpoint(endpointTemplate)
+				.endpointTemplate(endpointTemplate)
+				.responseStatus(status)
+				.durationMs(durationMs)
+				.build();
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogTailEventDto;
+import com.example.APIServer.Dto.ApiLogTailQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiLogTailBuffer 의 순번 이어읽기, 덮어쓰기(gap), 조건 검사를 검증합니다.
+ */
+class ApiLogTailBufferTests {
+
+	private static final ApiLogTailBuffer.Filter ALL = ApiLogTailBuffer.Filter.of(new ApiLogTailQuery());
+
+	private ApiLogTailBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new ApiLogTailBuffer();
+		ReflectionTestUtils.setField(buffer, "capacity", 8);
+		buffer.init();
+	}
+
+	@Test
+	void resumesFromSequence() {
+		for (int i = 0; i < 5; i++) {
+			buffer.publish(log("ERP Server", "GET", 200));
+		}
+
+		ApiLogTailBuffer.TailRead first = buffer.read(1, 3, ALL);
+		ApiLogTailBuffer.TailRead second = buffer.read(first.getNextSequence(), 10, ALL);
+
+		assertThat(first.getEvents()).extracting(ApiLogTailEventDto::getSequence).containsExactly(1L, 2L, 3L);
+		assertThat(second.getEvents()).extracting(ApiLogTailEventDto::getSequence).containsExactly(4L, 5L);
+		assertThat(second.getNextSequence()).isEqualTo(6L);
+		assertThat(second.getMissed()).isZero();
+	}
+
+	@Test
+	void reportsOverwrittenEventsAsMissed() {
+		for (int i = 0; i < 20; i++) {
+			buffer.publish(log("ERP Server", "GET", 200));
+		}
+
+		ApiLogTailBuffer.TailRead read = buffer.read(3, 100, ALL);
+
+		assertThat(read.getMissed()).isEqualTo(10L);
+		assertThat(read.getEvents()).extracting(ApiLogTailEventDto::getSequence)
+				.containsExactly(13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+	}
+
+	@Test
+	void filtersByServiceMethodAndStatusClass() {
+		buffer.publish(log("ERP Server", "GET", 200));
+		buffer.publish(log("ERP Server", "POST", 502));
+		buffer.publish(log("MES Server", "POST", 500));
+		buffer.publish(log("ERP Server", "GET", 404));
+
+		ApiLogTailQuery query = new ApiLogTailQuery();
+		query.setServiceName(List.of("ERP Server"));
+		query.setHttpMethod(List.of("post"));
+		query.setStatus(List.of("5xx", "404"));
+
+		List<ApiLogTailEventDto> latest = buffer.latest(10, ApiLogTailBuffer.Filter.of(query));
+
+		assertThat(latest).extracting(ApiLogTailEventDto::getSequence).containsExactly(2L);
+	}
+
+	@Test
+	void rejectsInvalidStatus() {
+		ApiLogTailQuery query = new ApiLogTailQuery();
+		query.setStatus(List.of("5x"));
+
+		assertThatThrownBy(() -> ApiLogTailBuffer.Filter.of(query)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static ApiLogDto log(String serviceName, String method, int status) {
+		return ApiLogDto.builder()
+				.serviceName(serviceName)
+				.apiEndpoint("/api/proxy/project_plans")
+				.httpMethod(method)
+				.responseStatus(status)
+				.build();
+	}
+}
@@ -0,0 +1,199 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Dto.ApiLogDto;
+import com.example.APIServer.Dto.ApiLogWriterStatsDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogWriter 의 일괄 저장, 큐가 가득 찼을 때의 정책(BLOCK/DROP/SPILL), 지표, 종료 시 남은 로그 저장을 검증합니다.
+ */
+class ApiLogWriterTests {
+
+	private final StubSink sink = new StubSink();
+	private ApiLogWriter writer;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		sink.release.countDown();
+		if (writer != null) {
+			writer.shutdown();
+		}
+	}
+
+	@Test
+	void writesInBatchesAndDrainsOnShutdown() throws InterruptedException {
+		sink.release.countDown();
+		writer = start(100, 10, ApiLogWriter.OverflowPolicy.DROP, 50);
+
+		for (int i = 0; i < 25; i++) {
+			writer.enqueue(log(i));
+		}
+		writer.shutdown();
+
+		ApiLogWriterStatsDto stats = writer.getStats();
+		assertThat(sink.writtenUris()).hasSize(25).doesNotHaveDuplicates();
+		assertThat(sink.batchSizes).allMatch(size -> size <= 10);
+		assertThat(stats.getEnqueued()).isEqualTo(25);
+		assertThat(stats.getWritten()).isEqualTo(25);
+		assertThat(stats.getBatches()).isEqualTo(sink.batchSizes.size());
+		assertThat(stats.getQueueDepth()).isZero();
+	}
+
+	@Test
+	void dropPolicyCountsRejectedLogs() throws InterruptedException {
+		writer = start(2, 1, ApiLogWriter.OverflowPolicy.DROP, 50);
+		occupyWriterThread();
+
+		for (int i = 1; i <= 5; i++) {
+			writer.enqueue(log(i));
+		}
+
+		ApiLogWriterStatsDto stats = writer.getStats();
+		assertThat(stats.getQueueDepth()).isEqualTo(2);
+		assertThat(stats.getMaxQueueDepth()).isEqualTo(2);
+		assertThat(stats.getDropped()).isEqualTo(3);
+		assertThat(stats.getEnqueued()).isEqualTo(3); // 첫 로그 + 큐에 들어간 2건
+
+		sink.release.countDown();
+		writer.shutdown();
+		assertThat(writer.getStats().getWritten()).isEqualTo(3);
+	}
+
+	@Test
+	void blockPolicyDropsAfterTimeout() {
+		writer = start(1, 1, ApiLogWriter.OverflowPolicy.BLOCK, 50);
+		occupyWriterThread();
+		writer.enqueue(log(1));
+
+		long start = System.nanoTime();
+		writer.enqueue(log(2));
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(40);
+		assertThat(writer.getStats().getDropped()).isEqualTo(1);
+	}
+
+	@Test
+	void blockPolicyWaitsForFreeSlot() throws Exception {
+		writer = start(1, 1, ApiLogWriter.OverflowPolicy.BLOCK, 5000);
+		occupyWriterThread();
+		writer.enqueue(log(1));
+
+		CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> writer.enqueue(log(2)));
+		Thread.sleep(100);
+		assertThat(blocked).isNotDone();
+		sink.release.countDown();
+		blocked.get(5, TimeUnit.SECONDS);
+		writer.shutdown();
+
+		assertThat(writer.getStats().getDropped()).isZero();
+		assertThat(sink.writtenUris()).hasSize(3);
+	}
+
+	@Test
+	void spillPolicyWritesOnCallerThread() {
+		writer = start(1, 1, ApiLogWriter.OverflowPolicy.SPILL, 50);
+		occupyWriterThread();
+		writer.enqueue(log(1));
+
+		writer.enqueue(log(2));
+
+		ApiLogWriterStatsDto stats = writer.getStats();
+		assertThat(stats.getSpilled()).isEqualTo(1);
+		assertThat(stats.getDropped()).isZero();
+		assertThat(stats.getWritten()).isEqualTo(1);
+		assertThat(sink.writtenUris()).containsExactly("/api/proxy/logs/2");
+	}
+
+	@Test
+	void sinkFailureIsCountedAndDoesNotStopTheWriter() throws InterruptedException {
+		sink.release.countDown();
+		sink.failNext = true;
+		writer = start(100, 10, ApiLogWriter.OverflowPolicy.DROP, 50);
+
+		writer.enqueue(log(1));
+		Thread.sleep(200);
+		writer.enqueue(log(2));
+		writer.shutdown();
+
+		assertThat(writer.getStats().getFailed()).isEqualTo(1);
+		assertThat(writer.getStats().getWritten()).isEqualTo(1);
+	}
+
+	private ApiLogWriter start(int capacity, int batchSize, ApiLogWriter.OverflowPolicy policy, long blockTimeoutMs) {
+		ApiLogWriter writer = new ApiLogWriter(sink);
+		ReflectionTestUtils.setField(writer, "queueCapacity", capacity);
+		ReflectionTestUtils.setField(writer, "batchSize", batchSize);
+		ReflectionTestUtils.setField(writer, "flushIntervalMs", 20L);
+		ReflectionTestUtils.setField(writer, "overflowPolicy", policy);
+		ReflectionTestUtils.setField(writer, "blockTimeoutMs", blockTimeoutMs);
+		ReflectionTestUtils.setField(writer, "shutdownTimeoutMs", 5000L);
+		writer.start();
+		return writer;
+	}
+
+	/**
+	 * 첫 로그를 넣어 writer 스레드가 sink 에서 멈춰 있게 합니다. 이후 넣는 로그는 큐에 쌓입니다.
+	 */
+	private void occupyWriterThread() {
+		writer.enqueue(log(0));
+		try {
+			assertThat(sink.writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ApiLogDto log(int index) {
+		return ApiLogDto.builder()
+				.serviceName("ERP Server")
+				.httpMethod("GET")
+				.apiEndpoint("/api/proxy/logs/" + index)
+				.responseStatus(200)
+				.build();
+	}
+
+	/**
+	 * writer 스레드에서 호출되면 release 가 열릴 때까지 멈추는 sink 입니다.
+	 */
+	private static final class StubSink implements ApiLogSink {
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch writerEntered = new CountDownLatch(1);
+		final List<ApiLogDto> written = new ArrayList<>();
+		final List<Integer> batchSizes = new ArrayList<>();
+		volatile boolean failNext;
+
+		@Override
+		public void write(List<ApiLogDto> logs) {
+			if (Thread.currentThread().getName().equals("api-log-writer")) {
+				writerEntered.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (failNext) {
+				failNext = false;
+				throw new IllegalStateException("DB 연결 실패");
+			}
+			synchronized (this) {
+				written.addAll(logs);
+				batchSizes.add(logs.size());
+			}
+		}
+
+		synchronized List<String> writtenUris() {
+			return written.stream().map(ApiLogDto::getApiEndpoint).toList();
+		}
+	}
+}
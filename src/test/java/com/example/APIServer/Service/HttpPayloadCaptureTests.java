@@ -0,0 +1,79 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HttpPayloadCapture 의 정책별 바이트 기록(HEAD, HEAD_TAIL, DIGEST, OFF)을 검증합니다.
+ */
+class HttpPayloadCaptureTests {
+
+	@Test
+	void recordsBytesAsSentWhenUnderLimit() {
+		HttpPayloadCapture capture = new HttpPayloadCapture();
+		capture.start(new PayloadCapturePolicy(PayloadCapturePolicy.Mode.HEAD, 64), true);
+		byte[] body = "{\"name\":\"김철수\",\"note\":\"a\\\"b\"}".getBytes(StandardCharsets.UTF_8);
+
+		capture.getResponse().write(body, 0, 10);
+		capture.getResponse().write(body, 10, body.length - 10);
+
+		assertThat(capture.responsePayload("application/json"))
+				.isEqualTo(new String(body, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void headDropsSplitMultibyteCharacter() {
+		HttpPayloadCapture.Tee tee = started(PayloadCapturePolicy.Mode.HEAD, 5);
+		byte[] body = "ab가나다".getBytes(StandardCharsets.UTF_8); // 2 + 3 * 3 bytes
+
+		tee.write(body, 0, body.length);
+
+		assertThat(tee.result()).isEqualTo("ab가...[truncated at 5 bytes]");
+		assertThat(tee.getTotalBytes()).isEqualTo(body.length);
+	}
+
+	@Test
+	void headTailKeepsBothEnds() {
+		HttpPayloadCapture.Tee tee = started(PayloadCapturePolicy.Mode.HEAD_TAIL, 8);
+		byte[] body = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+		for (byte b : body) {
+			tee.write(b);
+		}
+
+		assertThat(tee.result()).isEqualTo("0123...[truncated, total 20 bytes]...ghij");
+	}
+
+	@Test
+	void digestHashesAllBytes() throws Exception {
+		HttpPayloadCapture.Tee tee = started(PayloadCapturePolicy.Mode.DIGEST, 0);
+		byte[] body = "[{\"positionId\":1}]".getBytes(StandardCharsets.UTF_8);
+
+		tee.write(body, 0, body.length);
+
+		String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		assertThat(tee.result()).isEqualTo("{\"digest\":\"sha256:" + expected + "\",\"bytes\":" + body.length + "}");
+	}
+
+	@Test
+	void skipsRequestBodyAndBinaryResponse() {
+		HttpPayloadCapture capture = new HttpPayloadCapture();
+		capture.start(new PayloadCapturePolicy(PayloadCapturePolicy.Mode.HEAD, 64), false);
+		capture.getRequest().write(new byte[]{1, 2, 3}, 0, 3);
+		capture.getResponse().write(new byte[]{(byte) 0x89, 'P', 'N', 'G'}, 0, 4);
+
+		assertThat(capture.getRequest().result()).isNull();
+		assertThat(capture.responsePayload("image/png")).isEqualTo("image/png data (size: 4 bytes)");
+	}
+
+	private static HttpPayloadCapture.Tee started(PayloadCapturePolicy.Mode mode, int maxBytes) {
+		HttpPayloadCapture capture = new HttpPayloadCapture();
+		capture.start(new PayloadCapturePolicy(mode, maxBytes), true);
+		return capture.getResponse();
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 MySQL 컨테이너에서 저장 방식별 처리량과 크기를 비교하는 벤치마크의 공통 기반입니다.
+ *
+ * benchmark 태그가 붙어 있어 기본 test 작업에서는 실행되지 않으며 ./gradlew benchmark 로 실행합니다.
+ * 연결은 JdbcApiLogSink 의 multi-row INSERT 가 동작하도록 rewriteBatchedStatements=true 로 엽니다.
+ * 측정값은 로거로 남기고, 검사는 측정값과 무관한 결과(행 수, 저장 크기 등)에만 둡니다.
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜁니다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+abstract class MySqlBenchmarkSupport {
+
+	@Container
+	static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	protected final Logger log = LoggerFactory.getLogger(getClass());
+
+	protected DriverManagerDataSource dataSource;
+	protected JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void connect() {
+		dataSource = new DriverManagerDataSource(
+				mysql.getJdbcUrl() + "?rewriteBatchedStatements=true", mysql.getUsername(), mysql.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * 테이블을 지우고 주어진 열 정의로 다시 만듭니다.
+	 */
+	protected void recreate(String table, String columns) {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+		jdbcTemplate.execute("CREATE TABLE " + table + " (" + columns + ")");
+	}
+
+	/**
+	 * 작업의 소요 시간(ms)을 잽니다.
+	 */
+	protected static long elapsedMs(Runnable work) {
+		long started = System.nanoTime();
+		work.run();
+		return (System.nanoTime() - started) / 1_000_000;
+	}
+}
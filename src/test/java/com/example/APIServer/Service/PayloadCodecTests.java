@@ -0,0 +1,80 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PayloadCodec 의 압축/해제, 사전 학습, 사전 ID로 사전을 찾는 동작을 검증합니다.
+ */
+class PayloadCodecTests {
+
+	@Test
+	void roundTripsWithoutDictionary() {
+		PayloadCodec codec = new PayloadCodec(1, id -> null);
+		byte[] body = employees(0, 20).getBytes(StandardCharsets.UTF_8);
+
+		byte[] encoded = codec.encode(body);
+
+		assertThat(encoded.length).isLessThan(body.length);
+		assertThat(codec.decode(encoded, body.length)).isEqualTo(body);
+	}
+
+	@Test
+	void trainedDictionaryShrinksSmallRepetitivePayloads() {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			samples.add(employees(i * 3, 3).getBytes(StandardCharsets.UTF_8));
+		}
+		byte[] dictionary = PayloadCodec.trainDictionary(samples, 4096);
+		byte[] body = employees(1000, 3).getBytes(StandardCharsets.UTF_8);
+
+		PayloadCodec plain = new PayloadCodec(1, id -> null);
+		PayloadCodec trained = new PayloadCodec(1, id -> null);
+		trained.addDictionary(dictionary);
+		byte[] encoded = trained.encode(body);
+
+		assertThat(dictionary.length).isPositive().isLessThanOrEqualTo(4096);
+		assertThat(encoded.length).isLessThan(plain.encode(body).length);
+		assertThat(trained.decode(encoded, body.length)).isEqualTo(body);
+	}
+
+	@Test
+	void loadsUnknownDictionaryByIdAndRejectsMissingOne() {
+		List<byte[]> samples = List.of(employees(0, 3).getBytes(StandardCharsets.UTF_8),
+				employees(10, 3).getBytes(StandardCharsets.UTF_8));
+		byte[] dictionary = PayloadCodec.trainDictionary(samples, 4096);
+		PayloadCodec writer = new PayloadCodec(1, id -> null);
+		int dictionaryId = writer.addDictionary(dictionary);
+		byte[] body = employees(20, 3).getBytes(StandardCharsets.UTF_8);
+		byte[] encoded = writer.encode(body);
+
+		// 다른 서버가 만든 사전은 사전 ID로 저장소에서 읽어 옵니다.
+		PayloadCodec reader = new PayloadCodec(1, id -> id == dictionaryId ? dictionary : null);
+		assertThat(reader.decode(encoded, 0)).isEqualTo(body);
+
+		PayloadCodec withoutDictionary = new PayloadCodec(1, id -> null);
+		assertThatThrownBy(() -> withoutDictionary.decode(encoded, 0)).isInstanceOf(IllegalStateException.class);
+	}
+
+	static String employees(int firstId, int count) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < count; i++) {
+			int id = firstId + i;
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"employeeId\":").append(id)
+					.append(",\"employeeName\":\"직원").append(id)
+					.append("\",\"departmentName\":\"생산관리팀\",\"positionName\":\"사원\",\"email\":\"user")
+					.append(id).append("@example.com\",\"hireDate\":\"2024-0").append(id % 9 + 1)
+					.append("-15\",\"status\":\"ACTIVE\"}");
+		}
+		return json.append(']').toString();
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Entity.TraceIdConverter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간 순 trace ID 생성과 BINARY(16) 변환을 검증합니다.
+ */
+class TraceContextTests {
+
+	@Test
+	void newTraceIdHasUuidV7LayoutAndStartsWithCurrentTime() {
+		long before = System.currentTimeMillis();
+		String traceId = TraceContext.newTraceId();
+		long after = System.currentTimeMillis();
+
+		assertThat(traceId).hasSize(32).matches("[0-9a-f]{32}");
+		assertThat(traceId.charAt(12)).isEqualTo('7');
+		assertThat(traceId.charAt(16)).isIn('8', '9', 'a', 'b');
+		assertThat(Long.parseLong(traceId.substring(0, 12), 16)).isBetween(before, after);
+	}
+
+	@Test
+	void traceIdsFromLaterMillisecondsSortAfterEarlierOnes() throws InterruptedException {
+		String first = TraceContext.newTraceId();
+		Thread.sleep(2);
+		String second = TraceContext.newTraceId();
+
+		assertThat(second).isGreaterThan(first);
+	}
+
+	@Test
+	void converterStoresSixteenBytesAndRendersLowercaseHex() {
+		TraceIdConverter converter = new TraceIdConverter();
+		String traceId = TraceContext.newTraceId();
+
+		byte[] bytes = converter.convertToDatabaseColumn(traceId);
+
+		assertThat(bytes).hasSize(16);
+		assertThat(converter.convertToEntityAttribute(bytes)).isEqualTo(traceId);
+		assertThat(converter.convertToEntityAttribute(
+				converter.convertToDatabaseColumn("4BF92F35-77B3-4DA6-A3CE-929D0E0E4736")))
+				.isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+		assertThat(converter.convertToDatabaseColumn("not-a-trace-id")).isNull();
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.APIServer.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UpstreamCircuitBreaker 의 실패율/느린 호출 비율 판단, OPEN 대기, HALF_OPEN 시험 호출을 검증합니다.
+ */
+class UpstreamCircuitBreakerTests {
+
+	private static final UpstreamCircuitBreaker.Settings SETTINGS =
+			new UpstreamCircuitBreaker.Settings(10, 5, 0.5, 1000, 0.8, 30000, 2);
+
+	private long now;
+	private List<UpstreamCircuitBreaker.State> transitions;
+	private UpstreamCircuitBreaker breaker;
+
+	@BeforeEach
+	void setUp() {
+		now = 1_000_000;
+		transitions = new ArrayList<>();
+		breaker = new UpstreamCircuitBreaker(SETTINGS, () -> now, transitions::add);
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		call(false, 10);
+		call(false, 10);
+		call(true, 10);
+		call(true, 10);
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED); // minimumCalls 미만
+
+		call(true, 10);
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isEqualTo(UpstreamCircuitBreaker.REJECTED);
+		assertThat(breaker.snapshot().notPermittedCalls()).isEqualTo(1);
+		assertThat(breaker.getRetryAfterMs()).isEqualTo(30000);
+	}
+
+	@Test
+	void opensWhenMostCallsAreSlow() {
+		for (int i = 0; i < 4; i++) {
+			call(false, 2000);
+		}
+		call(false, 10);
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void oldResultsLeaveTheWindow() {
+		for (int i = 0; i < 6; i++) {
+			call(false, 10);
+		}
+		for (int i = 0; i < 4; i++) {
+			call(true, 10);
+		}
+		assertThat(breaker.snapshot().failureRate()).isEqualTo(0.4);
+
+		for (int i = 0; i < 10; i++) {
+			call(false, 10);
+		}
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+		assertThat(breaker.snapshot().bufferedCalls()).isEqualTo(10);
+		assertThat(breaker.snapshot().failureRate()).isZero();
+	}
+
+	@Test
+	void halfOpenProbesCloseTheCircuit() {
+		open();
+		now += 30000;
+
+		long first = breaker.tryAcquire();
+		long second = breaker.tryAcquire();
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isEqualTo(UpstreamCircuitBreaker.REJECTED); // 시험 호출은 2건만
+
+		breaker.onResult(first, 10, false);
+		breaker.onResult(second, 10, false);
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+		assertThat(transitions).containsExactly(UpstreamCircuitBreaker.State.OPEN,
+				UpstreamCircuitBreaker.State.HALF_OPEN, UpstreamCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void failedProbeReopensTheCircuit() {
+		open();
+		now += 30000;
+
+		long first = breaker.tryAcquire();
+		long second = breaker.tryAcquire();
+		breaker.onResult(first, 10, true);
+		breaker.onResult(second, 10, false);
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+		assertThat(breaker.snapshot().openCount()).isEqualTo(2);
+	}
+
+	@Test
+	void ignoresResultsOfCallsPermittedBeforeOpening() {
+		long stale = breaker.tryAcquire();
+		open();
+		now += 30000;
+		long probe = breaker.tryAcquire();
+
+		breaker.onResult(stale, 10, false);
+
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.snapshot().bufferedCalls()).isZero();
+		breaker.onResult(probe, 10, false);
+		assertThat(breaker.snapshot().bufferedCalls()).isEqualTo(1);
+	}
+
+	private void open() {
+		for (int i = 0; i < 5; i++) {
+			call(true, 10);
+		}
+		assertThat(breaker.snapshot().state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+	}
+
+	private void call(boolean failure, long durationMs) {
+		long permit = breaker.tryAcquire();
+		assertThat(permit).isNotEqualTo(UpstreamCircuitBreaker.REJECTED);
+		breaker.onResult(permit, durationMs, failure);
+	}
+}
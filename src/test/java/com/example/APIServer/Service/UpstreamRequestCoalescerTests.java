@@ -0,0 +1,163 @@
+package com.example.APIServer.Service;
+
+import com.example.APIServer.Config.UpstreamHttpProperties;
+import com.example.APIServer.Dto.UpstreamCoalescingStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UpstreamRequestCoalescer 가 동시에 진행 중인 같은 GET 만 하나로 합치고, 끝난 응답은 재사용하지 않는지 검증합니다.
+ */
+class UpstreamRequestCoalescerTests {
+
+	private static final URI PROJECTS = URI.create("http://localhost:8081/api/projects");
+	private static final int CALLERS = 8;
+
+	private final AtomicInteger executions = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private UpstreamRequestCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		UpstreamHttpProperties properties = new UpstreamHttpProperties();
+		UpstreamHttpProperties.Upstream erp = new UpstreamHttpProperties.Upstream();
+		erp.setUrl("http://localhost:8081");
+		properties.getUpstreams().put("erp", erp);
+		coalescer = new UpstreamRequestCoalescer(properties);
+	}
+
+	@Test
+	void concurrentIdenticalGetsShareOneCall() throws Exception {
+		List<String> bodies = runConcurrently(CALLERS, i -> get("Bearer a"), blockingExecution(false));
+
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(bodies).hasSize(CALLERS).containsOnly("[{\"projectId\":\"P-1\"}]");
+		UpstreamCoalescingStatsDto stats = coalescer.getStats().get(0);
+		assertThat(stats.getName()).isEqualTo("erp");
+		assertThat(stats.getUpstreamCalls()).isEqualTo(1);
+		assertThat(stats.getCoalescedCalls()).isEqualTo(CALLERS - 1);
+		assertThat(stats.getCoalescingRatio()).isEqualTo((double) (CALLERS - 1) / CALLERS);
+	}
+
+	@Test
+	void differentKeyHeadersAreNotCoalesced() throws Exception {
+		runConcurrently(2, i -> get("Bearer " + i), blockingExecution(false));
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	void completedResponsesAreNotReused() throws Exception {
+		release.countDown();
+		ClientHttpRequestExecution execution = blockingExecution(false);
+
+		read(coalescer.execute(get("Bearer a"), new byte[0], execution));
+		read(coalescer.execute(get("Bearer a"), new byte[0], execution));
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	void leaderFailureIsSharedWithWaitingCallers() {
+		assertThatThrownBy(() -> runConcurrently(CALLERS, i -> get("Bearer a"), blockingExecution(true)))
+				.isInstanceOf(IOException.class);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void nonGetRequestsPassThrough() throws Exception {
+		release.countDown();
+		MockClientHttpRequest post = new MockClientHttpRequest(HttpMethod.POST, PROJECTS);
+
+		coalescer.execute(post, "{}".getBytes(StandardCharsets.UTF_8), blockingExecution(false));
+
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(coalescer.getStats()).isEmpty();
+	}
+
+	private interface RequestFactory {
+		MockClientHttpRequest create(int index);
+	}
+
+	/**
+	 * callers 개의 스레드가 모두 호출을 시작한 뒤 업스트림 응답을 풀어 줍니다.
+	 */
+	private List<String> runConcurrently(int callers, RequestFactory requests, ClientHttpRequestExecution execution) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		CountDownLatch started = new CountDownLatch(callers);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				MockClientHttpRequest request = requests.create(i);
+				futures.add(executor.submit(() -> {
+					started.countDown();
+					return read(coalescer.execute(request, new byte[0], execution));
+				}));
+			}
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			Thread.sleep(200); // 나중에 시작한 스레드가 진행 중인 호출에 합류할 시간
+			release.countDown();
+
+			List<String> bodies = new ArrayList<>();
+			for (Future<String> future : futures) {
+				try {
+					bodies.add(future.get(5, TimeUnit.SECONDS));
+				} catch (ExecutionException e) {
+					throw (Exception) e.getCause();
+				}
+			}
+			return bodies;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ClientHttpRequestExecution blockingExecution(boolean fail) {
+		return (request, body) -> {
+			executions.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (fail) {
+				throw new IOException("Read timed out");
+			}
+			return new MockClientHttpResponse("[{\"projectId\":\"P-1\"}]".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+		};
+	}
+
+	private static MockClientHttpRequest get(String authorization) {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, PROJECTS);
+		request.getHeaders().set("Authorization", authorization);
+		return request;
+	}
+
+	private static String read(ClientHttpResponse response) throws IOException {
+		try (response) {
+			return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}